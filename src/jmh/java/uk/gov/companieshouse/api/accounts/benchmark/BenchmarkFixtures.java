@@ -0,0 +1,339 @@
+package uk.gov.companieshouse.api.accounts.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.companieshouse.api.accounts.Kind;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.links.BasicLinkType;
+import uk.gov.companieshouse.api.accounts.model.rest.BalanceSheet;
+import uk.gov.companieshouse.api.accounts.model.rest.CapitalAndReserves;
+import uk.gov.companieshouse.api.accounts.model.rest.CurrentAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.CurrentPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.FixedAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.OtherLiabilitiesOrAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.PreviousPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.RestObject;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.Debtors;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.Amortisation;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.IntangibleAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.IntangibleAssetsResource;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.Loan;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.LoanBreakdownResource;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.Cost;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.Depreciation;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.TangibleAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.TangibleAssetsResource;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.accounts.service.impl.CurrentPeriodService;
+import uk.gov.companieshouse.api.accounts.service.impl.PreviousPeriodService;
+import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
+import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
+import uk.gov.companieshouse.api.accounts.validation.BaseValidator;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+/**
+ * Builds the resources the benchmarks work on, as they would be submitted by a single year or a
+ * multiple year filer with every sub resource populated. All figures add up, so validation takes
+ * the full path through every check rather than stopping at the first error.
+ */
+final class BenchmarkFixtures {
+
+    static final String SINGLE_YEAR_FILER = "single-year";
+    static final String MULTIPLE_YEAR_FILER = "multiple-year";
+
+    static final String TRANSACTION_ID = "123456-123456-123456";
+    static final String COMPANY_ACCOUNTS_ID = "Ab1Cd2Ef3Gh4Ij5Kl6Mn7Op8Qr9=";
+    static final String COMPANY_ACCOUNTS_URI = "/transactions/" + TRANSACTION_ID + "/company-accounts/"
+            + COMPANY_ACCOUNTS_ID;
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final String ETAG = "8c9a6e0d0b1f3a4e5d6c7b8a9f0e1d2c3b4a5f6e";
+    private static final long CALLED_UP_SHARE_CAPITAL_NOT_PAID = 100L;
+    private static final long FIXED_ASSET_INVESTMENTS = 5_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static boolean isMultipleYearFiler(String filer) {
+        return MULTIPLE_YEAR_FILER.equals(filer);
+    }
+
+    static Transaction transaction() {
+        Transaction transaction = new Transaction();
+        transaction.setId(TRANSACTION_ID);
+        transaction.setCompanyNumber(COMPANY_NUMBER);
+        return transaction;
+    }
+
+    /**
+     * A tangible assets note with all five asset classes, each a multiple of the same figures, so
+     * that the total is their sum.
+     */
+    static TangibleAssets tangibleAssets(boolean isMultipleYearFiler) {
+        TangibleAssets tangibleAssets = new TangibleAssets();
+        tangibleAssets.setFixturesAndFittings(tangibleAssetsResource(1, isMultipleYearFiler));
+        tangibleAssets.setLandAndBuildings(tangibleAssetsResource(2, isMultipleYearFiler));
+        tangibleAssets.setMotorVehicles(tangibleAssetsResource(3, isMultipleYearFiler));
+        tangibleAssets.setOfficeEquipment(tangibleAssetsResource(4, isMultipleYearFiler));
+        tangibleAssets.setPlantAndMachinery(tangibleAssetsResource(5, isMultipleYearFiler));
+        tangibleAssets.setTotal(tangibleAssetsResource(15, isMultipleYearFiler));
+        tangibleAssets.setAdditionalInformation("Land and buildings were revalued by an independent valuer.");
+        setRestObjectFields(tangibleAssets, Kind.TANGIBLE_ASSETS_NOTE, "/small-full/notes/tangible-assets");
+        return tangibleAssets;
+    }
+
+    /**
+     * An intangible assets note with goodwill and other intangible assets, each a multiple of the
+     * same figures, so that the total is their sum.
+     */
+    static IntangibleAssets intangibleAssets(boolean isMultipleYearFiler) {
+        IntangibleAssets intangibleAssets = new IntangibleAssets();
+        intangibleAssets.setGoodwill(intangibleAssetsResource(1, isMultipleYearFiler));
+        intangibleAssets.setOtherIntangibleAssets(intangibleAssetsResource(2, isMultipleYearFiler));
+        intangibleAssets.setTotal(intangibleAssetsResource(3, isMultipleYearFiler));
+        intangibleAssets.setAdditionalInformation("Goodwill is amortised over ten years.");
+        setRestObjectFields(intangibleAssets, Kind.INTANGIBLE_ASSETS_NOTE, "/small-full/notes/intangible-assets");
+        return intangibleAssets;
+    }
+
+    /**
+     * A balance sheet that agrees with the given net book values of the tangible and intangible
+     * assets.
+     */
+    static BalanceSheet balanceSheet(long tangible, long intangible) {
+        FixedAssets fixedAssets = new FixedAssets();
+        fixedAssets.setTangible(tangible);
+        fixedAssets.setIntangible(intangible);
+        fixedAssets.setInvestments(FIXED_ASSET_INVESTMENTS);
+        fixedAssets.setTotal(tangible + intangible + FIXED_ASSET_INVESTMENTS);
+
+        CurrentAssets currentAssets = new CurrentAssets();
+        currentAssets.setStocks(4_000L);
+        currentAssets.setDebtors(6_000L);
+        currentAssets.setCashAtBankAndInHand(12_000L);
+        currentAssets.setInvestments(1_000L);
+        currentAssets.setTotal(23_000L);
+
+        long netCurrentAssets = 23_000L + 500L - 7_000L;
+        long totalAssetsLessCurrentLiabilities = fixedAssets.getTotal() + netCurrentAssets
+                + CALLED_UP_SHARE_CAPITAL_NOT_PAID;
+        long totalNetAssets = totalAssetsLessCurrentLiabilities - (3_000L + 400L + 600L);
+
+        OtherLiabilitiesOrAssets otherLiabilitiesOrAssets = new OtherLiabilitiesOrAssets();
+        otherLiabilitiesOrAssets.setPrepaymentsAndAccruedIncome(500L);
+        otherLiabilitiesOrAssets.setCreditorsDueWithinOneYear(7_000L);
+        otherLiabilitiesOrAssets.setNetCurrentAssets(netCurrentAssets);
+        otherLiabilitiesOrAssets.setTotalAssetsLessCurrentLiabilities(totalAssetsLessCurrentLiabilities);
+        otherLiabilitiesOrAssets.setCreditorsAfterOneYear(3_000L);
+        otherLiabilitiesOrAssets.setAccrualsAndDeferredIncome(400L);
+        otherLiabilitiesOrAssets.setProvisionForLiabilities(600L);
+        otherLiabilitiesOrAssets.setTotalNetAssets(totalNetAssets);
+
+        CapitalAndReserves capitalAndReserves = new CapitalAndReserves();
+        capitalAndReserves.setCalledUpShareCapital(100L);
+        capitalAndReserves.setSharePremiumAccount(500L);
+        capitalAndReserves.setOtherReserves(1_000L);
+        capitalAndReserves.setProfitAndLoss(totalNetAssets - 1_600L);
+        capitalAndReserves.setTotalShareholdersFunds(totalNetAssets);
+
+        BalanceSheet balanceSheet = new BalanceSheet();
+        balanceSheet.setCalledUpShareCapitalNotPaid(CALLED_UP_SHARE_CAPITAL_NOT_PAID);
+        balanceSheet.setFixedAssets(fixedAssets);
+        balanceSheet.setCurrentAssets(currentAssets);
+        balanceSheet.setOtherLiabilitiesOrAssets(otherLiabilitiesOrAssets);
+        balanceSheet.setCapitalAndReserves(capitalAndReserves);
+        return balanceSheet;
+    }
+
+    static Debtors debtors(boolean isMultipleYearFiler) {
+        uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.CurrentPeriod currentPeriod =
+                new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.CurrentPeriod();
+        currentPeriod.setDetails("Other debtors are amounts owed by a connected company.");
+        currentPeriod.setGreaterThanOneYear(1_500L);
+        currentPeriod.setOtherDebtors(2_000L);
+        currentPeriod.setPrepaymentsAndAccruedIncome(500L);
+        currentPeriod.setTradeDebtors(3_500L);
+        currentPeriod.setTotal(6_000L);
+
+        Debtors debtors = new Debtors();
+        debtors.setCurrentPeriod(currentPeriod);
+
+        if (isMultipleYearFiler) {
+            uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.PreviousPeriod previousPeriod =
+                    new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.PreviousPeriod();
+            previousPeriod.setGreaterThanOneYear(1_000L);
+            previousPeriod.setOtherDebtors(1_750L);
+            previousPeriod.setPrepaymentsAndAccruedIncome(250L);
+            previousPeriod.setTradeDebtors(3_000L);
+            previousPeriod.setTotal(5_000L);
+            debtors.setPreviousPeriod(previousPeriod);
+        }
+
+        setRestObjectFields(debtors, Kind.DEBTORS_NOTE, "/small-full/notes/debtors");
+        return debtors;
+    }
+
+    static Loan loan(boolean isMultipleYearFiler) {
+        LoanBreakdownResource breakdown = new LoanBreakdownResource();
+        breakdown.setAdvancesCreditsMade(10_000L);
+        breakdown.setAdvancesCreditsRepaid(4_000L);
+        if (isMultipleYearFiler) {
+            breakdown.setBalanceAtPeriodStart(2_000L);
+            breakdown.setBalanceAtPeriodEnd(8_000L);
+        } else {
+            breakdown.setBalanceAtPeriodEnd(6_000L);
+        }
+
+        Loan loan = new Loan();
+        loan.setDirectorName("Jane Director");
+        loan.setDescription("Interest free loan repayable on demand.");
+        loan.setBreakdown(breakdown);
+        setRestObjectFields(loan, Kind.LOANS_TO_DIRECTORS_LOANS, "/small-full/notes/loans-to-directors/loans/"
+                + "Zx9Yw8Vu7Ts6Rq5Po4Nm3Lk2Ji1=");
+        return loan;
+    }
+
+    static CompanyService companyService(boolean isMultipleYearFiler) throws ServiceException {
+        CompanyService companyService = stub(CompanyService.class);
+        when(companyService.isMultipleYearFiler(any(Transaction.class))).thenReturn(isMultipleYearFiler);
+        when(companyService.isLBG(any(Transaction.class))).thenReturn(false);
+        when(companyService.isCIC(any(Transaction.class))).thenReturn(false);
+        return companyService;
+    }
+
+    static CurrentPeriodService currentPeriodService(BalanceSheet balanceSheet) throws DataException {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setBalanceSheet(balanceSheet);
+
+        CurrentPeriodService currentPeriodService = stub(CurrentPeriodService.class);
+        when(currentPeriodService.find(anyString(), any(HttpServletRequest.class)))
+                .thenReturn(new ResponseObject<>(ResponseStatus.FOUND, currentPeriod));
+        return currentPeriodService;
+    }
+
+    /**
+     * The previous period of a multiple year filer, or none for a single year filer.
+     */
+    static PreviousPeriodService previousPeriodService(BalanceSheet balanceSheet) throws DataException {
+        PreviousPeriodService previousPeriodService = stub(PreviousPeriodService.class);
+
+        ResponseObject<PreviousPeriod> responseObject;
+        if (balanceSheet != null) {
+            PreviousPeriod previousPeriod = new PreviousPeriod();
+            previousPeriod.setBalanceSheet(balanceSheet);
+            responseObject = new ResponseObject<>(ResponseStatus.FOUND, previousPeriod);
+        } else {
+            responseObject = new ResponseObject<>(ResponseStatus.NOT_FOUND);
+        }
+
+        when(previousPeriodService.find(anyString(), any(HttpServletRequest.class))).thenReturn(responseObject);
+        return previousPeriodService;
+    }
+
+    /**
+     * Set the error messages a validator is given from the application properties.
+     */
+    static <T extends BaseValidator> T withMessages(T validator) {
+        for (String message : new String[] {"incorrectTotal", "dateInvalid", "dateOutsideRange", "unexpectedData",
+                "currentBalanceSheetNotEqual", "previousBalanceSheetNotEqual", "mandatoryElementMissing",
+                "emptyResource", "valueRequired", "mustMatchDirectorOrSecretary", "mustMatchDirector",
+                "invalidValue"}) {
+            ReflectionTestUtils.setField(validator, message, message.replaceAll("([A-Z])", "_$1").toLowerCase());
+        }
+        return validator;
+    }
+
+    /**
+     * A stub that does not record its invocations, so it can be called for as long as a benchmark
+     * runs.
+     */
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static TangibleAssetsResource tangibleAssetsResource(long scale, boolean isMultipleYearFiler) {
+        Cost cost = new Cost();
+        cost.setAdditions(2_500L * scale);
+        cost.setDisposals(500L * scale);
+        cost.setRevaluations(250L * scale);
+        cost.setTransfers(100L * scale);
+
+        Depreciation depreciation = new Depreciation();
+        depreciation.setChargeForYear(1_200L * scale);
+        depreciation.setOnDisposals(200L * scale);
+        depreciation.setOtherAdjustments(50L * scale);
+
+        TangibleAssetsResource resource = new TangibleAssetsResource();
+        resource.setCost(cost);
+        resource.setDepreciation(depreciation);
+
+        long costAtPeriodStart = 0L;
+        long depreciationAtPeriodStart = 0L;
+        if (isMultipleYearFiler) {
+            costAtPeriodStart = 10_000L * scale;
+            depreciationAtPeriodStart = 3_000L * scale;
+            cost.setAtPeriodStart(costAtPeriodStart);
+            depreciation.setAtPeriodStart(depreciationAtPeriodStart);
+            resource.setNetBookValueAtEndOfPreviousPeriod(costAtPeriodStart - depreciationAtPeriodStart);
+        }
+
+        cost.setAtPeriodEnd(costAtPeriodStart + cost.getAdditions() - cost.getDisposals() + cost.getRevaluations()
+                + cost.getTransfers());
+        depreciation.setAtPeriodEnd(depreciationAtPeriodStart + depreciation.getChargeForYear()
+                - depreciation.getOnDisposals() + depreciation.getOtherAdjustments());
+        resource.setNetBookValueAtEndOfCurrentPeriod(cost.getAtPeriodEnd() - depreciation.getAtPeriodEnd());
+        return resource;
+    }
+
+    private static IntangibleAssetsResource intangibleAssetsResource(long scale, boolean isMultipleYearFiler) {
+        uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.Cost cost =
+                new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.Cost();
+        cost.setAdditions(4_000L * scale);
+        cost.setDisposals(1_000L * scale);
+        cost.setRevaluations(300L * scale);
+        cost.setTransfers(200L * scale);
+
+        Amortisation amortisation = new Amortisation();
+        amortisation.setChargeForYear(900L * scale);
+        amortisation.setOnDisposals(150L * scale);
+        amortisation.setOtherAdjustments(25L * scale);
+
+        IntangibleAssetsResource resource = new IntangibleAssetsResource();
+        resource.setCost(cost);
+        resource.setAmortisation(amortisation);
+
+        long costAtPeriodStart = 0L;
+        long amortisationAtPeriodStart = 0L;
+        if (isMultipleYearFiler) {
+            costAtPeriodStart = 8_000L * scale;
+            amortisationAtPeriodStart = 1_600L * scale;
+            cost.setAtPeriodStart(costAtPeriodStart);
+            amortisation.setAtPeriodStart(amortisationAtPeriodStart);
+            resource.setNetBookValueAtEndOfPreviousPeriod(costAtPeriodStart - amortisationAtPeriodStart);
+        }
+
+        cost.setAtPeriodEnd(costAtPeriodStart + cost.getAdditions() - cost.getDisposals() + cost.getRevaluations()
+                + cost.getTransfers());
+        amortisation.setAtPeriodEnd(amortisationAtPeriodStart + amortisation.getChargeForYear()
+                - amortisation.getOnDisposals() + amortisation.getOtherAdjustments());
+        resource.setNetBookValueAtEndOfCurrentPeriod(cost.getAtPeriodEnd() - amortisation.getAtPeriodEnd());
+        return resource;
+    }
+
+    private static void setRestObjectFields(RestObject restObject, Kind kind, String path) {
+        Map<String, String> links = new HashMap<>();
+        links.put(BasicLinkType.SELF.getLink(), COMPANY_ACCOUNTS_URI + path);
+        restObject.setLinks(links);
+        restObject.setEtag(ETAG);
+        restObject.setKind(kind.getValue());
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.api.accounts.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
+
+/**
+ * Generation of the id of a resource from its key, and of a random id, by the one generator the
+ * application shares between requests. The concurrent benchmarks run on every available core, to
+ * show the generator does not contend. Within a request, an id already generated is remembered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class KeyIdGeneratorBenchmark {
+
+    private static final String NOTE_KEY = BenchmarkFixtures.COMPANY_ACCOUNTS_ID + "-tangible-assets";
+
+    private final KeyIdGenerator keyIdGenerator = new KeyIdGenerator();
+
+    /**
+     * A request on the benchmark thread, made afresh for each invocation so that the first id is
+     * generated rather than remembered.
+     */
+    @State(Scope.Thread)
+    public static class Request {
+
+        @Setup(Level.Invocation)
+        public void start() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        }
+
+        @TearDown(Level.Invocation)
+        public void end() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return keyIdGenerator.generate(NOTE_KEY);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateConcurrently() {
+        return keyIdGenerator.generate(NOTE_KEY);
+    }
+
+    /**
+     * The id of a note as the interceptors and the service of a request generate it, four times.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateWithinRequest(Request request) {
+        keyIdGenerator.generate(NOTE_KEY);
+        keyIdGenerator.generate(NOTE_KEY);
+        keyIdGenerator.generate(NOTE_KEY);
+        return keyIdGenerator.generate(NOTE_KEY);
+    }
+
+    @Benchmark
+    public String generateRandom() {
+        return keyIdGenerator.generateRandom();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateRandomConcurrently() {
+        return keyIdGenerator.generateRandom();
+    }
+}
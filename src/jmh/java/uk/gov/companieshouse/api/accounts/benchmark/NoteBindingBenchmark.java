@@ -0,0 +1,53 @@
+package uk.gov.companieshouse.api.accounts.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.api.accounts.model.rest.Note;
+import uk.gov.companieshouse.api.accounts.request.NoteReaderRegistry;
+import uk.gov.companieshouse.api.accounts.utility.YamlResourceMapper;
+
+/**
+ * The binding of a tangible assets note submission to its class, as the note controller binds
+ * the body of a request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NoteBindingBenchmark {
+
+    @Param({BenchmarkFixtures.SINGLE_YEAR_FILER, BenchmarkFixtures.MULTIPLE_YEAR_FILER})
+    public String filer;
+
+    private NoteReaderRegistry noteReaderRegistry;
+
+    private byte[] noteBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        noteReaderRegistry = new NoteReaderRegistry(objectMapper, new YamlResourceMapper());
+        noteBody = objectMapper.writeValueAsBytes(
+                BenchmarkFixtures.tangibleAssets(BenchmarkFixtures.isMultipleYearFiler(filer)));
+    }
+
+    @Benchmark
+    public Note noteSubmission() throws IOException {
+        return noteReaderRegistry.read("small-full", "tangible-assets", new ByteArrayInputStream(noteBody));
+    }
+}
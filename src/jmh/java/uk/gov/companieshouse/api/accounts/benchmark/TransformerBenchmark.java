@@ -0,0 +1,150 @@
+package uk.gov.companieshouse.api.accounts.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.debtors.CurrentPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.debtors.DebtorsDataEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.debtors.DebtorsEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.debtors.PreviousPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoanBreakdownResourceEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoanDataEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoanEntity;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.CurrentPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.Debtors;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.PreviousPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.Loan;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.LoanBreakdownResource;
+import uk.gov.companieshouse.api.accounts.transformer.DebtorsTransformer;
+import uk.gov.companieshouse.api.accounts.transformer.LoanTransformer;
+
+/**
+ * Transformation of a debtors note and a loan to a director between their rest and entity forms,
+ * in both directions. The {@code Reflective} benchmarks copy the same properties with
+ * {@link BeanUtils#copyProperties(Object, Object)}, as the transformers once did, for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TransformerBenchmark {
+
+    @Param({BenchmarkFixtures.SINGLE_YEAR_FILER, BenchmarkFixtures.MULTIPLE_YEAR_FILER})
+    public String filer;
+
+    private final DebtorsTransformer debtorsTransformer = new DebtorsTransformer();
+    private final LoanTransformer loanTransformer = new LoanTransformer();
+
+    private Debtors debtors;
+    private DebtorsEntity debtorsEntity;
+    private Loan loan;
+    private LoanEntity loanEntity;
+
+    @Setup
+    public void setUp() {
+        boolean isMultipleYearFiler = BenchmarkFixtures.isMultipleYearFiler(filer);
+
+        debtors = BenchmarkFixtures.debtors(isMultipleYearFiler);
+        debtorsEntity = debtorsTransformer.transform(debtors);
+        loan = BenchmarkFixtures.loan(isMultipleYearFiler);
+        loanEntity = loanTransformer.transform(loan);
+    }
+
+    @Benchmark
+    public DebtorsEntity debtorsToEntity() {
+        return debtorsTransformer.transform(debtors);
+    }
+
+    @Benchmark
+    public Debtors debtorsFromEntity() {
+        return debtorsTransformer.transform(debtorsEntity);
+    }
+
+    @Benchmark
+    public LoanEntity loanToEntity() {
+        return loanTransformer.transform(loan);
+    }
+
+    @Benchmark
+    public Loan loanFromEntity() {
+        return loanTransformer.transform(loanEntity);
+    }
+
+    @Benchmark
+    public DebtorsEntity debtorsToEntityReflective() {
+        DebtorsDataEntity debtorsDataEntity = new DebtorsDataEntity();
+        BeanUtils.copyProperties(debtors, debtorsDataEntity);
+        if (debtors.getCurrentPeriod() != null) {
+            CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
+            BeanUtils.copyProperties(debtors.getCurrentPeriod(), currentPeriodEntity);
+            debtorsDataEntity.setCurrentPeriodEntity(currentPeriodEntity);
+        }
+        if (debtors.getPreviousPeriod() != null) {
+            PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
+            BeanUtils.copyProperties(debtors.getPreviousPeriod(), previousPeriodEntity);
+            debtorsDataEntity.setPreviousPeriodEntity(previousPeriodEntity);
+        }
+
+        DebtorsEntity entity = new DebtorsEntity();
+        entity.setData(debtorsDataEntity);
+        return entity;
+    }
+
+    @Benchmark
+    public Debtors debtorsFromEntityReflective() {
+        DebtorsDataEntity debtorsDataEntity = debtorsEntity.getData();
+        Debtors rest = new Debtors();
+        BeanUtils.copyProperties(debtorsDataEntity, rest);
+        if (debtorsDataEntity.getCurrentPeriodEntity() != null) {
+            CurrentPeriod currentPeriod = new CurrentPeriod();
+            BeanUtils.copyProperties(debtorsDataEntity.getCurrentPeriodEntity(), currentPeriod);
+            rest.setCurrentPeriod(currentPeriod);
+        }
+        if (debtorsDataEntity.getPreviousPeriodEntity() != null) {
+            PreviousPeriod previousPeriod = new PreviousPeriod();
+            BeanUtils.copyProperties(debtorsDataEntity.getPreviousPeriodEntity(), previousPeriod);
+            rest.setPreviousPeriod(previousPeriod);
+        }
+        return rest;
+    }
+
+    @Benchmark
+    public LoanEntity loanToEntityReflective() {
+        LoanDataEntity loanDataEntity = new LoanDataEntity();
+        BeanUtils.copyProperties(loan, loanDataEntity);
+        if (loan.getBreakdown() != null) {
+            LoanBreakdownResourceEntity breakdown = new LoanBreakdownResourceEntity();
+            BeanUtils.copyProperties(loan.getBreakdown(), breakdown);
+            loanDataEntity.setBreakdown(breakdown);
+        }
+
+        LoanEntity entity = new LoanEntity();
+        entity.setData(loanDataEntity);
+        return entity;
+    }
+
+    @Benchmark
+    public Loan loanFromEntityReflective() {
+        LoanDataEntity loanDataEntity = loanEntity.getData();
+        Loan rest = new Loan();
+        BeanUtils.copyProperties(loanDataEntity, rest);
+        if (loanDataEntity.getBreakdown() != null) {
+            LoanBreakdownResource breakdown = new LoanBreakdownResource();
+            BeanUtils.copyProperties(loanDataEntity.getBreakdown(), breakdown);
+            rest.setBreakdown(breakdown);
+        }
+        return rest;
+    }
+}
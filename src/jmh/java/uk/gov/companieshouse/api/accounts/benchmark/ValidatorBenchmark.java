@@ -0,0 +1,132 @@
+package uk.gov.companieshouse.api.accounts.benchmark;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.BalanceSheet;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.IntangibleAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.TangibleAssets;
+import uk.gov.companieshouse.api.accounts.model.validation.Errors;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.accounts.service.impl.CurrentPeriodService;
+import uk.gov.companieshouse.api.accounts.service.impl.PreviousPeriodService;
+import uk.gov.companieshouse.api.accounts.validation.BalanceSheetValidator;
+import uk.gov.companieshouse.api.accounts.validation.IntangibleAssetsValidator;
+import uk.gov.companieshouse.api.accounts.validation.TangibleAssetsValidator;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+/**
+ * Validation of a fully populated tangible assets note, intangible assets note and balance sheet.
+ * The balance sheets the notes are cross validated against are returned by stubbed period
+ * services, so only the validation itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private static final String CURRENT_PERIOD_PATH = "$.current_period";
+    private static final String PREVIOUS_PERIOD_PATH = "$.previous_period";
+
+    @Param({BenchmarkFixtures.SINGLE_YEAR_FILER, BenchmarkFixtures.MULTIPLE_YEAR_FILER})
+    public String filer;
+
+    private TangibleAssetsValidator tangibleAssetsValidator;
+    private IntangibleAssetsValidator intangibleAssetsValidator;
+    private BalanceSheetValidator balanceSheetValidator;
+
+    private Transaction transaction;
+    private HttpServletRequest request;
+    private TangibleAssets tangibleAssets;
+    private IntangibleAssets intangibleAssets;
+    private BalanceSheet currentPeriodBalanceSheet;
+    private BalanceSheet previousPeriodBalanceSheet;
+
+    @Setup
+    public void setUp() throws Exception {
+        boolean isMultipleYearFiler = BenchmarkFixtures.isMultipleYearFiler(filer);
+
+        transaction = BenchmarkFixtures.transaction();
+        request = new MockHttpServletRequest();
+        tangibleAssets = BenchmarkFixtures.tangibleAssets(isMultipleYearFiler);
+        intangibleAssets = BenchmarkFixtures.intangibleAssets(isMultipleYearFiler);
+
+        currentPeriodBalanceSheet = BenchmarkFixtures.balanceSheet(
+                tangibleAssets.getTotal().getNetBookValueAtEndOfCurrentPeriod(),
+                intangibleAssets.getTotal().getNetBookValueAtEndOfCurrentPeriod());
+        if (isMultipleYearFiler) {
+            previousPeriodBalanceSheet = BenchmarkFixtures.balanceSheet(
+                    tangibleAssets.getTotal().getNetBookValueAtEndOfPreviousPeriod(),
+                    intangibleAssets.getTotal().getNetBookValueAtEndOfPreviousPeriod());
+        }
+
+        CompanyService companyService = BenchmarkFixtures.companyService(isMultipleYearFiler);
+        CurrentPeriodService currentPeriodService =
+                BenchmarkFixtures.currentPeriodService(currentPeriodBalanceSheet);
+        PreviousPeriodService previousPeriodService =
+                BenchmarkFixtures.previousPeriodService(previousPeriodBalanceSheet);
+
+        tangibleAssetsValidator = BenchmarkFixtures.withMessages(
+                new TangibleAssetsValidator(companyService, currentPeriodService, previousPeriodService));
+        intangibleAssetsValidator = BenchmarkFixtures.withMessages(
+                new IntangibleAssetsValidator(companyService, currentPeriodService, previousPeriodService));
+        balanceSheetValidator = BenchmarkFixtures.withMessages(new BalanceSheetValidator(companyService));
+        ReflectionTestUtils.setField(balanceSheetValidator, "shareholderFundsMismatch", "shareholders_mismatch");
+        ReflectionTestUtils.setField(balanceSheetValidator, "membersFundsMismatch", "members_funds_mismatch");
+
+        requireValid(tangibleAssets(), "tangible assets");
+        requireValid(intangibleAssets(), "intangible assets");
+        requireValid(balanceSheet(), "balance sheet");
+    }
+
+    @Benchmark
+    public Errors tangibleAssets() throws DataException {
+        return tangibleAssetsValidator.validateSubmission(tangibleAssets, transaction,
+                BenchmarkFixtures.COMPANY_ACCOUNTS_ID, request);
+    }
+
+    @Benchmark
+    public Errors intangibleAssets() throws DataException {
+        return intangibleAssetsValidator.validateSubmission(intangibleAssets, transaction,
+                BenchmarkFixtures.COMPANY_ACCOUNTS_ID, request);
+    }
+
+    @Benchmark
+    public Errors balanceSheet() throws DataException {
+        Errors errors = new Errors();
+        balanceSheetValidator.validateBalanceSheet(currentPeriodBalanceSheet, transaction, request,
+                CURRENT_PERIOD_PATH, errors);
+        if (previousPeriodBalanceSheet != null) {
+            balanceSheetValidator.validateBalanceSheet(previousPeriodBalanceSheet, transaction, request,
+                    PREVIOUS_PERIOD_PATH, errors);
+        }
+        return errors;
+    }
+
+    /**
+     * The fixtures must be valid, or the benchmarks would measure an early return on the first
+     * error rather than the full validation.
+     */
+    private void requireValid(Errors errors, String resource) {
+        if (errors.hasErrors()) {
+            throw new IllegalStateException("The " + filer + " " + resource + " fixture is invalid: "
+                    + errors.getErrors());
+        }
+    }
+}
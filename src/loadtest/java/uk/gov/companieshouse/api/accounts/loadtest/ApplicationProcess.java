@@ -0,0 +1,120 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+
+/**
+ * The application, run in its own JVM and configured through its environment, as it is deployed.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private static final String HEALTHCHECK_PATH = "/company-accounts/healthcheck";
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final Process process;
+
+    private final String url;
+
+    private final Path log;
+
+    private ApplicationProcess(Process process, String url, Path log) {
+        this.process = process;
+        this.url = url;
+        this.log = log;
+    }
+
+    /**
+     * Start the application and wait until it is healthy.
+     *
+     * @param environment - the environment variables the application is configured with
+     * @param jvmOptions - the JVM options, separated by spaces
+     * @param log - where the output of the application is written
+     * @param startupTimeout - how long to wait for the application to become healthy
+     */
+    static ApplicationProcess start(Map<String, String> environment, String jvmOptions, Path log,
+                                    Duration startupTimeout) throws IOException, InterruptedException {
+        int port = getFreePort();
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (jvmOptions != null && !jvmOptions.isBlank()) {
+            command.addAll(Arrays.asList(jvmOptions.trim().split("\\s+")));
+        }
+        command.add("-Dserver.port=" + port);
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(CompanyAccountsApplication.class.getName());
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        processBuilder.environment().putAll(environment);
+
+        ApplicationProcess application =
+                new ApplicationProcess(processBuilder.start(), "http://localhost:" + port, log);
+        try {
+            application.awaitHealthy(startupTimeout);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private void awaitHealthy(Duration startupTimeout) throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest healthcheck = HttpRequest.newBuilder(URI.create(url + HEALTHCHECK_PATH))
+                .timeout(POLL_INTERVAL)
+                .build();
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited with " + process.exitValue()
+                        + " on startup, see " + log);
+            }
+            try {
+                if (httpClient.send(healthcheck, BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not yet listening
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+
+        throw new IllegalStateException("The application was not healthy within " + startupTimeout + ", see " + log);
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
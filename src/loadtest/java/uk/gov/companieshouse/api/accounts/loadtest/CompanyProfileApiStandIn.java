@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+
+/**
+ * Stands in for the company profile API. Every company is a private limited company filing its
+ * first accounts, for the period in the journey fixtures.
+ */
+final class CompanyProfileApiStandIn implements HttpHandler {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JourneyFixtures fixtures;
+
+    CompanyProfileApiStandIn(JourneyFixtures fixtures) {
+        this.fixtures = fixtures;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            StandInServer.respond(exchange, 405, null, null);
+            return;
+        }
+
+        String companyNumber = StandInServer.lastPathSegment(exchange);
+
+        ObjectNode companyProfile = OBJECT_MAPPER.createObjectNode();
+        companyProfile.put("company_number", companyNumber);
+        companyProfile.put("company_name", "LOAD TEST " + companyNumber + " LIMITED");
+        companyProfile.put("company_status", "active");
+        companyProfile.put("type", "ltd");
+        companyProfile.put("is_community_interest_company", false);
+        companyProfile.put("date_of_creation", fixtures.getPeriodStartOn().toString());
+
+        ObjectNode nextAccounts = companyProfile.putObject("accounts").putObject("next_accounts");
+        nextAccounts.put("period_start_on", fixtures.getPeriodStartOn().toString());
+        nextAccounts.put("period_end_on", fixtures.getPeriodEndOn().toString());
+
+        StandInServer.respond(exchange, 200, "application/json", OBJECT_MAPPER.writeValueAsBytes(companyProfile));
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Stands in for the document generator, storing the fixture document in the S3 stand-in for every
+ * account, as the document generator stores the ixbrl it renders. It is only called when the
+ * application does not render the ixbrl in process.
+ */
+final class DocumentGeneratorStandIn implements HttpHandler {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String PERIOD_END_ON = "period_end_on";
+
+    private final S3StandIn s3;
+
+    private final JourneyFixtures fixtures;
+
+    DocumentGeneratorStandIn(S3StandIn s3, JourneyFixtures fixtures) {
+        this.s3 = s3;
+        this.fixtures = fixtures;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            StandInServer.respond(exchange, 405, null, null);
+            return;
+        }
+
+        byte[] document = fixtures.getDocument();
+        String location = s3.put("documents/" + UUID.randomUUID() + ".html", "text/html", document);
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.putObject("links").put("location", location);
+        response.put("size", String.valueOf(document.length));
+        response.put("description", "Small full accounts made up to " + fixtures.getPeriodEndOn());
+        response.put("description_identifier", "small-full-accounts");
+        response.putObject("description_values").put(PERIOD_END_ON, fixtures.getPeriodEndOn().toString());
+
+        StandInServer.respond(exchange, 201, "application/json", OBJECT_MAPPER.writeValueAsBytes(response));
+    }
+}
@@ -0,0 +1,191 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * The journey of a user filing small full accounts for a company, as the web frontend makes it:
+ * create the company account, the small full accounts and the current period, submit every note
+ * in {@code notes.yml} and the directors report, approve the accounts, review them, validate
+ * them, and finally file them once the transactions API has closed the transaction.
+ */
+final class Journey {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final Duration FILINGS_TIMEOUT = Duration.ofSeconds(300);
+
+    private static final String COMPANY_ACCOUNTS = "/transactions/{transactionId}/company-accounts";
+    private static final String COMPANY_ACCOUNT = COMPANY_ACCOUNTS + "/{companyAccountId}";
+    private static final String SMALL_FULL = COMPANY_ACCOUNT + "/small-full";
+    private static final String CURRENT_PERIOD = SMALL_FULL + "/current-period";
+    private static final String NOTES = SMALL_FULL + "/notes/";
+    private static final String STATEMENTS = SMALL_FULL + "/statements";
+    private static final String APPROVAL = SMALL_FULL + "/approval";
+    private static final String DIRECTORS_REPORT = SMALL_FULL + "/directors-report";
+    private static final String DIRECTORS = DIRECTORS_REPORT + "/directors";
+    private static final String DIRECTORS_REPORT_STATEMENTS = DIRECTORS_REPORT + "/statements";
+    private static final String DIRECTORS_REPORT_APPROVAL = DIRECTORS_REPORT + "/approval";
+    private static final String VALIDATE = COMPANY_ACCOUNT + "/validate";
+    private static final String FILINGS = "/private" + COMPANY_ACCOUNT + "/filings";
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+
+    private final HttpClient httpClient;
+
+    private final String applicationUrl;
+
+    private final JourneyFixtures fixtures;
+
+    private final TransactionsApiStandIn transactionsApi;
+
+    private final LatencyRecorder latencyRecorder;
+
+    private final String transactionId;
+
+    private final String companyNumber;
+
+    private final String identity;
+
+    private String companyAccountId;
+
+    Journey(HttpClient httpClient, String applicationUrl, JourneyFixtures fixtures,
+            TransactionsApiStandIn transactionsApi, LatencyRecorder latencyRecorder, int number) {
+        this.httpClient = httpClient;
+        this.applicationUrl = applicationUrl;
+        this.fixtures = fixtures;
+        this.transactionsApi = transactionsApi;
+        this.latencyRecorder = latencyRecorder;
+        this.transactionId = String.format("000000-%06d-%06d", number / 1_000_000, number % 1_000_000);
+        this.companyNumber = String.format("LT%06d", number % 1_000_000);
+        this.identity = "load-test-user-" + number;
+    }
+
+    void run() throws IOException, InterruptedException {
+        transactionsApi.open(transactionId, companyNumber);
+        try {
+            JsonNode companyAccount = send(POST, COMPANY_ACCOUNTS, fixtures.getBody("company-account"));
+            String self = companyAccount.path("links").path("self").asText();
+            companyAccountId = self.substring(self.lastIndexOf('/') + 1);
+
+            send(GET, COMPANY_ACCOUNT, null);
+            send(POST, SMALL_FULL, fixtures.getBody("small-full"));
+            send(POST, CURRENT_PERIOD, fixtures.getBody("current-period"));
+            for (String note : fixtures.getNotes()) {
+                send(POST, NOTES + note, fixtures.getNote(note));
+            }
+            send(POST, STATEMENTS, fixtures.getBody("statements"));
+
+            send(POST, DIRECTORS_REPORT, fixtures.getBody("directors-report"));
+            send(POST, DIRECTORS, fixtures.getBody("director"));
+            send(POST, DIRECTORS_REPORT_STATEMENTS, fixtures.getBody("directors-report-statements"));
+            send(POST, DIRECTORS_REPORT_APPROVAL, fixtures.getBody("directors-report-approval"));
+
+            send(POST, APPROVAL, fixtures.getBody("approval"));
+
+            review();
+
+            JsonNode validationStatus = send(GET, VALIDATE, null);
+            if (!validationStatus.path("is_valid").asBoolean()) {
+                throw new IllegalStateException("The accounts of transaction " + transactionId + " are invalid: "
+                        + validationStatus.path("errors"));
+            }
+
+            transactionsApi.close(transactionId);
+            requestFilings();
+        } finally {
+            transactionsApi.remove(transactionId);
+        }
+    }
+
+    /**
+     * Read back the accounts, as the check your answers pages do.
+     */
+    private void review() throws IOException, InterruptedException {
+        send(GET, SMALL_FULL, null);
+        send(GET, CURRENT_PERIOD, null);
+        for (String note : fixtures.getNotes()) {
+            send(GET, NOTES + note, null);
+        }
+        send(GET, DIRECTORS_REPORT, null);
+    }
+
+    /**
+     * Request the filings, as the transactions API does once the transaction is closed. The
+     * request is held until their generation has finished, so it is allowed longer than any other.
+     */
+    private void requestFilings() throws IOException, InterruptedException {
+        send(GET, FILINGS, null);
+    }
+
+    private JsonNode send(String method, String template, String body) throws IOException, InterruptedException {
+        return send(method, template, body, POST.equals(method) ? 201 : 200);
+    }
+
+    /**
+     * Send a request to the application, recording its latency against its method and route
+     * template.
+     *
+     * @return the response body, or null if there is none
+     * @throws IllegalStateException if the request does not return one of the expected statuses
+     */
+    private JsonNode send(String method, String template, String body, int... expectedStatuses)
+            throws IOException, InterruptedException {
+        String path = template.replace("{transactionId}", transactionId)
+                .replace("{companyAccountId}", companyAccountId == null ? "" : companyAccountId);
+        String endpoint = method + " " + template;
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(applicationUrl + path))
+                .timeout(FILINGS.equals(template) ? FILINGS_TIMEOUT : REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("X-Request-Id", UUID.randomUUID().toString())
+                .header("ERIC-Access-Token", "load-test-token");
+        if (template.startsWith("/private")) {
+            request.header("ERIC-Identity", "load-test-api-key")
+                    .header("ERIC-Identity-Type", "key")
+                    .header("ERIC-Authorised-Key-Roles", "*");
+        } else {
+            request.header("ERIC-Identity", identity)
+                    .header("ERIC-Identity-Type", "oauth2")
+                    .header("ERIC-Authorised-User", identity + "@example.com")
+                    .header("ERIC-Authorised-Token-Permissions", "company_number=" + companyNumber
+                            + " company_accounts=create,read,update,delete");
+        }
+        if (body == null) {
+            request.method(method, BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json").method(method, BodyPublishers.ofString(body));
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), BodyHandlers.ofString());
+        } catch (IOException e) {
+            latencyRecorder.record(endpoint, System.nanoTime() - start, true);
+            throw e;
+        }
+        boolean failed = IntStream.of(expectedStatuses).noneMatch(status -> status == response.statusCode());
+        latencyRecorder.record(endpoint, System.nanoTime() - start, failed);
+
+        if (failed) {
+            throw new IllegalStateException(endpoint + " returned " + response.statusCode() + " for transaction "
+                    + transactionId + ": " + response.body());
+        }
+
+        return response.body().isEmpty() ? null : OBJECT_MAPPER.readTree(response.body());
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import uk.gov.companieshouse.api.accounts.model.AccountsNotes;
+import uk.gov.companieshouse.api.accounts.utility.YamlResourceMapper;
+
+/**
+ * The request bodies a journey submits, from the json files in {@code journey/}, and the notes it
+ * submits, from {@code notes.yml}. The accounting period ended three months ago and the accounts
+ * were approved yesterday, so that the dates are valid whenever the load test is run.
+ */
+final class JourneyFixtures {
+
+    private static final String SMALL_FULL = "small-full";
+
+    private final LocalDate periodEndOn = LocalDate.now().minusMonths(3);
+
+    private final LocalDate periodStartOn = periodEndOn.minusYears(1).plusDays(1);
+
+    private final LocalDate approvalDate = LocalDate.now().minusDays(1);
+
+    private final List<String> notes;
+
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+
+    private final byte[] document;
+
+    JourneyFixtures() {
+        AccountsNotes accountsNotes = new YamlResourceMapper().fetchObjectFromYaml("notes.yml", AccountsNotes.class);
+        this.notes = List.copyOf(accountsNotes.getNotes().get(SMALL_FULL));
+        this.document = read("journey/document.html");
+
+        // Fail before the application is started if a note has no body
+        notes.forEach(this::getNote);
+    }
+
+    LocalDate getPeriodStartOn() {
+        return periodStartOn;
+    }
+
+    LocalDate getPeriodEndOn() {
+        return periodEndOn;
+    }
+
+    /**
+     * @return the small full notes, in the order they are listed in {@code notes.yml}
+     */
+    List<String> getNotes() {
+        return notes;
+    }
+
+    /**
+     * @return the body of {@code journey/<name>.json}, with the dates filled in
+     */
+    String getBody(String name) {
+        return bodies.computeIfAbsent(name, key -> new String(read("journey/" + key + ".json"), StandardCharsets.UTF_8)
+                .replace("{{period_start_on}}", periodStartOn.toString())
+                .replace("{{period_end_on}}", periodEndOn.toString())
+                .replace("{{approval_date}}", approvalDate.toString()));
+    }
+
+    String getNote(String note) {
+        return getBody("notes/" + note);
+    }
+
+    /**
+     * @return the document stored by the document generator stand-in
+     */
+    byte[] getDocument() {
+        return document;
+    }
+
+    private static byte[] read(String resource) {
+        try (InputStream inputStream = JourneyFixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("No load test fixture at " + resource);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the latency and outcome of every request, by endpoint. An endpoint is the method and
+ * route template of a request, e.g. {@code GET /transactions/{transactionId}/company-accounts/{companyAccountId}},
+ * so the requests for every account are reported together.
+ */
+final class LatencyRecorder {
+
+    private final ConcurrentMap<String, EndpointLatencies> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean failed) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointLatencies()).add(latencyNanos, failed);
+    }
+
+    /**
+     * @return the statistics of each endpoint, ordered by endpoint
+     */
+    Map<String, EndpointStatistics> getStatistics() {
+        Map<String, EndpointStatistics> statistics = new TreeMap<>();
+        endpoints.forEach((endpoint, latencies) -> statistics.put(endpoint, latencies.getStatistics()));
+        return statistics;
+    }
+
+    record EndpointStatistics(int requests, int failures, long meanNanos, long p50Nanos, long p95Nanos,
+                              long p99Nanos, long maxNanos) {
+    }
+
+    private static final class EndpointLatencies {
+
+        private long[] latencies = new long[256];
+
+        private int count;
+
+        private int failures;
+
+        synchronized void add(long latencyNanos, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (failed) {
+                failures++;
+            }
+        }
+
+        synchronized EndpointStatistics getStatistics() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            return new EndpointStatistics(count, failures, (long) Arrays.stream(sorted).average().orElse(0),
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        }
+
+        /**
+         * The nearest rank percentile of sorted latencies.
+         */
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+    }
+}
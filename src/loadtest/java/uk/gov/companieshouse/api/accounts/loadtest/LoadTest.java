@@ -0,0 +1,211 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Load tests the application end to end. The application is started in its own JVM against an
+ * in memory Mongo stand-in and a local stand-in for every other service it calls, and driven with
+ * concurrent journeys of users filing small full accounts. The throughput and latency of each
+ * endpoint are reported.
+ *
+ * <p>Configured by system properties:
+ * <ul>
+ *     <li>{@code loadtest.journeys} - the journeys measured, default 200</li>
+ *     <li>{@code loadtest.warmup.journeys} - the journeys made first to warm up the application,
+ *     not measured, default 20</li>
+ *     <li>{@code loadtest.concurrency} - the journeys made at once, default 20</li>
+ *     <li>{@code loadtest.rendering} - {@code document-generator} to call the document generator
+ *     stand-in, the default, or {@code in-process} to render the ixbrl in the application. The in
+ *     process rendering is not yet verified against the document generator's output.</li>
+ *     <li>{@code loadtest.threads} - {@code platform} for a platform thread per request, the
+ *     default, or {@code virtual} to run the application in its virtual thread mode</li>
+ *     <li>{@code loadtest.standin.latency.millis} - the latency added to every response of the
+ *     stand-ins, to simulate slow services, default 0</li>
+ *     <li>{@code loadtest.jvm.options} - the JVM options of the application, e.g. {@code -Xmx1g}</li>
+ *     <li>{@code loadtest.report} - the csv report, default {@code target/load-test-report.csv}.
+ *     The output of the application is written alongside it, named after the report.</li>
+ * </ul>
+ *
+ * <p>With virtual threads, the frames at which a virtual thread was pinned to its carrier are
+ * reported. Exits with a non zero status if any journey fails, or if a virtual thread was pinned in
+ * the application's own code.
+ */
+public final class LoadTest {
+
+    private static final String IN_PROCESS_RENDERING = "in-process";
+
+    private static final String VIRTUAL_THREADS = "virtual";
+
+    private static final String LOAD_TEST_KEY = "load-test";
+
+    private static final int MAX_FAILURES_SHOWN = 10;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int journeys = Integer.getInteger("loadtest.journeys", 200);
+        int warmupJourneys = Integer.getInteger("loadtest.warmup.journeys", 20);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 20);
+        boolean isRenderedInProcess = IN_PROCESS_RENDERING.equals(System.getProperty("loadtest.rendering"));
+        boolean isVirtualThreads = VIRTUAL_THREADS.equals(System.getProperty("loadtest.threads"));
+        Duration standInLatency = Duration.ofMillis(Long.getLong("loadtest.standin.latency.millis", 0));
+        Path report = Paths.get(System.getProperty("loadtest.report", "target/load-test-report.csv"));
+        Path applicationLog = report.resolveSibling(
+                report.getFileName().toString().replaceFirst("\\.csv$", "") + "-application.log");
+
+        String jvmOptions = System.getProperty("loadtest.jvm.options", "");
+        if (isVirtualThreads) {
+            jvmOptions += " " + PinnedThreads.TRACE_OPTION;
+        }
+
+        JourneyFixtures fixtures = new JourneyFixtures();
+        MongoServer mongoServer = new MongoServer(new MemoryBackend());
+
+        int failedJourneys;
+        try (StandInServer standInServer = new StandInServer(fixtures, standInLatency)) {
+            InetSocketAddress mongoAddress = mongoServer.bind();
+            String mongoUrl = "mongodb://" + mongoAddress.getHostString() + ":" + mongoAddress.getPort()
+                    + "/company_accounts";
+
+            System.out.println("Starting the application, its output is written to " + applicationLog);
+            try (ApplicationProcess application = ApplicationProcess.start(
+                    getEnvironment(standInServer.getUrl(), mongoUrl, isRenderedInProcess, isVirtualThreads),
+                    jvmOptions, applicationLog, Duration.ofMinutes(3))) {
+
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .build();
+                AtomicInteger journeyNumber = new AtomicInteger();
+
+                System.out.println("Warming up with " + warmupJourneys + " journeys");
+                run(warmupJourneys, concurrency, () -> new Journey(httpClient, application.getUrl(), fixtures,
+                        standInServer.getTransactionsApi(), new LatencyRecorder(), journeyNumber.incrementAndGet()));
+
+                System.out.println("Running " + journeys + " journeys, " + concurrency + " at a time, on "
+                        + (isVirtualThreads ? "virtual" : "platform") + " threads");
+                LatencyRecorder latencyRecorder = new LatencyRecorder();
+                long start = System.nanoTime();
+                failedJourneys = run(journeys, concurrency, () -> new Journey(httpClient, application.getUrl(),
+                        fixtures, standInServer.getTransactionsApi(), latencyRecorder,
+                        journeyNumber.incrementAndGet()));
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+                LoadTestReport loadTestReport =
+                        new LoadTestReport(latencyRecorder.getStatistics(), elapsed, journeys, failedJourneys);
+                loadTestReport.writeCsv(report);
+                loadTestReport.print(System.out);
+                System.out.println("Report written to " + report);
+            }
+        } finally {
+            mongoServer.shutdownNow();
+        }
+
+        boolean isPinnedInApplication = isVirtualThreads && reportPinnedThreads(applicationLog);
+
+        if (failedJourneys > 0 || isPinnedInApplication) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Print the frames at which virtual threads were pinned.
+     *
+     * @return whether any was in the application's own code
+     */
+    private static boolean reportPinnedThreads(Path applicationLog) throws IOException {
+        PinnedThreads pinnedThreads = PinnedThreads.read(applicationLog);
+        System.out.println(pinnedThreads.getFrames().size() + " frames pinned a virtual thread");
+        pinnedThreads.getFrames().forEach(frame -> System.out.println("    " + frame));
+
+        Set<String> applicationFrames = pinnedThreads.getApplicationFrames();
+        if (!applicationFrames.isEmpty()) {
+            System.out.println(applicationFrames.size() + " of them in the application, see " + applicationLog);
+        }
+        return !applicationFrames.isEmpty();
+    }
+
+    /**
+     * The environment of the application, pointing every service it calls at a stand-in.
+     */
+    private static Map<String, String> getEnvironment(String standInUrl, String mongoUrl,
+                                                      boolean isRenderedInProcess, boolean isVirtualThreads) {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("TRANSACTIONS_ACCOUNTS_DB_URL", mongoUrl);
+        environment.put("API_URL", standInUrl);
+        environment.put("INTERNAL_API_URL", standInUrl);
+        environment.put("TRANSACTIONS_API_URL", standInUrl);
+        environment.put("CHS_API_KEY", LOAD_TEST_KEY);
+        environment.put("CHS_INTERNAL_API_KEY", LOAD_TEST_KEY);
+        environment.put("DOCUMENT_GENERATION_SERVICE_URL", standInUrl);
+        environment.put("IXBRL_VALIDATOR_URI", standInUrl + StandInServer.TNEP_VALIDATOR_PATH);
+        environment.put("AMAZON_S3_ENDPOINT", standInUrl);
+        environment.put("REGION_NAME_FOR_AMAZON_S3", "eu-west-2");
+        environment.put("AWS_ACCESS_KEY_ID", LOAD_TEST_KEY);
+        environment.put("AWS_SECRET_ACCESS_KEY", LOAD_TEST_KEY);
+        environment.put("DISABLE_IXBRL_VALIDATION", "false");
+        if (isRenderedInProcess) {
+            environment.put("IXBRL_RENDERING_ACCOUNT_TYPES", "small-full");
+            environment.put("IXBRL_RENDERING_LOCATION", "s3://" + StandInServer.BUCKET + "/ixbrl");
+        } else {
+            // The document generator stand-in stores a fixed document, not the account
+            environment.put("DISABLE_IXBRL_PRE_VALIDATION", "true");
+        }
+        environment.put("VIRTUAL_THREADS_ENABLED", String.valueOf(isVirtualThreads));
+        // Spans are still created, so their cost is measured, but not exported
+        environment.put("OTEL_TRACES_EXPORTER", "none");
+        environment.put("OTEL_METRICS_EXPORTER", "none");
+        environment.put("OTEL_LOGS_EXPORTER", "none");
+        return environment;
+    }
+
+    /**
+     * Make journeys, a number at a time, and wait for them all to finish.
+     *
+     * @return the number of journeys that failed
+     */
+    private static int run(int count, int concurrency, Supplier<Journey> journeys) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> {
+                    journeys.get().run();
+                    return null;
+                }));
+            }
+
+            int failures = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failures++ < MAX_FAILURES_SHOWN) {
+                        System.out.println("Journey failed: " + e.getCause().getMessage());
+                    }
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import uk.gov.companieshouse.api.accounts.loadtest.LatencyRecorder.EndpointStatistics;
+
+/**
+ * The throughput and latency of each endpoint over a load test run, written as csv for comparison
+ * between runs and printed as a table.
+ */
+final class LoadTestReport {
+
+    private static final String CSV_HEADER =
+            "endpoint,requests,failures,throughput_per_second,mean_ms,p50_ms,p95_ms,p99_ms,max_ms";
+
+    private final Map<String, EndpointStatistics> statistics;
+
+    private final Duration elapsed;
+
+    private final int journeys;
+
+    private final int failedJourneys;
+
+    LoadTestReport(Map<String, EndpointStatistics> statistics, Duration elapsed, int journeys, int failedJourneys) {
+        this.statistics = statistics;
+        this.elapsed = elapsed;
+        this.journeys = journeys;
+        this.failedJourneys = failedJourneys;
+    }
+
+    void writeCsv(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println(CSV_HEADER);
+            statistics.forEach((endpoint, endpointStatistics) -> writer.printf(Locale.ROOT,
+                    "\"%s\",%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f%n", endpoint,
+                    endpointStatistics.requests(), endpointStatistics.failures(),
+                    throughput(endpointStatistics.requests()), millis(endpointStatistics.meanNanos()),
+                    millis(endpointStatistics.p50Nanos()), millis(endpointStatistics.p95Nanos()),
+                    millis(endpointStatistics.p99Nanos()), millis(endpointStatistics.maxNanos())));
+        }
+    }
+
+    void print(PrintStream out) {
+        int width = statistics.keySet().stream().mapToInt(String::length).max().orElse(8);
+        String row = "%-" + width + "s %9s %8s %9s %9s %9s %9s %9s %9s%n";
+
+        out.printf(Locale.ROOT, "%d journeys, %d failed, in %.1fs: %.2f journeys/s%n", journeys, failedJourneys,
+                elapsed.toMillis() / 1000.0, throughput(journeys));
+        out.printf(Locale.ROOT, row, "endpoint", "requests", "failures", "req/s", "mean ms", "p50 ms", "p95 ms",
+                "p99 ms", "max ms");
+        statistics.forEach((endpoint, endpointStatistics) -> out.printf(Locale.ROOT, row, endpoint,
+                endpointStatistics.requests(), endpointStatistics.failures(),
+                format(throughput(endpointStatistics.requests())), format(millis(endpointStatistics.meanNanos())),
+                format(millis(endpointStatistics.p50Nanos())), format(millis(endpointStatistics.p95Nanos())),
+                format(millis(endpointStatistics.p99Nanos())), format(millis(endpointStatistics.maxNanos()))));
+    }
+
+    private double throughput(int count) {
+        return elapsed.isZero() ? 0 : count * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
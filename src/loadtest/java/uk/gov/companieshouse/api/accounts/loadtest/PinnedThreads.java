@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * The frames at which virtual threads of the application were pinned to their carrier thread, read
+ * from its output. Run with {@link #TRACE_OPTION}, the JDK prints the stack of a virtual thread
+ * that blocks while pinned, marking each frame holding a monitor with {@code <== monitors:}, and
+ * prints each distinct stack once.
+ */
+final class PinnedThreads {
+
+    static final String TRACE_OPTION = "-Djdk.tracePinnedThreads=short";
+
+    private static final String MONITOR_MARKER = "<== monitors:";
+
+    private static final String APPLICATION_PACKAGE = "uk.gov.companieshouse.api.accounts.";
+
+    private final Set<String> frames;
+
+    private PinnedThreads(Set<String> frames) {
+        this.frames = frames;
+    }
+
+    static PinnedThreads read(Path log) throws IOException {
+        try (Stream<String> lines = Files.lines(log)) {
+            return new PinnedThreads(lines.filter(line -> line.contains(MONITOR_MARKER))
+                    .map(String::trim)
+                    .collect(TreeSet::new, Set::add, Set::addAll));
+        }
+    }
+
+    Set<String> getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return the frames in the application's own code, rather than a library's
+     */
+    Set<String> getApplicationFrames() {
+        Set<String> applicationFrames = new TreeSet<>();
+        frames.stream().filter(frame -> frame.startsWith(APPLICATION_PACKAGE)).forEach(applicationFrames::add);
+        return applicationFrames;
+    }
+}
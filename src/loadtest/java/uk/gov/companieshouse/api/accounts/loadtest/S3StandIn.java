@@ -0,0 +1,87 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stands in for S3, holding objects in memory by path. Only single part uploads and downloads are
+ * supported, which is all the application uses for documents under the multipart threshold. The
+ * ETag of an object is the MD5 of its content, as the S3 client checks.
+ */
+final class S3StandIn implements HttpHandler {
+
+    private final ConcurrentMap<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    /**
+     * Store an object, as a service other than the application would.
+     *
+     * @return the S3 location of the object
+     */
+    String put(String key, String contentType, byte[] content) {
+        objects.put("/" + StandInServer.BUCKET + "/" + key, new StoredObject(contentType, content));
+        return "s3://" + StandInServer.BUCKET + "/" + key;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                if (exchange.getRequestURI().getQuery() != null) {
+                    // Multipart uploads are not supported
+                    StandInServer.respond(exchange, 501, null, null);
+                    return;
+                }
+                StoredObject object = new StoredObject(exchange.getRequestHeaders().getFirst("Content-Type"),
+                        exchange.getRequestBody().readAllBytes());
+                objects.put(path, object);
+                exchange.getResponseHeaders().set("ETag", object.etag);
+                StandInServer.respond(exchange, 200, null, null);
+            }
+            case "GET" -> {
+                StoredObject object = objects.get(path);
+                if (object == null) {
+                    StandInServer.respond(exchange, 404, null, null);
+                    return;
+                }
+                exchange.getResponseHeaders().set("ETag", object.etag);
+                StandInServer.respond(exchange, 200, object.contentType, object.content);
+            }
+            case "DELETE" -> {
+                objects.remove(path);
+                StandInServer.respond(exchange, 204, null, null);
+            }
+            default -> StandInServer.respond(exchange, 405, null, null);
+        }
+    }
+
+    private static final class StoredObject {
+
+        private final String contentType;
+
+        private final byte[] content;
+
+        private final String etag;
+
+        private StoredObject(String contentType, byte[] content) {
+            this.contentType = contentType == null ? "application/octet-stream" : contentType;
+            this.content = content;
+            this.etag = "\"" + HexFormat.of().formatHex(md5(content)) + "\"";
+        }
+
+        private static byte[] md5(byte[] content) {
+            try {
+                return MessageDigest.getInstance("MD5").digest(content);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
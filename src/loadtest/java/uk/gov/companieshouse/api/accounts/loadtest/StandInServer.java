@@ -0,0 +1,105 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local HTTP server standing in for every service the application calls: the transactions API,
+ * the company profile API, the document generator, the TNEP validator and S3. Each is mounted at
+ * the paths the application calls it on, so a single base url serves them all. Each request is
+ * handled on a virtual thread of its own, after the latency set to simulate a slow service.
+ */
+final class StandInServer implements AutoCloseable {
+
+    static final String TNEP_VALIDATOR_PATH = "/validate";
+
+    static final String BUCKET = "load-test-bucket";
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final TransactionsApiStandIn transactionsApi = new TransactionsApiStandIn();
+
+    private final S3StandIn s3 = new S3StandIn();
+
+    private final Duration latency;
+
+    StandInServer(JourneyFixtures fixtures, Duration latency) throws IOException {
+        this.latency = latency;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        createContext("/transactions/", transactionsApi);
+        createContext("/private/transactions/", transactionsApi);
+        createContext("/company/", new CompanyProfileApiStandIn(fixtures));
+        createContext("/private/documents/generate", new DocumentGeneratorStandIn(s3, fixtures));
+        createContext(TNEP_VALIDATOR_PATH, new TnepValidatorStandIn());
+        createContext("/" + BUCKET + "/", s3);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String getUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    TransactionsApiStandIn getTransactionsApi() {
+        return transactionsApi;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void createContext(String path, HttpHandler handler) {
+        if (latency.isZero()) {
+            server.createContext(path, handler);
+            return;
+        }
+        server.createContext(path, exchange -> {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+                return;
+            }
+            handler.handle(exchange);
+        });
+    }
+
+    /**
+     * Send a response, with no body if the body is null.
+     */
+    static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(status, body == null ? -1 : body.length);
+        if (body != null) {
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+        exchange.close();
+    }
+
+    /**
+     * @return the last segment of the request path, e.g. the transaction id or company number
+     */
+    static String lastPathSegment(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
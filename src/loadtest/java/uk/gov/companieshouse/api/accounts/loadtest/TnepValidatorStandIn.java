@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stands in for the TNEP validator, reading the whole uploaded document before passing it, as the
+ * validator would.
+ */
+final class TnepValidatorStandIn implements HttpHandler {
+
+    private static final byte[] VALID = "<results validationStatus=\"OK\"></results>"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            StandInServer.respond(exchange, 405, null, null);
+            return;
+        }
+
+        StandInServer.respond(exchange, 200, "application/xml", VALID);
+    }
+}
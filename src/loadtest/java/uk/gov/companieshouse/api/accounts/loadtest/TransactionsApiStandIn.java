@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.api.accounts.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stands in for the transactions API. Transactions are opened and closed by the journeys, as a
+ * user and the transactions API would, and the application reads them and patches in the
+ * resources it creates.
+ */
+final class TransactionsApiStandIn implements HttpHandler {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private static final String STATUS = "status";
+
+    private static final String RESOURCES = "resources";
+
+    /**
+     * The transactions by id. A stored transaction is never modified, it is replaced by a changed
+     * copy.
+     */
+    private final ConcurrentMap<String, ObjectNode> transactions = new ConcurrentHashMap<>();
+
+    void open(String transactionId, String companyNumber) {
+        ObjectNode transaction = OBJECT_MAPPER.createObjectNode();
+        transaction.put("id", transactionId);
+        transaction.put("company_number", companyNumber);
+        transaction.put("company_name", "LOAD TEST " + companyNumber + " LIMITED");
+        transaction.put(STATUS, "open");
+        transaction.putObject("links").put("self", "/transactions/" + transactionId);
+        transaction.putObject(RESOURCES);
+        transactions.put(transactionId, transaction);
+    }
+
+    /**
+     * Close a transaction, as the transactions API does when the user submits it.
+     */
+    void close(String transactionId) {
+        transactions.computeIfPresent(transactionId, (id, transaction) -> {
+            ObjectNode closed = transaction.deepCopy();
+            closed.put(STATUS, "closed");
+            return closed;
+        });
+    }
+
+    void remove(String transactionId) {
+        transactions.remove(transactionId);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String transactionId = StandInServer.lastPathSegment(exchange);
+
+        switch (exchange.getRequestMethod()) {
+            case "GET" -> {
+                ObjectNode transaction = transactions.get(transactionId);
+                if (transaction == null) {
+                    StandInServer.respond(exchange, 404, null, null);
+                } else {
+                    StandInServer.respond(exchange, 200, APPLICATION_JSON, OBJECT_MAPPER.writeValueAsBytes(transaction));
+                }
+            }
+            case "PATCH" -> {
+                JsonNode patch = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+                ObjectNode patched = transactions.computeIfPresent(transactionId, (id, transaction) -> {
+                    ObjectNode copy = transaction.deepCopy();
+                    if (patch.hasNonNull(RESOURCES)) {
+                        copy.set(RESOURCES, patch.get(RESOURCES));
+                    }
+                    return copy;
+                });
+                StandInServer.respond(exchange, patched == null ? 404 : 204, null, null);
+            }
+            default -> StandInServer.respond(exchange, 405, null, null);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package uk.gov.companieshouse.api.accounts;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
-import org.springframework.web.client.RestTemplate;
 import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
 import uk.gov.companieshouse.accountsdates.impl.AccountsDatesHelperImpl;
 import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
@@ -30,11 +29,6 @@ public class ApplicationConfiguration {
         return new EnvironmentReaderImpl();
     }
 
-    @Bean
-    public RestTemplate getRestTemplate() {
-        return new RestTemplate();
-    }
-
     @Bean
     public AccountsDatesHelper getAccountsDatesHelper() {
         return new AccountsDatesHelperImpl();
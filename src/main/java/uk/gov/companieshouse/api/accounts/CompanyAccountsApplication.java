@@ -1,11 +1,17 @@
 package uk.gov.companieshouse.api.accounts;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import uk.gov.companieshouse.api.accounts.configuration.ApplicationTracer;
+
+import uk.gov.companieshouse.api.accounts.interceptor.AncestorResourcesInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.CicReportInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.ClosedTransactionInterceptor;
@@ -18,9 +24,12 @@ import uk.gov.companieshouse.api.accounts.interceptor.OpenTransactionInterceptor
 import uk.gov.companieshouse.api.accounts.interceptor.PreviousPeriodInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.RelatedPartyTransactionsInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.SmallFullInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.TimedInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.TransactionInterceptor;
+import uk.gov.companieshouse.api.accounts.request.NoteArgumentResolver;
 import uk.gov.companieshouse.api.accounts.utility.AccountsNotesPathsYamlReader;
 
+import java.util.List;
 import java.util.Properties;
 import uk.gov.companieshouse.api.accounts.utility.YamlResourceMapper;
 import uk.gov.companieshouse.api.interceptor.TokenPermissionsInterceptor;
@@ -39,6 +48,9 @@ public class CompanyAccountsApplication implements WebMvcConfigurer {
     @Autowired
     private ClosedTransactionInterceptor closedTransactionInterceptor;
 
+    @Autowired
+    private AncestorResourcesInterceptor ancestorResourcesInterceptor;
+
     @Autowired
     private CompanyAccountInterceptor companyAccountInterceptor;
 
@@ -72,6 +84,15 @@ public class CompanyAccountsApplication implements WebMvcConfigurer {
     @Autowired
     private RelatedPartyTransactionsInterceptor relatedPartyTransactionsInterceptor;
 
+    @Autowired
+    private NoteArgumentResolver noteArgumentResolver;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationTracer applicationTracer;
+
     public static void main(String[] args) {
         SpringApplication application = new SpringApplication(CompanyAccountsApplication.class);
         Properties properties = new Properties();
@@ -88,78 +109,99 @@ public class CompanyAccountsApplication implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
-        registry.addInterceptor(loggingInterceptor)
+        registry.addInterceptor(timed(loggingInterceptor))
             .excludePathPatterns("/healthcheck");
 
-        registry.addInterceptor(tokenPermissionsInterceptor)
+        registry.addInterceptor(timed(tokenPermissionsInterceptor))
             .addPathPatterns(
                     "/transactions/{transactionId}/company-accounts",
                     "/transactions/{transactionId}/company-accounts/**");
 
-        registry.addInterceptor(authenticationInterceptor)
+        registry.addInterceptor(timed(authenticationInterceptor))
             .addPathPatterns(
                     "/transactions/{transactionId}/company-accounts",
                     "/transactions/{transactionId}/company-accounts/**");
 
-        registry.addInterceptor(transactionInterceptor)
+        registry.addInterceptor(timed(transactionInterceptor))
             .addPathPatterns(
                 "/transactions/{transactionId}/**",
                 "/private/transactions/{transactionId}/**");
 
-        registry.addInterceptor(openTransactionInterceptor)
+        registry.addInterceptor(timed(openTransactionInterceptor))
             .addPathPatterns(
                 "/transactions/{transactionId}/**",
                 "/private/transactions/{transactionId}/**")
             .excludePathPatterns(
-                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings");
+                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}",
+                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings",
+                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings/job");
 
-        registry.addInterceptor(closedTransactionInterceptor)
+        registry.addInterceptor(timed(closedTransactionInterceptor))
             .addPathPatterns(
-                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings");
+                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings",
+                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings/job");
+
+        // Reads the ancestors checked by the interceptors below together, ahead of them
+        registry.addInterceptor(timed(ancestorResourcesInterceptor))
+            .addPathPatterns(
+                "/transactions/{transactionId}/company-accounts/{companyAccountId}/**",
+                "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/**");
 
         // This {companyAccountId}/** has been added to re-direct to the CompanyAccountInterceptor the following urls:
         // "/company-accounts/{companyAccountId}"
         // "/company-accounts/{companyAccountId}/small-full"
         // "/company-accounts/{companyAccountId}/small-full/..."
         // Excluding url: "/company-accounts"
-        registry.addInterceptor(companyAccountInterceptor)
+        registry.addInterceptor(timed(companyAccountInterceptor))
             .addPathPatterns(
                 "/transactions/{transactionId}/company-accounts/{companyAccountId}/**",
                 "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/**");
 
-        registry.addInterceptor(smallFullInterceptor)
+        registry.addInterceptor(timed(smallFullInterceptor))
             .addPathPatterns(
                 "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full",
                 "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/**");
 
-        registry.addInterceptor(currentPeriodInterceptor)
+        registry.addInterceptor(timed(currentPeriodInterceptor))
                 .addPathPatterns("/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/current-period",
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/current-period/**");
 
-        registry.addInterceptor(previousPeriodInterceptor)
+        registry.addInterceptor(timed(previousPeriodInterceptor))
                 .addPathPatterns("/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/previous-period",
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/previous-period/**");
 
-        registry.addInterceptor(cicReportInterceptor)
+        registry.addInterceptor(timed(cicReportInterceptor))
             .addPathPatterns("/transactions/{transactionId}/company-accounts/{companyAccountId}/cic-report/**")
             .excludePathPatterns("/transactions/{transactionId}/company-accounts/{companyAccountId}/cic-report");
 
-        registry.addInterceptor(directorsReportInterceptor)
+        registry.addInterceptor(timed(directorsReportInterceptor))
                 .addPathPatterns(
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/directors-report/**")
                 .excludePathPatterns(
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/directors-report");
 
-        registry.addInterceptor(loansToDirectorsInterceptor)
+        registry.addInterceptor(timed(loansToDirectorsInterceptor))
                 .addPathPatterns(
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/notes/loans-to-directors/**")
                 .excludePathPatterns(
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/notes/loans-to-directors");
 
-        registry.addInterceptor(relatedPartyTransactionsInterceptor)
+        registry.addInterceptor(timed(relatedPartyTransactionsInterceptor))
                 .addPathPatterns(
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/notes/related-party-transactions/**")
                 .excludePathPatterns(
                         "/transactions/{transactionId}/company-accounts/{companyAccountId}/small-full/notes/related-party-transactions");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(noteArgumentResolver);
+    }
+
+    /**
+     * Wrap an interceptor so that the time taken by its preHandle is recorded and traced.
+     */
+    private HandlerInterceptor timed(HandlerInterceptor interceptor) {
+        return new TimedInterceptor(interceptor, meterRegistry, applicationTracer);
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.api.accounts.configuration;
 
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.Protocol;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
@@ -13,16 +14,27 @@ import uk.gov.companieshouse.environment.EnvironmentReader;
 @Configuration
 public class AmazonS3Configuration {
 
+    public static final String AMAZON_S3 = "amazon-s3";
+
     @Autowired
     private EnvironmentReader environmentReader;
 
     @Bean
     public AmazonS3 getAmazonS3() {
-        return AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
             .standard()
-            .withRegion(getRegion())
-            .withClientConfiguration(getClientConfiguration())
-            .build();
+            .withClientConfiguration(getClientConfiguration());
+
+        String endpoint = getEndpoint();
+        if (endpoint != null && !endpoint.trim().isEmpty()) {
+            builder.withEndpointConfiguration(new EndpointConfiguration(endpoint, getRegionNameForAmazonS3()))
+                .withPathStyleAccessEnabled(true)
+                .withChunkedEncodingDisabled(true);
+        } else {
+            builder.withRegion(getRegion());
+        }
+
+        return builder.build();
     }
 
     private Regions getRegion() {
@@ -62,6 +74,14 @@ public class AmazonS3Configuration {
         return environmentReader.getOptionalString("IMAGE_CLOUD_PROXY_HOST");
     }
 
+    /**
+     * An S3 compatible endpoint to use in place of AWS, e.g. a local stand-in. Objects are
+     * addressed by path and uploaded unchunked, as such stand-ins expect.
+     */
+    private String getEndpoint() {
+        return environmentReader.getOptionalString("AMAZON_S3_ENDPOINT");
+    }
+
     private String getRegionNameForAmazonS3() {
         return environmentReader.getMandatoryString("REGION_NAME_FOR_AMAZON_S3");
     }
@@ -0,0 +1,139 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import io.micrometer.core.instrument.Tag;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.model.validation.Errors;
+import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
+import uk.gov.companieshouse.api.accounts.utility.RequestMetricTags;
+
+/**
+ * Creates the spans of the application's own work, such as each interceptor, service operation,
+ * validator and filing stage, as children of the current span, e.g. the server span of the request
+ * that the OpenTelemetry starter creates. Spans carry the company account id and the account and
+ * note type of the request being processed, and the result status of the work once it is done.
+ * They are exported with the starter's {@code otel.*} settings, e.g. to a local collector with
+ * {@code OTEL_EXPORTER_OTLP_ENDPOINT}.
+ */
+@Component
+public class ApplicationTracer {
+
+    public static final String COMPANY_ACCOUNT_ID = "company_account_id";
+    public static final String RESULT_STATUS = "result_status";
+
+    static final String ERROR_COUNT = "error_count";
+
+    private static final String COMPANY_ACCOUNT_ID_PATH_VARIABLE = "companyAccountId";
+
+    private final Tracer tracer;
+
+    @Autowired
+    public ApplicationTracer(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
+    }
+
+    /**
+     * Start a span, with the attributes of the request being processed by the current thread, if
+     * there is one. The caller must end the span.
+     */
+    public Span startSpan(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return startSpan(name, servletRequestAttributes.getRequest());
+        }
+        return tracer.spanBuilder(name).startSpan();
+    }
+
+    /**
+     * Start a span, with the attributes of a request. The caller must end the span.
+     */
+    public Span startSpan(String name, HttpServletRequest request) {
+        Span span = tracer.spanBuilder(name).startSpan();
+
+        Object pathVariables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables instanceof Map<?, ?> variables
+                && variables.get(COMPANY_ACCOUNT_ID_PATH_VARIABLE) instanceof String companyAccountId) {
+            span.setAttribute(COMPANY_ACCOUNT_ID, companyAccountId);
+        }
+
+        for (Tag tag : RequestMetricTags.forRequest(request)) {
+            if (!RequestMetricTags.NONE.equals(tag.getValue())) {
+                span.setAttribute(tag.getKey(), tag.getValue());
+            }
+        }
+        return span;
+    }
+
+    /**
+     * Run an operation in a span of its own, recording its result status, or the exception it
+     * throws.
+     *
+     * @param name - the span name
+     * @param operation - the operation
+     * @return the result of the operation
+     */
+    public <T> T trace(String name, Supplier<T> operation) {
+        Span span = startSpan(name);
+        try (Scope scope = span.makeCurrent()) {
+            T result = operation.get();
+            setResult(span, result);
+            return result;
+        } catch (RuntimeException e) {
+            setFailure(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Run an operation that has no result in a span of its own.
+     *
+     * @param name - the span name
+     * @param operation - the operation
+     */
+    public void trace(String name, Runnable operation) {
+        trace(name, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Record the result status of the work in a span: the status of a {@link ResponseObject},
+     * whether {@link Errors} hold any errors, or the value of a boolean result.
+     */
+    public void setResult(Span span, Object result) {
+        if (result instanceof ResponseObject<?> responseObject && responseObject.getStatus() != null) {
+            span.setAttribute(RESULT_STATUS, responseObject.getStatus().name());
+        } else if (result instanceof Errors errors) {
+            span.setAttribute(RESULT_STATUS, errors.hasErrors() ? "invalid" : "valid");
+            span.setAttribute(ERROR_COUNT, errors.getErrorCount());
+        } else if (result instanceof Boolean value) {
+            span.setAttribute(RESULT_STATUS, value.toString());
+        } else if (result == null) {
+            span.setAttribute(RESULT_STATUS, "none");
+        }
+    }
+
+    /**
+     * Record the exception that ended the work in a span.
+     */
+    public void setFailure(Span span, Throwable exception) {
+        span.recordException(exception);
+        span.setStatus(StatusCode.ERROR);
+    }
+}
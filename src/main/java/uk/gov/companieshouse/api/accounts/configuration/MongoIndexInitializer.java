@@ -0,0 +1,181 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static uk.gov.companieshouse.api.accounts.CompanyAccountsApplication.APPLICATION_NAME_SPACE;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.bson.Document;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Creates the indexes declared on the entities of every Mongo repository once the application has
+ * started, then reports each custom repository query whose fields are not the leading key of an
+ * index on the queried collection. Index creation can be disabled by setting
+ * {@code MONGO_CREATE_INDEXES} to false, in which case the indexes are only verified.
+ */
+@Component
+public class MongoIndexInitializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private static final String CREATE_INDEXES_ENV_VAR = "MONGO_CREATE_INDEXES";
+    private static final String ID_FIELD = "_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final List<MongoRepository<?, ?>> repositories;
+
+    private final boolean createIndexes;
+
+    @Autowired
+    public MongoIndexInitializer(MongoTemplate mongoTemplate,
+                                 List<MongoRepository<?, ?>> repositories,
+                                 EnvironmentReader environmentReader) {
+        this.mongoTemplate = mongoTemplate;
+        this.repositories = repositories;
+        this.createIndexes = Boolean.parseBoolean(Optional.ofNullable(
+                environmentReader.getOptionalString(CREATE_INDEXES_ENV_VAR)).orElse("true"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialiseIndexes() {
+        List<Class<?>> repositoryInterfaces = getRepositoryInterfaces();
+
+        if (createIndexes) {
+            createIndexes(repositoryInterfaces);
+        }
+
+        reportUnindexedQueries(repositoryInterfaces);
+    }
+
+    List<Class<?>> getRepositoryInterfaces() {
+        List<Class<?>> repositoryInterfaces = new ArrayList<>();
+        for (MongoRepository<?, ?> repository : repositories) {
+            for (Class<?> proxiedInterface : AopProxyUtils.proxiedUserInterfaces(repository)) {
+                if (MongoRepository.class.isAssignableFrom(proxiedInterface)) {
+                    repositoryInterfaces.add(proxiedInterface);
+                }
+            }
+        }
+        return repositoryInterfaces;
+    }
+
+    void createIndexes(List<Class<?>> repositoryInterfaces) {
+        MongoPersistentEntityIndexResolver indexResolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        Set<Class<?>> domainTypes = new LinkedHashSet<>();
+        repositoryInterfaces.forEach(repositoryInterface -> domainTypes.add(getDomainType(repositoryInterface)));
+
+        for (Class<?> domainType : domainTypes) {
+            for (IndexDefinitionHolder index : indexResolver.resolveIndexFor(TypeInformation.of(domainType))) {
+                try {
+                    String indexName = mongoTemplate.indexOps(index.getCollection()).createIndex(index);
+                    Map<String, Object> debugMap = createDebugMap(index.getCollection());
+                    debugMap.put("index", indexName);
+                    LOGGER.info("MongoIndexInitializer: index created or verified", debugMap);
+                } catch (RuntimeException e) {
+                    Map<String, Object> debugMap = createDebugMap(index.getCollection());
+                    debugMap.put("index_keys", index.getIndexKeys().toJson());
+                    LOGGER.error("MongoIndexInitializer: failed to create index", e, debugMap);
+                }
+            }
+        }
+    }
+
+    /**
+     * Log every custom repository query field which is not the leading key of an index.
+     *
+     * @return descriptions of the unindexed query fields, as repository.method(field)
+     */
+    List<String> reportUnindexedQueries(List<Class<?>> repositoryInterfaces) {
+        List<String> unindexedQueries = new ArrayList<>();
+        Map<String, Set<String>> indexedFieldsByCollection = new HashMap<>();
+
+        for (Class<?> repositoryInterface : repositoryInterfaces) {
+            String collection = mongoTemplate.getCollectionName(getDomainType(repositoryInterface));
+
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null || query.value().isEmpty()) {
+                    continue;
+                }
+
+                Set<String> indexedFields;
+                try {
+                    indexedFields = indexedFieldsByCollection.computeIfAbsent(collection, this::getIndexedFields);
+                } catch (RuntimeException e) {
+                    LOGGER.error("MongoIndexInitializer: failed to read indexes", e, createDebugMap(collection));
+                    return unindexedQueries;
+                }
+
+                for (String field : getQueriedFields(query.value())) {
+                    if (!indexedFields.contains(field)) {
+                        Map<String, Object> debugMap = createDebugMap(collection);
+                        debugMap.put("repository", repositoryInterface.getSimpleName());
+                        debugMap.put("method", method.getName());
+                        debugMap.put("field", field);
+                        LOGGER.error("MongoIndexInitializer: repository query has no supporting index", debugMap);
+                        unindexedQueries.add(repositoryInterface.getSimpleName() + "." + method.getName()
+                                + "(" + field + ")");
+                    }
+                }
+            }
+        }
+
+        return unindexedQueries;
+    }
+
+    private Set<String> getIndexedFields(String collection) {
+        Set<String> indexedFields = new LinkedHashSet<>();
+        indexedFields.add(ID_FIELD);
+        for (IndexInfo indexInfo : mongoTemplate.indexOps(collection).getIndexInfo()) {
+            if (!indexInfo.getIndexFields().isEmpty()) {
+                indexedFields.add(indexInfo.getIndexFields().get(0).getKey());
+            }
+        }
+        return indexedFields;
+    }
+
+    private Set<String> getQueriedFields(String query) {
+        Set<String> fields = new LinkedHashSet<>();
+        Document queryDocument = Document.parse(query.replaceAll("\\?\\d+", "null"));
+        for (String key : queryDocument.keySet()) {
+            if (!key.startsWith("$")) {
+                fields.add(key);
+            }
+        }
+        return fields;
+    }
+
+    private Class<?> getDomainType(Class<?> repositoryInterface) {
+        return AbstractRepositoryMetadata.getMetadata(repositoryInterface).getDomainType();
+    }
+
+    private Map<String, Object> createDebugMap(String collection) {
+        Map<String, Object> debugMap = new HashMap<>();
+        debugMap.put("collection", collection);
+        return debugMap;
+    }
+}
@@ -0,0 +1,194 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * Guards the calls made to a downstream dependency with a bulkhead, which limits the number of
+ * concurrent calls so that a slow dependency cannot hold every request thread, and a circuit
+ * breaker, which fails calls fast while the dependency is failing or slow and probes it again with a
+ * few half-open calls once it has been open for a while. Idempotent calls are also retried with an
+ * exponential, jittered backoff.
+ *
+ * <p>A call that is not permitted throws {@link CallNotPermittedException} when the circuit is open,
+ * or {@link BulkheadFullException} when the bulkhead is full. Errors caused by the request itself,
+ * such as a 4xx response, are neither recorded as failures nor retried. Nor is a full bulkhead
+ * recorded as a failure, as it shows the load on this service rather than the health of the
+ * destination, so a burst of requests cannot open the circuit on its own.
+ *
+ * <p>The guards are held in the resilience4j registries, so their state is published through the
+ * {@code circuitbreakers}, {@code bulkheads} and {@code retries} actuator endpoints and the
+ * {@code resilience4j} metrics. The settings of a destination are read from environment variables
+ * named after it, e.g. {@code TNEP_VALIDATOR_CIRCUIT_OPEN_MILLIS} for {@code tnep-validator}.
+ * The time each call takes, as seen by its caller, is recorded by {@link OutboundCallMetrics}.
+ */
+@Component
+public class OutboundCallGuard {
+
+    static final String BULKHEAD_MAX_CONCURRENT_CALLS_ENV_VAR = "_BULKHEAD_MAX_CONCURRENT_CALLS";
+    static final String BULKHEAD_MAX_WAIT_MILLIS_ENV_VAR = "_BULKHEAD_MAX_WAIT_MILLIS";
+    static final String CIRCUIT_FAILURE_RATE_THRESHOLD_ENV_VAR = "_CIRCUIT_FAILURE_RATE_THRESHOLD";
+    static final String CIRCUIT_SLOW_CALL_MILLIS_ENV_VAR = "_CIRCUIT_SLOW_CALL_MILLIS";
+    static final String CIRCUIT_SLIDING_WINDOW_SIZE_ENV_VAR = "_CIRCUIT_SLIDING_WINDOW_SIZE";
+    static final String CIRCUIT_MINIMUM_CALLS_ENV_VAR = "_CIRCUIT_MINIMUM_CALLS";
+    static final String CIRCUIT_OPEN_MILLIS_ENV_VAR = "_CIRCUIT_OPEN_MILLIS";
+    static final String CIRCUIT_HALF_OPEN_CALLS_ENV_VAR = "_CIRCUIT_HALF_OPEN_CALLS";
+    static final String RETRY_MAX_ATTEMPTS_ENV_VAR = "_RETRY_MAX_ATTEMPTS";
+    static final String RETRY_WAIT_MILLIS_ENV_VAR = "_RETRY_WAIT_MILLIS";
+
+    private static final int DEFAULT_BULKHEAD_MAX_CONCURRENT_CALLS = 10;
+    private static final int DEFAULT_BULKHEAD_MAX_WAIT_MILLIS = 500;
+    private static final int DEFAULT_CIRCUIT_FAILURE_RATE_THRESHOLD = 50;
+    private static final int DEFAULT_CIRCUIT_SLOW_CALL_MILLIS = 60000;
+    private static final int DEFAULT_CIRCUIT_SLIDING_WINDOW_SIZE = 20;
+    private static final int DEFAULT_CIRCUIT_MINIMUM_CALLS = 10;
+    private static final int DEFAULT_CIRCUIT_OPEN_MILLIS = 30000;
+    private static final int DEFAULT_CIRCUIT_HALF_OPEN_CALLS = 3;
+    private static final int DEFAULT_RETRY_MAX_ATTEMPTS = 3;
+    private static final int DEFAULT_RETRY_WAIT_MILLIS = 200;
+
+    private static final double RETRY_BACKOFF_MULTIPLIER = 2.0;
+    private static final double RETRY_RANDOMIZATION_FACTOR = 0.5;
+
+    private final EnvironmentReader environmentReader;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private final RetryRegistry retryRegistry;
+
+    private final OutboundCallMetrics outboundCallMetrics;
+
+    @Autowired
+    public OutboundCallGuard(EnvironmentReader environmentReader,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             RetryRegistry retryRegistry,
+                             OutboundCallMetrics outboundCallMetrics) {
+        this.environmentReader = environmentReader;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retryRegistry = retryRegistry;
+        this.outboundCallMetrics = outboundCallMetrics;
+    }
+
+    /**
+     * Make a call to a destination through its bulkhead and circuit breaker.
+     *
+     * @param destination - the name of the downstream dependency
+     * @param call - the call to make
+     * @return the result of the call
+     */
+    public <T> T call(String destination, Supplier<T> call) {
+        return outboundCallMetrics.record(destination, guard(destination, call));
+    }
+
+    /**
+     * Make an idempotent call to a destination through its bulkhead and circuit breaker, retrying
+     * it with a jittered backoff when it fails.
+     *
+     * @param destination - the name of the downstream dependency
+     * @param call - the call to make, which must be safe to repeat
+     * @return the result of the call
+     */
+    public <T> T callIdempotent(String destination, Supplier<T> call) {
+        Retry retry = retryRegistry.retry(destination, () -> createRetryConfig(getEnvVarPrefix(destination)));
+
+        return outboundCallMetrics.record(destination, Retry.decorateSupplier(retry, guard(destination, call)));
+    }
+
+    private <T> Supplier<T> guard(String destination, Supplier<T> call) {
+        String envVarPrefix = getEnvVarPrefix(destination);
+
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(destination, () -> createBulkheadConfig(envVarPrefix));
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(destination,
+                () -> createCircuitBreakerConfig(envVarPrefix));
+
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call));
+    }
+
+    private BulkheadConfig createBulkheadConfig(String envVarPrefix) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(getSetting(envVarPrefix, BULKHEAD_MAX_CONCURRENT_CALLS_ENV_VAR,
+                        DEFAULT_BULKHEAD_MAX_CONCURRENT_CALLS))
+                .maxWaitDuration(Duration.ofMillis(getSetting(envVarPrefix, BULKHEAD_MAX_WAIT_MILLIS_ENV_VAR,
+                        DEFAULT_BULKHEAD_MAX_WAIT_MILLIS)))
+                .build();
+    }
+
+    private CircuitBreakerConfig createCircuitBreakerConfig(String envVarPrefix) {
+        int failureRateThreshold = getSetting(envVarPrefix, CIRCUIT_FAILURE_RATE_THRESHOLD_ENV_VAR,
+                DEFAULT_CIRCUIT_FAILURE_RATE_THRESHOLD);
+
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(getSetting(envVarPrefix,
+                        CIRCUIT_SLOW_CALL_MILLIS_ENV_VAR, DEFAULT_CIRCUIT_SLOW_CALL_MILLIS)))
+                .slidingWindowSize(getSetting(envVarPrefix, CIRCUIT_SLIDING_WINDOW_SIZE_ENV_VAR,
+                        DEFAULT_CIRCUIT_SLIDING_WINDOW_SIZE))
+                .minimumNumberOfCalls(getSetting(envVarPrefix, CIRCUIT_MINIMUM_CALLS_ENV_VAR,
+                        DEFAULT_CIRCUIT_MINIMUM_CALLS))
+                .waitDurationInOpenState(Duration.ofMillis(getSetting(envVarPrefix, CIRCUIT_OPEN_MILLIS_ENV_VAR,
+                        DEFAULT_CIRCUIT_OPEN_MILLIS)))
+                .permittedNumberOfCallsInHalfOpenState(getSetting(envVarPrefix, CIRCUIT_HALF_OPEN_CALLS_ENV_VAR,
+                        DEFAULT_CIRCUIT_HALF_OPEN_CALLS))
+                .recordException(exception -> !isRequestError(exception))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+
+    private RetryConfig createRetryConfig(String envVarPrefix) {
+        return RetryConfig.custom()
+                .maxAttempts(getSetting(envVarPrefix, RETRY_MAX_ATTEMPTS_ENV_VAR, DEFAULT_RETRY_MAX_ATTEMPTS))
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        getSetting(envVarPrefix, RETRY_WAIT_MILLIS_ENV_VAR, DEFAULT_RETRY_WAIT_MILLIS),
+                        RETRY_BACKOFF_MULTIPLIER, RETRY_RANDOMIZATION_FACTOR))
+                .retryOnException(exception -> !isRequestError(exception)
+                        && !(exception instanceof CallNotPermittedException)
+                        && !(exception instanceof BulkheadFullException))
+                .build();
+    }
+
+    /**
+     * Whether the call failed because of the request that was made rather than the state of the
+     * destination, in which case repeating it will not help.
+     */
+    private boolean isRequestError(Throwable exception) {
+        if (exception instanceof HttpClientErrorException) {
+            return true;
+        }
+        return exception instanceof AmazonServiceException amazonServiceException
+                && amazonServiceException.getErrorType() == ErrorType.Client;
+    }
+
+    private String getEnvVarPrefix(String destination) {
+        return destination.toUpperCase(Locale.ROOT).replace('-', '_');
+    }
+
+    private int getSetting(String envVarPrefix, String envVarSuffix, int defaultValue) {
+        return Optional.ofNullable(environmentReader.getOptionalInteger(envVarPrefix + envVarSuffix))
+                .orElse(defaultValue);
+    }
+}
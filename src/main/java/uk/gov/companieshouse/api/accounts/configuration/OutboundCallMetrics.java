@@ -0,0 +1,95 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.utility.RequestMetricTags;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+
+/**
+ * Records the time taken by each call to a downstream dependency in the {@code outbound.calls}
+ * timer, tagged with the destination, whether the call succeeded, and the account and note type of
+ * the request that made it. Calls made through the {@link OutboundCallGuard} are timed by it,
+ * including any time spent waiting for the bulkhead or retrying; calls made with the api sdk are
+ * timed with {@link #recordApiCall(String, ApiCall)}.
+ */
+@Component
+public class OutboundCallMetrics {
+
+    public static final String TRANSACTIONS_API = "transactions-api";
+    public static final String COMPANY_PROFILE_API = "company-profile-api";
+
+    static final String METER_NAME = "outbound.calls";
+
+    private static final String DESTINATION_TAG = "destination";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public OutboundCallMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Make a call to a destination and record the time it took.
+     *
+     * @param destination - the name of the downstream dependency
+     * @param call - the call to make
+     * @return the result of the call
+     */
+    public <T> T record(String destination, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = FAILURE;
+        try {
+            T result = call.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(getTimer(destination, outcome));
+        }
+    }
+
+    /**
+     * Make a call to a destination with the api sdk and record the time it took.
+     *
+     * @param destination - the name of the downstream dependency
+     * @param call - the call to make
+     * @return the result of the call
+     */
+    public <T> T recordApiCall(String destination, ApiCall<T> call)
+            throws ApiErrorResponseException, URIValidationException {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = FAILURE;
+        try {
+            T result = call.execute();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(getTimer(destination, outcome));
+        }
+    }
+
+    private Timer getTimer(String destination, String outcome) {
+        return Timer.builder(METER_NAME)
+                .tag(DESTINATION_TAG, destination)
+                .tag(OUTCOME_TAG, outcome)
+                .tags(RequestMetricTags.forCurrentRequest())
+                .register(meterRegistry);
+    }
+
+    /**
+     * A call made with the api sdk.
+     */
+    @FunctionalInterface
+    public interface ApiCall<T> {
+
+        T execute() throws ApiErrorResponseException, URIValidationException;
+    }
+}
@@ -0,0 +1,287 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.message.HttpResponseWrapper;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * Creates the {@link RestTemplate} used to call a downstream service. Each destination has its own
+ * pool of kept-alive connections, so a slow service cannot exhaust the connections to another, and
+ * every call is bounded by a connect timeout, a read timeout and a total deadline after which the
+ * request is aborted. The pool of each destination is published to the meter registry under
+ * {@code httpcomponents.httpclient.pool}, tagged with the destination.
+ *
+ * <p>The settings of a destination are read from environment variables named with its prefix, e.g.
+ * {@code TNEP_VALIDATOR_HTTP_READ_TIMEOUT_MILLIS}.
+ */
+@Component
+public class OutboundHttpClientFactory {
+
+    static final String MAX_CONNECTIONS_ENV_VAR = "_HTTP_MAX_CONNECTIONS";
+    static final String CONNECT_TIMEOUT_MILLIS_ENV_VAR = "_HTTP_CONNECT_TIMEOUT_MILLIS";
+    static final String READ_TIMEOUT_MILLIS_ENV_VAR = "_HTTP_READ_TIMEOUT_MILLIS";
+    static final String DEADLINE_MILLIS_ENV_VAR = "_HTTP_DEADLINE_MILLIS";
+    static final String POOL_TIMEOUT_MILLIS_ENV_VAR = "_HTTP_POOL_TIMEOUT_MILLIS";
+    static final String KEEP_ALIVE_MILLIS_ENV_VAR = "_HTTP_KEEP_ALIVE_MILLIS";
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+    private static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final int DEFAULT_READ_TIMEOUT_MILLIS = 60000;
+    private static final int DEFAULT_DEADLINE_MILLIS = 120000;
+    private static final int DEFAULT_POOL_TIMEOUT_MILLIS = 5000;
+    private static final int DEFAULT_KEEP_ALIVE_MILLIS = 30000;
+
+    private static final String DESTINATION_TAG = "destination";
+
+    private final EnvironmentReader environmentReader;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService deadlineScheduler;
+
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public OutboundHttpClientFactory(EnvironmentReader environmentReader, MeterRegistry meterRegistry) {
+        this.environmentReader = environmentReader;
+        this.meterRegistry = meterRegistry;
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.deadlineScheduler = Executors.unconfigurableScheduledExecutorService(scheduler);
+    }
+
+    /**
+     * Create a {@link RestTemplate} with its own connection pool for a destination.
+     *
+     * @param destination - the destination name, used to tag the pool metrics
+     * @param envVarPrefix - the prefix of the environment variables holding the destination's settings
+     * @return a {@link RestTemplate} for the destination
+     */
+    public RestTemplate createRestTemplate(String destination, String envVarPrefix) {
+        int maxConnections = getSetting(envVarPrefix, MAX_CONNECTIONS_ENV_VAR, DEFAULT_MAX_CONNECTIONS);
+        int readTimeoutMillis = getSetting(envVarPrefix, READ_TIMEOUT_MILLIS_ENV_VAR, DEFAULT_READ_TIMEOUT_MILLIS);
+        int keepAliveMillis = getSetting(envVarPrefix, KEEP_ALIVE_MILLIS_ENV_VAR, DEFAULT_KEEP_ALIVE_MILLIS);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(
+                                getSetting(envVarPrefix, CONNECT_TIMEOUT_MILLIS_ENV_VAR,
+                                        DEFAULT_CONNECT_TIMEOUT_MILLIS)))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(
+                                getSetting(envVarPrefix, POOL_TIMEOUT_MILLIS_ENV_VAR, DEFAULT_POOL_TIMEOUT_MILLIS)))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMillis))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMillis))
+                .build();
+        httpClients.add(httpClient);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, destination,
+                DESTINATION_TAG, destination).bindTo(meterRegistry);
+
+        return new RestTemplate(new DeadlineClientHttpRequestFactory(httpClient,
+                getSetting(envVarPrefix, DEADLINE_MILLIS_ENV_VAR, DEFAULT_DEADLINE_MILLIS), deadlineScheduler));
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        deadlineScheduler.shutdownNow();
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
+    }
+
+    private int getSetting(String envVarPrefix, String envVarSuffix, int defaultValue) {
+        return Optional.ofNullable(environmentReader.getOptionalInteger(envVarPrefix + envVarSuffix))
+                .orElse(defaultValue);
+    }
+
+    /**
+     * Aborts each request which is still in progress once its total deadline has passed, including
+     * time spent waiting for a pooled connection and streaming the request and response bodies.
+     */
+    static class DeadlineClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final long deadlineMillis;
+
+        DeadlineClientHttpRequestFactory(HttpClient httpClient, long deadlineMillis,
+                ScheduledExecutorService deadlineScheduler) {
+            super(new DeadlineHttpClient(httpClient, deadlineMillis, deadlineScheduler));
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    /**
+     * Schedules the deadline of each request as it is executed, and cancels it once the response
+     * is closed or the execution fails, so that a completed request leaves nothing scheduled.
+     */
+    static class DeadlineHttpClient implements HttpClient, Configurable {
+
+        private final HttpClient httpClient;
+
+        private final long deadlineMillis;
+
+        private final ScheduledExecutorService deadlineScheduler;
+
+        DeadlineHttpClient(HttpClient httpClient, long deadlineMillis, ScheduledExecutorService deadlineScheduler) {
+            this.httpClient = httpClient;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineScheduler = deadlineScheduler;
+        }
+
+        @Override
+        public ClassicHttpResponse executeOpen(HttpHost target, ClassicHttpRequest request, HttpContext context)
+                throws IOException {
+            if (!(request instanceof Cancellable cancellable)) {
+                return httpClient.executeOpen(target, request, context);
+            }
+
+            ScheduledFuture<?> deadline = deadlineScheduler.schedule(cancellable::cancel, deadlineMillis,
+                    TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineHttpResponse(httpClient.executeOpen(target, request, context), deadline);
+            } catch (IOException | RuntimeException e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public RequestConfig getConfig() {
+            return httpClient instanceof Configurable configurable ? configurable.getConfig() : null;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public HttpResponse execute(ClassicHttpRequest request) throws IOException {
+            return httpClient.execute(request);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public HttpResponse execute(ClassicHttpRequest request, HttpContext context) throws IOException {
+            return httpClient.execute(request, context);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public ClassicHttpResponse execute(HttpHost target, ClassicHttpRequest request) throws IOException {
+            return httpClient.execute(target, request);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public HttpResponse execute(HttpHost target, ClassicHttpRequest request, HttpContext context)
+                throws IOException {
+            return httpClient.execute(target, request, context);
+        }
+
+        @Override
+        public <T> T execute(ClassicHttpRequest request, HttpClientResponseHandler<? extends T> responseHandler)
+                throws IOException {
+            return httpClient.execute(request, responseHandler);
+        }
+
+        @Override
+        public <T> T execute(ClassicHttpRequest request, HttpContext context,
+                HttpClientResponseHandler<? extends T> responseHandler) throws IOException {
+            return httpClient.execute(request, context, responseHandler);
+        }
+
+        @Override
+        public <T> T execute(HttpHost target, ClassicHttpRequest request,
+                HttpClientResponseHandler<? extends T> responseHandler) throws IOException {
+            return httpClient.execute(target, request, responseHandler);
+        }
+
+        @Override
+        public <T> T execute(HttpHost target, ClassicHttpRequest request, HttpContext context,
+                HttpClientResponseHandler<? extends T> responseHandler) throws IOException {
+            return httpClient.execute(target, request, context, responseHandler);
+        }
+    }
+
+    /**
+     * A response whose request deadline is cancelled when it is closed.
+     */
+    static class DeadlineHttpResponse extends HttpResponseWrapper implements ClassicHttpResponse {
+
+        private final ClassicHttpResponse response;
+
+        private final Future<?> deadline;
+
+        DeadlineHttpResponse(ClassicHttpResponse response, Future<?> deadline) {
+            super(response);
+            this.response = response;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpEntity getEntity() {
+            return response.getEntity();
+        }
+
+        @Override
+        public void setEntity(HttpEntity entity) {
+            response.setEntity(entity);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                response.close();
+            } finally {
+                deadline.cancel(false);
+            }
+        }
+    }
+}
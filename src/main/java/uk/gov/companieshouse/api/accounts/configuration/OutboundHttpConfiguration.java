@@ -0,0 +1,29 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The {@link RestTemplate} beans used to call each downstream service, each with its own
+ * connection pool and timeouts.
+ */
+@Configuration
+public class OutboundHttpConfiguration {
+
+    public static final String DOCUMENT_GENERATOR_REST_TEMPLATE = "documentGeneratorRestTemplate";
+    public static final String TNEP_VALIDATOR_REST_TEMPLATE = "tnepValidatorRestTemplate";
+
+    public static final String DOCUMENT_GENERATOR = "document-generator";
+    public static final String TNEP_VALIDATOR = "tnep-validator";
+
+    @Bean(DOCUMENT_GENERATOR_REST_TEMPLATE)
+    public RestTemplate getDocumentGeneratorRestTemplate(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.createRestTemplate(DOCUMENT_GENERATOR, "DOCUMENT_GENERATOR");
+    }
+
+    @Bean(TNEP_VALIDATOR_REST_TEMPLATE)
+    public RestTemplate getTnepValidatorRestTemplate(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.createRestTemplate(TNEP_VALIDATOR, "TNEP_VALIDATOR");
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.utility.RequestMetricTags;
+
+/**
+ * Tags the {@code spring.data.repository.invocations} timer, which the actuator records for each
+ * repository method, with the collection the repository reads and writes and the account and note
+ * type of the request that called it, as well as the default repository, method and state tags.
+ */
+@Component
+public class RepositoryMetricTagsProvider implements RepositoryTagsProvider {
+
+    private static final String COLLECTION_TAG = "collection";
+
+    private final RepositoryTagsProvider defaultTagsProvider = new DefaultRepositoryTagsProvider();
+
+    private final Map<Class<?>, String> collections = new ConcurrentHashMap<>();
+
+    private final MongoMappingContext mappingContext;
+
+    @Autowired
+    public RepositoryMetricTagsProvider(MongoMappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        return Tags.of(defaultTagsProvider.repositoryTags(invocation))
+                .and(COLLECTION_TAG, collections.computeIfAbsent(invocation.getRepositoryInterface(),
+                        this::getCollection))
+                .and(RequestMetricTags.forCurrentRequest());
+    }
+
+    private String getCollection(Class<?> repositoryInterface) {
+        Class<?> domainType = AbstractRepositoryMetadata.getMetadata(repositoryInterface).getDomainType();
+        return mappingContext.getRequiredPersistentEntity(domainType).getCollection();
+    }
+}
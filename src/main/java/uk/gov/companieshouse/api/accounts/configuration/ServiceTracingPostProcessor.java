@@ -0,0 +1,111 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
+import uk.gov.companieshouse.api.accounts.service.NoteService;
+import uk.gov.companieshouse.api.accounts.service.ResourceService;
+import uk.gov.companieshouse.api.accounts.utility.RequestMetricTags;
+import uk.gov.companieshouse.api.accounts.validation.AccountsValidator;
+import uk.gov.companieshouse.api.accounts.validation.NoteValidator;
+
+/**
+ * Traces the operations of each {@link ResourceService} and {@link NoteService}, and the
+ * validation of each {@link NoteValidator} and the {@link AccountsValidator}, in a span named after
+ * the bean's class and the method, e.g. {@code SmallFullService.find}. The beans are proxied by
+ * class, so they can still be injected by their own type. A span of a note operation also carries
+ * the account and note type of the note.
+ *
+ * <p>A bean injected early into another as part of a circular reference is proxied there and then,
+ * so every bean holds the same proxy.
+ */
+@Component
+public class ServiceTracingPostProcessor implements SmartInstantiationAwareBeanPostProcessor {
+
+    private static final Set<String> TRACED_METHODS =
+            Set.of("create", "update", "find", "delete", "validateSubmission", "validate");
+
+    private final ObjectProvider<ApplicationTracer> applicationTracer;
+
+    private final Map<String, Object> earlyBeans = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ServiceTracingPostProcessor(ObjectProvider<ApplicationTracer> applicationTracer) {
+        this.applicationTracer = applicationTracer;
+    }
+
+    @Override
+    public Object getEarlyBeanReference(@NonNull Object bean, @NonNull String beanName) {
+        earlyBeans.put(beanName, bean);
+        return trace(bean);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (earlyBeans.remove(beanName) == bean) {
+            // Already proxied as an early reference, which the container exposes in its place
+            return bean;
+        }
+        return trace(bean);
+    }
+
+    private Object trace(Object bean) {
+        if (!(bean instanceof ResourceService<?> || bean instanceof NoteService
+                || bean instanceof NoteValidator<?> || bean instanceof AccountsValidator)) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TracingInterceptor(bean.getClass().getSimpleName()));
+        return proxyFactory.getProxy();
+    }
+
+    private class TracingInterceptor implements MethodInterceptor {
+
+        private final String className;
+
+        TracingInterceptor(String className) {
+            this.className = className;
+        }
+
+        @Override
+        public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+            if (!TRACED_METHODS.contains(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+
+            ApplicationTracer tracer = applicationTracer.getObject();
+            Span span = tracer.startSpan(className + "." + invocation.getMethod().getName());
+
+            for (Object argument : invocation.getArguments()) {
+                if (argument instanceof AccountingNoteType accountingNoteType) {
+                    span.setAttribute(RequestMetricTags.ACCOUNT_TYPE_TAG, accountingNoteType.getAccountType().getType());
+                    span.setAttribute(RequestMetricTags.NOTE_TYPE_TAG, accountingNoteType.getNoteType().getType());
+                }
+            }
+
+            try (Scope scope = span.makeCurrent()) {
+                Object result = invocation.proceed();
+                tracer.setResult(span, result);
+                return result;
+            } catch (Throwable e) {
+                tracer.setFailure(span, e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * The opt-in virtual thread mode, enabled by setting {@code VIRTUAL_THREADS_ENABLED} to true.
+ * Tomcat then handles each request on a virtual thread of its own (see
+ * {@code spring.threads.virtual.enabled}), and the executors the application creates for blocking
+ * work run their tasks on virtual threads too, so a task waiting on Mongo or a downstream service
+ * no longer holds a platform thread. Concurrency towards each downstream remains bounded by its
+ * connection pool and bulkhead.
+ */
+public final class VirtualThreads {
+
+    public static final String ENABLED_ENV_VAR = "VIRTUAL_THREADS_ENABLED";
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isEnabled(EnvironmentReader environmentReader) {
+        return Boolean.TRUE.equals(environmentReader.getOptionalBoolean(ENABLED_ENV_VAR));
+    }
+
+    /**
+     * A factory of virtual threads named with the prefix if the mode is enabled, or the default
+     * factory of platform threads if not.
+     */
+    public static ThreadFactory threadFactory(EnvironmentReader environmentReader, String name) {
+        return isEnabled(environmentReader)
+                ? Thread.ofVirtual().name(name + "-", 0).factory()
+                : Executors.defaultThreadFactory();
+    }
+
+    /**
+     * An executor running each task on a virtual thread of its own if the mode is enabled, or on a
+     * fixed pool of platform threads if not.
+     */
+    public static ExecutorService newExecutor(EnvironmentReader environmentReader, String name,
+            int platformThreads) {
+        return isEnabled(environmentReader)
+                ? Executors.newThreadPerTaskExecutor(threadFactory(environmentReader, name))
+                : Executors.newFixedThreadPool(platformThreads);
+    }
+}
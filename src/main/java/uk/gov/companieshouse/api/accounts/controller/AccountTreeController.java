@@ -0,0 +1,63 @@
+package uk.gov.companieshouse.api.accounts.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.companieshouse.api.accounts.AttributeName;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Returns every resource of a company account in a single response, so that the document
+ * generator does not need to follow each resource link with a separate request.
+ */
+@RestController
+public class AccountTreeController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
+
+    private static final String ACCOUNT_TREE_CONTROLLER_ERROR = "AccountTreeController error:";
+
+    @Autowired
+    private AccountTreeService accountTreeService;
+
+    @GetMapping(value = "/private/transactions/{transactionId}/company-accounts/{companyAccountId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity getAccountTree(HttpServletRequest request) {
+        CompanyAccount companyAccount = (CompanyAccount) request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue());
+
+        if (companyAccount == null) {
+            logRequestError(request, "no company account in request session");
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        try {
+            AccountTree accountTree = accountTreeService.getAccountTree(companyAccount);
+            return new ResponseEntity<>(accountTree, HttpStatus.OK);
+        } catch (DataException e) {
+            LOGGER.errorRequest(request, e, createDebugMap(request));
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void logRequestError(HttpServletRequest request, String errorMessage) {
+        LOGGER.errorRequest(request, ACCOUNT_TREE_CONTROLLER_ERROR + errorMessage, createDebugMap(request));
+    }
+
+    private Map<String, Object> createDebugMap(HttpServletRequest request) {
+        final Map<String, Object> debugMap = new HashMap<>();
+        debugMap.put("request_method", request.getMethod());
+        return debugMap;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
 import uk.gov.companieshouse.api.accounts.model.rest.Cost;
 import uk.gov.companieshouse.api.accounts.service.CostService;
 import uk.gov.companieshouse.api.accounts.utility.LoggingHelper;
@@ -26,9 +27,12 @@ public class CostController {
     public ResponseEntity<Cost[]> get(String companyAccountId, HttpServletRequest request) {
 
         Transaction transaction = (Transaction) request.getAttribute(AttributeName.TRANSACTION.getValue());
+        CompanyAccount companyAccount =
+                (CompanyAccount) request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue());
 
         try {
-            Cost[] costs = costService.getCosts(transaction);
+            Cost[] costs = costService.getCosts(transaction,
+                    companyAccount != null ? companyAccount.getCompanyFacts() : null);
             if (costs.length < 1) {
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
@@ -1,20 +1,21 @@
 package uk.gov.companieshouse.api.accounts.controller;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.websocket.server.PathParam;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
-import uk.gov.companieshouse.api.accounts.model.filing.Filing;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
-import uk.gov.companieshouse.api.accounts.service.FilingService;
+import uk.gov.companieshouse.api.accounts.model.rest.FilingJob;
+import uk.gov.companieshouse.api.accounts.service.FilingJobService;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
@@ -26,12 +27,15 @@ public class FilingController {
 
     private static final String FILING_CONTROLLER_ERROR = "FilingController error:";
 
+    private static final String FILINGS_URI =
+            "/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings";
+
     @Autowired
-    private FilingService filingService;
+    private FilingJobService filingJobService;
 
-    @GetMapping("/private/transactions/{transactionId}/company-accounts/{companyAccountId}/filings")
-    public ResponseEntity generateFiling(@PathParam("transactionId") String transactionId,
-                                         @PathParam("companyAccountId") String accountId,
+    @GetMapping(FILINGS_URI)
+    public ResponseEntity generateFiling(@PathVariable("transactionId") String transactionId,
+                                         @PathVariable("companyAccountId") String accountId,
                                          HttpServletRequest request) {
         Transaction transaction = (Transaction) request.getAttribute(AttributeName.TRANSACTION.getValue());
 
@@ -47,18 +51,51 @@ public class FilingController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
 
-        Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
-        if (filing != null) {
-            return new ResponseEntity<>(List.of(filing), HttpStatus.OK);
+        FilingJob filingJob = filingJobService.awaitFilingJob(transaction, companyAccount, accountId);
+        if (filingJob != null && FilingJobStatus.COMPLETE.getStatus().equals(filingJob.getStatus())) {
+            return new ResponseEntity<>(filingJob.getFilings(), HttpStatus.OK);
         }
 
         logRequestError(request, "Failed to generate filing");
         return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @PostMapping(FILINGS_URI + "/job")
+    public ResponseEntity submitFilingJob(@PathVariable("transactionId") String transactionId,
+                                          @PathVariable("companyAccountId") String accountId,
+                                          HttpServletRequest request) {
+        Transaction transaction = (Transaction) request.getAttribute(AttributeName.TRANSACTION.getValue());
+
+        if (transaction == null) {
+            logRequestError(request, "no transaction in request session");
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        CompanyAccount companyAccount = (CompanyAccount) request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue());
+
+        if (companyAccount == null) {
+            logRequestError(request, "no company account in request session");
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        FilingJob filingJob = filingJobService.submitFilingJob(transaction, companyAccount, accountId);
+        return new ResponseEntity<>(filingJob, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping(FILINGS_URI + "/job")
+    public ResponseEntity getFilingJob(@PathVariable("transactionId") String transactionId,
+                                       @PathVariable("companyAccountId") String accountId) {
+        FilingJob filingJob = filingJobService.getFilingJob(accountId);
+        if (filingJob == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        return new ResponseEntity<>(filingJob, HttpStatus.OK);
+    }
+
     private void logRequestError(HttpServletRequest request, String errorMessage) {
         final Map<String, Object> debugMap = new HashMap<>();
         debugMap.put("request_method", request.getMethod());
         LOGGER.errorRequest(request, FILING_CONTROLLER_ERROR + errorMessage, debugMap);
     }
-}
\ No newline at end of file
+}
@@ -12,7 +12,6 @@ import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.api.accounts.AttributeName;
@@ -37,6 +36,10 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+/**
+ * The notes of each account type in {@code notes.yml}. A submitted note is bound to the class of
+ * its account type and note type by the {@link uk.gov.companieshouse.api.accounts.request.NoteArgumentResolver}.
+ */
 @RestController
 @RequestMapping(value = {"${controller.paths.notes.smallfull}"}, produces = MediaType.APPLICATION_JSON_VALUE)
 public class NoteController {
@@ -71,7 +74,7 @@ public class NoteController {
     }
 
     @PostMapping
-    public ResponseEntity create(@Valid @RequestBody Note data,
+    public ResponseEntity create(@Valid Note data,
                                  BindingResult bindingResult,
                                  @PathVariable("companyAccountId") String companyAccountId,
                                  @PathVariable("accountType") AccountType accountType,
@@ -102,7 +105,7 @@ public class NoteController {
     }
 
     @PutMapping
-    public ResponseEntity update(@Valid @RequestBody Note data,
+    public ResponseEntity update(@Valid Note data,
                                  BindingResult bindingResult,
                                  @PathVariable("companyAccountId") String companyAccountId,
                                  @PathVariable("accountType") AccountType accountType,
@@ -2,6 +2,19 @@ package uk.gov.companieshouse.api.accounts.enumeration;
 
 import uk.gov.companieshouse.api.accounts.links.LinkType;
 import uk.gov.companieshouse.api.accounts.links.SmallFullLinkType;
+import uk.gov.companieshouse.api.accounts.model.rest.Note;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.accountingpolicies.AccountingPolicies;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.creditorsaftermorethanoneyear.CreditorsAfterMoreThanOneYear;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.creditorswithinoneyear.CreditorsWithinOneYear;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.currentassetsinvestments.CurrentAssetsInvestments;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.Debtors;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.Employees;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.financialcommitments.FinancialCommitments;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.fixedassetsinvestments.FixedAssetsInvestments;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.intangibleassets.IntangibleAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.offbalancesheetarrangements.OffBalanceSheetArrangements;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.stocks.Stocks;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.TangibleAssets;
 
 public enum AccountingNoteType {
 
@@ -11,84 +24,96 @@ public enum AccountingNoteType {
             Parent.SMALL_FULL,
             SmallFullLinkType.ACCOUNTING_POLICIES_NOTE,
             "small-full-accounts-note#accounting-policies",
-            false),
+            false,
+            AccountingPolicies.class),
     SMALL_FULL_EMPLOYEES(
             AccountType.SMALL_FULL,
             NoteType.EMPLOYEES,
             Parent.SMALL_FULL,
             SmallFullLinkType.EMPLOYEES_NOTE,
             "small-full-accounts-note#employees",
-            true),
+            true,
+            Employees.class),
     SMALL_FULL_INTANGIBLE_ASSETS(
             AccountType.SMALL_FULL,
             NoteType.INTANGIBLE_ASSETS,
             Parent.SMALL_FULL,
             SmallFullLinkType.INTANGIBLE_ASSETS_NOTE,
             "small-full-accounts-note#intangible-assets",
-            true),
+            true,
+            IntangibleAssets.class),
     SMALL_FULL_TANGIBLE_ASSETS(
             AccountType.SMALL_FULL,
             NoteType.TANGIBLE_ASSETS,
             Parent.SMALL_FULL,
             SmallFullLinkType.TANGIBLE_ASSETS_NOTE,
             "small-full-accounts-note#tangible-assets",
-            true),
+            true,
+            TangibleAssets.class),
     SMALL_FULL_FIXED_ASSETS_INVESTMENTS(
             AccountType.SMALL_FULL,
             NoteType.FIXED_ASSETS_INVESTMENTS,
             Parent.SMALL_FULL,
             SmallFullLinkType.FIXED_ASSETS_INVESTMENTS_NOTE,
             "small-full-accounts-note#fixed-assets-investments",
-            true),
+            true,
+            FixedAssetsInvestments.class),
     SMALL_FULL_STOCKS(
             AccountType.SMALL_FULL,
             NoteType.STOCKS,
             Parent.SMALL_FULL,
             SmallFullLinkType.STOCKS_NOTE,
             "small-full-accounts#stocks-note",
-            true),
+            true,
+            Stocks.class),
     SMALL_FULL_DEBTORS(
             AccountType.SMALL_FULL,
             NoteType.DEBTORS,
             Parent.SMALL_FULL,
             SmallFullLinkType.DEBTORS_NOTE,
             "small-full-accounts-note#debtors",
-            true),
+            true,
+            Debtors.class),
     SMALL_FULL_CURRENT_ASSETS_INVESTMENTS(
             AccountType.SMALL_FULL,
             NoteType.CURRENT_ASSETS_INVESTMENTS,
             Parent.SMALL_FULL,
             SmallFullLinkType.CURRENT_ASSETS_INVESTMENTS_NOTE,
             "small-full-accounts-note#current-assets-investments",
-            true),
+            true,
+            CurrentAssetsInvestments.class),
     SMALL_FULL_CREDITORS_AFTER(
             AccountType.SMALL_FULL,
             NoteType.CREDITORS_AFTER,
             Parent.SMALL_FULL,
             SmallFullLinkType.CREDITORS_AFTER_MORE_THAN_ONE_YEAR_NOTE,
             "small-full-accounts-note#creditors-after-one-year",
-            true),
+            true,
+            CreditorsAfterMoreThanOneYear.class),
     SMALL_FULL_CREDITORS_WITHIN(
             AccountType.SMALL_FULL,
             NoteType.CREDITORS_WITHIN,
             Parent.SMALL_FULL,
             SmallFullLinkType.CREDITORS_WITHIN_ONE_YEAR_NOTE,
             "small-full-accounts-note#creditors-within-one-year",
-            true),
+            true,
+            CreditorsWithinOneYear.class),
     SMALL_FULL_FINANCIAL_COMMITMENTS(
             AccountType.SMALL_FULL,
             NoteType.FINANCIAL_COMMITMENTS,
             Parent.SMALL_FULL,
             SmallFullLinkType.FINANCIAL_COMMITMENTS_NOTE,
             "small-full-accounts-note#financial-commitments",
-            false),
+            false,
+            FinancialCommitments.class),
     SMALL_FULL_OFF_BALANCE_SHEET_ARRANGEMENTS(
             AccountType.SMALL_FULL,
             NoteType.OFF_BALANCE_SHEET_ARRANGEMENTS,
             Parent.SMALL_FULL,
             SmallFullLinkType.OFF_BALANCE_SHEET_ARRANGEMENTS_NOTE,
             "small-full-accounts-note#off-balance-sheet-arrangements",
-            false);
+            false,
+            OffBalanceSheetArrangements.class);
 
     private final AccountType accountType;
     private final NoteType noteType;
@@ -96,14 +121,17 @@ public enum AccountingNoteType {
     private final LinkType linkType;
     private final String kind;
     private final boolean isExplicitlyValidated;
+    private final Class<? extends Note> restClass;
 
-    AccountingNoteType(AccountType accountType, NoteType noteType, Parent parent, LinkType linkType, String kind, boolean isExplicitlyValidated) {
+    AccountingNoteType(AccountType accountType, NoteType noteType, Parent parent, LinkType linkType, String kind, boolean isExplicitlyValidated,
+            Class<? extends Note> restClass) {
         this.accountType = accountType;
         this.noteType = noteType;
         this.linkType = linkType;
         this.parent = parent;
         this.kind = kind;
         this.isExplicitlyValidated = isExplicitlyValidated;
+        this.restClass = restClass;
     }
 
     public AccountType getAccountType() {
@@ -129,4 +157,8 @@ public enum AccountingNoteType {
     public Parent getParent() {
         return parent;
     }
+
+    public Class<? extends Note> getRestClass() {
+        return restClass;
+    }
 }
@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.api.accounts.enumeration;
+
+public enum FilingJobStatus {
+
+    PENDING("pending", false),
+    RUNNING("running", false),
+    COMPLETE("complete", true),
+    FAILED("failed", true);
+
+    FilingJobStatus(String status, boolean finished) {
+
+        this.status = status;
+        this.finished = finished;
+    }
+
+    private final String status;
+
+    private final boolean finished;
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -0,0 +1,17 @@
+package uk.gov.companieshouse.api.accounts.exception;
+
+import java.io.Serial;
+
+public class TemplateException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public TemplateException(String message) {
+        super(message);
+    }
+
+    public TemplateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
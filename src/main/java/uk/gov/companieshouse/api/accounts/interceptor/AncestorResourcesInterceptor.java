@@ -0,0 +1,84 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.service.AncestorResourceService;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * The AncestorResourcesInterceptor reads every ancestor resource the company account, small full,
+ * current period and previous period interceptors will check for the request, together, ahead of
+ * them. Those interceptors then find their resources in the request entity cache and run their
+ * checks as before, so a request for a note makes one read per collection rather than one per
+ * interceptor. A failed read is logged and left to those interceptors to retry and report.
+ */
+@Component
+public class AncestorResourcesInterceptor implements HandlerInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
+
+    @Autowired
+    private AncestorResourceService ancestorResourceService;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+
+        Map<String, String> pathVariables = (Map) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String companyAccountId = pathVariables == null ? null : pathVariables.get("companyAccountId");
+        if (companyAccountId == null) {
+            return true;
+        }
+
+        try {
+            ancestorResourceService.loadAncestors(companyAccountId, getAncestors(request));
+        } catch (DataException de) {
+            final Map<String, Object> debugMap = new HashMap<>();
+            debugMap.put("request_method", request.getMethod());
+            debugMap.put("request_id", request.getHeader("X-Request-Id"));
+            debugMap.put("path_variables", pathVariables);
+            LOGGER.errorRequest(request, de, debugMap);
+        }
+        return true;
+    }
+
+    /**
+     * The resources checked by the interceptors on the request's route. A resource is not read on
+     * the POST that creates it.
+     */
+    private Set<ResourceName> getAncestors(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        boolean isPost = request.getMethod().equalsIgnoreCase("POST");
+
+        Set<ResourceName> ancestors = EnumSet.of(ResourceName.COMPANY_ACCOUNT);
+        if (isOnRoute(uri, "/small-full", isPost)) {
+            ancestors.add(ResourceName.SMALL_FULL);
+            if (isOnRoute(uri, "/small-full/current-period", isPost)) {
+                ancestors.add(ResourceName.CURRENT_PERIOD);
+            }
+            if (isOnRoute(uri, "/small-full/previous-period", isPost)) {
+                ancestors.add(ResourceName.PREVIOUS_PERIOD);
+            }
+        }
+        return ancestors;
+    }
+
+    private boolean isOnRoute(String uri, String path, boolean isPost) {
+        return uri.endsWith(path) ? !isPost : uri.contains(path + "/");
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import uk.gov.companieshouse.api.accounts.configuration.ApplicationTracer;
+import uk.gov.companieshouse.api.accounts.utility.RequestMetricTags;
+
+/**
+ * Records the time taken by the {@code preHandle} of another interceptor in the
+ * {@code interceptor.prehandle} timer, tagged with the interceptor, whether it let the request
+ * proceed, and the account and note type of the request. The {@code preHandle} is also traced in a
+ * span named after the interceptor, e.g. {@code SmallFullInterceptor.preHandle}. The other
+ * callbacks are passed straight to the interceptor.
+ */
+public class TimedInterceptor implements HandlerInterceptor {
+
+    static final String METER_NAME = "interceptor.prehandle";
+
+    private static final String INTERCEPTOR_TAG = "interceptor";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String PROCEED = "proceed";
+    private static final String HALT = "halt";
+    private static final String ERROR = "error";
+
+    private final HandlerInterceptor interceptor;
+
+    private final String interceptorName;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationTracer applicationTracer;
+
+    public TimedInterceptor(HandlerInterceptor interceptor, MeterRegistry meterRegistry,
+                            ApplicationTracer applicationTracer) {
+        this.interceptor = interceptor;
+        this.interceptorName = interceptor.getClass().getSimpleName();
+        this.meterRegistry = meterRegistry;
+        this.applicationTracer = applicationTracer;
+    }
+
+    /**
+     * @return the interceptor whose preHandle is timed
+     */
+    public HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws Exception {
+
+        Span span = applicationTracer.startSpan(interceptorName + ".preHandle", request);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
+        try (Scope scope = span.makeCurrent()) {
+            boolean proceed = interceptor.preHandle(request, response, handler);
+            outcome = proceed ? PROCEED : HALT;
+            return proceed;
+        } catch (Exception e) {
+            applicationTracer.setFailure(span, e);
+            throw e;
+        } finally {
+            span.setAttribute(ApplicationTracer.RESULT_STATUS, outcome);
+            span.end();
+            sample.stop(Timer.builder(METER_NAME)
+                    .tag(INTERCEPTOR_TAG, interceptorName)
+                    .tag(OUTCOME_TAG, outcome)
+                    .tags(RequestMetricTags.forRequest(request))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void postHandle(@NonNull HttpServletRequest request,
+                           @NonNull HttpServletResponse response,
+                           @NonNull Object handler,
+                           ModelAndView modelAndView) throws Exception {
+        interceptor.postHandle(request, response, handler, modelAndView);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request,
+                                @NonNull HttpServletResponse response,
+                                @NonNull Object handler,
+                                Exception ex) throws Exception {
+        interceptor.afterCompletion(request, response, handler, ex);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -15,7 +16,9 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallMetrics;
 import uk.gov.companieshouse.api.accounts.sdk.ApiClientService;
+import uk.gov.companieshouse.api.accounts.utility.TransactionCache;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -28,13 +31,25 @@ public class TransactionInterceptor implements HandlerInterceptor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
 
+    private static final String ERIC_IDENTITY = "ERIC-Identity";
+    private static final String PRIVATE_URI_PREFIX = "/private/";
+
     @Autowired
     private ApiClientService apiClientService;
 
+    @Autowired
+    private TransactionCache transactionCache;
+
+    @Autowired
+    private OutboundCallMetrics outboundCallMetrics;
+
     /**
      * Pre handle method to validate the request before it reaches the controller. Check if the url
      * has an existing transaction and save it in the request's attribute. If transaction is not
-     * found then return 404
+     * found then return 404. Transactions are served from the {@link TransactionCache} for public
+     * GET requests. Requests which change the accounts, and private requests such as filing
+     * generation, always fetch the latest transaction, so they are refused as soon as the
+     * transaction is closed; a GET may still see it open for up to the cache's TTL.
      */
     @Override
     @SuppressWarnings("unchecked")
@@ -52,10 +67,13 @@ public class TransactionInterceptor implements HandlerInterceptor {
             String transactionId = pathVariables.get("transactionId");
             String passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
 
-            ApiClient apiClient = apiClientService.getApiClient(passthroughHeader);
+            String identity = isCacheable(request) ? request.getHeader(ERIC_IDENTITY) : null;
 
-            Transaction transaction = apiClient.transactions().get("/transactions/" + transactionId)
-                .execute().getData();
+            Transaction transaction = transactionCache.get(transactionId, identity, () -> {
+                ApiClient apiClient = apiClientService.getApiClient(passthroughHeader);
+                return outboundCallMetrics.recordApiCall(OutboundCallMetrics.TRANSACTIONS_API,
+                    () -> apiClient.transactions().get("/transactions/" + transactionId).execute().getData());
+            });
 
             request.setAttribute(AttributeName.TRANSACTION.getValue(), transaction);
             return true;
@@ -73,4 +91,9 @@ public class TransactionInterceptor implements HandlerInterceptor {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private boolean isCacheable(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+            && !request.getRequestURI().startsWith(PRIVATE_URI_PREFIX);
+    }
+}
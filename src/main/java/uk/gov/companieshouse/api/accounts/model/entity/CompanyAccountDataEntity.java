@@ -1,4 +1,17 @@
 package uk.gov.companieshouse.api.accounts.model.entity;
 
+import org.springframework.data.mongodb.core.mapping.Field;
+
 public class CompanyAccountDataEntity extends BaseDataEntity {
-}
\ No newline at end of file
+
+    @Field("company_facts")
+    private CompanyFactsEntity companyFacts;
+
+    public CompanyFactsEntity getCompanyFacts() {
+        return companyFacts;
+    }
+
+    public void setCompanyFacts(CompanyFactsEntity companyFacts) {
+        this.companyFacts = companyFacts;
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.api.accounts.model.entity;
+
+import org.springframework.data.mongodb.core.mapping.Field;
+
+public class CompanyFactsEntity {
+
+    @Field("company_number")
+    private String companyNumber;
+
+    @Field("company_type")
+    private String companyType;
+
+    @Field("multiple_year_filer")
+    private boolean multipleYearFiler;
+
+    @Field("community_interest_company")
+    private boolean communityInterestCompany;
+
+    @Field("limited_by_guarantee")
+    private boolean limitedByGuarantee;
+
+    public String getCompanyNumber() {
+        return companyNumber;
+    }
+
+    public void setCompanyNumber(String companyNumber) {
+        this.companyNumber = companyNumber;
+    }
+
+    public String getCompanyType() {
+        return companyType;
+    }
+
+    public void setCompanyType(String companyType) {
+        this.companyType = companyType;
+    }
+
+    public boolean isMultipleYearFiler() {
+        return multipleYearFiler;
+    }
+
+    public void setMultipleYearFiler(boolean multipleYearFiler) {
+        this.multipleYearFiler = multipleYearFiler;
+    }
+
+    public boolean isCommunityInterestCompany() {
+        return communityInterestCompany;
+    }
+
+    public void setCommunityInterestCompany(boolean communityInterestCompany) {
+        this.communityInterestCompany = communityInterestCompany;
+    }
+
+    public boolean isLimitedByGuarantee() {
+        return limitedByGuarantee;
+    }
+
+    public void setLimitedByGuarantee(boolean limitedByGuarantee) {
+        this.limitedByGuarantee = limitedByGuarantee;
+    }
+}
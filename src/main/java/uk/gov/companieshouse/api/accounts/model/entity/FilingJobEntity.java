@@ -0,0 +1,68 @@
+package uk.gov.companieshouse.api.accounts.model.entity;
+
+import java.time.LocalDateTime;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
+import uk.gov.companieshouse.api.accounts.model.filing.Filing;
+
+@Document(collection = "filing_jobs")
+public class FilingJobEntity extends BaseEntity {
+
+    @Field("transaction_id")
+    private String transactionId;
+
+    @Field("status")
+    private FilingJobStatus status;
+
+    @Field("filing")
+    private Filing filing;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("updated_at")
+    @Indexed(name = "updated_at_ttl", expireAfter = "30d")
+    private LocalDateTime updatedAt;
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public FilingJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(FilingJobStatus status) {
+        this.status = status;
+    }
+
+    public Filing getFiling() {
+        return filing;
+    }
+
+    public void setFiling(Filing filing) {
+        this.filing = filing;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.companieshouse.api.accounts.model.entity;
+
+import java.time.LocalDateTime;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import uk.gov.companieshouse.api.accounts.model.filing.Filing;
+
+@Document(collection = "generated_filings")
+public class GeneratedFilingEntity extends BaseEntity {
+
+    @Field("fingerprint")
+    private String fingerprint;
+
+    @Field("filing")
+    private Filing filing;
+
+    @Field("created_at")
+    @Indexed(name = "created_at_ttl", expireAfter = "30d")
+    private LocalDateTime createdAt;
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public Filing getFiling() {
+        return filing;
+    }
+
+    public void setFiling(Filing filing) {
+        this.filing = filing;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,10 +1,12 @@
 package uk.gov.companieshouse.api.accounts.model.entity.directorsreport;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import uk.gov.companieshouse.api.accounts.model.entity.BaseEntity;
 
 @Document(collection = "directors_report")
+@CompoundIndex(name = "data_links_directors", def = "{'data.links.directors' : 1}", sparse = true)
 public class DirectorEntity extends BaseEntity {
 
     @Field("data")
@@ -1,10 +1,12 @@
 package uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import uk.gov.companieshouse.api.accounts.model.entity.BaseEntity;
 
 @Document(collection = "notes")
+@CompoundIndex(name = "data_links_loans", def = "{'data.links.loans' : 1}", sparse = true)
 public class LoanEntity extends BaseEntity {
 
     @Field
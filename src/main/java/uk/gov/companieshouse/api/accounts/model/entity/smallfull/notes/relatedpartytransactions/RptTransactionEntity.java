@@ -1,10 +1,12 @@
 package uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import uk.gov.companieshouse.api.accounts.model.entity.BaseEntity;
 
 @Document(collection = "notes")
+@CompoundIndex(name = "data_links_transactions", def = "{'data.links.transactions' : 1}", sparse = true)
 public class RptTransactionEntity extends BaseEntity {
 
     @Field
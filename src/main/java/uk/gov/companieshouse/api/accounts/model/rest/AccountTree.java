@@ -0,0 +1,30 @@
+package uk.gov.companieshouse.api.accounts.model.rest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class AccountTree {
+
+    @JsonProperty("company_account")
+    private CompanyAccount companyAccount;
+
+    @JsonProperty("resources")
+    private Map<String, Map<String, Object>> resources = new TreeMap<>();
+
+    public CompanyAccount getCompanyAccount() {
+        return companyAccount;
+    }
+
+    public void setCompanyAccount(CompanyAccount companyAccount) {
+        this.companyAccount = companyAccount;
+    }
+
+    public Map<String, Map<String, Object>> getResources() {
+        return resources;
+    }
+
+    public void setResources(Map<String, Map<String, Object>> resources) {
+        this.resources = resources;
+    }
+}
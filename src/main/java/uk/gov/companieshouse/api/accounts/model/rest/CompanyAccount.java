@@ -1,8 +1,24 @@
 package uk.gov.companieshouse.api.accounts.model.rest;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 @JsonInclude(Include.NON_NULL)
 public class CompanyAccount extends RestObject {
+
+    /**
+     * Facts about the company recorded when the company account was created, for use within this
+     * service only. They are not part of the company accounts resource.
+     */
+    @JsonIgnore
+    private CompanyFacts companyFacts;
+
+    public CompanyFacts getCompanyFacts() {
+        return companyFacts;
+    }
+
+    public void setCompanyFacts(CompanyFacts companyFacts) {
+        this.companyFacts = companyFacts;
+    }
 }
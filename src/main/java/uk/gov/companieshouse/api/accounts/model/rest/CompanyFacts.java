@@ -0,0 +1,75 @@
+package uk.gov.companieshouse.api.accounts.model.rest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Snapshot of the company profile facts needed to validate and file the accounts, taken when the
+ * company account is created so that they need not be fetched from the company profile API again.
+ */
+public class CompanyFacts {
+
+    @JsonProperty("company_number")
+    private String companyNumber;
+
+    @JsonProperty("company_type")
+    private String companyType;
+
+    @JsonProperty("multiple_year_filer")
+    private boolean multipleYearFiler;
+
+    @JsonProperty("community_interest_company")
+    private boolean communityInterestCompany;
+
+    @JsonProperty("limited_by_guarantee")
+    private boolean limitedByGuarantee;
+
+    public String getCompanyNumber() {
+        return companyNumber;
+    }
+
+    public void setCompanyNumber(String companyNumber) {
+        this.companyNumber = companyNumber;
+    }
+
+    public String getCompanyType() {
+        return companyType;
+    }
+
+    public void setCompanyType(String companyType) {
+        this.companyType = companyType;
+    }
+
+    public boolean isMultipleYearFiler() {
+        return multipleYearFiler;
+    }
+
+    public void setMultipleYearFiler(boolean multipleYearFiler) {
+        this.multipleYearFiler = multipleYearFiler;
+    }
+
+    public boolean isCommunityInterestCompany() {
+        return communityInterestCompany;
+    }
+
+    public void setCommunityInterestCompany(boolean communityInterestCompany) {
+        this.communityInterestCompany = communityInterestCompany;
+    }
+
+    public boolean isLimitedByGuarantee() {
+        return limitedByGuarantee;
+    }
+
+    public void setLimitedByGuarantee(boolean limitedByGuarantee) {
+        this.limitedByGuarantee = limitedByGuarantee;
+    }
+
+    /**
+     * Whether these facts were recorded for the given company.
+     *
+     * @param companyNumber the company number
+     * @return whether the facts belong to the company
+     */
+    public boolean isRecordedFor(String companyNumber) {
+        return companyNumber != null && companyNumber.equals(this.companyNumber);
+    }
+}
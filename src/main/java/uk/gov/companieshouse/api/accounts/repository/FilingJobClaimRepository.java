@@ -0,0 +1,72 @@
+package uk.gov.companieshouse.api.accounts.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
+import uk.gov.companieshouse.api.accounts.model.entity.FilingJobEntity;
+
+/**
+ * Claims the filing job of a company account with a single conditional {@code findAndModify}, so
+ * that however many requests and instances submit the same job at once, only one of them runs it.
+ */
+@Repository
+public class FilingJobClaimRepository {
+
+    private static final String ID_FIELD = "_id";
+    private static final String TRANSACTION_ID_FIELD = "transaction_id";
+    private static final String STATUS_FIELD = "status";
+    private static final String FILING_FIELD = "filing";
+    private static final String CREATED_AT_FIELD = "created_at";
+    private static final String UPDATED_AT_FIELD = "updated_at";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public FilingJobClaimRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Claim the filing job of a company account as a new pending job. A job is claimed if there is
+     * none, if the last one finished, or if the last one is unfinished and was last updated before
+     * {@code staleBefore}, as the instance running it has stopped. A job still in progress is never
+     * claimed. A completed job is claimed again as the account may have changed, or the filing may
+     * be for another transaction, since it finished; the filing service returns the stored filing
+     * when neither has.
+     *
+     * @param id - the company account id
+     * @param transactionId - the transaction id
+     * @param staleBefore - the time before which an unfinished job is stale
+     * @return the claimed job, or null if the job was not claimed
+     */
+    public FilingJobEntity claim(String id, String transactionId, LocalDateTime staleBefore) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(id).orOperator(
+                Criteria.where(STATUS_FIELD).in(List.of(FilingJobStatus.FAILED, FilingJobStatus.COMPLETE)),
+                Criteria.where(STATUS_FIELD).in(List.of(FilingJobStatus.PENDING, FilingJobStatus.RUNNING))
+                        .and(UPDATED_AT_FIELD).lt(staleBefore)));
+
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set(TRANSACTION_ID_FIELD, transactionId)
+                .set(STATUS_FIELD, FilingJobStatus.PENDING)
+                .set(CREATED_AT_FIELD, now)
+                .set(UPDATED_AT_FIELD, now)
+                .unset(FILING_FIELD);
+
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), FilingJobEntity.class);
+        } catch (DuplicateKeyException e) {
+            // The job exists but did not match, so it is already in progress
+            return null;
+        }
+    }
+}
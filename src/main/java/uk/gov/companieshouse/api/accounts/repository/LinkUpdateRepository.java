@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.api.accounts.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import uk.gov.companieshouse.api.accounts.model.entity.BaseEntity;
+
+/**
+ * Maintains the links, child resource maps and other fields held on an entity's data with single atomic
+ * {@code $set} and {@code $unset} updates, rather than reading and saving the whole document.
+ * Concurrent changes to different entries of the same map therefore cannot overwrite each other.
+ */
+@Repository
+public class LinkUpdateRepository {
+
+    private static final String ID_FIELD = "_id";
+    private static final String DATA_FIELD = "data.";
+    private static final String LINKS_FIELD = "links";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public LinkUpdateRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Add or replace a link on an entity.
+     *
+     * @param entityClass - the entity class, identifying the collection
+     * @param id - the entity id
+     * @param linkType - the link key
+     * @param link - the link value
+     * @return whether an entity with the id was found
+     */
+    public boolean setLink(Class<? extends BaseEntity> entityClass, String id, String linkType, String link) {
+        return setEntry(entityClass, id, LINKS_FIELD, linkType, link);
+    }
+
+    /**
+     * Remove a link from an entity.
+     *
+     * @param entityClass - the entity class, identifying the collection
+     * @param id - the entity id
+     * @param linkType - the link key
+     * @return whether an entity with the id was found
+     */
+    public boolean unsetLink(Class<? extends BaseEntity> entityClass, String id, String linkType) {
+        return unsetEntry(entityClass, id, LINKS_FIELD, linkType);
+    }
+
+    /**
+     * Add or replace an entry in a map held on an entity's data, creating the map if needed.
+     *
+     * @param entityClass - the entity class, identifying the collection
+     * @param id - the entity id
+     * @param field - the name of the map field within the entity's data
+     * @param key - the entry key
+     * @param value - the entry value
+     * @return whether an entity with the id was found
+     */
+    public boolean setEntry(Class<? extends BaseEntity> entityClass, String id, String field, String key,
+            String value) {
+        Update update = new Update().set(DATA_FIELD + field + "." + key, value);
+        return mongoTemplate.updateFirst(byId(id), update, entityClass).getMatchedCount() > 0;
+    }
+
+    /**
+     * Remove an entry from a map held on an entity's data.
+     *
+     * @param entityClass - the entity class, identifying the collection
+     * @param id - the entity id
+     * @param field - the name of the map field within the entity's data
+     * @param key - the entry key
+     * @return whether an entity with the id was found
+     */
+    public boolean unsetEntry(Class<? extends BaseEntity> entityClass, String id, String field, String key) {
+        Update update = new Update().unset(DATA_FIELD + field + "." + key);
+        return mongoTemplate.updateFirst(byId(id), update, entityClass).getMatchedCount() > 0;
+    }
+
+    /**
+     * Replace a field held on an entity's data.
+     *
+     * @param entityClass - the entity class, identifying the collection
+     * @param id - the entity id
+     * @param field - the name of the field within the entity's data
+     * @param value - the new value of the field
+     * @return whether an entity with the id was found
+     */
+    public boolean setField(Class<? extends BaseEntity> entityClass, String id, String field, Object value) {
+        Update update = new Update().set(DATA_FIELD + field, value);
+        return mongoTemplate.updateFirst(byId(id), update, entityClass).getMatchedCount() > 0;
+    }
+
+    private Query byId(String id) {
+        return new Query(Criteria.where(ID_FIELD).is(id));
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.companieshouse.api.accounts.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.companieshouse.api.accounts.model.entity.TnepValidationResultEntity;
+
+@Repository
+public interface TnepValidationResultRepository extends MongoRepository<TnepValidationResultEntity, String> {
+
+}
@@ -0,0 +1,97 @@
+package uk.gov.companieshouse.api.accounts.request;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.api.accounts.model.rest.Note;
+
+/**
+ * Binds a {@link Note} handler parameter to the body of the request through the
+ * {@link NoteReaderRegistry}, as the note of the account type and note type in the request path.
+ * The note is validated, and its errors bound, as a {@code @Valid @RequestBody} would be.
+ */
+@Component
+public class NoteArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String ACCOUNT_TYPE_PATH_VARIABLE = "accountType";
+
+    private static final String NOTE_TYPE_PATH_VARIABLE = "noteType";
+
+    @Autowired
+    private NoteReaderRegistry noteReaderRegistry;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return Note.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory)
+            throws Exception {
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+
+        Note note;
+        try {
+            note = noteReaderRegistry.read(pathVariables.get(ACCOUNT_TYPE_PATH_VARIABLE),
+                    pathVariables.get(NOTE_TYPE_PATH_VARIABLE), request.getInputStream());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Could not read note: " + e.getMessage(), e,
+                    new ServletServerHttpRequest(request));
+        }
+
+        if (binderFactory != null) {
+            String name = Conventions.getVariableNameForParameter(parameter);
+            WebDataBinder binder = binderFactory.createBinder(webRequest, note, name);
+            validateIfApplicable(binder, parameter);
+
+            BindingResult bindingResult = binder.getBindingResult();
+            if (bindingResult.hasErrors() && !isFollowedByErrors(parameter)) {
+                throw new MethodArgumentNotValidException(parameter, bindingResult);
+            }
+            if (mavContainer != null) {
+                mavContainer.addAttribute(BindingResult.MODEL_KEY_PREFIX + name, bindingResult);
+            }
+        }
+
+        return note;
+    }
+
+    private void validateIfApplicable(WebDataBinder binder, MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+            if (validationHints != null) {
+                binder.validate(validationHints);
+                break;
+            }
+        }
+    }
+
+    private boolean isFollowedByErrors(MethodParameter parameter) {
+        Class<?>[] parameterTypes = parameter.getExecutable().getParameterTypes();
+        int next = parameter.getParameterIndex() + 1;
+        return next < parameterTypes.length && Errors.class.isAssignableFrom(parameterTypes[next]);
+    }
+}
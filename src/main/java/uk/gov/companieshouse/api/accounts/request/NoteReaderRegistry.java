@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.api.accounts.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
+import uk.gov.companieshouse.api.accounts.exception.InvalidPathParameterException;
+import uk.gov.companieshouse.api.accounts.model.AccountsNotes;
+import uk.gov.companieshouse.api.accounts.model.rest.Note;
+import uk.gov.companieshouse.api.accounts.utility.YamlResourceMapper;
+
+/**
+ * Reads the body of a note submission as the note of its account type and note type. A reader of
+ * the concrete note class is built at startup for every note in {@code notes.yml}, each of which
+ * must be an {@link AccountingNoteType}, so a submission is bound directly to its class.
+ */
+@Component
+public class NoteReaderRegistry {
+
+    private static final String NOTES_YML_FILE = "notes.yml";
+
+    private final Map<String, Map<String, ObjectReader>> readers = new HashMap<>();
+
+    @Autowired
+    public NoteReaderRegistry(ObjectMapper objectMapper, YamlResourceMapper yamlResourceMapper) {
+        AccountsNotes accountsNotes = yamlResourceMapper.fetchObjectFromYaml(NOTES_YML_FILE, AccountsNotes.class);
+
+        accountsNotes.getNotes().forEach((accountType, noteTypes) -> {
+            Map<String, ObjectReader> noteReaders = new HashMap<>();
+            for (String noteType : noteTypes) {
+                noteReaders.put(noteType, objectMapper.readerFor(getAccountingNoteType(accountType, noteType)
+                        .getRestClass()));
+            }
+            readers.put(accountType, noteReaders);
+        });
+    }
+
+    /**
+     * Read a note
+     *
+     * @param accountType - the account type, as in the request path
+     * @param noteType - the note type, as in the request path
+     * @param body - the JSON body
+     * @return the note, of the concrete class of its account type and note type
+     * @throws IOException if the body is not a note of the type
+     */
+    public Note read(String accountType, String noteType, InputStream body) throws IOException {
+        ObjectReader reader = readers.getOrDefault(accountType, Map.of()).get(noteType);
+        if (reader == null) {
+            throw new InvalidPathParameterException("No note found for account type: " + accountType
+                    + " and note type: " + noteType);
+        }
+        return reader.readValue(body);
+    }
+
+    private static AccountingNoteType getAccountingNoteType(String accountType, String noteType) {
+        List<AccountingNoteType> accountingNoteTypes = Arrays.stream(AccountingNoteType.values())
+                .filter(type -> type.getAccountType().getType().equals(accountType)
+                        && type.getNoteType().getType().equals(noteType))
+                .toList();
+        if (accountingNoteTypes.size() != 1) {
+            throw new IllegalStateException("No single accounting note type for " + accountType + " note "
+                    + noteType + " in " + NOTES_YML_FILE);
+        }
+        return accountingNoteTypes.get(0);
+    }
+}
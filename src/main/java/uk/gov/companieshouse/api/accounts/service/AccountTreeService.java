@@ -0,0 +1,17 @@
+package uk.gov.companieshouse.api.accounts.service;
+
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+
+public interface AccountTreeService {
+
+    /**
+     * Get every resource held beneath a company account, keyed by each resource's self link.
+     *
+     * @param companyAccount - the company account at the root of the tree
+     * @return {@link AccountTree}
+     * @throws DataException if any of the resources could not be read
+     */
+    AccountTree getAccountTree(CompanyAccount companyAccount) throws DataException;
+}
@@ -0,0 +1,20 @@
+package uk.gov.companieshouse.api.accounts.service;
+
+import java.util.Set;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+
+public interface AncestorResourceService {
+
+    /**
+     * Read the resources a request's route passes through, from the company account down, and hold
+     * them in the request entity cache, so that the interceptors checking them do not each read
+     * their own.
+     *
+     * @param companyAccountId - the id of the company account
+     * @param resourceNames - the resources to read, of the company account, small full, current
+     *     period and previous period
+     * @throws DataException if the resources could not be read
+     */
+    void loadAncestors(String companyAccountId, Set<ResourceName> resourceNames) throws DataException;
+}
@@ -25,4 +25,14 @@ public interface CompanyAccountService {
 
     void removeLink(String id, CompanyAccountLinkType linkType);
 
+    /**
+     * Replace the company facts recorded on a company account with those derived from the
+     * current company profile.
+     *
+     * @param id the company account id
+     * @param transaction the transaction for the company account
+     * @throws DataException if the company profile cannot be fetched or the update fails
+     */
+    void refreshCompanyFacts(String id, Transaction transaction) throws DataException;
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.api.accounts.service;
 
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 
@@ -8,6 +9,15 @@ public interface CompanyService {
 
     CompanyProfileApi getCompanyProfile(String companyNumber) throws ServiceException;
 
+    /**
+     * Derive the company facts needed to validate and file accounts from the company profile.
+     *
+     * @param companyNumber the company number
+     * @return the company facts
+     * @throws ServiceException if there's an error when fetching the company profile
+     */
+    CompanyFacts getCompanyFacts(String companyNumber) throws ServiceException;
+
     /**
      * Return whether company profile has a last accounts and is therefore a multiple year filer.
      *
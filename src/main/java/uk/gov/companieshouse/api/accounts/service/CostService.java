@@ -1,10 +1,18 @@
 package uk.gov.companieshouse.api.accounts.service;
 
 import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.rest.Cost;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 
 public interface CostService {
 
-    Cost[] getCosts(Transaction transaction) throws DataException;
+    /**
+     * Get the costs of filing the accounts of a transaction
+     *
+     * @param transaction the transaction the accounts are filed with
+     * @param companyFacts the company facts recorded on the company account, or null to use the
+     *                     company profile
+     */
+    Cost[] getCosts(Transaction transaction, CompanyFacts companyFacts) throws DataException;
 }
@@ -0,0 +1,39 @@
+package uk.gov.companieshouse.api.accounts.service;
+
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.FilingJob;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+public interface FilingJobService {
+
+    /**
+     * Submit a job to generate the filing for a company account. If the job for the company account
+     * is already pending or running, that job is returned instead of a new one being submitted.
+     *
+     * @param transaction - Transaction information
+     * @param companyAccount - Company Account information
+     * @param companyAccountId - the company account id
+     * @return {@link FilingJob} - the submitted or in progress job
+     */
+    FilingJob submitFilingJob(Transaction transaction, CompanyAccount companyAccount, String companyAccountId);
+
+    /**
+     * Submit a job to generate the filing for a company account, as {@link #submitFilingJob}, and
+     * wait a bounded time for it to finish.
+     *
+     * @param transaction - Transaction information
+     * @param companyAccount - Company Account information
+     * @param companyAccountId - the company account id
+     * @return {@link FilingJob} - the finished job, the job still in progress if the wait timed
+     *         out, or null if the job could not be read
+     */
+    FilingJob awaitFilingJob(Transaction transaction, CompanyAccount companyAccount, String companyAccountId);
+
+    /**
+     * Get the latest filing job for a company account.
+     *
+     * @param companyAccountId - the company account id
+     * @return {@link FilingJob} - or null if no job has been submitted
+     */
+    FilingJob getFilingJob(String companyAccountId);
+}
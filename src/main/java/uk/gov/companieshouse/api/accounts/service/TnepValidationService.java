@@ -1,7 +1,20 @@
 package uk.gov.companieshouse.api.accounts.service;
 
+import java.io.InputStream;
+
 public interface TnepValidationService {
 
     boolean validate(String data, String location);
 
+    /**
+     * Validate ixbrl read from a stream, which is sent to the TNEP validator as it is read rather
+     * than being held in memory.
+     *
+     * @param data - the ixbrl content, which is not closed by this method
+     * @param contentLength - the length of the ixbrl content in bytes
+     * @param location - the ixbrl location
+     * @return true if the ixbrl has passed the TNEP validation
+     */
+    boolean validate(InputStream data, long contentLength, String location);
+
 }
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.api.accounts.service;
 import java.util.List;
 import uk.gov.companieshouse.api.accounts.PayableResource;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 
 public interface TransactionService {
@@ -15,4 +16,16 @@ public interface TransactionService {
      * @throws ServiceException if there's an error in determining a transaction's payable status
      */
     List<PayableResource> getPayableResources(Transaction transaction) throws ServiceException;
+
+    /**
+     * Get the {@link PayableResource}'s associated with a transaction, using the company facts
+     * recorded on its company account in place of the company profile where they are available
+     *
+     * @param transaction The transaction for which to obtain a list of payable resources
+     * @param companyFacts The company facts recorded on the company account, or null
+     * @return a {@link List} of {@link PayableResource}'s, or an empty list if no payments are associated with the transaction
+     * @throws ServiceException if there's an error in determining a transaction's payable status
+     */
+    List<PayableResource> getPayableResources(Transaction transaction, CompanyFacts companyFacts)
+            throws ServiceException;
 }
@@ -0,0 +1,305 @@
+package uk.gov.companieshouse.api.accounts.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.configuration.VirtualThreads;
+import uk.gov.companieshouse.api.accounts.enumeration.AccountType;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.links.BasicLinkType;
+import uk.gov.companieshouse.api.accounts.model.entity.ApprovalEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.BaseEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CicReportApprovalEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CicReportEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CicStatementsEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.PreviousPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.StatementEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsApprovalEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsReportEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.SecretaryEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.StatementsEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.profitloss.ProfitAndLossEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.AdditionalInformationEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoanEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoansToDirectorsEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions.RelatedPartyTransactionsEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions.RptTransactionEntity;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.RestObject;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.api.accounts.transformer.GenericTransformer;
+import uk.gov.companieshouse.api.accounts.transformer.NoteTransformer;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * Reads the resources held beneath a company account with a single query per collection, and runs
+ * the queries in parallel on a bounded pool, or on virtual threads in the
+ * {@link VirtualThreads virtual thread mode}. Each resource is found by the id its service derives
+ * from the company account id, and the directors, loans and related party transactions by the
+ * link to their parent resource, as their services find them. Every resource is read as its
+ * entity and returned as the REST model its transformer gives, so the tree holds what each
+ * resource's own endpoint would return.
+ */
+@Service
+public class AccountTreeServiceImpl implements AccountTreeService {
+
+    private static final String READ_THREADS_ENV_VAR = "ACCOUNT_TREE_READ_THREADS";
+    private static final String READ_TIMEOUT_MILLIS_ENV_VAR = "ACCOUNT_TREE_READ_TIMEOUT_MILLIS";
+    private static final int DEFAULT_READ_THREADS = 8;
+    private static final int DEFAULT_READ_TIMEOUT_MILLIS = 10000;
+
+    private static final String ID_FIELD = "_id";
+    private static final String DATA_FIELD = "data";
+    private static final String LINKS_FIELD = "links";
+
+    private static final String SMALL_FULL_PATH = "/" + ResourceName.SMALL_FULL.getName();
+    private static final String NOTES_PATH = SMALL_FULL_PATH + "/notes/";
+    private static final String DIRECTORS_REPORT_PATH = SMALL_FULL_PATH + "/" + ResourceName.DIRECTORS_REPORT.getName();
+
+    private static final TypeReference<Map<String, Object>> RESOURCE_TYPE = new TypeReference<>() {};
+
+    private final MongoTemplate mongoTemplate;
+
+    private final KeyIdGenerator keyIdGenerator;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, GenericTransformer<RestObject, BaseEntity>> transformers = new HashMap<>();
+
+    private final Map<String, Class<? extends BaseEntity>> noteEntityClasses = new LinkedHashMap<>();
+
+    private final ExecutorService readExecutor;
+
+    private final long readTimeoutMillis;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public AccountTreeServiceImpl(MongoTemplate mongoTemplate, KeyIdGenerator keyIdGenerator,
+            ObjectMapper objectMapper, List<GenericTransformer<?, ?>> transformers,
+            EnvironmentReader environmentReader) {
+        this.mongoTemplate = mongoTemplate;
+        this.keyIdGenerator = keyIdGenerator;
+        this.objectMapper = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        for (GenericTransformer<?, ?> transformer : transformers) {
+            Class<?> entityClass = ResolvableType.forClass(GenericTransformer.class, transformer.getClass())
+                    .resolveGeneric(1);
+            this.transformers.put(entityClass, (GenericTransformer<RestObject, BaseEntity>) transformer);
+
+            if (transformer instanceof NoteTransformer<?, ?> noteTransformer
+                    && noteTransformer.getAccountingNoteType().getAccountType() == AccountType.SMALL_FULL) {
+                noteEntityClasses.put(noteTransformer.getAccountingNoteType().getNoteType().getType(),
+                        (Class<? extends BaseEntity>) entityClass);
+            }
+        }
+
+        this.readExecutor = VirtualThreads.newExecutor(environmentReader, "account-tree-read",
+                Optional.ofNullable(environmentReader.getOptionalInteger(READ_THREADS_ENV_VAR))
+                        .orElse(DEFAULT_READ_THREADS));
+        this.readTimeoutMillis = Optional.ofNullable(
+                environmentReader.getOptionalInteger(READ_TIMEOUT_MILLIS_ENV_VAR))
+                .orElse(DEFAULT_READ_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    public AccountTree getAccountTree(CompanyAccount companyAccount) throws DataException {
+        String selfLink = companyAccount.getLinks().get(BasicLinkType.SELF.getLink());
+
+        List<CompletableFuture<List<RestObject>>> reads = new ArrayList<>();
+        for (CollectionRead collectionRead : createCollectionReads(selfLink)) {
+            reads.add(CompletableFuture.supplyAsync(collectionRead::read, readExecutor));
+        }
+
+        AccountTree accountTree = new AccountTree();
+        accountTree.setCompanyAccount(companyAccount);
+
+        try {
+            CompletableFuture.allOf(reads.toArray(new CompletableFuture[0]))
+                    .get(readTimeoutMillis, TimeUnit.MILLISECONDS);
+
+            for (CompletableFuture<List<RestObject>> read : reads) {
+                for (RestObject resource : read.get()) {
+                    String resourceSelfLink = resource.getLinks().get(BasicLinkType.SELF.getLink());
+                    if (resourceSelfLink != null) {
+                        accountTree.getResources().put(resourceSelfLink,
+                                objectMapper.convertValue(resource, RESOURCE_TYPE));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataException("Interrupted reading account tree for " + selfLink, e);
+        } catch (ExecutionException e) {
+            throw new DataException("Failed to read account tree for " + selfLink, e.getCause());
+        } catch (TimeoutException e) {
+            reads.forEach(read -> read.cancel(true));
+            throw new DataException("Timed out reading account tree for " + selfLink, e);
+        }
+
+        return accountTree;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readExecutor.shutdownNow();
+    }
+
+    private List<CollectionRead> createCollectionReads(String selfLink) {
+        String companyAccountId = selfLink.substring(selfLink.lastIndexOf('/') + 1);
+
+        CollectionRead accounts = new CollectionRead("accounts")
+                .withResource(generateId(companyAccountId, ResourceName.SMALL_FULL), SmallFullEntity.class);
+
+        CollectionRead periods = new CollectionRead("periods")
+                .withResource(generateId(companyAccountId, ResourceName.CURRENT_PERIOD), CurrentPeriodEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.PREVIOUS_PERIOD), PreviousPeriodEntity.class);
+
+        CollectionRead profitAndLoss = new CollectionRead("profit_and_loss")
+                .withResource(generateId(companyAccountId, ResourceName.CURRENT_PERIOD, ResourceName.PROFIT_LOSS),
+                        ProfitAndLossEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.PREVIOUS_PERIOD, ResourceName.PROFIT_LOSS),
+                        ProfitAndLossEntity.class);
+
+        CollectionRead statements = new CollectionRead("statements")
+                .withResource(generateId(companyAccountId, ResourceName.STATEMENTS), StatementEntity.class);
+
+        CollectionRead approvals = new CollectionRead("approvals")
+                .withResource(generateId(companyAccountId, ResourceName.APPROVAL), ApprovalEntity.class);
+
+        CollectionRead notes = new CollectionRead("notes");
+        noteEntityClasses.forEach((noteType, entityClass) ->
+                notes.withResource(keyIdGenerator.generate(companyAccountId + "-" + noteType), entityClass));
+        notes.withResource(generateId(companyAccountId, ResourceName.LOANS_TO_DIRECTORS), LoansToDirectorsEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.LOANS_TO_DIRECTORS, ResourceName.ADDITIONAL_INFO),
+                        AdditionalInformationEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.RELATED_PARTY_TRANSACTIONS),
+                        RelatedPartyTransactionsEntity.class)
+                .withResourcesLinkedTo(ResourceName.LOANS, selfLink + NOTES_PATH
+                        + ResourceName.LOANS_TO_DIRECTORS.getName() + "/" + ResourceName.LOANS.getName(), LoanEntity.class)
+                .withResourcesLinkedTo(ResourceName.RPT_TRANSACTIONS, selfLink + NOTES_PATH
+                        + ResourceName.RELATED_PARTY_TRANSACTIONS.getName() + "/" + ResourceName.RPT_TRANSACTIONS.getName(),
+                        RptTransactionEntity.class);
+
+        CollectionRead directorsReport = new CollectionRead("directors_report")
+                .withResource(generateId(companyAccountId, ResourceName.DIRECTORS_REPORT), DirectorsReportEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.SECRETARY), SecretaryEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.STATEMENTS), StatementsEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.APPROVAL), DirectorsApprovalEntity.class)
+                .withResourcesLinkedTo(ResourceName.DIRECTORS,
+                        selfLink + DIRECTORS_REPORT_PATH + "/" + ResourceName.DIRECTORS.getName(), DirectorEntity.class);
+
+        CollectionRead cicReport = new CollectionRead("cic_report")
+                .withResource(generateId(companyAccountId, ResourceName.CIC_REPORT), CicReportEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.CIC_STATEMENTS), CicStatementsEntity.class)
+                .withResource(generateId(companyAccountId, ResourceName.CIC_APPROVAL), CicReportApprovalEntity.class);
+
+        return List.of(accounts, periods, profitAndLoss, statements, approvals, notes, directorsReport, cicReport);
+    }
+
+    /**
+     * The id of a resource, as its service derives it from the company account id and the names
+     * of the resource and of its parents below the small full accounts.
+     */
+    private String generateId(String companyAccountId, ResourceName... resourceNames) {
+        StringBuilder key = new StringBuilder(companyAccountId);
+        for (ResourceName resourceName : resourceNames) {
+            key.append('-').append(resourceName.getName());
+        }
+        return keyIdGenerator.generate(key.toString());
+    }
+
+    /**
+     * The resources of a company account held in one collection, and the entity each is read as.
+     */
+    private class CollectionRead {
+
+        private final String collection;
+
+        private final Map<String, Class<? extends BaseEntity>> resourcesById = new HashMap<>();
+
+        private final List<LinkedResources> linkedResources = new ArrayList<>();
+
+        CollectionRead(String collection) {
+            this.collection = collection;
+        }
+
+        CollectionRead withResource(String id, Class<? extends BaseEntity> entityClass) {
+            resourcesById.put(id, entityClass);
+            return this;
+        }
+
+        CollectionRead withResourcesLinkedTo(ResourceName parentLinkType, String parentLink,
+                Class<? extends BaseEntity> entityClass) {
+            linkedResources.add(new LinkedResources(parentLinkType.getName(), parentLink, entityClass));
+            return this;
+        }
+
+        List<RestObject> read() {
+            List<Criteria> criteria = new ArrayList<>();
+            criteria.add(Criteria.where(ID_FIELD).in(resourcesById.keySet()));
+            linkedResources.forEach(linked -> criteria.add(
+                    Criteria.where(DATA_FIELD + "." + LINKS_FIELD + "." + linked.linkType()).is(linked.link())));
+
+            Query query = new Query(criteria.size() == 1
+                    ? criteria.get(0)
+                    : new Criteria().orOperator(criteria.toArray(new Criteria[0])));
+
+            List<RestObject> resources = new ArrayList<>();
+            for (Document document : mongoTemplate.find(query, Document.class, collection)) {
+                Class<? extends BaseEntity> entityClass = getEntityClass(document);
+                if (entityClass != null) {
+                    BaseEntity entity = mongoTemplate.getConverter().read(entityClass, document);
+                    resources.add(transformers.get(entityClass).transform(entity));
+                }
+            }
+            return resources;
+        }
+
+        private Class<? extends BaseEntity> getEntityClass(Document document) {
+            Class<? extends BaseEntity> entityClass = resourcesById.get(Objects.toString(document.get(ID_FIELD), null));
+            if (entityClass != null) {
+                return entityClass;
+            }
+
+            for (LinkedResources linked : linkedResources) {
+                if (linked.link().equals(document.getEmbedded(
+                        List.of(DATA_FIELD, LINKS_FIELD, linked.linkType()), String.class))) {
+                    return linked.entityClass();
+                }
+            }
+            return null;
+        }
+    }
+
+    private record LinkedResources(String linkType, String link, Class<? extends BaseEntity> entityClass) {
+    }
+}
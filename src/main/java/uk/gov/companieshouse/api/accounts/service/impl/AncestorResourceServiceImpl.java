@@ -0,0 +1,137 @@
+package uk.gov.companieshouse.api.accounts.service.impl;
+
+import com.mongodb.MongoException;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.configuration.VirtualThreads;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.PreviousPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
+import uk.gov.companieshouse.api.accounts.service.AncestorResourceService;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * Reads the ancestors of a request with one query per collection, as their ids are derived from
+ * the company account id, rather than one query per interceptor. The company account and small
+ * full share a collection, as do the periods, and the collections are read in parallel.
+ */
+@Service
+public class AncestorResourceServiceImpl implements AncestorResourceService {
+
+    private static final String READ_THREADS_ENV_VAR = "ANCESTOR_READ_THREADS";
+    private static final int DEFAULT_READ_THREADS = 8;
+
+    private static final String ID_FIELD = "_id";
+
+    private static final Map<ResourceName, Ancestor> ANCESTORS = new EnumMap<>(Map.of(
+            ResourceName.COMPANY_ACCOUNT, new Ancestor(CompanyAccountEntity.class, "accounts"),
+            ResourceName.SMALL_FULL, new Ancestor(SmallFullEntity.class, "accounts"),
+            ResourceName.CURRENT_PERIOD, new Ancestor(CurrentPeriodEntity.class, "periods"),
+            ResourceName.PREVIOUS_PERIOD, new Ancestor(PreviousPeriodEntity.class, "periods")));
+
+    private final MongoTemplate mongoTemplate;
+
+    private final RequestEntityCache requestEntityCache;
+
+    private final KeyIdGenerator keyIdGenerator;
+
+    private final ExecutorService readExecutor;
+
+    @Autowired
+    public AncestorResourceServiceImpl(MongoTemplate mongoTemplate,
+                                       RequestEntityCache requestEntityCache,
+                                       KeyIdGenerator keyIdGenerator,
+                                       EnvironmentReader environmentReader) {
+        this.mongoTemplate = mongoTemplate;
+        this.requestEntityCache = requestEntityCache;
+        this.keyIdGenerator = keyIdGenerator;
+        this.readExecutor = VirtualThreads.newExecutor(environmentReader, "ancestor-read",
+                Optional.ofNullable(environmentReader.getOptionalInteger(READ_THREADS_ENV_VAR))
+                        .orElse(DEFAULT_READ_THREADS));
+    }
+
+    @Override
+    public void loadAncestors(String companyAccountId, Set<ResourceName> resourceNames) throws DataException {
+        if (resourceNames.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<String, Ancestor>> idsByCollection = new LinkedHashMap<>();
+        for (ResourceName resourceName : resourceNames) {
+            Ancestor ancestor = ANCESTORS.get(resourceName);
+            if (ancestor == null) {
+                throw new IllegalArgumentException(resourceName + " is not an ancestor resource");
+            }
+            String id = resourceName == ResourceName.COMPANY_ACCOUNT
+                    ? companyAccountId
+                    : keyIdGenerator.generate(companyAccountId + "-" + resourceName.getName());
+            idsByCollection.computeIfAbsent(ancestor.collection(), collection -> new HashMap<>()).put(id, ancestor);
+        }
+
+        // Read the first collection on this thread, and any other in parallel with it
+        List<Map.Entry<String, Map<String, Ancestor>>> collections = new ArrayList<>(idsByCollection.entrySet());
+        List<CompletableFuture<List<Document>>> reads = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Ancestor>> collection : collections.subList(1, collections.size())) {
+            reads.add(CompletableFuture.supplyAsync(
+                    () -> read(collection.getKey(), collection.getValue().keySet()), readExecutor));
+        }
+
+        try {
+            Map.Entry<String, Map<String, Ancestor>> first = collections.get(0);
+            cache(read(first.getKey(), first.getValue().keySet()), first.getValue());
+            for (int i = 0; i < reads.size(); i++) {
+                cache(reads.get(i).get(), collections.get(i + 1).getValue());
+            }
+        } catch (MongoException e) {
+            throw new DataException("Failed to read the ancestors of " + companyAccountId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataException("Interrupted reading the ancestors of " + companyAccountId, e);
+        } catch (ExecutionException e) {
+            throw new DataException("Failed to read the ancestors of " + companyAccountId, e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readExecutor.shutdownNow();
+    }
+
+    private List<Document> read(String collection, Set<String> ids) {
+        return mongoTemplate.find(new Query(Criteria.where(ID_FIELD).in(ids)), Document.class, collection);
+    }
+
+    private void cache(List<Document> documents, Map<String, Ancestor> ancestorsById) {
+        for (Document document : documents) {
+            String id = document.getString(ID_FIELD);
+            Ancestor ancestor = ancestorsById.get(id);
+            if (ancestor != null) {
+                requestEntityCache.put(id, mongoTemplate.getConverter().read(ancestor.entityClass(), document));
+            }
+        }
+    }
+
+    private record Ancestor(Class<?> entityClass, String collection) {
+    }
+}
@@ -57,7 +57,7 @@ public class CicReportService implements ParentService<CicReport, CicReportLinkT
     public ResponseObject<CicReport> create(CicReport rest, Transaction transaction,
             String companyAccountId, HttpServletRequest request) throws DataException {
 
-        Errors errors = validator.validateCicReportCreation(transaction);
+        Errors errors = validator.validateCicReportCreation(transaction, request);
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
         }
@@ -1,9 +1,7 @@
 package uk.gov.companieshouse.api.accounts.service.impl;
 
 import java.io.IOException;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,31 +15,44 @@ import com.mongodb.MongoException;
 
 import uk.gov.companieshouse.GenerateEtagUtil;
 import uk.gov.companieshouse.api.InternalApiClient;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
 import uk.gov.companieshouse.api.accounts.Kind;
 import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallMetrics;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.PatchException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.links.CompanyAccountLinkType;
 import uk.gov.companieshouse.api.accounts.links.TransactionLinkType;
-import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.repository.CompanyAccountRepository;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.sdk.ApiClientService;
 import uk.gov.companieshouse.api.accounts.service.CompanyAccountService;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.TransactionService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.CompanyAccountTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
+import uk.gov.companieshouse.api.accounts.utility.TransactionCache;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 @Service
 public class CompanyAccountServiceImpl implements CompanyAccountService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
+
+    private static final String COMPANY_FACTS_FIELD = "company_facts";
+
     @Autowired
     private CompanyAccountRepository companyAccountRepository;
 
@@ -54,6 +65,24 @@ public class CompanyAccountServiceImpl implements CompanyAccountService {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private RequestEntityCache requestEntityCache;
+
+    @Autowired
+    private TransactionCache transactionCache;
+
+    @Autowired
+    private LinkUpdateRepository linkUpdateRepository;
+
+    @Autowired
+    private OutboundCallMetrics outboundCallMetrics;
+
+    @Autowired
+    private KeyIdGenerator keyIdGenerator;
+
     /**
      * {@inheritDoc}
      */
@@ -64,6 +93,12 @@ public class CompanyAccountServiceImpl implements CompanyAccountService {
         try {
             String id = generateID();
             setMetadataOnRestObject(companyAccount, transaction, id);
+            companyAccount.setCompanyFacts(getCompanyFacts(transaction));
+
+            // Without company facts this falls back to the company profile, so is settled before
+            // the account is inserted: if the profile cannot be read, nothing is left behind
+            boolean isPayableTransaction = !transactionService.getPayableResources(
+                    transaction, companyAccount.getCompanyFacts()).isEmpty();
 
             CompanyAccountEntity companyAccountEntity = companyAccountTransformer.transform(companyAccount);
             companyAccountEntity.setId(id);
@@ -73,12 +108,20 @@ public class CompanyAccountServiceImpl implements CompanyAccountService {
             InternalApiClient internalApiClient = apiClientService.getInternalApiClient(
                     request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader()));
 
-            boolean isPayableTransaction = !transactionService.getPayableResources(transaction).isEmpty();
-
-            transaction.setResources(createTransactionResourceMap(companyAccount, isPayableTransaction));
-
-            internalApiClient.privateTransaction()
-                    .patch("/private/transactions/" + transaction.getId(), transaction).execute();
+            // The transaction may be shared through the transaction cache, so the resources are
+            // patched from a transaction of their own rather than set on it
+            Transaction transactionPatch = new Transaction();
+            transactionPatch.setResources(createTransactionResourceMap(companyAccount, isPayableTransaction));
+
+            try {
+                outboundCallMetrics.recordApiCall(OutboundCallMetrics.TRANSACTIONS_API,
+                        () -> internalApiClient.privateTransaction()
+                                .patch("/private/transactions/" + transaction.getId(), transactionPatch).execute());
+            } finally {
+                // Only once the patch is done, or has failed, so that a lookup made while it was in
+                // progress is not cached without the new resource
+                transactionCache.invalidate(transaction.getId());
+            }
 
         } catch (DuplicateKeyException dke) {
             return new ResponseObject<>(ResponseStatus.DUPLICATE_KEY_ERROR);
@@ -94,10 +137,14 @@ public class CompanyAccountServiceImpl implements CompanyAccountService {
     @Override
     public ResponseObject<CompanyAccount> findById(String id, HttpServletRequest request) throws DataException {
 
-        CompanyAccountEntity companyAccountEntity;
+        CompanyAccountEntity companyAccountEntity =
+                requestEntityCache.get(CompanyAccountEntity.class, id).orElse(null);
 
         try {
-            companyAccountEntity = companyAccountRepository.findById(id).orElse(null);
+            if (companyAccountEntity == null) {
+                companyAccountEntity = companyAccountRepository.findById(id).orElse(null);
+                requestEntityCache.put(id, companyAccountEntity);
+            }
         } catch (MongoException e) {
             throw new DataException(e);
         }
@@ -112,27 +159,54 @@ public class CompanyAccountServiceImpl implements CompanyAccountService {
 
     @Override
     public void addLink(String id, CompanyAccountLinkType linkType, String link) {
-        CompanyAccountEntity companyAccountEntity = companyAccountRepository.findById(id)
-                .orElseThrow(() -> new MongoException(
-                        "Failed to add link to Company account entity"));
-
-        CompanyAccountDataEntity companyAccountDataEntity = companyAccountEntity.getData();
-        Map<String, String> map = companyAccountDataEntity.getLinks();
-        map.put(linkType.getLink(), link);
-
-        companyAccountDataEntity.setLinks(map);
-        companyAccountRepository.save(companyAccountEntity);
+        requestEntityCache.evict(CompanyAccountEntity.class, id);
+        if (!linkUpdateRepository.setLink(CompanyAccountEntity.class, id, linkType.getLink(), link)) {
+            throw new MongoException("Failed to add link to Company account entity");
+        }
     }
 
     @Override
     public void removeLink(String id, CompanyAccountLinkType linkType) {
-        CompanyAccountEntity companyAccountEntity = companyAccountRepository.findById(id)
-                .orElseThrow(() -> new MongoException(
-                        "Failed to find company accounts entity with id " + id +
-                                " from which to remove link: " + linkType.getLink()));
+        requestEntityCache.evict(CompanyAccountEntity.class, id);
+        if (!linkUpdateRepository.unsetLink(CompanyAccountEntity.class, id, linkType.getLink())) {
+            throw new MongoException("Failed to find company accounts entity with id " + id +
+                    " from which to remove link: " + linkType.getLink());
+        }
+    }
+
+    @Override
+    public void refreshCompanyFacts(String id, Transaction transaction) throws DataException {
+        try {
+            CompanyFacts companyFacts = companyService.getCompanyFacts(transaction.getCompanyNumber());
+
+            requestEntityCache.evict(CompanyAccountEntity.class, id);
+            if (!linkUpdateRepository.setField(CompanyAccountEntity.class, id, COMPANY_FACTS_FIELD,
+                    companyAccountTransformer.transform(companyFacts))) {
+                throw new DataException("Failed to find company accounts entity with id " + id +
+                        " on which to refresh company facts");
+            }
+        } catch (ServiceException | MongoException e) {
+            throw new DataException(e);
+        }
+    }
 
-        companyAccountEntity.getData().getLinks().remove(linkType.getLink());
-        companyAccountRepository.save(companyAccountEntity);
+    /**
+     * The company facts to record on a new company account. If they cannot be fetched, the account
+     * is created without them only if the company profile can then be read to decide whether the
+     * transaction is payable; the facts are derived from the company profile as they are needed,
+     * and are recorded when the small full accounting period is next updated.
+     */
+    private CompanyFacts getCompanyFacts(Transaction transaction) {
+        try {
+            return companyService.getCompanyFacts(transaction.getCompanyNumber());
+        } catch (ServiceException e) {
+            Map<String, Object> debugMap = new HashMap<>();
+            debugMap.put("transaction_id", transaction.getId());
+            debugMap.put("company_number", transaction.getCompanyNumber());
+            LOGGER.error("CompanyAccountServiceImpl: company facts not recorded on company account", e,
+                    debugMap);
+            return null;
+        }
     }
 
     private void setMetadataOnRestObject(CompanyAccount rest,
@@ -164,10 +238,7 @@ public class CompanyAccountServiceImpl implements CompanyAccountService {
     }
 
     public String generateID() {
-        SecureRandom random = new SecureRandom();
-        byte[] bytes = new byte[20];
-        random.nextBytes(bytes);
-        return Base64.getUrlEncoder().encodeToString(bytes);
+        return keyIdGenerator.generateRandom();
     }
 
     private Map<String, Resource> createTransactionResourceMap(CompanyAccount companyAccount, boolean isPayableTransaction) {
@@ -7,19 +7,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriTemplate;
 import uk.gov.companieshouse.api.ApiClient;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallMetrics;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.accounts.utility.CompanyProfileCache;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 
+/**
+ * Company profile lookups, served through the {@link CompanyProfileCache}. Callers holding the
+ * company facts recorded on a company account use those in preference to calling this service.
+ */
 @Service
 public class CompanyServiceImpl implements CompanyService {
 
     @Autowired
     private ApiClientService apiClientService;
 
+    @Autowired
+    private CompanyProfileCache companyProfileCache;
+
+    @Autowired
+    private OutboundCallMetrics outboundCallMetrics;
+
     private static final List<String> LBG_COMPANY_TYPES =
             Arrays.asList("private-limited-guarant-nsc", "private-limited-guarant-nsc-limited-exemption");
 
@@ -27,6 +40,10 @@ public class CompanyServiceImpl implements CompanyService {
 
     @Override
     public CompanyProfileApi getCompanyProfile(String companyNumber) throws ServiceException {
+        return companyProfileCache.get(companyNumber, () -> fetchCompanyProfile(companyNumber));
+    }
+
+    private CompanyProfileApi fetchCompanyProfile(String companyNumber) throws ServiceException {
         ApiClient apiClient = apiClientService.getApiClient();
 
         CompanyProfileApi companyProfileApi;
@@ -34,7 +51,8 @@ public class CompanyServiceImpl implements CompanyService {
         String uri = GET_COMPANY_URI.expand(companyNumber).toString();
 
         try {
-            companyProfileApi = apiClient.company().get(uri).execute().getData();
+            companyProfileApi = outboundCallMetrics.recordApiCall(OutboundCallMetrics.COMPANY_PROFILE_API,
+                    () -> apiClient.company().get(uri).execute().getData());
         } catch (ApiErrorResponseException | URIValidationException e) {
             throw new ServiceException(e);
         }
@@ -42,24 +60,41 @@ public class CompanyServiceImpl implements CompanyService {
         return companyProfileApi;
     }
 
+    @Override
+    public CompanyFacts getCompanyFacts(String companyNumber) throws ServiceException {
+        CompanyProfileApi companyProfile = getCompanyProfile(companyNumber);
+
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(companyNumber);
+
+        if (companyProfile != null) {
+            companyFacts.setCompanyType(companyProfile.getType());
+            companyFacts.setMultipleYearFiler(companyProfile.getAccounts() != null &&
+                    companyProfile.getAccounts().getLastAccounts() != null &&
+                    companyProfile.getAccounts().getLastAccounts().getPeriodStartOn() != null);
+            companyFacts.setCommunityInterestCompany(companyProfile.isCommunityInterestCompany());
+            companyFacts.setLimitedByGuarantee(LBG_COMPANY_TYPES.contains(companyProfile.getType()));
+        }
+
+        return companyFacts;
+    }
+
     @Override
     public boolean isMultipleYearFiler(Transaction transaction) throws ServiceException {
-        CompanyProfileApi companyProfile = getCompanyProfile(transaction.getCompanyNumber());
-        return (companyProfile != null && companyProfile.getAccounts() != null &&
-                companyProfile.getAccounts().getLastAccounts() != null &&
-                companyProfile.getAccounts().getLastAccounts().getPeriodStartOn() != null);
+        return getCompanyFacts(transaction).isMultipleYearFiler();
     }
 
     @Override
     public boolean isCIC(Transaction transaction) throws ServiceException {
-        CompanyProfileApi companyProfile = getCompanyProfile(transaction.getCompanyNumber());
-        return companyProfile.isCommunityInterestCompany();
+        return getCompanyFacts(transaction).isCommunityInterestCompany();
     }
 
     @Override
     public boolean isLBG(Transaction transaction) throws ServiceException {
-        CompanyProfileApi companyProfile = getCompanyProfile(transaction.getCompanyNumber());
-        return LBG_COMPANY_TYPES.contains(companyProfile.getType());
+        return getCompanyFacts(transaction).isLimitedByGuarantee();
     }
-}
 
+    private CompanyFacts getCompanyFacts(Transaction transaction) throws ServiceException {
+        return getCompanyFacts(transaction.getCompanyNumber());
+    }
+}
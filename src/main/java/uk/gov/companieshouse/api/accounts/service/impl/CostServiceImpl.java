@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.accounts.PayableResource;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.rest.Cost;
 import uk.gov.companieshouse.api.accounts.model.rest.Costs;
 import uk.gov.companieshouse.api.accounts.service.CostService;
@@ -29,9 +30,10 @@ public class CostServiceImpl implements CostService {
     }
 
     @Override
-    public Cost[] getCosts(Transaction transaction) throws DataException {
+    public Cost[] getCosts(Transaction transaction, CompanyFacts companyFacts) throws DataException {
         try {
-            List<PayableResource> payableResources = transactionService.getPayableResources(transaction);
+            List<PayableResource> payableResources =
+                    transactionService.getPayableResources(transaction, companyFacts);
 
             if (payableResources.isEmpty()) {
                 return new Cost[0];
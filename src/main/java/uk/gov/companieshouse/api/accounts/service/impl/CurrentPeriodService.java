@@ -15,11 +15,13 @@ import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.CurrentPeriod;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
 import uk.gov.companieshouse.api.accounts.repository.CurrentPeriodRepository;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.service.ParentService;
 import uk.gov.companieshouse.api.accounts.service.ResourceService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.CurrentPeriodTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
 import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.accounts.validation.CurrentPeriodValidator;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -42,17 +44,25 @@ public class CurrentPeriodService implements ResourceService<CurrentPeriod>, Par
 
     private KeyIdGenerator keyIdGenerator;
 
+    private RequestEntityCache requestEntityCache;
+
+    private LinkUpdateRepository linkUpdateRepository;
+
     @Autowired
     public CurrentPeriodService(CurrentPeriodRepository currentPeriodRepository,
                                 CurrentPeriodTransformer currentPeriodTransformer,
                                 CurrentPeriodValidator currentPeriodValidator,
                                 SmallFullService smallFullService,
-                                KeyIdGenerator keyIdGenerator) {
+                                KeyIdGenerator keyIdGenerator,
+                                RequestEntityCache requestEntityCache,
+                                LinkUpdateRepository linkUpdateRepository) {
         this.currentPeriodRepository = currentPeriodRepository;
         this.currentPeriodTransformer = currentPeriodTransformer;
         this.currentPeriodValidator = currentPeriodValidator;
         this.smallFullService = smallFullService;
         this.keyIdGenerator = keyIdGenerator;
+        this.requestEntityCache = requestEntityCache;
+        this.linkUpdateRepository = linkUpdateRepository;
     }
 
     @Override
@@ -60,7 +70,7 @@ public class CurrentPeriodService implements ResourceService<CurrentPeriod>, Par
                                                 Transaction transaction,
                                                 String companyAccountId,
                                                 HttpServletRequest request) throws DataException {
-        Errors errors = currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction);
+        Errors errors = currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction, request);
 
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
@@ -92,7 +102,7 @@ public class CurrentPeriodService implements ResourceService<CurrentPeriod>, Par
                                                 Transaction transaction,
                                                 String companyAccountId,
                                                 HttpServletRequest request) throws DataException {
-        Errors errors = currentPeriodValidator.validateCurrentPeriod(rest, transaction);
+        Errors errors = currentPeriodValidator.validateCurrentPeriod(rest, transaction, request);
 
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
@@ -108,6 +118,7 @@ public class CurrentPeriodService implements ResourceService<CurrentPeriod>, Par
             CurrentPeriodEntity currentPeriodEntity = currentPeriodTransformer.transform(rest);
             currentPeriodEntity.setId(generateID(companyAccountId));
 
+            requestEntityCache.evict(CurrentPeriodEntity.class, currentPeriodEntity.getId());
             currentPeriodRepository.save(currentPeriodEntity);
         } catch (MongoException e) {
             throw new DataException(e);
@@ -119,9 +130,14 @@ public class CurrentPeriodService implements ResourceService<CurrentPeriod>, Par
     @Override
     public ResponseObject<CurrentPeriod> find(String companyAccountsId,
                                               HttpServletRequest request) throws DataException {
-        CurrentPeriodEntity currentPeriodEntity;
+        String currentPeriodId = generateID(companyAccountsId);
+        CurrentPeriodEntity currentPeriodEntity =
+                requestEntityCache.get(CurrentPeriodEntity.class, currentPeriodId).orElse(null);
         try {
-            currentPeriodEntity = currentPeriodRepository.findById(generateID(companyAccountsId)).orElse(null);
+            if (currentPeriodEntity == null) {
+                currentPeriodEntity = currentPeriodRepository.findById(currentPeriodId).orElse(null);
+                requestEntityCache.put(currentPeriodId, currentPeriodEntity);
+            }
         } catch (MongoException e) {
             throw new DataException(e);
         }
@@ -146,32 +162,35 @@ public class CurrentPeriodService implements ResourceService<CurrentPeriod>, Par
                         String link,
                         HttpServletRequest request) throws DataException {
 
-        String smallFullId = generateID(id);
+        String currentPeriodId = generateID(id);
+        boolean found;
         try {
-            CurrentPeriodEntity currentPeriodEntity = currentPeriodRepository.findById(smallFullId)
-                    .orElseThrow(() -> new DataException(
-                            "Failed to get current period entity to add link"));
-            currentPeriodEntity.getData().getLinks().put(linkType.getLink(), link);
-
-            currentPeriodRepository.save(currentPeriodEntity);
+            requestEntityCache.evict(CurrentPeriodEntity.class, currentPeriodId);
+            found = linkUpdateRepository.setLink(
+                    CurrentPeriodEntity.class, currentPeriodId, linkType.getLink(), link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get current period entity to add link");
+        }
     }
 
     @Override
     public void removeLink(String id, CurrentPeriodLinkType linkType, HttpServletRequest request) throws DataException {
         String currentPeriodId = generateID(id);
-        CurrentPeriodEntity currentPeriodEntity = currentPeriodRepository.findById(currentPeriodId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get current period entity from which to remove link"));
-        currentPeriodEntity.getData().getLinks().remove(linkType.getLink());
-
+        boolean found;
         try {
-            currentPeriodRepository.save(currentPeriodEntity);
+            requestEntityCache.evict(CurrentPeriodEntity.class, currentPeriodId);
+            found = linkUpdateRepository.unsetLink(CurrentPeriodEntity.class, currentPeriodId, linkType.getLink());
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get current period entity from which to remove link");
+        }
     }
 
     private String generateID(String value) {
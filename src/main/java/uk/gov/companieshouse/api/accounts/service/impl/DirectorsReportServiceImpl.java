@@ -14,6 +14,7 @@ import uk.gov.companieshouse.api.accounts.links.SmallFullLinkType;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsReportEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.DirectorsReport;
 import uk.gov.companieshouse.api.accounts.repository.DirectorsReportRepository;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.service.DirectorsReportService;
 import uk.gov.companieshouse.api.accounts.service.ParentService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
@@ -54,6 +55,11 @@ public class DirectorsReportServiceImpl implements ParentService<DirectorsReport
     @Autowired
     private DirectorsApprovalService directorsApprovalService;
 
+    @Autowired
+    private LinkUpdateRepository linkUpdateRepository;
+
+    private static final String DIRECTORS_FIELD = "directors";
+
     @Override
     public ResponseObject<DirectorsReport> create(DirectorsReport rest,
                                                   Transaction transaction,
@@ -128,16 +134,17 @@ public class DirectorsReportServiceImpl implements ParentService<DirectorsReport
                         String link,
                         HttpServletRequest request) throws DataException {
         String directorsReportId = generateID(id);
-        DirectorsReportEntity directorsReportEntity = directorsReportRepository.findById(directorsReportId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get Directors report entity to which to add link"));
-        directorsReportEntity.getData().getLinks().put(linkType.getLink(), link);
-
+        boolean found;
         try {
-            directorsReportRepository.save(directorsReportEntity);
+            found = linkUpdateRepository.setLink(
+                    DirectorsReportEntity.class, directorsReportId, linkType.getLink(), link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get Directors report entity to which to add link");
+        }
     }
 
     @Override
@@ -145,16 +152,17 @@ public class DirectorsReportServiceImpl implements ParentService<DirectorsReport
                            DirectorsReportLinkType linkType,
                            HttpServletRequest request) throws DataException {
         String directorsReportId = generateID(id);
-        DirectorsReportEntity directorsReportEntity = directorsReportRepository.findById(directorsReportId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get Directors report entity from which to remove link"));
-        directorsReportEntity.getData().getLinks().remove(linkType.getLink());
-
+        boolean found;
         try {
-            directorsReportRepository.save(directorsReportEntity);
+            found = linkUpdateRepository.unsetLink(
+                    DirectorsReportEntity.class, directorsReportId, linkType.getLink());
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get Directors report entity from which to remove link");
+        }
     }
 
     @Override
@@ -163,19 +171,17 @@ public class DirectorsReportServiceImpl implements ParentService<DirectorsReport
                             String link,
                             HttpServletRequest request) throws DataException {
         String reportId = generateID(companyAccountsID);
-        DirectorsReportEntity entity = directorsReportRepository.findById(reportId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get Directors report entity to which to add director"));
-        if (entity.getData().getDirectors() == null) {
-            entity.getData().setDirectors(new HashMap<>());
-        }
-        entity.getData().getDirectors().put(directorID, link);
-
+        boolean found;
         try {
-            directorsReportRepository.save(entity);
+            found = linkUpdateRepository.setEntry(
+                    DirectorsReportEntity.class, reportId, DIRECTORS_FIELD, directorID, link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get Directors report entity to which to add director");
+        }
     }
 
     @Override
@@ -183,19 +189,17 @@ public class DirectorsReportServiceImpl implements ParentService<DirectorsReport
                                String directorID,
                                HttpServletRequest request) throws DataException {
         String reportId = generateID(companyAccountsID);
-
-        DirectorsReportEntity entity = directorsReportRepository.findById(reportId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get directors report entity from which to remove director"));
-
-        entity.getData().getDirectors().remove(directorID);
-
+        boolean found;
         try {
-            directorsReportRepository.save(entity);
+            found = linkUpdateRepository.unsetEntry(
+                    DirectorsReportEntity.class, reportId, DIRECTORS_FIELD, directorID);
         } catch (MongoException e) {
             throw new DataException(e);
         }
 
+        if (!found) {
+            throw new DataException("Failed to get directors report entity from which to remove director");
+        }
     }
 
     private String generateSelfLink(Transaction transaction, String companyAccountId) {
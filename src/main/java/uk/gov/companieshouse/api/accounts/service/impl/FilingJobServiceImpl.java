@@ -0,0 +1,201 @@
+package uk.gov.companieshouse.api.accounts.service.impl;
+
+import static uk.gov.companieshouse.api.accounts.CompanyAccountsApplication.APPLICATION_NAME_SPACE;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.accounts.configuration.VirtualThreads;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
+import uk.gov.companieshouse.api.accounts.model.entity.FilingJobEntity;
+import uk.gov.companieshouse.api.accounts.model.filing.Filing;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.FilingJob;
+import uk.gov.companieshouse.api.accounts.repository.FilingJobClaimRepository;
+import uk.gov.companieshouse.api.accounts.repository.FilingJobRepository;
+import uk.gov.companieshouse.api.accounts.service.FilingJobService;
+import uk.gov.companieshouse.api.accounts.service.FilingService;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Runs filing generation on a dedicated bounded executor, so that slow document generation and
+ * validation does not hold request threads. The progress of each job is persisted, keyed by the
+ * company account id, so that it can be polled from any instance. A job is claimed with a
+ * conditional update, so it runs once however many instances it is submitted to, and a job left
+ * unfinished by an instance which has since stopped is claimed again once it is stale.
+ *
+ * <p>A caller which needs the filing itself waits on the job, polling its persisted progress so
+ * that it may be running on any instance, for no longer than {@code FILING_JOB_WAIT_MILLIS}.
+ *
+ * <p>In the {@link VirtualThreads virtual thread mode} jobs run on virtual threads, still no more
+ * than {@code FILING_JOB_THREADS} at a time, so the limit can be raised well beyond the platform
+ * threads an instance could afford.
+ */
+@Service
+public class FilingJobServiceImpl implements FilingJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private static final String THREADS_ENV_VAR = "FILING_JOB_THREADS";
+    private static final String QUEUE_SIZE_ENV_VAR = "FILING_JOB_QUEUE_SIZE";
+    private static final String STALE_MILLIS_ENV_VAR = "FILING_JOB_STALE_MILLIS";
+    private static final String WAIT_MILLIS_ENV_VAR = "FILING_JOB_WAIT_MILLIS";
+    private static final String POLL_MILLIS_ENV_VAR = "FILING_JOB_POLL_MILLIS";
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_QUEUE_SIZE = 20;
+    private static final int DEFAULT_STALE_MILLIS = 600000;
+    private static final int DEFAULT_WAIT_MILLIS = 120000;
+    private static final int DEFAULT_POLL_MILLIS = 500;
+
+    private final FilingService filingService;
+
+    private final FilingJobRepository filingJobRepository;
+
+    private final FilingJobClaimRepository filingJobClaimRepository;
+
+    private final ExecutorService jobExecutor;
+
+    private final long staleMillis;
+
+    private final long waitMillis;
+
+    private final long pollMillis;
+
+    @Autowired
+    public FilingJobServiceImpl(FilingService filingService,
+                                FilingJobRepository filingJobRepository,
+                                FilingJobClaimRepository filingJobClaimRepository,
+                                EnvironmentReader environmentReader) {
+        this.filingService = filingService;
+        this.filingJobRepository = filingJobRepository;
+        this.filingJobClaimRepository = filingJobClaimRepository;
+
+        int threads = getOptionalInteger(environmentReader, THREADS_ENV_VAR, DEFAULT_THREADS);
+        this.jobExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(getOptionalInteger(environmentReader, QUEUE_SIZE_ENV_VAR,
+                        DEFAULT_QUEUE_SIZE)),
+                VirtualThreads.threadFactory(environmentReader, "filing-job"));
+
+        this.staleMillis = getOptionalInteger(environmentReader, STALE_MILLIS_ENV_VAR, DEFAULT_STALE_MILLIS);
+        this.waitMillis = getOptionalInteger(environmentReader, WAIT_MILLIS_ENV_VAR, DEFAULT_WAIT_MILLIS);
+        this.pollMillis = getOptionalInteger(environmentReader, POLL_MILLIS_ENV_VAR, DEFAULT_POLL_MILLIS);
+    }
+
+    @Override
+    public FilingJob submitFilingJob(Transaction transaction, CompanyAccount companyAccount,
+            String companyAccountId) {
+        FilingJobEntity job = filingJobClaimRepository.claim(companyAccountId, transaction.getId(),
+                LocalDateTime.now().minus(staleMillis, ChronoUnit.MILLIS));
+        if (job == null) {
+            // In progress, possibly on another instance
+            return getFilingJob(companyAccountId);
+        }
+
+        try {
+            jobExecutor.execute(() -> runFilingJob(job, transaction, companyAccount));
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("FilingJobServiceImpl: filing job rejected as the job queue is full", e,
+                    createDebugMap(job));
+            finishFilingJob(job, null);
+        }
+
+        return toFilingJob(job);
+    }
+
+    @Override
+    public FilingJob awaitFilingJob(Transaction transaction, CompanyAccount companyAccount,
+            String companyAccountId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+
+        FilingJob filingJob = submitFilingJob(transaction, companyAccount, companyAccountId);
+        while (filingJob != null && isUnfinished(filingJob) && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            filingJob = getFilingJob(companyAccountId);
+        }
+
+        return filingJob;
+    }
+
+    @Override
+    public FilingJob getFilingJob(String companyAccountId) {
+        return filingJobRepository.findById(companyAccountId).map(this::toFilingJob).orElse(null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void runFilingJob(FilingJobEntity job, Transaction transaction, CompanyAccount companyAccount) {
+        Filing filing = null;
+        try {
+            job.setStatus(FilingJobStatus.RUNNING);
+            job.setUpdatedAt(LocalDateTime.now());
+            filingJobRepository.save(job);
+
+            filing = filingService.generateAccountFiling(transaction, companyAccount);
+        } catch (RuntimeException e) {
+            LOGGER.error("FilingJobServiceImpl: filing job failed", e, createDebugMap(job));
+        } finally {
+            finishFilingJob(job, filing);
+        }
+    }
+
+    private void finishFilingJob(FilingJobEntity job, Filing filing) {
+        job.setFiling(filing);
+        job.setStatus(filing != null ? FilingJobStatus.COMPLETE : FilingJobStatus.FAILED);
+        job.setUpdatedAt(LocalDateTime.now());
+
+        try {
+            filingJobRepository.save(job);
+        } catch (RuntimeException e) {
+            LOGGER.error("FilingJobServiceImpl: failed to save filing job", e, createDebugMap(job));
+        }
+    }
+
+    private boolean isUnfinished(FilingJob filingJob) {
+        return FilingJobStatus.PENDING.getStatus().equals(filingJob.getStatus())
+                || FilingJobStatus.RUNNING.getStatus().equals(filingJob.getStatus());
+    }
+
+    private FilingJob toFilingJob(FilingJobEntity job) {
+        FilingJob filingJob = new FilingJob();
+        filingJob.setStatus(job.getStatus().getStatus());
+        filingJob.setCreatedAt(job.getCreatedAt());
+        filingJob.setUpdatedAt(job.getUpdatedAt());
+        if (job.getFiling() != null) {
+            filingJob.setFilings(List.of(job.getFiling()));
+        }
+        return filingJob;
+    }
+
+    private Map<String, Object> createDebugMap(FilingJobEntity job) {
+        Map<String, Object> debugMap = new HashMap<>();
+        debugMap.put("company_account_id", job.getId());
+        debugMap.put("transaction_id", job.getTransactionId());
+        return debugMap;
+    }
+
+    private static int getOptionalInteger(EnvironmentReader environmentReader, String name, int defaultValue) {
+        return Optional.ofNullable(environmentReader.getOptionalInteger(name)).orElse(defaultValue);
+    }
+}
@@ -1,30 +1,44 @@
 package uk.gov.companieshouse.api.accounts.service.impl;
 
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang.StringUtils;
+import io.opentelemetry.api.trace.Span;
 import org.apache.commons.lang.text.StrSubstitutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
 import uk.gov.companieshouse.api.accounts.AccountsType;
 import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.configuration.ApplicationTracer;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.links.CompanyAccountLinkType;
+import uk.gov.companieshouse.api.accounts.model.entity.GeneratedFilingEntity;
 import uk.gov.companieshouse.api.accounts.model.filing.Data;
 import uk.gov.companieshouse.api.accounts.model.filing.Filing;
 import uk.gov.companieshouse.api.accounts.model.filing.Link;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.repository.GeneratedFilingRepository;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.FilingService;
 import uk.gov.companieshouse.api.accounts.service.TnepValidationService;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
 import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool;
 import uk.gov.companieshouse.api.accounts.utility.ixbrl.DocumentGeneratorCaller;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.IxbrlRenderer;
 import uk.gov.companieshouse.api.accounts.validation.ixbrl.DocumentGeneratorResponseValidator;
+import uk.gov.companieshouse.api.accounts.validation.ixbrl.IxbrlPreValidator;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
@@ -36,15 +50,39 @@ public class FilingServiceImpl implements FilingService {
 
     private static final String LOG_MESSAGE_KEY = "message";
     private static final String DISABLE_IXBRL_VALIDATION_ENV_VAR = "DISABLE_IXBRL_VALIDATION";
+    private static final String DISABLE_IXBRL_PRE_VALIDATION_ENV_VAR = "DISABLE_IXBRL_PRE_VALIDATION";
     private static final String LINK_RELATIONSHIP = "accounts";
     private static final String PERIOD_END_ON = "period_end_on";
 
+    private static final String FINGERPRINT_ACCOUNT_TREE = "account_tree";
+    private static final String FINGERPRINT_COMPANY_NUMBER = "company_number";
+    private static final String FINGERPRINT_COMPANY_NAME = "company_name";
+    private static final String FINGERPRINT_COMPANY_TYPE = "company_type";
+    private static final String FINGERPRINT_RENDERER = "renderer";
+    private static final String DOCUMENT_GENERATOR_RENDERER = "document-generator";
+
+    private static final String GENERATE_FILING_SPAN = "FilingServiceImpl.generateAccountFiling";
+    private static final String FINGERPRINT_SPAN = "FilingServiceImpl.fingerprint";
+    private static final String STORED_FILING_SPAN = "FilingServiceImpl.findStoredFiling";
+    private static final String STORE_FILING_SPAN = "FilingServiceImpl.storeFiling";
+    private static final String RENDER_IXBRL_SPAN = "FilingServiceImpl.renderIxbrl";
+    private static final String DOCUMENT_GENERATOR_SPAN = "FilingServiceImpl.callDocumentGenerator";
+    private static final String PRE_VALIDATION_SPAN = "FilingServiceImpl.preValidateIxbrl";
+    private static final String TNEP_VALIDATION_SPAN = "FilingServiceImpl.tnepValidateIxbrl";
+
     private final DocumentGeneratorCaller documentGeneratorCaller;
     private final EnvironmentReader environmentReader;
     private final DocumentGeneratorResponseValidator documentGeneratorResponseValidator;
     private final AccountsDatesHelper accountsDatesHelper;
     private final FileTransferTool fileTransferTool;
     private final TnepValidationService tnepValidationService;
+    private final AccountTreeService accountTreeService;
+    private final CompanyService companyService;
+    private final ContentFingerprinter contentFingerprinter;
+    private final GeneratedFilingRepository generatedFilingRepository;
+    private final IxbrlPreValidator ixbrlPreValidator;
+    private final IxbrlRenderer ixbrlRenderer;
+    private final ApplicationTracer applicationTracer;
 
     @Autowired
     public FilingServiceImpl(DocumentGeneratorCaller documentGeneratorCaller,
@@ -52,26 +90,149 @@ public class FilingServiceImpl implements FilingService {
                              DocumentGeneratorResponseValidator documentGeneratorResponseValidator,
                              AccountsDatesHelper accountsDatesHelper,
                              FileTransferTool fileTransferTool,
-                             TnepValidationService tnepValidationService) {
+                             TnepValidationService tnepValidationService,
+                             AccountTreeService accountTreeService,
+                             CompanyService companyService,
+                             ContentFingerprinter contentFingerprinter,
+                             GeneratedFilingRepository generatedFilingRepository,
+                             IxbrlPreValidator ixbrlPreValidator,
+                             IxbrlRenderer ixbrlRenderer,
+                             ApplicationTracer applicationTracer) {
         this.documentGeneratorCaller = documentGeneratorCaller;
         this.environmentReader = environmentReader;
         this.documentGeneratorResponseValidator = documentGeneratorResponseValidator;
         this.accountsDatesHelper = accountsDatesHelper;
         this.fileTransferTool = fileTransferTool;
         this.tnepValidationService = tnepValidationService;
+        this.accountTreeService = accountTreeService;
+        this.companyService = companyService;
+        this.contentFingerprinter = contentFingerprinter;
+        this.generatedFilingRepository = generatedFilingRepository;
+        this.ixbrlPreValidator = ixbrlPreValidator;
+        this.ixbrlRenderer = ixbrlRenderer;
+        this.applicationTracer = applicationTracer;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * A generated filing is stored with a fingerprint of the account's content,
+     * and is returned again for as long as the content is unchanged. Each
+     * stage of the generation is traced in a span of its own.
      */
     @Override
     public Filing generateAccountFiling(Transaction transaction, CompanyAccount companyAccount) {
+        return applicationTracer.trace(GENERATE_FILING_SPAN,
+                () -> generateOrReuseAccountFiling(transaction, companyAccount));
+    }
+
+    private Filing generateOrReuseAccountFiling(Transaction transaction, CompanyAccount companyAccount) {
         AccountsType accountType = getAccountType(companyAccount);
-        if (accountType != null) {
-            return generateAccountFiling(transaction, companyAccount, accountType);
+        if (accountType == null) {
+            return null;
         }
 
-        return null;
+        String companyAccountsURI = companyAccount.getLinks().get(CompanyAccountLinkType.SELF.getLink());
+        if (companyAccountsURI != null) {
+            Span.current().setAttribute(ApplicationTracer.COMPANY_ACCOUNT_ID,
+                    companyAccountsURI.substring(companyAccountsURI.lastIndexOf('/') + 1));
+        }
+
+        String fingerprint = applicationTracer.trace(FINGERPRINT_SPAN,
+                () -> getAccountFingerprint(transaction, companyAccount, accountType));
+
+        Filing storedFiling = applicationTracer.trace(STORED_FILING_SPAN,
+                () -> getStoredFiling(companyAccountsURI, fingerprint));
+        if (storedFiling != null) {
+            return storedFiling;
+        }
+
+        Filing filing = generateAccountFiling(transaction, companyAccount, accountType);
+        if (filing != null && fingerprint != null) {
+            applicationTracer.trace(STORE_FILING_SPAN, () -> storeFiling(companyAccountsURI, fingerprint, filing));
+        }
+
+        return filing;
+    }
+
+    /**
+     * Fingerprint everything the filing is generated from: the content of every resource held
+     * beneath the account, the company profile details shown in the accounts, and the version of
+     * the template the ixbrl is rendered from, or the document generator if it is not rendered in
+     * process.
+     *
+     * @return the fingerprint, or null if the account content could not be read
+     */
+    private String getAccountFingerprint(Transaction transaction, CompanyAccount companyAccount,
+                                         AccountsType accountsType) {
+        try {
+            CompanyProfileApi companyProfile = companyService.getCompanyProfile(transaction.getCompanyNumber());
+
+            Map<String, Object> content = new HashMap<>();
+            content.put(FINGERPRINT_ACCOUNT_TREE, accountTreeService.getAccountTree(companyAccount));
+            content.put(FINGERPRINT_COMPANY_NUMBER, transaction.getCompanyNumber());
+            if (companyProfile != null) {
+                content.put(FINGERPRINT_COMPANY_NAME, companyProfile.getCompanyName());
+                content.put(FINGERPRINT_COMPANY_TYPE, companyProfile.getType());
+            }
+            content.put(FINGERPRINT_RENDERER, ixbrlRenderer.isRenderingEnabled(accountsType)
+                    ? ixbrlRenderer.getTemplateVersion(accountsType) : DOCUMENT_GENERATOR_RENDERER);
+
+            return contentFingerprinter.fingerprint(content);
+        } catch (DataException | ServiceException | IllegalArgumentException e) {
+            Map<String, Object> logMap = new HashMap<>();
+            logMap.put(LOG_MESSAGE_KEY, "Unable to fingerprint account content, filing will not be reused");
+            LOGGER.error("FilingServiceImpl: Account fingerprint failed", e, logMap);
+
+            return null;
+        }
+    }
+
+    /**
+     * Get the filing previously generated from the account, if its content is
+     * unchanged since.
+     */
+    private Filing getStoredFiling(String companyAccountsURI, String fingerprint) {
+        if (fingerprint == null) {
+            return null;
+        }
+
+        try {
+            Filing storedFiling = generatedFilingRepository.findById(companyAccountsURI)
+                    .filter(generatedFiling -> fingerprint.equals(generatedFiling.getFingerprint()))
+                    .map(GeneratedFilingEntity::getFiling)
+                    .orElse(null);
+
+            if (storedFiling != null) {
+                Map<String, Object> logMap = new HashMap<>();
+                logMap.put("company_account_self_link", companyAccountsURI);
+                LOGGER.info("FilingServiceImpl: Returning stored filing as account content is unchanged", logMap);
+            }
+
+            return storedFiling;
+        } catch (DataAccessException e) {
+            Map<String, Object> logMap = new HashMap<>();
+            logMap.put(LOG_MESSAGE_KEY, "Failed to read stored filing");
+            LOGGER.error("FilingServiceImpl: Stored filing lookup failed", e, logMap);
+
+            return null;
+        }
+    }
+
+    private void storeFiling(String companyAccountsURI, String fingerprint, Filing filing) {
+        GeneratedFilingEntity generatedFiling = new GeneratedFilingEntity();
+        generatedFiling.setId(companyAccountsURI);
+        generatedFiling.setFingerprint(fingerprint);
+        generatedFiling.setFiling(filing);
+        generatedFiling.setCreatedAt(LocalDateTime.now());
+
+        try {
+            generatedFilingRepository.save(generatedFiling);
+        } catch (DataAccessException e) {
+            Map<String, Object> logMap = new HashMap<>();
+            logMap.put(LOG_MESSAGE_KEY, "Failed to store generated filing");
+            LOGGER.error("FilingServiceImpl: Storing filing failed", e, logMap);
+        }
     }
 
     /**
@@ -101,10 +262,10 @@ public class FilingServiceImpl implements FilingService {
     private Filing generateAccountFiling(Transaction transaction,
                                          CompanyAccount companyAccount,
                                          AccountsType accountsType) {
-        DocumentGeneratorResponse documentGeneratorResponse = getDocumentGeneratorResponse(companyAccount);
+        DocumentGeneratorResponse documentGeneratorResponse = getIxbrlDocument(transaction, companyAccount, accountsType);
 
         if (documentGeneratorResponse != null && isDocumentGeneratorResponseValid(documentGeneratorResponse)
-                && isValidIxbrl(documentGeneratorResponse.getLinks().getLocation())) {
+                && isValidIxbrl(documentGeneratorResponse)) {
 
             return createAccountFiling(transaction, accountsType, documentGeneratorResponse);
         }
@@ -112,6 +273,30 @@ public class FilingServiceImpl implements FilingService {
         return null;
     }
 
+    /**
+     * Renders the ixbrl in process when it is enabled for the account type,
+     * falling back to the document generator if it could not be rendered. The
+     * rendered ixbrl is validated in the same way as the generated one.
+     *
+     * @return The location where the ixbrl is stored, its description and
+     *         period end date.
+     */
+    private DocumentGeneratorResponse getIxbrlDocument(Transaction transaction,
+                                                       CompanyAccount companyAccount,
+                                                       AccountsType accountsType) {
+        if (ixbrlRenderer.isRenderingEnabled(accountsType)) {
+            DocumentGeneratorResponse renderedResponse = applicationTracer.trace(RENDER_IXBRL_SPAN,
+                    () -> ixbrlRenderer.renderIxbrl(transaction, companyAccount, accountsType));
+
+            if (renderedResponse != null) {
+                return renderedResponse;
+            }
+            LOGGER.info("FilingServiceImpl: Ixbrl could not be rendered, calling the document generator");
+        }
+
+        return applicationTracer.trace(DOCUMENT_GENERATOR_SPAN, () -> getDocumentGeneratorResponse(companyAccount));
+    }
+
     /**
      * Calls the document generator to obtain the information needed to build
      * the filing object: e.g. ixbrl location, description and period end date.
@@ -144,27 +329,57 @@ public class FilingServiceImpl implements FilingService {
     }
 
     /**
-     * Downloads the ixbrl content and call the tnep validation service if the
-     * download was successful. The tnep validation service needs the location
-     * and the data to performs the validation. This validation is driven by the
-     * environment, and it can be disabled.
+     * Streams the ixbrl content to the tnep validation service, without holding
+     * the whole document in memory. The tnep validation service needs the
+     * location and the data to performs the validation. This validation is
+     * driven by the environment, and it can be disabled. Unless it is also
+     * disabled, the ixbrl is first checked in process, so that a document that
+     * cannot pass is not uploaded to the tnep validation service.
      *
-     * @param fileLocation - location of the file that needs to be validated.
+     * @param documentGeneratorResponse - the document generator response, with
+     *            the location of the file that needs to be validated.
      * @return true is valid ixbrl.
      */
-    private boolean isValidIxbrl(String fileLocation) {
+    private boolean isValidIxbrl(DocumentGeneratorResponse documentGeneratorResponse) {
         boolean isIxbrlValid = false;
         if (Boolean.FALSE.equals(environmentReader.getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR))) {
-            String ixbrlData = downloadIxbrlFromLocation(fileLocation);
+            String fileLocation = documentGeneratorResponse.getLinks().getLocation();
 
-            if (ixbrlData != null) {
-                isIxbrlValid = tnepValidationService.validate(ixbrlData, fileLocation);
+            String periodEndOn = documentGeneratorResponse.getDescriptionValues().get(PERIOD_END_ON);
+            if (!applicationTracer.trace(PRE_VALIDATION_SPAN, () -> isPreValidIxbrl(fileLocation, periodEndOn))) {
+                return false;
             }
+
+            Boolean isValid = applicationTracer.trace(TNEP_VALIDATION_SPAN,
+                    () -> fileTransferTool.streamFileFromLocation(fileLocation,
+                            (ixbrlData, contentLength) -> validateIxbrl(ixbrlData, contentLength, fileLocation)));
+
+            isIxbrlValid = Boolean.TRUE.equals(isValid);
         }
 
         return isIxbrlValid;
     }
 
+    /**
+     * Checks the ixbrl in process, streaming it from its location until the
+     * first problem is found.
+     *
+     * @param fileLocation - location of the file that needs to be validated.
+     * @param periodEndOn - the period end on returned by the document generator.
+     * @return true if no problem was found, the check is disabled or the ixbrl could not be read,
+     *         in which case it is left to the TNEP validator.
+     */
+    private boolean isPreValidIxbrl(String fileLocation, String periodEndOn) {
+        if (Boolean.TRUE.equals(environmentReader.getOptionalBoolean(DISABLE_IXBRL_PRE_VALIDATION_ENV_VAR))) {
+            return true;
+        }
+
+        Boolean isPreValid = fileTransferTool.streamFileFromLocation(fileLocation,
+                (ixbrlData, contentLength) -> ixbrlPreValidator.isIxbrlValid(ixbrlData, periodEndOn, fileLocation));
+
+        return !Boolean.FALSE.equals(isPreValid);
+    }
+
     /**
      * Generates the filing based on the Filing model.
      *
@@ -285,24 +500,27 @@ public class FilingServiceImpl implements FilingService {
     }
 
     /**
-     * Calls the fileTransferTool to download file from public location.
+     * Calls the tnep validation service with the ixbrl content streamed from
+     * the public location.
      *
+     * @param ixbrlData
+     *            - the ixbrl content.
+     * @param contentLength
+     *            - the length of the ixbrl content in bytes.
      * @param location
      *            - the ixbrl location, which is a public location.
-     * @return the actual ixbrl content. Or null if download fails.
+     * @return true if the ixbrl is valid. False if it is empty or invalid.
      */
-    private String downloadIxbrlFromLocation(String location) {
-        String ixbrlData = fileTransferTool.downloadFileFromLocation(location);
-
-        if (StringUtils.isEmpty(ixbrlData)) {
+    private boolean validateIxbrl(InputStream ixbrlData, long contentLength, String location) {
+        if (contentLength <= 0) {
             Map<String, Object> logMap = new HashMap<>();
             logMap.put(LOG_MESSAGE_KEY, "The ixbrl data content is empty");
 
             LOGGER.error("FilingServiceImpl: File Transfer Tool has fail to download file", logMap);
 
-            return null;
+            return false;
         }
 
-        return ixbrlData;
+        return tnepValidationService.validate(ixbrlData, contentLength, location);
     }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import uk.gov.companieshouse.api.accounts.links.LoansToDirectorsLinkType;
 import uk.gov.companieshouse.api.accounts.links.SmallFullLinkType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoansToDirectorsEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.LoansToDirectors;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.repository.smallfull.LoansToDirectorsRepository;
 import uk.gov.companieshouse.api.accounts.service.LoansToDirectorsService;
 import uk.gov.companieshouse.api.accounts.service.ParentService;
@@ -48,6 +49,11 @@ public class LoansToDirectorsServiceImpl implements ParentService<LoansToDirecto
     @Autowired
     private LoansToDirectorsAdditionalInformationService loansToDirectorsAdditionalInformationService;
 
+    @Autowired
+    private LinkUpdateRepository linkUpdateRepository;
+
+    private static final String LOANS_FIELD = "loans";
+
     @Override
     public ResponseObject<LoansToDirectors> create(LoansToDirectors rest,
                                                    Transaction transaction,
@@ -118,15 +124,16 @@ public class LoansToDirectorsServiceImpl implements ParentService<LoansToDirecto
                         String link,
                         HttpServletRequest request) throws DataException {
         String resourceId = generateID(id);
-        LoansToDirectorsEntity entity = repository.findById(resourceId)
-                .orElseThrow(() -> new DataException("Failed to find loans to directors entity to which to add link"));
-        entity.getData().getLinks().put(linkType.getLink(), link);
-
+        boolean found;
         try {
-            repository.save(entity);
+            found = linkUpdateRepository.setLink(LoansToDirectorsEntity.class, resourceId, linkType.getLink(), link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to find loans to directors entity to which to add link");
+        }
     }
 
     @Override
@@ -134,16 +141,16 @@ public class LoansToDirectorsServiceImpl implements ParentService<LoansToDirecto
                            LoansToDirectorsLinkType linkType,
                            HttpServletRequest request) throws DataException {
         String resourceId = generateID(id);
-        LoansToDirectorsEntity entity = repository.findById(resourceId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to find loans to directors entity from which to remove link"));
-        entity.getData().getLinks().remove(linkType.getLink());
-
+        boolean found;
         try {
-            repository.save(entity);
+            found = linkUpdateRepository.unsetLink(LoansToDirectorsEntity.class, resourceId, linkType.getLink());
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to find loans to directors entity from which to remove link");
+        }
     }
 
     @Override
@@ -152,19 +159,17 @@ public class LoansToDirectorsServiceImpl implements ParentService<LoansToDirecto
                         String link,
                         HttpServletRequest request) throws DataException {
         String resourceId = generateID(companyAccountsId);
-        LoansToDirectorsEntity entity = repository.findById(resourceId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to find loans to directors entity to which to add loan"));
-        if (entity.getData().getLoans() == null) {
-            entity.getData().setLoans(new HashMap<>());
-        }
-        entity.getData().getLoans().put(loanId, link);
-
+        boolean found;
         try {
-            repository.save(entity);
+            found = linkUpdateRepository.setEntry(
+                    LoansToDirectorsEntity.class, resourceId, LOANS_FIELD, loanId, link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to find loans to directors entity to which to add loan");
+        }
     }
 
     @Override
@@ -172,18 +177,16 @@ public class LoansToDirectorsServiceImpl implements ParentService<LoansToDirecto
                            String loanId,
                            HttpServletRequest request) throws DataException {
         String resourceId = generateID(companyAccountsId);
-        LoansToDirectorsEntity entity = repository.findById(resourceId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to find loans to directors entity from which to remove loan"));
-
-        entity.getData().getLoans().remove(loanId);
-
+        boolean found;
         try {
-            repository.save(entity);
+            found = linkUpdateRepository.unsetEntry(LoansToDirectorsEntity.class, resourceId, LOANS_FIELD, loanId);
         } catch (MongoException e) {
             throw new DataException(e);
         }
 
+        if (!found) {
+            throw new DataException("Failed to find loans to directors entity from which to remove loan");
+        }
     }
 
     public void removeAllLoans(String companyAccountsId) throws DataException {
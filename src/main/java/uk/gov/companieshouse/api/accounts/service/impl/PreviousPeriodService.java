@@ -14,12 +14,14 @@ import uk.gov.companieshouse.api.accounts.links.SmallFullLinkType;
 import uk.gov.companieshouse.api.accounts.model.entity.PreviousPeriodEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.PreviousPeriod;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.repository.PreviousPeriodRepository;
 import uk.gov.companieshouse.api.accounts.service.ParentService;
 import uk.gov.companieshouse.api.accounts.service.ResourceService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.PreviousPeriodTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
 import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.accounts.validation.PreviousPeriodValidator;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -42,17 +44,25 @@ public class PreviousPeriodService implements ResourceService<PreviousPeriod>, P
 
     private KeyIdGenerator keyIdGenerator;
 
+    private RequestEntityCache requestEntityCache;
+
+    private LinkUpdateRepository linkUpdateRepository;
+
     @Autowired
     public PreviousPeriodService(PreviousPeriodRepository previousPeriodRepository,
                                  PreviousPeriodTransformer previousPeriodTransformer,
                                  PreviousPeriodValidator previousPeriodValidator,
                                  SmallFullService smallFullService,
-                                 KeyIdGenerator keyIdGenerator) {
+                                 KeyIdGenerator keyIdGenerator,
+                                 RequestEntityCache requestEntityCache,
+                                 LinkUpdateRepository linkUpdateRepository) {
         this.previousPeriodRepository = previousPeriodRepository;
         this.previousPeriodTransformer = previousPeriodTransformer;
         this.previousPeriodValidator = previousPeriodValidator;
         this.smallFullService = smallFullService;
         this.keyIdGenerator = keyIdGenerator;
+        this.requestEntityCache = requestEntityCache;
+        this.linkUpdateRepository = linkUpdateRepository;
     }
 
     @Override
@@ -60,7 +70,7 @@ public class PreviousPeriodService implements ResourceService<PreviousPeriod>, P
                                                  Transaction transaction,
                                                  String companyAccountId,
                                                  HttpServletRequest request) throws DataException {
-        Errors errors = previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction);
+        Errors errors = previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction, request);
 
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
@@ -90,10 +100,15 @@ public class PreviousPeriodService implements ResourceService<PreviousPeriod>, P
     @Override
     public ResponseObject<PreviousPeriod> find(String companyAccountsId,
                                                HttpServletRequest request) throws DataException {
-        PreviousPeriodEntity previousPeriodEntity;
+        String previousPeriodId = generateID(companyAccountsId);
+        PreviousPeriodEntity previousPeriodEntity =
+                requestEntityCache.get(PreviousPeriodEntity.class, previousPeriodId).orElse(null);
 
         try {
-            previousPeriodEntity = previousPeriodRepository.findById(generateID(companyAccountsId)).orElse(null);
+            if (previousPeriodEntity == null) {
+                previousPeriodEntity = previousPeriodRepository.findById(previousPeriodId).orElse(null);
+                requestEntityCache.put(previousPeriodId, previousPeriodEntity);
+            }
         } catch (MongoException e) {
             throw new DataException(e);
         }
@@ -118,40 +133,44 @@ public class PreviousPeriodService implements ResourceService<PreviousPeriod>, P
                         String link,
                         HttpServletRequest request) throws DataException {
         String previousPeriodId = generateID(id);
+        boolean found;
         try {
-        PreviousPeriodEntity previousPeriodEntity = previousPeriodRepository.findById(previousPeriodId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get previous period entity to add link"));
-        previousPeriodEntity.getData().getLinks().put(linkType.getLink(), link);
-
-            previousPeriodRepository.save(previousPeriodEntity);
+            requestEntityCache.evict(PreviousPeriodEntity.class, previousPeriodId);
+            found = linkUpdateRepository.setLink(
+                    PreviousPeriodEntity.class, previousPeriodId, linkType.getLink(), link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get previous period entity to add link");
+        }
     }
 
     @Override
     public void removeLink(String id,
                            PreviousPeriodLinkType linkType,
                            HttpServletRequest request) throws DataException {
-        String smallFullId = generateID(id);
-        PreviousPeriodEntity previousPeriodEntity = previousPeriodRepository.findById(smallFullId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get previous period entity from which to remove link"));
-        previousPeriodEntity.getData().getLinks().remove(linkType.getLink());
-
+        String previousPeriodId = generateID(id);
+        boolean found;
         try {
-            previousPeriodRepository.save(previousPeriodEntity);
+            requestEntityCache.evict(PreviousPeriodEntity.class, previousPeriodId);
+            found = linkUpdateRepository.unsetLink(
+                    PreviousPeriodEntity.class, previousPeriodId, linkType.getLink());
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get previous period entity from which to remove link");
+        }
     }
 
     public ResponseObject<PreviousPeriod> update(PreviousPeriod rest,
                                                  Transaction transaction,
                                                  String companyAccountId,
                                                  HttpServletRequest request) throws DataException {
-        Errors errors = previousPeriodValidator.validatePreviousPeriod(rest, transaction);
+        Errors errors = previousPeriodValidator.validatePreviousPeriod(rest, transaction, request);
 
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
@@ -167,6 +186,7 @@ public class PreviousPeriodService implements ResourceService<PreviousPeriod>, P
             PreviousPeriodEntity previousPeriodEntity = previousPeriodTransformer.transform(rest);
             previousPeriodEntity.setId(generateID(companyAccountId));
 
+            requestEntityCache.evict(PreviousPeriodEntity.class, previousPeriodEntity.getId());
             previousPeriodRepository.save(previousPeriodEntity);
         } catch (MongoException e) {
             throw new DataException(e);
@@ -74,7 +74,7 @@ public class RptTransactionServiceImpl implements MultipleResourceService<RptTra
                                                  Transaction transaction,
                                                  String companyAccountId,
                                                  HttpServletRequest request) throws DataException {
-        Errors errors = rptTransactionValidator.validateRptTransaction(rest, transaction);
+        Errors errors = rptTransactionValidator.validateRptTransaction(rest, transaction, request);
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
         }
@@ -105,7 +105,7 @@ public class RptTransactionServiceImpl implements MultipleResourceService<RptTra
                                                  Transaction transaction,
                                                  String companyAccountId,
                                                  HttpServletRequest request) throws DataException {
-        Errors errors = rptTransactionValidator.validateRptTransaction(rest, transaction);
+        Errors errors = rptTransactionValidator.validateRptTransaction(rest, transaction, request);
         if (errors.hasErrors()) {
             return new ResponseObject<>(ResponseStatus.VALIDATION_ERROR, errors);
         }
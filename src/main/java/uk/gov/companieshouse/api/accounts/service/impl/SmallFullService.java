@@ -23,6 +23,7 @@ import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.LastAccounts;
 import uk.gov.companieshouse.api.accounts.model.rest.NextAccounts;
 import uk.gov.companieshouse.api.accounts.model.rest.SmallFull;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.repository.SmallFullRepository;
 import uk.gov.companieshouse.api.accounts.service.CompanyAccountService;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
@@ -31,6 +32,7 @@ import uk.gov.companieshouse.api.accounts.service.ResourceService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.SmallFullTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
 import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -56,6 +58,12 @@ public class SmallFullService implements ResourceService<SmallFull>, LinkService
     @Autowired
     private StatementService statementService;
 
+    @Autowired
+    private RequestEntityCache requestEntityCache;
+
+    @Autowired
+    private LinkUpdateRepository linkUpdateRepository;
+
     @Override
     public ResponseObject<SmallFull> create(SmallFull smallFull,
                                             Transaction transaction,
@@ -85,9 +93,13 @@ public class SmallFullService implements ResourceService<SmallFull>, LinkService
 
     @Override
     public ResponseObject<SmallFull> find(String companyAccountsId, HttpServletRequest request) throws DataException {
-        SmallFullEntity smallFullEntity;
+        String smallFullId = generateID(companyAccountsId);
+        SmallFullEntity smallFullEntity = requestEntityCache.get(SmallFullEntity.class, smallFullId).orElse(null);
         try {
-            smallFullEntity = smallFullRepository.findById(generateID(companyAccountsId)).orElse(null);
+            if (smallFullEntity == null) {
+                smallFullEntity = smallFullRepository.findById(smallFullId).orElse(null);
+                requestEntityCache.put(smallFullId, smallFullEntity);
+            }
         } catch (MongoException e) {
             throw new DataException(e);
         }
@@ -120,11 +132,14 @@ public class SmallFullService implements ResourceService<SmallFull>, LinkService
 	        SmallFullEntity baseEntity = smallFullTransformer.transform(smallFull);
 	        baseEntity.setId(smallFullId);
 
+            requestEntityCache.evict(SmallFullEntity.class, smallFullId);
             smallFullRepository.save(baseEntity);
         } catch (MongoException|ServiceException e) {
             throw new DataException(e);
         }
 
+        companyAccountService.refreshCompanyFacts(companyAccountId, transaction);
+
         statementService.invalidateStatementsIfExisting(companyAccountId, request);
 
         return new ResponseObject<>(ResponseStatus.UPDATED);
@@ -141,31 +156,33 @@ public class SmallFullService implements ResourceService<SmallFull>, LinkService
                         String link,
                         HttpServletRequest request) throws DataException {
         String smallFullId = generateID(id);
-        SmallFullEntity smallFullEntity = smallFullRepository.findById(smallFullId)
-            .orElseThrow(() -> new DataException(
-                "Failed to get Small full entity to add link"));
-        smallFullEntity.getData().getLinks().put(linkType.getLink(), link);
-
+        boolean found;
         try {
-            smallFullRepository.save(smallFullEntity);
+            requestEntityCache.evict(SmallFullEntity.class, smallFullId);
+            found = linkUpdateRepository.setLink(SmallFullEntity.class, smallFullId, linkType.getLink(), link);
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get Small full entity to add link");
+        }
     }
 
     @Override
     public void removeLink(String id, SmallFullLinkType linkType, HttpServletRequest request) throws DataException {
         String smallFullId = generateID(id);
-        SmallFullEntity smallFullEntity = smallFullRepository.findById(smallFullId)
-                .orElseThrow(() -> new DataException(
-                        "Failed to get Small full entity from which to remove link"));
-        smallFullEntity.getData().getLinks().remove(linkType.getLink());
-
+        boolean found;
         try {
-            smallFullRepository.save(smallFullEntity);
+            requestEntityCache.evict(SmallFullEntity.class, smallFullId);
+            found = linkUpdateRepository.unsetLink(SmallFullEntity.class, smallFullId, linkType.getLink());
         } catch (MongoException e) {
             throw new DataException(e);
         }
+
+        if (!found) {
+            throw new DataException("Failed to get Small full entity from which to remove link");
+        }
     }
 
     private void setAccountingPeriodDatesOnRestObject(SmallFull rest, CompanyProfileApi companyProfile) {
@@ -2,21 +2,33 @@ package uk.gov.companieshouse.api.accounts.service.impl;
 
 import static uk.gov.companieshouse.api.accounts.CompanyAccountsApplication.APPLICATION_NAME_SPACE;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundHttpConfiguration;
 import uk.gov.companieshouse.api.accounts.service.TnepValidationService;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
+import uk.gov.companieshouse.api.accounts.utility.TnepValidationCache;
 import uk.gov.companieshouse.api.accounts.validation.Results;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 import uk.gov.companieshouse.logging.Logger;
@@ -26,37 +38,89 @@ import uk.gov.companieshouse.logging.LoggerFactory;
 public class TnepValidationServiceImpl implements TnepValidationService {
 
     private static final String IXBRL_VALIDATOR_URI = "IXBRL_VALIDATOR_URI";
+    private static final String SPOOLED_IXBRL_PREFIX = "ixbrl-";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
 
     private RestTemplate restTemplate;
     private EnvironmentReader environmentReader;
+    private OutboundCallGuard outboundCallGuard;
+    private ContentFingerprinter contentFingerprinter;
+    private TnepValidationCache tnepValidationCache;
 
     @Autowired
-    public TnepValidationServiceImpl(RestTemplate restTemplate,
-                                     EnvironmentReader environmentReader) {
+    public TnepValidationServiceImpl(@Qualifier(OutboundHttpConfiguration.TNEP_VALIDATOR_REST_TEMPLATE)
+                                     RestTemplate restTemplate,
+                                     EnvironmentReader environmentReader,
+                                     OutboundCallGuard outboundCallGuard,
+                                     ContentFingerprinter contentFingerprinter,
+                                     TnepValidationCache tnepValidationCache) {
         this.restTemplate = restTemplate;
         this.environmentReader = environmentReader;
+        this.outboundCallGuard = outboundCallGuard;
+        this.contentFingerprinter = contentFingerprinter;
+        this.tnepValidationCache = tnepValidationCache;
     }
 
     /**
-     * Validate the ixbrl
+     * Validate the ixbrl, unless the same content has been validated before
      *
      * @return boolean
      */
     @Override
     public boolean validate(String ixbrl, String location) {
-        boolean isIxbrlValid = false;
+        byte[] ixbrlBytes = ixbrl.getBytes(StandardCharsets.UTF_8);
+        String contentHash = contentFingerprinter.fingerprint(ixbrlBytes);
 
-        LOGGER.info("TnepValidationServiceImpl: Ixbrl validation has started");
+        return validate(contentHash, () -> new ByteArrayInputStream(ixbrlBytes), ixbrlBytes.length, location);
+    }
+
+    /**
+     * Validate the ixbrl, streaming it to the TNEP validator unless the same content has been
+     * validated before. The content is hashed as it is spooled to a temporary file, which is
+     * uploaded only if the hash has no cached validation status.
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean validate(InputStream ixbrl, long contentLength, String location) {
+        Path spooledIxbrl = null;
         try {
-            Results results = validatIxbrlAgainstTnep(ixbrl, location);
+            spooledIxbrl = Files.createTempFile(SPOOLED_IXBRL_PREFIX, null);
 
-            if (hasPassedTnepValidation(results)) {
-                addToLog(false, null, location,
-                        "Ixbrl is valid. It has passed the TNEP validation");
+            String contentHash;
+            try (OutputStream spool = Files.newOutputStream(spooledIxbrl)) {
+                contentHash = contentFingerprinter.fingerprint(ixbrl, spool);
+            }
 
-                isIxbrlValid = true;
+            Path spooledContent = spooledIxbrl;
+            return validate(contentHash, () -> Files.newInputStream(spooledContent), contentLength, location);
+        } catch (IOException e) {
+            addToLog(true, e, location,
+                    "Exception has been thrown when spooling the ixbrl. Unable to validate Ixbrl");
+            return false;
+        } finally {
+            deleteSpooledIxbrl(spooledIxbrl, location);
+        }
+    }
+
+    private boolean validate(String contentHash, IxbrlContent ixbrl, long contentLength, String location) {
+        String cachedValidationStatus = tnepValidationCache.getValidationStatus(contentHash);
+        if (cachedValidationStatus != null) {
+            return hasPassedTnepValidation(cachedValidationStatus, location,
+                    "Ixbrl has been validated before, with status " + cachedValidationStatus);
+        }
+
+        boolean isIxbrlValid = false;
+
+        LOGGER.info("TnepValidationServiceImpl: Ixbrl validation has started");
+        try (InputStream ixbrlData = ixbrl.open()) {
+            Results results = validatIxbrlAgainstTnep(ixbrlData, contentLength, location);
+
+            if (results != null && results.getValidationStatus() != null) {
+                tnepValidationCache.putValidationStatus(contentHash, results.getValidationStatus());
+                isIxbrlValid = hasPassedTnepValidation(results.getValidationStatus(), location,
+                        "Ixbrl has been validated against TNEP");
             } else {
                 addToLog(true, null, location,
                         "Ixbrl is invalid. It has failed the TNEP validation");
@@ -75,28 +139,54 @@ public class TnepValidationServiceImpl implements TnepValidationService {
      * valid.
      *
      * @param ixbrl - ixbrl content to be validated.
+     * @param contentLength - length of the ixbrl content in bytes.
      * @param location - ixbrl location, public location.
      * @return {@link Results} with the information from calling the Tnep service.
      */
-    private Results validatIxbrlAgainstTnep(String ixbrl, String location) throws URISyntaxException {
-        LinkedMultiValueMap<String, Object> map = createFileMessageResource(ixbrl, location);
+    private Results validatIxbrlAgainstTnep(InputStream ixbrl, long contentLength, String location)
+            throws URISyntaxException {
+        LinkedMultiValueMap<String, Object> map = createFileMessageResource(ixbrl, contentLength, location);
         HttpEntity<LinkedMultiValueMap<String, Object>> requestEntity = setHttpHeaders(map);
 
         return postForValidation(requestEntity);
     }
 
-    private boolean hasPassedTnepValidation(Results results) {
-        return results != null && "OK".equalsIgnoreCase(results.getValidationStatus());
+    private boolean hasPassedTnepValidation(String validationStatus, String location, String message) {
+        if ("OK".equalsIgnoreCase(validationStatus)) {
+            addToLog(false, null, location,
+                    message + ". Ixbrl is valid. It has passed the TNEP validation");
+            return true;
+        }
+
+        addToLog(true, null, location,
+                message + ". Ixbrl is invalid. It has failed the TNEP validation");
+        return false;
+    }
+
+    private void deleteSpooledIxbrl(Path spooledIxbrl, String location) {
+        if (spooledIxbrl == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(spooledIxbrl);
+        } catch (IOException e) {
+            addToLog(true, e, location, "Failed to delete spooled ixbrl " + spooledIxbrl);
+        }
     }
 
     /**
-     * Connect to the TNEP validator via http POST using multipart file upload
+     * Connect to the TNEP validator via http POST using multipart file upload. The ixbrl is streamed
+     * into the request, so it cannot be sent again and the call is not retried.
      *
      * @return RestTemplate
      */
     private Results postForValidation(HttpEntity<LinkedMultiValueMap<String, Object>> requestEntity)
             throws URISyntaxException {
-        return restTemplate.postForObject(new URI(getIxbrlValidatorUri()), requestEntity, Results.class);
+        URI ixbrlValidatorUri = new URI(getIxbrlValidatorUri());
+
+        return outboundCallGuard.call(OutboundHttpConfiguration.TNEP_VALIDATOR,
+                () -> restTemplate.postForObject(ixbrlValidatorUri, requestEntity, Results.class));
     }
 
     private void addToLog(boolean hasValidationFailed,
@@ -126,10 +216,11 @@ public class TnepValidationServiceImpl implements TnepValidationService {
         return new HttpEntity<>(map, headers);
     }
 
-    private LinkedMultiValueMap<String, Object> createFileMessageResource(String ixbrl,
+    private LinkedMultiValueMap<String, Object> createFileMessageResource(InputStream ixbrl,
+                                                                          long contentLength,
                                                                           String location) {
         LinkedMultiValueMap<String, Object> map = new LinkedMultiValueMap<>();
-        map.add("file", new FileMessageResource(ixbrl.getBytes(), location));
+        map.add("file", new FileMessageResource(ixbrl, contentLength, location));
 
         return map;
     }
@@ -143,21 +234,39 @@ public class TnepValidationServiceImpl implements TnepValidationService {
         return environmentReader.getMandatoryString(IXBRL_VALIDATOR_URI);
     }
 
-    private static class FileMessageResource extends ByteArrayResource {
+    /**
+     * Opens the content of an ixbrl document, which may be read more than once
+     */
+    @FunctionalInterface
+    private interface IxbrlContent {
+
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Multipart file part read from a stream, which is copied to the request body through a fixed
+     * size buffer. The known content length is reported so that the stream is not read to size it.
+     */
+    static class FileMessageResource extends InputStreamResource {
         /**
          * The filename to be associated with the {@link MimeMessage} in the form data.
          */
         private final String filename;
 
+        private final long contentLength;
+
         /**
          * Constructs a new {@link FileMessageResource}.
          *
-         * @param byteArray A byte array containing data from a {@link MimeMessage}.
+         * @param inputStream A stream of the data from a {@link MimeMessage}.
+         * @param contentLength The length of the data in bytes.
          * @param filename The filename to be associated with the {@link MimeMessage} in the form
          * data.
          */
-        public FileMessageResource(final byte[] byteArray, final String filename) {
-            super(byteArray);
+        public FileMessageResource(final InputStream inputStream, final long contentLength,
+                                   final String filename) {
+            super(inputStream);
+            this.contentLength = contentLength;
             this.filename = filename;
         }
 
@@ -166,6 +275,11 @@ public class TnepValidationServiceImpl implements TnepValidationService {
             return filename;
         }
 
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
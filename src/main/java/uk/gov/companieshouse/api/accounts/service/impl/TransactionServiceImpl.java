@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.accounts.PayableResource;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.TransactionService;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -21,10 +22,23 @@ public class TransactionServiceImpl implements TransactionService {
      */
     @Override
     public List<PayableResource> getPayableResources(Transaction transaction) throws ServiceException {
+        return getPayableResources(transaction, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PayableResource> getPayableResources(Transaction transaction, CompanyFacts companyFacts)
+            throws ServiceException {
 
         List<PayableResource> payableResources = new ArrayList<>();
 
-        if (companyService.isCIC(transaction)) {
+        boolean isCIC = companyFacts != null && companyFacts.isRecordedFor(transaction.getCompanyNumber())
+                ? companyFacts.isCommunityInterestCompany()
+                : companyService.isCIC(transaction);
+
+        if (isCIC) {
             payableResources.add(PayableResource.CIC);
         }
 
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.accountingpolicies.AccountingPoliciesDataEntity;
@@ -15,7 +14,17 @@ public class AccountingPoliciesTransformer implements NoteTransformer<Accounting
         AccountingPoliciesDataEntity accountingPoliciesDataEntity = new AccountingPoliciesDataEntity();
         AccountingPoliciesEntity accountingPoliciesEntity = new AccountingPoliciesEntity();
 
-        BeanUtils.copyProperties(rest, accountingPoliciesDataEntity);
+        accountingPoliciesDataEntity.setBasisOfMeasurementAndPreparation(rest.getBasisOfMeasurementAndPreparation());
+        accountingPoliciesDataEntity.setTurnoverPolicy(rest.getTurnoverPolicy());
+        accountingPoliciesDataEntity.setTangibleFixedAssetsDepreciationPolicy(
+                rest.getTangibleFixedAssetsDepreciationPolicy());
+        accountingPoliciesDataEntity.setIntangibleFixedAssetsAmortisationPolicy(
+                rest.getIntangibleFixedAssetsAmortisationPolicy());
+        accountingPoliciesDataEntity.setValuationInformationAndPolicy(rest.getValuationInformationAndPolicy());
+        accountingPoliciesDataEntity.setOtherAccountingPolicy(rest.getOtherAccountingPolicy());
+        accountingPoliciesDataEntity.setEtag(rest.getEtag());
+        accountingPoliciesDataEntity.setLinks(rest.getLinks());
+        accountingPoliciesDataEntity.setKind(rest.getKind());
         accountingPoliciesEntity.setData(accountingPoliciesDataEntity);
 
         return accountingPoliciesEntity;
@@ -26,7 +35,19 @@ public class AccountingPoliciesTransformer implements NoteTransformer<Accounting
         AccountingPolicies accountingPolicies = new AccountingPolicies();
         AccountingPoliciesDataEntity accountingPoliciesDataEntity = entity.getData();
 
-        BeanUtils.copyProperties(accountingPoliciesDataEntity, accountingPolicies);
+        accountingPolicies.setBasisOfMeasurementAndPreparation(
+                accountingPoliciesDataEntity.getBasisOfMeasurementAndPreparation());
+        accountingPolicies.setTurnoverPolicy(accountingPoliciesDataEntity.getTurnoverPolicy());
+        accountingPolicies.setTangibleFixedAssetsDepreciationPolicy(
+                accountingPoliciesDataEntity.getTangibleFixedAssetsDepreciationPolicy());
+        accountingPolicies.setIntangibleFixedAssetsAmortisationPolicy(
+                accountingPoliciesDataEntity.getIntangibleFixedAssetsAmortisationPolicy());
+        accountingPolicies.setValuationInformationAndPolicy(
+                accountingPoliciesDataEntity.getValuationInformationAndPolicy());
+        accountingPolicies.setOtherAccountingPolicy(accountingPoliciesDataEntity.getOtherAccountingPolicy());
+        accountingPolicies.setEtag(accountingPoliciesDataEntity.getEtag());
+        accountingPolicies.setLinks(accountingPoliciesDataEntity.getLinks());
+        accountingPolicies.setKind(accountingPoliciesDataEntity.getKind());
 
         return accountingPolicies;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.ApprovalDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.ApprovalEntity;
@@ -13,7 +12,11 @@ public class ApprovalTransformer implements GenericTransformer<Approval, Approva
     public ApprovalEntity transform(Approval entity) {
         ApprovalDataEntity approvalDataEntity = new ApprovalDataEntity();
         ApprovalEntity approvalEntity = new ApprovalEntity();
-        BeanUtils.copyProperties(entity, approvalDataEntity);
+        approvalDataEntity.setDate(entity.getDate());
+        approvalDataEntity.setName(entity.getName());
+        approvalDataEntity.setEtag(entity.getEtag());
+        approvalDataEntity.setLinks(entity.getLinks());
+        approvalDataEntity.setKind(entity.getKind());
         approvalEntity.setData(approvalDataEntity);
         return approvalEntity;
     }
@@ -22,7 +25,11 @@ public class ApprovalTransformer implements GenericTransformer<Approval, Approva
     public Approval transform(ApprovalEntity entity) {
         Approval approval = new Approval();
         ApprovalDataEntity approvalDataEntity = entity.getData();
-        BeanUtils.copyProperties(approvalDataEntity, approval);
+        approval.setDate(approvalDataEntity.getDate());
+        approval.setName(approvalDataEntity.getName());
+        approval.setEtag(approvalDataEntity.getEtag());
+        approval.setLinks(approvalDataEntity.getLinks());
+        approval.setKind(approvalDataEntity.getKind());
         return approval;
     }
 }
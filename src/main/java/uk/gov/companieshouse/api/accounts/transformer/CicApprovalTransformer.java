@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.CicReportApprovalDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.CicReportApprovalEntity;
@@ -13,7 +12,11 @@ public class CicApprovalTransformer implements GenericTransformer<CicApproval, C
     public CicReportApprovalEntity transform(CicApproval approval) {
         CicReportApprovalDataEntity dataEntity = new CicReportApprovalDataEntity();
         CicReportApprovalEntity entity  = new CicReportApprovalEntity();
-        BeanUtils.copyProperties(approval, dataEntity);
+        dataEntity.setDate(approval.getDate());
+        dataEntity.setName(approval.getName());
+        dataEntity.setEtag(approval.getEtag());
+        dataEntity.setLinks(approval.getLinks());
+        dataEntity.setKind(approval.getKind());
         entity.setData(dataEntity);
         return entity;
     }
@@ -21,7 +24,12 @@ public class CicApprovalTransformer implements GenericTransformer<CicApproval, C
     @Override
     public CicApproval transform(CicReportApprovalEntity approval) {
         CicApproval cicApproval = new CicApproval();
-        BeanUtils.copyProperties(approval.getData(), cicApproval);
+        CicReportApprovalDataEntity cicReportApprovalDataEntity = approval.getData();
+        cicApproval.setDate(cicReportApprovalDataEntity.getDate());
+        cicApproval.setName(cicReportApprovalDataEntity.getName());
+        cicApproval.setEtag(cicReportApprovalDataEntity.getEtag());
+        cicApproval.setLinks(cicReportApprovalDataEntity.getLinks());
+        cicApproval.setKind(cicReportApprovalDataEntity.getKind());
         return cicApproval;
     }
 }
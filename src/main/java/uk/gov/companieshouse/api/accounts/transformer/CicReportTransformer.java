@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.CicReportDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.CicReportEntity;
@@ -12,7 +11,9 @@ public class CicReportTransformer implements GenericTransformer<CicReport, CicRe
     @Override
     public CicReportEntity transform(CicReport entity) {
         CicReportDataEntity cicReportDataEntity = new CicReportDataEntity();
-        BeanUtils.copyProperties(entity, cicReportDataEntity);
+        cicReportDataEntity.setEtag(entity.getEtag());
+        cicReportDataEntity.setLinks(entity.getLinks());
+        cicReportDataEntity.setKind(entity.getKind());
 
         CicReportEntity cicReportEntity = new CicReportEntity();
         cicReportEntity.setData(cicReportDataEntity);
@@ -22,7 +23,10 @@ public class CicReportTransformer implements GenericTransformer<CicReport, CicRe
     @Override
     public CicReport transform(CicReportEntity entity) {
         CicReport cicReport = new CicReport();
-        BeanUtils.copyProperties(entity.getData(), cicReport);
+        CicReportDataEntity cicReportDataEntity = entity.getData();
+        cicReport.setEtag(cicReportDataEntity.getEtag());
+        cicReport.setLinks(cicReportDataEntity.getLinks());
+        cicReport.setKind(cicReportDataEntity.getKind());
 
         return cicReport;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.CicStatementsDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.ReportStatementsEntity;
@@ -14,11 +13,13 @@ public class CicStatementsTransformer implements GenericTransformer<CicStatement
     @Override
     public CicStatementsEntity transform(CicStatements entity) {
         CicStatementsDataEntity cicStatementsDataEntity = new CicStatementsDataEntity();
-        BeanUtils.copyProperties(entity, cicStatementsDataEntity);
+        cicStatementsDataEntity.setHasCompletedReportStatements(entity.getHasCompletedReportStatements());
+        cicStatementsDataEntity.setEtag(entity.getEtag());
+        cicStatementsDataEntity.setLinks(entity.getLinks());
+        cicStatementsDataEntity.setKind(entity.getKind());
 
         if (entity.getReportStatements() != null) {
-            ReportStatementsEntity reportStatementsEntity = new ReportStatementsEntity();
-            BeanUtils.copyProperties(entity.getReportStatements(), reportStatementsEntity);
+            ReportStatementsEntity reportStatementsEntity = mapRestToEntity(entity.getReportStatements());
             cicStatementsDataEntity.setReportStatements(reportStatementsEntity);
         }
 
@@ -30,14 +31,35 @@ public class CicStatementsTransformer implements GenericTransformer<CicStatement
     @Override
     public CicStatements transform(CicStatementsEntity entity) {
         CicStatements cicStatements = new CicStatements();
-        BeanUtils.copyProperties(entity.getData(), cicStatements);
+        CicStatementsDataEntity cicStatementsDataEntity = entity.getData();
+        cicStatements.setHasCompletedReportStatements(cicStatementsDataEntity.getHasCompletedReportStatements());
+        cicStatements.setEtag(cicStatementsDataEntity.getEtag());
+        cicStatements.setLinks(cicStatementsDataEntity.getLinks());
+        cicStatements.setKind(cicStatementsDataEntity.getKind());
 
         if (entity.getData().getReportStatements() != null) {
-            ReportStatements reportStatements = new ReportStatements();
-            BeanUtils.copyProperties(entity.getData().getReportStatements(), reportStatements);
+            ReportStatements reportStatements = mapEntityToRest(entity.getData().getReportStatements());
             cicStatements.setReportStatements(reportStatements);
         }
 
         return cicStatements;
     }
+
+    private ReportStatementsEntity mapRestToEntity(ReportStatements rest) {
+        ReportStatementsEntity reportStatementsEntity = new ReportStatementsEntity();
+        reportStatementsEntity.setCompanyActivitiesAndImpact(rest.getCompanyActivitiesAndImpact());
+        reportStatementsEntity.setConsultationWithStakeholders(rest.getConsultationWithStakeholders());
+        reportStatementsEntity.setDirectorsRemuneration(rest.getDirectorsRemuneration());
+        reportStatementsEntity.setTransferOfAssets(rest.getTransferOfAssets());
+        return reportStatementsEntity;
+    }
+
+    private ReportStatements mapEntityToRest(ReportStatementsEntity entity) {
+        ReportStatements reportStatements = new ReportStatements();
+        reportStatements.setCompanyActivitiesAndImpact(entity.getCompanyActivitiesAndImpact());
+        reportStatements.setConsultationWithStakeholders(entity.getConsultationWithStakeholders());
+        reportStatements.setDirectorsRemuneration(entity.getDirectorsRemuneration());
+        reportStatements.setTransferOfAssets(entity.getTransferOfAssets());
+        return reportStatements;
+    }
 }
@@ -1,11 +1,12 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 
 import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CompanyFactsEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 
 @Component
 public class CompanyAccountTransformer implements GenericTransformer<CompanyAccount, CompanyAccountEntity> {
@@ -13,7 +14,13 @@ public class CompanyAccountTransformer implements GenericTransformer<CompanyAcco
     @Override
     public CompanyAccountEntity transform(CompanyAccount companyAccount) {
         CompanyAccountDataEntity companyAccountDataEntity = new CompanyAccountDataEntity();
-        BeanUtils.copyProperties(companyAccount, companyAccountDataEntity);
+        companyAccountDataEntity.setEtag(companyAccount.getEtag());
+        companyAccountDataEntity.setLinks(companyAccount.getLinks());
+        companyAccountDataEntity.setKind(companyAccount.getKind());
+
+        if (companyAccount.getCompanyFacts() != null) {
+            companyAccountDataEntity.setCompanyFacts(transform(companyAccount.getCompanyFacts()));
+        }
 
         CompanyAccountEntity companyAccountEntity = new CompanyAccountEntity();
         companyAccountEntity.setData(companyAccountDataEntity);
@@ -25,8 +32,31 @@ public class CompanyAccountTransformer implements GenericTransformer<CompanyAcco
         CompanyAccount companyAccount = new CompanyAccount();
 
         CompanyAccountDataEntity companyAccountDataEntity = entity.getData();
-        BeanUtils.copyProperties(companyAccountDataEntity, companyAccount);
+        companyAccount.setEtag(companyAccountDataEntity.getEtag());
+        companyAccount.setLinks(companyAccountDataEntity.getLinks());
+        companyAccount.setKind(companyAccountDataEntity.getKind());
+
+        CompanyFactsEntity companyFactsEntity = companyAccountDataEntity.getCompanyFacts();
+        if (companyFactsEntity != null) {
+            CompanyFacts companyFacts = new CompanyFacts();
+            companyFacts.setCompanyNumber(companyFactsEntity.getCompanyNumber());
+            companyFacts.setCompanyType(companyFactsEntity.getCompanyType());
+            companyFacts.setMultipleYearFiler(companyFactsEntity.isMultipleYearFiler());
+            companyFacts.setCommunityInterestCompany(companyFactsEntity.isCommunityInterestCompany());
+            companyFacts.setLimitedByGuarantee(companyFactsEntity.isLimitedByGuarantee());
+            companyAccount.setCompanyFacts(companyFacts);
+        }
 
         return companyAccount;
     }
+
+    public CompanyFactsEntity transform(CompanyFacts companyFacts) {
+        CompanyFactsEntity companyFactsEntity = new CompanyFactsEntity();
+        companyFactsEntity.setCompanyNumber(companyFacts.getCompanyNumber());
+        companyFactsEntity.setCompanyType(companyFacts.getCompanyType());
+        companyFactsEntity.setMultipleYearFiler(companyFacts.isMultipleYearFiler());
+        companyFactsEntity.setCommunityInterestCompany(companyFacts.isCommunityInterestCompany());
+        companyFactsEntity.setLimitedByGuarantee(companyFacts.isLimitedByGuarantee());
+        return companyFactsEntity;
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.creditorsaftermorethanoneyear.CreditorsAfterMoreThanOneYearDataEntity;
@@ -21,17 +20,17 @@ public class CreditorsAfterOneYearTransformer implements NoteTransformer<Credito
         CreditorsAfterMoreThanOneYearDataEntity creditorsAfterMoreThanOneYearDataEntity = new CreditorsAfterMoreThanOneYearDataEntity();
         CreditorsAfterMoreThanOneYearEntity creditorsAfterMoreThanOneYearEntity = new CreditorsAfterMoreThanOneYearEntity();
 
-        BeanUtils.copyProperties(rest, creditorsAfterMoreThanOneYearDataEntity);
+        creditorsAfterMoreThanOneYearDataEntity.setEtag(rest.getEtag());
+        creditorsAfterMoreThanOneYearDataEntity.setLinks(rest.getLinks());
+        creditorsAfterMoreThanOneYearDataEntity.setKind(rest.getKind());
 
         if (rest.getCurrentPeriod() != null) {
-            CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
-            BeanUtils.copyProperties(rest.getCurrentPeriod(), currentPeriodEntity);
+            CurrentPeriodEntity currentPeriodEntity = mapRestToEntity(rest.getCurrentPeriod());
             creditorsAfterMoreThanOneYearDataEntity.setCurrentPeriodEntity(currentPeriodEntity);
         }
 
         if (rest.getPreviousPeriod() != null) {
-            PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
-            BeanUtils.copyProperties(rest.getPreviousPeriod(), previousPeriodEntity);
+            PreviousPeriodEntity previousPeriodEntity = mapRestToEntity(rest.getPreviousPeriod());
             creditorsAfterMoreThanOneYearDataEntity.setPreviousPeriodEntity(previousPeriodEntity);
         }
 
@@ -51,17 +50,19 @@ public class CreditorsAfterOneYearTransformer implements NoteTransformer<Credito
             creditorsAfterMoreThanOneYearDataEntity = new CreditorsAfterMoreThanOneYearDataEntity();
         }
 
-        BeanUtils.copyProperties(creditorsAfterMoreThanOneYearDataEntity, creditorsAfterMoreThanOneYear);
+        creditorsAfterMoreThanOneYear.setEtag(creditorsAfterMoreThanOneYearDataEntity.getEtag());
+        creditorsAfterMoreThanOneYear.setLinks(creditorsAfterMoreThanOneYearDataEntity.getLinks());
+        creditorsAfterMoreThanOneYear.setKind(creditorsAfterMoreThanOneYearDataEntity.getKind());
 
         if (creditorsAfterMoreThanOneYearDataEntity.getCurrentPeriodEntity() != null) {
-            CurrentPeriod currentPeriod = new CurrentPeriod();
-            BeanUtils.copyProperties(creditorsAfterMoreThanOneYearDataEntity.getCurrentPeriodEntity(), currentPeriod);
+            CurrentPeriod currentPeriod =
+                    mapEntityToRest(creditorsAfterMoreThanOneYearDataEntity.getCurrentPeriodEntity());
             creditorsAfterMoreThanOneYear.setCurrentPeriod(currentPeriod);
         }
 
         if (creditorsAfterMoreThanOneYearDataEntity.getPreviousPeriodEntity() != null) {
-            PreviousPeriod previousPeriod = new PreviousPeriod();
-            BeanUtils.copyProperties(creditorsAfterMoreThanOneYearDataEntity.getPreviousPeriodEntity(), previousPeriod);
+            PreviousPeriod previousPeriod =
+                    mapEntityToRest(creditorsAfterMoreThanOneYearDataEntity.getPreviousPeriodEntity());
             creditorsAfterMoreThanOneYear.setPreviousPeriod(previousPeriod);
         }
         return creditorsAfterMoreThanOneYear;
@@ -71,4 +72,42 @@ public class CreditorsAfterOneYearTransformer implements NoteTransformer<Credito
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_CREDITORS_AFTER;
     }
+
+    private CurrentPeriodEntity mapRestToEntity(CurrentPeriod rest) {
+        CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
+        currentPeriodEntity.setBankLoansAndOverdrafts(rest.getBankLoansAndOverdrafts());
+        currentPeriodEntity.setFinanceLeasesAndHirePurchaseContracts(rest.getFinanceLeasesAndHirePurchaseContracts());
+        currentPeriodEntity.setOtherCreditors(rest.getOtherCreditors());
+        currentPeriodEntity.setTotal(rest.getTotal());
+        currentPeriodEntity.setDetails(rest.getDetails());
+        return currentPeriodEntity;
+    }
+
+    private PreviousPeriodEntity mapRestToEntity(PreviousPeriod rest) {
+        PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
+        previousPeriodEntity.setBankLoansAndOverdrafts(rest.getBankLoansAndOverdrafts());
+        previousPeriodEntity.setFinanceLeasesAndHirePurchaseContracts(rest.getFinanceLeasesAndHirePurchaseContracts());
+        previousPeriodEntity.setOtherCreditors(rest.getOtherCreditors());
+        previousPeriodEntity.setTotal(rest.getTotal());
+        return previousPeriodEntity;
+    }
+
+    private CurrentPeriod mapEntityToRest(CurrentPeriodEntity entity) {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setBankLoansAndOverdrafts(entity.getBankLoansAndOverdrafts());
+        currentPeriod.setFinanceLeasesAndHirePurchaseContracts(entity.getFinanceLeasesAndHirePurchaseContracts());
+        currentPeriod.setOtherCreditors(entity.getOtherCreditors());
+        currentPeriod.setTotal(entity.getTotal());
+        currentPeriod.setDetails(entity.getDetails());
+        return currentPeriod;
+    }
+
+    private PreviousPeriod mapEntityToRest(PreviousPeriodEntity entity) {
+        PreviousPeriod previousPeriod = new PreviousPeriod();
+        previousPeriod.setBankLoansAndOverdrafts(entity.getBankLoansAndOverdrafts());
+        previousPeriod.setFinanceLeasesAndHirePurchaseContracts(entity.getFinanceLeasesAndHirePurchaseContracts());
+        previousPeriod.setOtherCreditors(entity.getOtherCreditors());
+        previousPeriod.setTotal(entity.getTotal());
+        return previousPeriod;
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.creditorswithinoneyear.CreditorsWithinOneYearDataEntity;
@@ -20,17 +19,17 @@ public class CreditorsWithinOneYearTransformer implements NoteTransformer<Credit
         CreditorsWithinOneYearDataEntity creditorsWithinOneYearDataEntity = new CreditorsWithinOneYearDataEntity();
         CreditorsWithinOneYearEntity creditorsWithinOneYearEntity = new CreditorsWithinOneYearEntity();
 
-        BeanUtils.copyProperties(rest, creditorsWithinOneYearDataEntity);
+        creditorsWithinOneYearDataEntity.setEtag(rest.getEtag());
+        creditorsWithinOneYearDataEntity.setLinks(rest.getLinks());
+        creditorsWithinOneYearDataEntity.setKind(rest.getKind());
 
         if (rest.getCurrentPeriod() != null) {
-            CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
-            BeanUtils.copyProperties(rest.getCurrentPeriod(), currentPeriodEntity);
+            CurrentPeriodEntity currentPeriodEntity = mapRestToEntity(rest.getCurrentPeriod());
             creditorsWithinOneYearDataEntity.setCurrentPeriodEntity(currentPeriodEntity);
         }
 
         if (rest.getPreviousPeriod() != null) {
-            PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
-            BeanUtils.copyProperties(rest.getPreviousPeriod(), previousPeriodEntity);
+            PreviousPeriodEntity previousPeriodEntity = mapRestToEntity(rest.getPreviousPeriod());
             creditorsWithinOneYearDataEntity.setPreviousPeriodEntity(previousPeriodEntity);
         }
 
@@ -50,17 +49,17 @@ public class CreditorsWithinOneYearTransformer implements NoteTransformer<Credit
             creditorsWithinOneYearDataEntity = new CreditorsWithinOneYearDataEntity();
         }
 
-        BeanUtils.copyProperties(creditorsWithinOneYearDataEntity, creditorsWithinOneYear);
+        creditorsWithinOneYear.setEtag(creditorsWithinOneYearDataEntity.getEtag());
+        creditorsWithinOneYear.setLinks(creditorsWithinOneYearDataEntity.getLinks());
+        creditorsWithinOneYear.setKind(creditorsWithinOneYearDataEntity.getKind());
 
         if (creditorsWithinOneYearDataEntity.getCurrentPeriodEntity() != null) {
-            CurrentPeriod currentPeriod = new CurrentPeriod();
-            BeanUtils.copyProperties(creditorsWithinOneYearDataEntity.getCurrentPeriodEntity(), currentPeriod);
+            CurrentPeriod currentPeriod = mapEntityToRest(creditorsWithinOneYearDataEntity.getCurrentPeriodEntity());
             creditorsWithinOneYear.setCurrentPeriod(currentPeriod);
         }
 
         if (creditorsWithinOneYearDataEntity.getPreviousPeriodEntity() != null) {
-            PreviousPeriod previousPeriod = new PreviousPeriod();
-            BeanUtils.copyProperties(creditorsWithinOneYearDataEntity.getPreviousPeriodEntity(), previousPeriod);
+            PreviousPeriod previousPeriod = mapEntityToRest(creditorsWithinOneYearDataEntity.getPreviousPeriodEntity());
             creditorsWithinOneYear.setPreviousPeriod(previousPeriod);
         }
         return creditorsWithinOneYear;
@@ -70,4 +69,54 @@ public class CreditorsWithinOneYearTransformer implements NoteTransformer<Credit
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_CREDITORS_WITHIN;
     }
+
+    private CurrentPeriodEntity mapRestToEntity(CurrentPeriod rest) {
+        CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
+        currentPeriodEntity.setAccrualsAndDeferredIncome(rest.getAccrualsAndDeferredIncome());
+        currentPeriodEntity.setBankLoansAndOverdrafts(rest.getBankLoansAndOverdrafts());
+        currentPeriodEntity.setFinanceLeasesAndHirePurchaseContracts(rest.getFinanceLeasesAndHirePurchaseContracts());
+        currentPeriodEntity.setOtherCreditors(rest.getOtherCreditors());
+        currentPeriodEntity.setTaxationAndSocialSecurity(rest.getTaxationAndSocialSecurity());
+        currentPeriodEntity.setTradeCreditors(rest.getTradeCreditors());
+        currentPeriodEntity.setTotal(rest.getTotal());
+        currentPeriodEntity.setDetails(rest.getDetails());
+        return currentPeriodEntity;
+    }
+
+    private PreviousPeriodEntity mapRestToEntity(PreviousPeriod rest) {
+        PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
+        previousPeriodEntity.setAccrualsAndDeferredIncome(rest.getAccrualsAndDeferredIncome());
+        previousPeriodEntity.setBankLoansAndOverdrafts(rest.getBankLoansAndOverdrafts());
+        previousPeriodEntity.setFinanceLeasesAndHirePurchaseContracts(rest.getFinanceLeasesAndHirePurchaseContracts());
+        previousPeriodEntity.setOtherCreditors(rest.getOtherCreditors());
+        previousPeriodEntity.setTaxationAndSocialSecurity(rest.getTaxationAndSocialSecurity());
+        previousPeriodEntity.setTradeCreditors(rest.getTradeCreditors());
+        previousPeriodEntity.setTotal(rest.getTotal());
+        return previousPeriodEntity;
+    }
+
+    private CurrentPeriod mapEntityToRest(CurrentPeriodEntity entity) {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setAccrualsAndDeferredIncome(entity.getAccrualsAndDeferredIncome());
+        currentPeriod.setBankLoansAndOverdrafts(entity.getBankLoansAndOverdrafts());
+        currentPeriod.setFinanceLeasesAndHirePurchaseContracts(entity.getFinanceLeasesAndHirePurchaseContracts());
+        currentPeriod.setOtherCreditors(entity.getOtherCreditors());
+        currentPeriod.setTaxationAndSocialSecurity(entity.getTaxationAndSocialSecurity());
+        currentPeriod.setTradeCreditors(entity.getTradeCreditors());
+        currentPeriod.setTotal(entity.getTotal());
+        currentPeriod.setDetails(entity.getDetails());
+        return currentPeriod;
+    }
+
+    private PreviousPeriod mapEntityToRest(PreviousPeriodEntity entity) {
+        PreviousPeriod previousPeriod = new PreviousPeriod();
+        previousPeriod.setAccrualsAndDeferredIncome(entity.getAccrualsAndDeferredIncome());
+        previousPeriod.setBankLoansAndOverdrafts(entity.getBankLoansAndOverdrafts());
+        previousPeriod.setFinanceLeasesAndHirePurchaseContracts(entity.getFinanceLeasesAndHirePurchaseContracts());
+        previousPeriod.setOtherCreditors(entity.getOtherCreditors());
+        previousPeriod.setTaxationAndSocialSecurity(entity.getTaxationAndSocialSecurity());
+        previousPeriod.setTradeCreditors(entity.getTradeCreditors());
+        previousPeriod.setTotal(entity.getTotal());
+        return previousPeriod;
+    }
 }
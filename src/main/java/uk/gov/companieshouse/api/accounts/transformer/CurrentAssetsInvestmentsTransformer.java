@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.currentassetsinvestments.CurrentAssetsInvestmentsDataEntity;
@@ -16,7 +15,10 @@ public class CurrentAssetsInvestmentsTransformer implements NoteTransformer<Curr
         CurrentAssetsInvestmentsDataEntity currentAssetsInvestmentsDataEntity = new CurrentAssetsInvestmentsDataEntity();
         CurrentAssetsInvestmentsEntity currentAssetsInvestmentsEntity = new CurrentAssetsInvestmentsEntity();
 
-        BeanUtils.copyProperties(rest, currentAssetsInvestmentsDataEntity);
+        currentAssetsInvestmentsDataEntity.setDetails(rest.getDetails());
+        currentAssetsInvestmentsDataEntity.setEtag(rest.getEtag());
+        currentAssetsInvestmentsDataEntity.setLinks(rest.getLinks());
+        currentAssetsInvestmentsDataEntity.setKind(rest.getKind());
 
         currentAssetsInvestmentsEntity.setData(currentAssetsInvestmentsDataEntity);
 
@@ -35,7 +37,10 @@ public class CurrentAssetsInvestmentsTransformer implements NoteTransformer<Curr
             currentAssetsInvestmentsDataEntity = new CurrentAssetsInvestmentsDataEntity();
         }
 
-        BeanUtils.copyProperties(currentAssetsInvestmentsDataEntity, currentAssetsInvestments);
+        currentAssetsInvestments.setDetails(currentAssetsInvestmentsDataEntity.getDetails());
+        currentAssetsInvestments.setEtag(currentAssetsInvestmentsDataEntity.getEtag());
+        currentAssetsInvestments.setLinks(currentAssetsInvestmentsDataEntity.getLinks());
+        currentAssetsInvestments.setKind(currentAssetsInvestmentsDataEntity.getKind());
 
         return currentAssetsInvestments;
     }
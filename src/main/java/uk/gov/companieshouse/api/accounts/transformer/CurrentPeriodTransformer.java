@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.BalanceSheetEntity;
@@ -26,40 +25,37 @@ public class CurrentPeriodTransformer implements GenericTransformer<CurrentPerio
     public CurrentPeriodEntity transform(CurrentPeriod entity) {
         CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
         CurrentPeriodDataEntity currentPeriodDataEntity = new CurrentPeriodDataEntity();
-        BeanUtils.copyProperties(entity, currentPeriodDataEntity);
+        currentPeriodDataEntity.setEtag(entity.getEtag());
+        currentPeriodDataEntity.setLinks(entity.getLinks());
+        currentPeriodDataEntity.setKind(entity.getKind());
 
         if (entity.getBalanceSheet() != null) {
-            BalanceSheetEntity balanceSheetEntity = new BalanceSheetEntity();
-            BeanUtils.copyProperties(entity.getBalanceSheet(), balanceSheetEntity);
+            BalanceSheetEntity balanceSheetEntity = mapRestToEntity(entity.getBalanceSheet());
 
             if (entity.getBalanceSheet().getFixedAssets() != null) {
-                FixedAssetsEntity fixedAssetsEntity = new FixedAssetsEntity();
-                BeanUtils.copyProperties(entity.getBalanceSheet().getFixedAssets(), fixedAssetsEntity);
+                FixedAssetsEntity fixedAssetsEntity = mapRestToEntity(entity.getBalanceSheet().getFixedAssets());
                 balanceSheetEntity.setFixedAssets(fixedAssetsEntity);
             }
 
             if (entity.getBalanceSheet().getOtherLiabilitiesOrAssets() != null) {
-                OtherLiabilitiesOrAssetsEntity otherLiabilitiesOrAssetsEntity = new OtherLiabilitiesOrAssetsEntity();
-                BeanUtils.copyProperties(
-                        entity.getBalanceSheet().getOtherLiabilitiesOrAssets(), otherLiabilitiesOrAssetsEntity);
+                OtherLiabilitiesOrAssetsEntity otherLiabilitiesOrAssetsEntity =
+                        mapRestToEntity(entity.getBalanceSheet().getOtherLiabilitiesOrAssets());
                 balanceSheetEntity.setOtherLiabilitiesOrAssetsEntity(otherLiabilitiesOrAssetsEntity);
             }
 
             if (entity.getBalanceSheet().getCurrentAssets() != null) {
-                CurrentAssetsEntity currentAssetsEntity = new CurrentAssetsEntity();
-                BeanUtils.copyProperties(entity.getBalanceSheet().getCurrentAssets(), currentAssetsEntity);
+                CurrentAssetsEntity currentAssetsEntity = mapRestToEntity(entity.getBalanceSheet().getCurrentAssets());
                 balanceSheetEntity.setCurrentAssets(currentAssetsEntity);
             }
 
             if (entity.getBalanceSheet().getCapitalAndReserves() != null) {
-                CapitalAndReservesEntity capitalAndReservesEntity = new CapitalAndReservesEntity();
-                BeanUtils.copyProperties(entity.getBalanceSheet().getCapitalAndReserves(), capitalAndReservesEntity);
+                CapitalAndReservesEntity capitalAndReservesEntity =
+                        mapRestToEntity(entity.getBalanceSheet().getCapitalAndReserves());
                 balanceSheetEntity.setCapitalAndReservesEntity(capitalAndReservesEntity);
             }
 
             if (entity.getBalanceSheet().getMembersFunds() != null) {
-                MembersFundsEntity membersFundsEntity = new MembersFundsEntity();
-                BeanUtils.copyProperties(entity.getBalanceSheet().getMembersFunds(), membersFundsEntity);
+                MembersFundsEntity membersFundsEntity = mapRestToEntity(entity.getBalanceSheet().getMembersFunds());
                 balanceSheetEntity.setMembersFundsEntity(membersFundsEntity);
             }
 
@@ -75,43 +71,40 @@ public class CurrentPeriodTransformer implements GenericTransformer<CurrentPerio
     public CurrentPeriod transform(CurrentPeriodEntity entity) {
         CurrentPeriod currentPeriod = new CurrentPeriod();
         CurrentPeriodDataEntity currentPeriodDataEntity = entity.getData();
-        BeanUtils.copyProperties(currentPeriodDataEntity, currentPeriod);
+        currentPeriod.setEtag(currentPeriodDataEntity.getEtag());
+        currentPeriod.setLinks(currentPeriodDataEntity.getLinks());
+        currentPeriod.setKind(currentPeriodDataEntity.getKind());
 
         if (currentPeriodDataEntity.getBalanceSheetEntity() != null) {
-            BalanceSheet balanceSheet = new BalanceSheet();
-            BeanUtils.copyProperties(currentPeriodDataEntity.getBalanceSheetEntity(), balanceSheet);
+            BalanceSheet balanceSheet = mapEntityToRest(currentPeriodDataEntity.getBalanceSheetEntity());
 
             if (currentPeriodDataEntity.getBalanceSheetEntity().getFixedAssets() != null) {
-                FixedAssets fixedAssets = new FixedAssets();
-                BeanUtils.copyProperties(currentPeriodDataEntity.getBalanceSheetEntity().getFixedAssets(), fixedAssets);
+                FixedAssets fixedAssets =
+                        mapEntityToRest(currentPeriodDataEntity.getBalanceSheetEntity().getFixedAssets());
                 balanceSheet.setFixedAssets(fixedAssets);
             }
 
             if (currentPeriodDataEntity.getBalanceSheetEntity().getOtherLiabilitiesOrAssetsEntity() != null) {
-                OtherLiabilitiesOrAssets otherLiabilitiesOrAssets = new OtherLiabilitiesOrAssets();
-                BeanUtils.copyProperties(currentPeriodDataEntity.getBalanceSheetEntity()
-                        .getOtherLiabilitiesOrAssetsEntity(), otherLiabilitiesOrAssets);
+                OtherLiabilitiesOrAssets otherLiabilitiesOrAssets =
+                        mapEntityToRest(currentPeriodDataEntity.getBalanceSheetEntity().getOtherLiabilitiesOrAssetsEntity());
                 balanceSheet.setOtherLiabilitiesOrAssets(otherLiabilitiesOrAssets);
             }
 
             if (currentPeriodDataEntity.getBalanceSheetEntity().getCurrentAssets() != null) {
-                CurrentAssets currentAssets = new CurrentAssets();
-                BeanUtils.copyProperties(
-                        currentPeriodDataEntity.getBalanceSheetEntity().getCurrentAssets(), currentAssets);
+                CurrentAssets currentAssets =
+                        mapEntityToRest(currentPeriodDataEntity.getBalanceSheetEntity().getCurrentAssets());
                 balanceSheet.setCurrentAssets(currentAssets);
             }
 
             if (currentPeriodDataEntity.getBalanceSheetEntity().getCapitalAndReservesEntity() != null) {
-                CapitalAndReserves capitalAndReserves = new CapitalAndReserves();
-                BeanUtils.copyProperties(
-                        currentPeriodDataEntity.getBalanceSheetEntity().getCapitalAndReservesEntity(), capitalAndReserves);
+                CapitalAndReserves capitalAndReserves =
+                        mapEntityToRest(currentPeriodDataEntity.getBalanceSheetEntity().getCapitalAndReservesEntity());
                 balanceSheet.setCapitalAndReserves(capitalAndReserves);
             }
 
             if (currentPeriodDataEntity.getBalanceSheetEntity().getMembersFundsEntity() != null) {
-                MembersFunds membersFunds = new MembersFunds();
-                BeanUtils.copyProperties(
-                        currentPeriodDataEntity.getBalanceSheetEntity().getMembersFundsEntity(), membersFunds);
+                MembersFunds membersFunds =
+                        mapEntityToRest(currentPeriodDataEntity.getBalanceSheetEntity().getMembersFundsEntity());
                 balanceSheet.setMembersFunds(membersFunds);
             }
 
@@ -121,4 +114,115 @@ public class CurrentPeriodTransformer implements GenericTransformer<CurrentPerio
         return currentPeriod;
 
     }
+
+    private BalanceSheetEntity mapRestToEntity(BalanceSheet rest) {
+        BalanceSheetEntity balanceSheetEntity = new BalanceSheetEntity();
+        balanceSheetEntity.setCalledUpShareCapitalNotPaid(rest.getCalledUpShareCapitalNotPaid());
+        return balanceSheetEntity;
+    }
+
+    private FixedAssetsEntity mapRestToEntity(FixedAssets rest) {
+        FixedAssetsEntity fixedAssetsEntity = new FixedAssetsEntity();
+        fixedAssetsEntity.setTangible(rest.getTangible());
+        fixedAssetsEntity.setIntangible(rest.getIntangible());
+        fixedAssetsEntity.setInvestments(rest.getInvestments());
+        fixedAssetsEntity.setTotal(rest.getTotal());
+        return fixedAssetsEntity;
+    }
+
+    private OtherLiabilitiesOrAssetsEntity mapRestToEntity(OtherLiabilitiesOrAssets rest) {
+        OtherLiabilitiesOrAssetsEntity otherLiabilitiesOrAssetsEntity = new OtherLiabilitiesOrAssetsEntity();
+        otherLiabilitiesOrAssetsEntity.setPrepaymentsAndAccruedIncome(rest.getPrepaymentsAndAccruedIncome());
+        otherLiabilitiesOrAssetsEntity.setCreditorsDueWithinOneYear(rest.getCreditorsDueWithinOneYear());
+        otherLiabilitiesOrAssetsEntity.setNetCurrentAssets(rest.getNetCurrentAssets());
+        otherLiabilitiesOrAssetsEntity.setTotalAssetsLessCurrentLiabilities(
+                rest.getTotalAssetsLessCurrentLiabilities());
+        otherLiabilitiesOrAssetsEntity.setCreditorsAfterOneYear(rest.getCreditorsAfterOneYear());
+        otherLiabilitiesOrAssetsEntity.setProvisionForLiabilities(rest.getProvisionForLiabilities());
+        otherLiabilitiesOrAssetsEntity.setAccrualsAndDeferredIncome(rest.getAccrualsAndDeferredIncome());
+        otherLiabilitiesOrAssetsEntity.setTotalNetAssets(rest.getTotalNetAssets());
+        return otherLiabilitiesOrAssetsEntity;
+    }
+
+    private CurrentAssetsEntity mapRestToEntity(CurrentAssets rest) {
+        CurrentAssetsEntity currentAssetsEntity = new CurrentAssetsEntity();
+        currentAssetsEntity.setStocks(rest.getStocks());
+        currentAssetsEntity.setDebtors(rest.getDebtors());
+        currentAssetsEntity.setCashAtBankAndInHand(rest.getCashAtBankAndInHand());
+        currentAssetsEntity.setInvestments(rest.getInvestments());
+        currentAssetsEntity.setTotal(rest.getTotal());
+        return currentAssetsEntity;
+    }
+
+    private CapitalAndReservesEntity mapRestToEntity(CapitalAndReserves rest) {
+        CapitalAndReservesEntity capitalAndReservesEntity = new CapitalAndReservesEntity();
+        capitalAndReservesEntity.setCalledUpShareCapital(rest.getCalledUpShareCapital());
+        capitalAndReservesEntity.setOtherReserves(rest.getOtherReserves());
+        capitalAndReservesEntity.setProfitAndLoss(rest.getProfitAndLoss());
+        capitalAndReservesEntity.setSharePremiumAccount(rest.getSharePremiumAccount());
+        capitalAndReservesEntity.setTotalShareholdersFunds(rest.getTotalShareholdersFunds());
+        return capitalAndReservesEntity;
+    }
+
+    private MembersFundsEntity mapRestToEntity(MembersFunds rest) {
+        MembersFundsEntity membersFundsEntity = new MembersFundsEntity();
+        membersFundsEntity.setProfitAndLossAccount(rest.getProfitAndLossAccount());
+        membersFundsEntity.setTotalMembersFunds(rest.getTotalMembersFunds());
+        return membersFundsEntity;
+    }
+
+    private BalanceSheet mapEntityToRest(BalanceSheetEntity entity) {
+        BalanceSheet balanceSheet = new BalanceSheet();
+        balanceSheet.setCalledUpShareCapitalNotPaid(entity.getCalledUpShareCapitalNotPaid());
+        return balanceSheet;
+    }
+
+    private FixedAssets mapEntityToRest(FixedAssetsEntity entity) {
+        FixedAssets fixedAssets = new FixedAssets();
+        fixedAssets.setTangible(entity.getTangible());
+        fixedAssets.setIntangible(entity.getIntangible());
+        fixedAssets.setInvestments(entity.getInvestments());
+        fixedAssets.setTotal(entity.getTotal());
+        return fixedAssets;
+    }
+
+    private OtherLiabilitiesOrAssets mapEntityToRest(OtherLiabilitiesOrAssetsEntity entity) {
+        OtherLiabilitiesOrAssets otherLiabilitiesOrAssets = new OtherLiabilitiesOrAssets();
+        otherLiabilitiesOrAssets.setPrepaymentsAndAccruedIncome(entity.getPrepaymentsAndAccruedIncome());
+        otherLiabilitiesOrAssets.setCreditorsDueWithinOneYear(entity.getCreditorsDueWithinOneYear());
+        otherLiabilitiesOrAssets.setNetCurrentAssets(entity.getNetCurrentAssets());
+        otherLiabilitiesOrAssets.setTotalAssetsLessCurrentLiabilities(entity.getTotalAssetsLessCurrentLiabilities());
+        otherLiabilitiesOrAssets.setCreditorsAfterOneYear(entity.getCreditorsAfterOneYear());
+        otherLiabilitiesOrAssets.setProvisionForLiabilities(entity.getProvisionForLiabilities());
+        otherLiabilitiesOrAssets.setAccrualsAndDeferredIncome(entity.getAccrualsAndDeferredIncome());
+        otherLiabilitiesOrAssets.setTotalNetAssets(entity.getTotalNetAssets());
+        return otherLiabilitiesOrAssets;
+    }
+
+    private CurrentAssets mapEntityToRest(CurrentAssetsEntity entity) {
+        CurrentAssets currentAssets = new CurrentAssets();
+        currentAssets.setTotal(entity.getTotal());
+        currentAssets.setStocks(entity.getStocks());
+        currentAssets.setDebtors(entity.getDebtors());
+        currentAssets.setCashAtBankAndInHand(entity.getCashAtBankAndInHand());
+        currentAssets.setInvestments(entity.getInvestments());
+        return currentAssets;
+    }
+
+    private CapitalAndReserves mapEntityToRest(CapitalAndReservesEntity entity) {
+        CapitalAndReserves capitalAndReserves = new CapitalAndReserves();
+        capitalAndReserves.setCalledUpShareCapital(entity.getCalledUpShareCapital());
+        capitalAndReserves.setOtherReserves(entity.getOtherReserves());
+        capitalAndReserves.setProfitAndLoss(entity.getProfitAndLoss());
+        capitalAndReserves.setSharePremiumAccount(entity.getSharePremiumAccount());
+        capitalAndReserves.setTotalShareholdersFunds(entity.getTotalShareholdersFunds());
+        return capitalAndReserves;
+    }
+
+    private MembersFunds mapEntityToRest(MembersFundsEntity entity) {
+        MembersFunds membersFunds = new MembersFunds();
+        membersFunds.setProfitAndLossAccount(entity.getProfitAndLossAccount());
+        membersFunds.setTotalMembersFunds(entity.getTotalMembersFunds());
+        return membersFunds;
+    }
 }
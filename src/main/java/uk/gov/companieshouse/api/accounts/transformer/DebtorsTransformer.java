@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.debtors.CurrentPeriodEntity;
@@ -19,17 +18,19 @@ public class DebtorsTransformer implements NoteTransformer<Debtors, DebtorsEntit
         DebtorsDataEntity debtorsDataEntity = new DebtorsDataEntity();
         DebtorsEntity debtorsEntity = new DebtorsEntity();
 
+        if (rest.getCurrentPeriod() != null || rest.getPreviousPeriod() != null) {
+            debtorsDataEntity.setEtag(rest.getEtag());
+            debtorsDataEntity.setLinks(rest.getLinks());
+            debtorsDataEntity.setKind(rest.getKind());
+        }
+
         if (rest.getCurrentPeriod() != null) {
-            BeanUtils.copyProperties(rest, debtorsDataEntity);
-            CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
-            BeanUtils.copyProperties(rest.getCurrentPeriod(), currentPeriodEntity);
+            CurrentPeriodEntity currentPeriodEntity = mapRestToEntity(rest.getCurrentPeriod());
             debtorsDataEntity.setCurrentPeriodEntity(currentPeriodEntity);
         }
 
         if (rest.getPreviousPeriod() != null) {
-            BeanUtils.copyProperties(rest, debtorsDataEntity);
-            PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
-            BeanUtils.copyProperties(rest.getPreviousPeriod(), previousPeriodEntity);
+            PreviousPeriodEntity previousPeriodEntity = mapRestToEntity(rest.getPreviousPeriod());
             debtorsDataEntity.setPreviousPeriodEntity(previousPeriodEntity);
         }
 
@@ -43,17 +44,17 @@ public class DebtorsTransformer implements NoteTransformer<Debtors, DebtorsEntit
         Debtors debtors = new Debtors();
         DebtorsDataEntity debtorsDataEntity = entity.getData();
 
-        BeanUtils.copyProperties(debtorsDataEntity, debtors);
+        debtors.setEtag(debtorsDataEntity.getEtag());
+        debtors.setLinks(debtorsDataEntity.getLinks());
+        debtors.setKind(debtorsDataEntity.getKind());
 
         if (debtorsDataEntity.getCurrentPeriodEntity() != null) {
-            CurrentPeriod currentPeriod = new CurrentPeriod();
-            BeanUtils.copyProperties(debtorsDataEntity.getCurrentPeriodEntity(), currentPeriod);
+            CurrentPeriod currentPeriod = mapEntityToRest(debtorsDataEntity.getCurrentPeriodEntity());
             debtors.setCurrentPeriod(currentPeriod);
         }
 
         if (debtorsDataEntity.getPreviousPeriodEntity() != null) {
-            PreviousPeriod previousPeriod = new PreviousPeriod();
-            BeanUtils.copyProperties(debtorsDataEntity.getPreviousPeriodEntity(), previousPeriod);
+            PreviousPeriod previousPeriod = mapEntityToRest(debtorsDataEntity.getPreviousPeriodEntity());
             debtors.setPreviousPeriod(previousPeriod);
         }
         return debtors;
@@ -63,4 +64,46 @@ public class DebtorsTransformer implements NoteTransformer<Debtors, DebtorsEntit
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_DEBTORS;
     }
+
+    private CurrentPeriodEntity mapRestToEntity(CurrentPeriod rest) {
+        CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
+        currentPeriodEntity.setDetails(rest.getDetails());
+        currentPeriodEntity.setGreaterThanOneYear(rest.getGreaterThanOneYear());
+        currentPeriodEntity.setOtherDebtors(rest.getOtherDebtors());
+        currentPeriodEntity.setPrepaymentsAndAccruedIncome(rest.getPrepaymentsAndAccruedIncome());
+        currentPeriodEntity.setTotal(rest.getTotal());
+        currentPeriodEntity.setTradeDebtors(rest.getTradeDebtors());
+        return currentPeriodEntity;
+    }
+
+    private PreviousPeriodEntity mapRestToEntity(PreviousPeriod rest) {
+        PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
+        previousPeriodEntity.setGreaterThanOneYear(rest.getGreaterThanOneYear());
+        previousPeriodEntity.setOtherDebtors(rest.getOtherDebtors());
+        previousPeriodEntity.setPrepaymentsAndAccruedIncome(rest.getPrepaymentsAndAccruedIncome());
+        previousPeriodEntity.setTotal(rest.getTotal());
+        previousPeriodEntity.setTradeDebtors(rest.getTradeDebtors());
+        return previousPeriodEntity;
+    }
+
+    private CurrentPeriod mapEntityToRest(CurrentPeriodEntity entity) {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setDetails(entity.getDetails());
+        currentPeriod.setGreaterThanOneYear(entity.getGreaterThanOneYear());
+        currentPeriod.setOtherDebtors(entity.getOtherDebtors());
+        currentPeriod.setPrepaymentsAndAccruedIncome(entity.getPrepaymentsAndAccruedIncome());
+        currentPeriod.setTotal(entity.getTotal());
+        currentPeriod.setTradeDebtors(entity.getTradeDebtors());
+        return currentPeriod;
+    }
+
+    private PreviousPeriod mapEntityToRest(PreviousPeriodEntity entity) {
+        PreviousPeriod previousPeriod = new PreviousPeriod();
+        previousPeriod.setGreaterThanOneYear(entity.getGreaterThanOneYear());
+        previousPeriod.setOtherDebtors(entity.getOtherDebtors());
+        previousPeriod.setPrepaymentsAndAccruedIncome(entity.getPrepaymentsAndAccruedIncome());
+        previousPeriod.setTotal(entity.getTotal());
+        previousPeriod.setTradeDebtors(entity.getTradeDebtors());
+        return previousPeriod;
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorEntity;
@@ -12,7 +11,12 @@ public class DirectorTransformer implements GenericTransformerForMultipleResourc
     @Override
     public DirectorEntity transform(Director entity) {
         DirectorDataEntity directorDataEntity = new DirectorDataEntity();
-        BeanUtils.copyProperties(entity, directorDataEntity);
+        directorDataEntity.setName(entity.getName());
+        directorDataEntity.setAppointmentDate(entity.getAppointmentDate());
+        directorDataEntity.setResignationDate(entity.getResignationDate());
+        directorDataEntity.setEtag(entity.getEtag());
+        directorDataEntity.setLinks(entity.getLinks());
+        directorDataEntity.setKind(entity.getKind());
 
         DirectorEntity directorEntity = new DirectorEntity();
         directorEntity.setData(directorDataEntity);
@@ -23,7 +27,13 @@ public class DirectorTransformer implements GenericTransformerForMultipleResourc
     @Override
     public Director transform(DirectorEntity entity) {
         Director director = new Director();
-        BeanUtils.copyProperties(entity.getData(), director);
+        DirectorDataEntity directorDataEntity = entity.getData();
+        director.setName(directorDataEntity.getName());
+        director.setAppointmentDate(directorDataEntity.getAppointmentDate());
+        director.setResignationDate(directorDataEntity.getResignationDate());
+        director.setEtag(directorDataEntity.getEtag());
+        director.setLinks(directorDataEntity.getLinks());
+        director.setKind(directorDataEntity.getKind());
 
         return director;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsApprovalDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsApprovalEntity;
@@ -12,7 +11,11 @@ public class DirectorsApprovalTransformer implements GenericTransformer<Director
     @Override
     public DirectorsApprovalEntity transform(DirectorsApproval entity) {
         DirectorsApprovalDataEntity directorsApprovalDataEntity = new DirectorsApprovalDataEntity();
-        BeanUtils.copyProperties(entity, directorsApprovalDataEntity);
+        directorsApprovalDataEntity.setDate(entity.getDate());
+        directorsApprovalDataEntity.setName(entity.getName());
+        directorsApprovalDataEntity.setEtag(entity.getEtag());
+        directorsApprovalDataEntity.setLinks(entity.getLinks());
+        directorsApprovalDataEntity.setKind(entity.getKind());
 
         DirectorsApprovalEntity directorsApprovalEntity = new DirectorsApprovalEntity();
         directorsApprovalEntity.setData(directorsApprovalDataEntity);
@@ -23,7 +26,12 @@ public class DirectorsApprovalTransformer implements GenericTransformer<Director
     @Override
     public DirectorsApproval transform(DirectorsApprovalEntity entity) {
         DirectorsApproval directorsApproval = new DirectorsApproval();
-        BeanUtils.copyProperties(entity.getData(), directorsApproval);
+        DirectorsApprovalDataEntity directorsApprovalDataEntity = entity.getData();
+        directorsApproval.setDate(directorsApprovalDataEntity.getDate());
+        directorsApproval.setName(directorsApprovalDataEntity.getName());
+        directorsApproval.setEtag(directorsApprovalDataEntity.getEtag());
+        directorsApproval.setLinks(directorsApprovalDataEntity.getLinks());
+        directorsApproval.setKind(directorsApprovalDataEntity.getKind());
 
         return directorsApproval;
     }
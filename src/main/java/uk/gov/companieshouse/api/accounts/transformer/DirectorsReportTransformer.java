@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsReportDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsReportEntity;
@@ -12,7 +11,10 @@ public class DirectorsReportTransformer implements GenericTransformer<DirectorsR
     @Override
     public DirectorsReportEntity transform(DirectorsReport rest) {
         DirectorsReportDataEntity directorsReportDataEntity = new DirectorsReportDataEntity();
-        BeanUtils.copyProperties(rest, directorsReportDataEntity);
+        directorsReportDataEntity.setDirectors(rest.getDirectors());
+        directorsReportDataEntity.setEtag(rest.getEtag());
+        directorsReportDataEntity.setLinks(rest.getLinks());
+        directorsReportDataEntity.setKind(rest.getKind());
 
         DirectorsReportEntity directorsReportEntity = new DirectorsReportEntity();
         directorsReportEntity.setData(directorsReportDataEntity);
@@ -24,7 +26,10 @@ public class DirectorsReportTransformer implements GenericTransformer<DirectorsR
         DirectorsReport directorsReport = new DirectorsReport();
 
         DirectorsReportDataEntity directorsReportDataEntity = entity.getData();
-        BeanUtils.copyProperties(directorsReportDataEntity, directorsReport);
+        directorsReport.setDirectors(directorsReportDataEntity.getDirectors());
+        directorsReport.setEtag(directorsReportDataEntity.getEtag());
+        directorsReport.setLinks(directorsReportDataEntity.getLinks());
+        directorsReport.setKind(directorsReportDataEntity.getKind());
 
         return directorsReport;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.employees.CurrentPeriodEntity;
@@ -19,17 +18,17 @@ public class EmployeesTransformer implements NoteTransformer<Employees, Employee
         EmployeesDataEntity employeesDataEntity = new EmployeesDataEntity();
         EmployeesEntity employeesEntity = new EmployeesEntity();
         
-        BeanUtils.copyProperties(rest, employeesDataEntity);
+        employeesDataEntity.setEtag(rest.getEtag());
+        employeesDataEntity.setLinks(rest.getLinks());
+        employeesDataEntity.setKind(rest.getKind());
 
         if (rest.getCurrentPeriod() != null) {
-            CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
-            BeanUtils.copyProperties(rest.getCurrentPeriod(), currentPeriodEntity);
+            CurrentPeriodEntity currentPeriodEntity = mapRestToEntity(rest.getCurrentPeriod());
             employeesDataEntity.setCurrentPeriodEntity(currentPeriodEntity);
         }
 
         if (rest.getPreviousPeriod() != null) {
-            PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
-            BeanUtils.copyProperties(rest.getPreviousPeriod(), previousPeriodEntity);
+            PreviousPeriodEntity previousPeriodEntity = mapRestToEntity(rest.getPreviousPeriod());
             employeesDataEntity.setPreviousPeriodEntity(previousPeriodEntity);
         }
 
@@ -48,17 +47,17 @@ public class EmployeesTransformer implements NoteTransformer<Employees, Employee
         } else {
             employeesDataEntity = new EmployeesDataEntity();
         }
-        BeanUtils.copyProperties(employeesDataEntity, employees);
+        employees.setEtag(employeesDataEntity.getEtag());
+        employees.setLinks(employeesDataEntity.getLinks());
+        employees.setKind(employeesDataEntity.getKind());
 
         if (employeesDataEntity.getCurrentPeriodEntity() != null) {
-            CurrentPeriod currentPeriod = new CurrentPeriod();
-            BeanUtils.copyProperties(employeesDataEntity.getCurrentPeriodEntity(), currentPeriod);
+            CurrentPeriod currentPeriod = mapEntityToRest(employeesDataEntity.getCurrentPeriodEntity());
             employees.setCurrentPeriod(currentPeriod);
         }
 
         if (employeesDataEntity.getPreviousPeriodEntity() != null) {
-            PreviousPeriod previousPeriod = new PreviousPeriod();
-            BeanUtils.copyProperties(employeesDataEntity.getPreviousPeriodEntity(), previousPeriod);
+            PreviousPeriod previousPeriod = mapEntityToRest(employeesDataEntity.getPreviousPeriodEntity());
             employees.setPreviousPeriod(previousPeriod);
         }
         return employees;
@@ -68,4 +67,30 @@ public class EmployeesTransformer implements NoteTransformer<Employees, Employee
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_EMPLOYEES;
     }
+
+    private CurrentPeriodEntity mapRestToEntity(CurrentPeriod rest) {
+        CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
+        currentPeriodEntity.setDetails(rest.getDetails());
+        currentPeriodEntity.setAverageNumberOfEmployees(rest.getAverageNumberOfEmployees());
+        return currentPeriodEntity;
+    }
+
+    private PreviousPeriodEntity mapRestToEntity(PreviousPeriod rest) {
+        PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
+        previousPeriodEntity.setAverageNumberOfEmployees(rest.getAverageNumberOfEmployees());
+        return previousPeriodEntity;
+    }
+
+    private CurrentPeriod mapEntityToRest(CurrentPeriodEntity entity) {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setDetails(entity.getDetails());
+        currentPeriod.setAverageNumberOfEmployees(entity.getAverageNumberOfEmployees());
+        return currentPeriod;
+    }
+
+    private PreviousPeriod mapEntityToRest(PreviousPeriodEntity entity) {
+        PreviousPeriod previousPeriod = new PreviousPeriod();
+        previousPeriod.setAverageNumberOfEmployees(entity.getAverageNumberOfEmployees());
+        return previousPeriod;
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.financialcommitments.FinancialCommitmentsDataEntity;
@@ -20,7 +19,10 @@ public class FinancialCommitmentsTransformer implements NoteTransformer<Financia
         FinancialCommitmentsDataEntity financialCommitmentsDataEntity = new FinancialCommitmentsDataEntity();
         FinancialCommitmentsEntity financialCommitmentsEntity = new FinancialCommitmentsEntity();
 
-        BeanUtils.copyProperties(rest, financialCommitmentsDataEntity);
+        financialCommitmentsDataEntity.setDetails(rest.getDetails());
+        financialCommitmentsDataEntity.setEtag(rest.getEtag());
+        financialCommitmentsDataEntity.setLinks(rest.getLinks());
+        financialCommitmentsDataEntity.setKind(rest.getKind());
 
         financialCommitmentsEntity.setData(financialCommitmentsDataEntity);
 
@@ -37,7 +39,10 @@ public class FinancialCommitmentsTransformer implements NoteTransformer<Financia
         } else {
             financialCommitmentsDataEntity = new FinancialCommitmentsDataEntity();
         }
-        BeanUtils.copyProperties(financialCommitmentsDataEntity, financialCommitments);
+        financialCommitments.setDetails(financialCommitmentsDataEntity.getDetails());
+        financialCommitments.setEtag(financialCommitmentsDataEntity.getEtag());
+        financialCommitments.setLinks(financialCommitmentsDataEntity.getLinks());
+        financialCommitments.setKind(financialCommitmentsDataEntity.getKind());
 
         return financialCommitments;
     }
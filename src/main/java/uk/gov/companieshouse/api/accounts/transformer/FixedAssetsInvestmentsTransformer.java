@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.fixedassetsinvestments.FixedAssetsInvestmentsDataEntity;
@@ -15,7 +14,10 @@ public class FixedAssetsInvestmentsTransformer implements NoteTransformer<FixedA
         FixedAssetsInvestmentsDataEntity fixedAssetsInvestmentsDataEntity = new FixedAssetsInvestmentsDataEntity();
         FixedAssetsInvestmentsEntity fixedAssetsInvestmentsEntity = new FixedAssetsInvestmentsEntity();
 
-        BeanUtils.copyProperties(rest, fixedAssetsInvestmentsDataEntity);
+        fixedAssetsInvestmentsDataEntity.setDetails(rest.getDetails());
+        fixedAssetsInvestmentsDataEntity.setEtag(rest.getEtag());
+        fixedAssetsInvestmentsDataEntity.setLinks(rest.getLinks());
+        fixedAssetsInvestmentsDataEntity.setKind(rest.getKind());
 
         fixedAssetsInvestmentsEntity.setData(fixedAssetsInvestmentsDataEntity);
 
@@ -33,7 +35,10 @@ public class FixedAssetsInvestmentsTransformer implements NoteTransformer<FixedA
             fixedAssetsInvestmentsDataEntity = new FixedAssetsInvestmentsDataEntity();
         }
 
-        BeanUtils.copyProperties(fixedAssetsInvestmentsDataEntity, fixedAssetsInvestments);
+        fixedAssetsInvestments.setDetails(fixedAssetsInvestmentsDataEntity.getDetails());
+        fixedAssetsInvestments.setEtag(fixedAssetsInvestmentsDataEntity.getEtag());
+        fixedAssetsInvestments.setLinks(fixedAssetsInvestmentsDataEntity.getLinks());
+        fixedAssetsInvestments.setKind(fixedAssetsInvestmentsDataEntity.getKind());
 
         return fixedAssetsInvestments;
     }
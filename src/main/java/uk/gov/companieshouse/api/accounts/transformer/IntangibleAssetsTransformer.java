@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.intangibleassets.AmortisationEntity;
@@ -21,7 +20,10 @@ public class IntangibleAssetsTransformer implements NoteTransformer<IntangibleAs
         IntangibleAssetsEntity intangibleAssetsEntity = new IntangibleAssetsEntity();
         IntangibleAssetsDataEntity intangibleAssetsDataEntity = new IntangibleAssetsDataEntity();
 
-        BeanUtils.copyProperties(rest, intangibleAssetsDataEntity);
+        intangibleAssetsDataEntity.setAdditionalInformation(rest.getAdditionalInformation());
+        intangibleAssetsDataEntity.setEtag(rest.getEtag());
+        intangibleAssetsDataEntity.setLinks(rest.getLinks());
+        intangibleAssetsDataEntity.setKind(rest.getKind());
 
         if (rest.getGoodwill() != null) {
             intangibleAssetsDataEntity.setGoodwill(mapRestResourceToEntityResource(rest.getGoodwill()));
@@ -42,17 +44,16 @@ public class IntangibleAssetsTransformer implements NoteTransformer<IntangibleAs
 
     private IntangibleAssetsResourceEntity mapRestResourceToEntityResource(IntangibleAssetsResource restResource) {
         IntangibleAssetsResourceEntity entityResource = new IntangibleAssetsResourceEntity();
-        BeanUtils.copyProperties(restResource, entityResource);
+        entityResource.setNetBookValueAtEndOfCurrentPeriod(restResource.getNetBookValueAtEndOfCurrentPeriod());
+        entityResource.setNetBookValueAtEndOfPreviousPeriod(restResource.getNetBookValueAtEndOfPreviousPeriod());
 
         if (restResource.getCost() != null) {
-            CostEntity cost = new CostEntity();
-            BeanUtils.copyProperties(restResource.getCost(), cost);
+            CostEntity cost = mapRestToEntity(restResource.getCost());
             entityResource.setCost(cost);
         }
 
         if (restResource.getAmortisation() != null) {
-            AmortisationEntity amortisation = new AmortisationEntity();
-            BeanUtils.copyProperties(restResource.getAmortisation(), amortisation);
+            AmortisationEntity amortisation = mapRestToEntity(restResource.getAmortisation());
             entityResource.setAmortisation(amortisation);
         }
 
@@ -64,7 +65,10 @@ public class IntangibleAssetsTransformer implements NoteTransformer<IntangibleAs
         IntangibleAssets intangibleAssets = new IntangibleAssets();
         IntangibleAssetsDataEntity dataEntity = entity.getData();
 
-        BeanUtils.copyProperties(dataEntity, intangibleAssets);
+        intangibleAssets.setAdditionalInformation(dataEntity.getAdditionalInformation());
+        intangibleAssets.setEtag(dataEntity.getEtag());
+        intangibleAssets.setLinks(dataEntity.getLinks());
+        intangibleAssets.setKind(dataEntity.getKind());
 
         if (dataEntity.getGoodwill() != null) {
             intangibleAssets.setGoodwill(mapEntityResourceToRestResource(dataEntity.getGoodwill()));
@@ -84,17 +88,16 @@ public class IntangibleAssetsTransformer implements NoteTransformer<IntangibleAs
 
     private IntangibleAssetsResource mapEntityResourceToRestResource(IntangibleAssetsResourceEntity entityResource) {
         IntangibleAssetsResource restResource = new IntangibleAssetsResource();
-        BeanUtils.copyProperties(entityResource, restResource);
+        restResource.setNetBookValueAtEndOfCurrentPeriod(entityResource.getNetBookValueAtEndOfCurrentPeriod());
+        restResource.setNetBookValueAtEndOfPreviousPeriod(entityResource.getNetBookValueAtEndOfPreviousPeriod());
 
         if (entityResource.getCost() != null) {
-            Cost cost = new Cost();
-            BeanUtils.copyProperties(entityResource.getCost(), cost);
+            Cost cost = mapEntityToRest(entityResource.getCost());
             restResource.setCost(cost);
         }
 
         if (entityResource.getAmortisation() != null) {
-            Amortisation amortisation = new Amortisation();
-            BeanUtils.copyProperties(entityResource.getAmortisation(), amortisation);
+            Amortisation amortisation = mapEntityToRest(entityResource.getAmortisation());
             restResource.setAmortisation(amortisation);
         }
 
@@ -105,4 +108,46 @@ public class IntangibleAssetsTransformer implements NoteTransformer<IntangibleAs
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_INTANGIBLE_ASSETS;
     }
-}
\ No newline at end of file
+
+    private CostEntity mapRestToEntity(Cost rest) {
+        CostEntity costEntity = new CostEntity();
+        costEntity.setAdditions(rest.getAdditions());
+        costEntity.setAtPeriodEnd(rest.getAtPeriodEnd());
+        costEntity.setAtPeriodStart(rest.getAtPeriodStart());
+        costEntity.setDisposals(rest.getDisposals());
+        costEntity.setRevaluations(rest.getRevaluations());
+        costEntity.setTransfers(rest.getTransfers());
+        return costEntity;
+    }
+
+    private AmortisationEntity mapRestToEntity(Amortisation rest) {
+        AmortisationEntity amortisationEntity = new AmortisationEntity();
+        amortisationEntity.setAtPeriodEnd(rest.getAtPeriodEnd());
+        amortisationEntity.setAtPeriodStart(rest.getAtPeriodStart());
+        amortisationEntity.setChargeForYear(rest.getChargeForYear());
+        amortisationEntity.setOnDisposals(rest.getOnDisposals());
+        amortisationEntity.setOtherAdjustments(rest.getOtherAdjustments());
+        return amortisationEntity;
+    }
+
+    private Cost mapEntityToRest(CostEntity entity) {
+        Cost cost = new Cost();
+        cost.setAdditions(entity.getAdditions());
+        cost.setAtPeriodEnd(entity.getAtPeriodEnd());
+        cost.setAtPeriodStart(entity.getAtPeriodStart());
+        cost.setDisposals(entity.getDisposals());
+        cost.setRevaluations(entity.getRevaluations());
+        cost.setTransfers(entity.getTransfers());
+        return cost;
+    }
+
+    private Amortisation mapEntityToRest(AmortisationEntity entity) {
+        Amortisation amortisation = new Amortisation();
+        amortisation.setAtPeriodEnd(entity.getAtPeriodEnd());
+        amortisation.setAtPeriodStart(entity.getAtPeriodStart());
+        amortisation.setChargeForYear(entity.getChargeForYear());
+        amortisation.setOnDisposals(entity.getOnDisposals());
+        amortisation.setOtherAdjustments(entity.getOtherAdjustments());
+        return amortisation;
+    }
+}
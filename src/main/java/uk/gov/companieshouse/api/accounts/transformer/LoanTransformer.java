@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoanBreakdownResourceEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoanDataEntity;
@@ -25,7 +24,11 @@ public class LoanTransformer implements GenericTransformerForMultipleResources<L
     @Override
     public LoanEntity transform(Loan entity) {
         LoanDataEntity loanDataEntity = new LoanDataEntity();
-        BeanUtils.copyProperties(entity, loanDataEntity);
+        loanDataEntity.setDirectorName(entity.getDirectorName());
+        loanDataEntity.setDescription(entity.getDescription());
+        loanDataEntity.setEtag(entity.getEtag());
+        loanDataEntity.setLinks(entity.getLinks());
+        loanDataEntity.setKind(entity.getKind());
 
         if (entity.getBreakdown() != null) {
             loanDataEntity.setBreakdown(mapRestResourceToEntityResource(entity.getBreakdown()));
@@ -42,7 +45,11 @@ public class LoanTransformer implements GenericTransformerForMultipleResources<L
         Loan loan = new Loan();
         LoanDataEntity dataEntity = entity.getData();
 
-        BeanUtils.copyProperties(dataEntity, loan);
+        loan.setDirectorName(dataEntity.getDirectorName());
+        loan.setDescription(dataEntity.getDescription());
+        loan.setEtag(dataEntity.getEtag());
+        loan.setLinks(dataEntity.getLinks());
+        loan.setKind(dataEntity.getKind());
 
         if (dataEntity.getBreakdown() != null) {
 
@@ -56,7 +63,10 @@ public class LoanTransformer implements GenericTransformerForMultipleResources<L
         LoanBreakdownResourceEntity entityResource = new LoanBreakdownResourceEntity();
 
         if (restResource != null) {
-            BeanUtils.copyProperties(restResource, entityResource);
+            entityResource.setAdvancesCreditsMade(restResource.getAdvancesCreditsMade());
+            entityResource.setAdvancesCreditsRepaid(restResource.getAdvancesCreditsRepaid());
+            entityResource.setBalanceAtPeriodStart(restResource.getBalanceAtPeriodStart());
+            entityResource.setBalanceAtPeriodEnd(restResource.getBalanceAtPeriodEnd());
             return entityResource;
         }
 
@@ -67,7 +77,10 @@ public class LoanTransformer implements GenericTransformerForMultipleResources<L
         LoanBreakdownResource restResource = new LoanBreakdownResource();
 
         if (entityResource != null) {
-            BeanUtils.copyProperties(entityResource, restResource);
+            restResource.setAdvancesCreditsMade(entityResource.getAdvancesCreditsMade());
+            restResource.setAdvancesCreditsRepaid(entityResource.getAdvancesCreditsRepaid());
+            restResource.setBalanceAtPeriodStart(entityResource.getBalanceAtPeriodStart());
+            restResource.setBalanceAtPeriodEnd(entityResource.getBalanceAtPeriodEnd());
             return restResource;
         }
 
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.AdditionalInformationDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.AdditionalInformationEntity;
@@ -15,7 +14,10 @@ public class LoansToDirectorsAdditionalInformationTransformer implements Generic
         AdditionalInformationDataEntity additionalInformationDataEntity = new AdditionalInformationDataEntity();
         AdditionalInformationEntity additionalInformationEntity = new AdditionalInformationEntity();
 
-        BeanUtils.copyProperties(rest, additionalInformationDataEntity);
+        additionalInformationDataEntity.setDetails(rest.getDetails());
+        additionalInformationDataEntity.setEtag(rest.getEtag());
+        additionalInformationDataEntity.setLinks(rest.getLinks());
+        additionalInformationDataEntity.setKind(rest.getKind());
 
         additionalInformationEntity.setData(additionalInformationDataEntity);
 
@@ -26,7 +28,11 @@ public class LoansToDirectorsAdditionalInformationTransformer implements Generic
     @Override
     public AdditionalInformation transform(AdditionalInformationEntity entity) {
         AdditionalInformation additionalInformation = new AdditionalInformation();
-        BeanUtils.copyProperties(entity.getData(), additionalInformation);
+        AdditionalInformationDataEntity additionalInformationDataEntity = entity.getData();
+        additionalInformation.setDetails(additionalInformationDataEntity.getDetails());
+        additionalInformation.setEtag(additionalInformationDataEntity.getEtag());
+        additionalInformation.setLinks(additionalInformationDataEntity.getLinks());
+        additionalInformation.setKind(additionalInformationDataEntity.getKind());
 
         return additionalInformation;
 
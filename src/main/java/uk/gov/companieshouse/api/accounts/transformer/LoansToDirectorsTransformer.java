@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoansToDirectorsDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoansToDirectorsEntity;
@@ -12,7 +11,10 @@ public class LoansToDirectorsTransformer implements GenericTransformer<LoansToDi
     @Override
     public LoansToDirectorsEntity transform(LoansToDirectors rest) {
         LoansToDirectorsDataEntity loansToDirectorsDataEntity = new LoansToDirectorsDataEntity();
-        BeanUtils.copyProperties(rest, loansToDirectorsDataEntity);
+        loansToDirectorsDataEntity.setLoans(rest.getLoans());
+        loansToDirectorsDataEntity.setEtag(rest.getEtag());
+        loansToDirectorsDataEntity.setLinks(rest.getLinks());
+        loansToDirectorsDataEntity.setKind(rest.getKind());
 
         LoansToDirectorsEntity loansToDirectorsEntity = new LoansToDirectorsEntity();
         loansToDirectorsEntity.setData(loansToDirectorsDataEntity);
@@ -24,7 +26,10 @@ public class LoansToDirectorsTransformer implements GenericTransformer<LoansToDi
         LoansToDirectors loansToDirectors = new LoansToDirectors();
 
         LoansToDirectorsDataEntity loansToDirectorsDataEntity = entity.getData();
-        BeanUtils.copyProperties(loansToDirectorsDataEntity, loansToDirectors);
+        loansToDirectors.setLoans(loansToDirectorsDataEntity.getLoans());
+        loansToDirectors.setEtag(loansToDirectorsDataEntity.getEtag());
+        loansToDirectors.setLinks(loansToDirectorsDataEntity.getLinks());
+        loansToDirectors.setKind(loansToDirectorsDataEntity.getKind());
 
         return loansToDirectors;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.offbalancesheetarrangements.OffBalanceSheetArrangementsDataEntity;
@@ -21,7 +20,10 @@ public class OffBalanceSheetArrangementsTransformer implements NoteTransformer<O
                 new OffBalanceSheetArrangementsDataEntity();
         OffBalanceSheetArrangementsEntity offBalanceSheetArrangementsEntity = new OffBalanceSheetArrangementsEntity();
 
-        BeanUtils.copyProperties(rest, offBalanceSheetArrangementsDataEntity);
+        offBalanceSheetArrangementsDataEntity.setDetails(rest.getDetails());
+        offBalanceSheetArrangementsDataEntity.setEtag(rest.getEtag());
+        offBalanceSheetArrangementsDataEntity.setLinks(rest.getLinks());
+        offBalanceSheetArrangementsDataEntity.setKind(rest.getKind());
 
         offBalanceSheetArrangementsEntity.setData(offBalanceSheetArrangementsDataEntity);
 
@@ -38,7 +40,10 @@ public class OffBalanceSheetArrangementsTransformer implements NoteTransformer<O
         } else {
             offBalanceSheetArrangementsDataEntity = new OffBalanceSheetArrangementsDataEntity();
         }
-        BeanUtils.copyProperties(offBalanceSheetArrangementsDataEntity, offBalanceSheetArrangements);
+        offBalanceSheetArrangements.setDetails(offBalanceSheetArrangementsDataEntity.getDetails());
+        offBalanceSheetArrangements.setEtag(offBalanceSheetArrangementsDataEntity.getEtag());
+        offBalanceSheetArrangements.setLinks(offBalanceSheetArrangementsDataEntity.getLinks());
+        offBalanceSheetArrangements.setKind(offBalanceSheetArrangementsDataEntity.getKind());
 
         return offBalanceSheetArrangements;
     }
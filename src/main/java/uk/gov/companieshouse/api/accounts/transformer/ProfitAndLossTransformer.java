@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.profitloss.GrossProfitOrLossEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.profitloss.OperatingProfitOrLossEntity;
@@ -20,30 +19,25 @@ public class ProfitAndLossTransformer implements GenericTransformer<ProfitAndLos
     @Override
     public ProfitAndLossEntity transform(ProfitAndLoss rest) {
         ProfitAndLossDataEntity profitAndLossDataEntity = new ProfitAndLossDataEntity();
-        BeanUtils.copyProperties(rest, profitAndLossDataEntity);
+        profitAndLossDataEntity.setEtag(rest.getEtag());
+        profitAndLossDataEntity.setLinks(rest.getLinks());
+        profitAndLossDataEntity.setKind(rest.getKind());
 
         if (rest.getGrossProfitOrLoss() != null) {
-            GrossProfitOrLossEntity grossProfitOrLoss = new GrossProfitOrLossEntity();
-            BeanUtils.copyProperties(rest.getGrossProfitOrLoss(), grossProfitOrLoss);
-            profitAndLossDataEntity.setGrossProfitOrLoss(grossProfitOrLoss);
+            profitAndLossDataEntity.setGrossProfitOrLoss(mapRestToEntity(rest.getGrossProfitOrLoss()));
         }
 
         if (rest.getOperatingProfitOrLoss() != null) {
-            OperatingProfitOrLossEntity operatingProfitOrLoss = new OperatingProfitOrLossEntity();
-            BeanUtils.copyProperties(rest.getOperatingProfitOrLoss(), operatingProfitOrLoss);
-            profitAndLossDataEntity.setOperatingProfitOrLoss(operatingProfitOrLoss);
+            profitAndLossDataEntity.setOperatingProfitOrLoss(mapRestToEntity(rest.getOperatingProfitOrLoss()));
         }
 
         if (rest.getProfitOrLossBeforeTax() != null) {
-            ProfitOrLossBeforeTaxEntity profitOrLossBeforeTax = new ProfitOrLossBeforeTaxEntity();
-            BeanUtils.copyProperties(rest.getProfitOrLossBeforeTax(), profitOrLossBeforeTax);
-            profitAndLossDataEntity.setProfitOrLossBeforeTax(profitOrLossBeforeTax);
+            profitAndLossDataEntity.setProfitOrLossBeforeTax(mapRestToEntity(rest.getProfitOrLossBeforeTax()));
         }
 
         if (rest.getProfitOrLossForFinancialYear() != null) {
-            ProfitOrLossForFinancialYearEntity profitOrLossForFinancialYear = new ProfitOrLossForFinancialYearEntity();
-            BeanUtils.copyProperties(rest.getProfitOrLossForFinancialYear(), profitOrLossForFinancialYear);
-            profitAndLossDataEntity.setProfitOrLossForFinancialYear(profitOrLossForFinancialYear);
+            profitAndLossDataEntity.setProfitOrLossForFinancialYear(
+                    mapRestToEntity(rest.getProfitOrLossForFinancialYear()));
         }
 
         ProfitAndLossEntity profitAndLossEntity = new ProfitAndLossEntity();
@@ -56,32 +50,92 @@ public class ProfitAndLossTransformer implements GenericTransformer<ProfitAndLos
         ProfitAndLoss profitAndLoss = new ProfitAndLoss();
 
         ProfitAndLossDataEntity profitAndLossDataEntity = entity.getData();
-        BeanUtils.copyProperties(profitAndLossDataEntity, profitAndLoss);
+        profitAndLoss.setEtag(profitAndLossDataEntity.getEtag());
+        profitAndLoss.setLinks(profitAndLossDataEntity.getLinks());
+        profitAndLoss.setKind(profitAndLossDataEntity.getKind());
 
         if (profitAndLossDataEntity.getGrossProfitOrLoss() != null) {
-            GrossProfitOrLoss grossProfitOrLoss = new GrossProfitOrLoss();
-            BeanUtils.copyProperties(profitAndLossDataEntity.getGrossProfitOrLoss(), grossProfitOrLoss);
-            profitAndLoss.setGrossProfitOrLoss(grossProfitOrLoss);
+            profitAndLoss.setGrossProfitOrLoss(mapEntityToRest(profitAndLossDataEntity.getGrossProfitOrLoss()));
         }
 
         if (profitAndLossDataEntity.getOperatingProfitOrLoss() != null) {
-            OperatingProfitOrLoss operatingProfitOrLoss = new OperatingProfitOrLoss();
-            BeanUtils.copyProperties(profitAndLossDataEntity.getOperatingProfitOrLoss(), operatingProfitOrLoss);
-            profitAndLoss.setOperatingProfitOrLoss(operatingProfitOrLoss);
+            profitAndLoss.setOperatingProfitOrLoss(mapEntityToRest(profitAndLossDataEntity.getOperatingProfitOrLoss()));
         }
 
         if (profitAndLossDataEntity.getProfitOrLossBeforeTax() != null) {
-            ProfitOrLossBeforeTax profitOrLossBeforeTax = new ProfitOrLossBeforeTax();
-            BeanUtils.copyProperties(profitAndLossDataEntity.getProfitOrLossBeforeTax(), profitOrLossBeforeTax);
-            profitAndLoss.setProfitOrLossBeforeTax(profitOrLossBeforeTax);
+            profitAndLoss.setProfitOrLossBeforeTax(mapEntityToRest(profitAndLossDataEntity.getProfitOrLossBeforeTax()));
         }
 
         if (profitAndLossDataEntity.getProfitOrLossForFinancialYear() != null) {
-            ProfitOrLossForFinancialYear profitOrLossForFinancialYear = new ProfitOrLossForFinancialYear();
-            BeanUtils.copyProperties(profitAndLossDataEntity.getProfitOrLossForFinancialYear(), profitOrLossForFinancialYear);
-            profitAndLoss.setProfitOrLossForFinancialYear(profitOrLossForFinancialYear);
+            profitAndLoss.setProfitOrLossForFinancialYear(
+                    mapEntityToRest(profitAndLossDataEntity.getProfitOrLossForFinancialYear()));
         }
 
         return profitAndLoss;
     }
+
+    private GrossProfitOrLossEntity mapRestToEntity(GrossProfitOrLoss rest) {
+        GrossProfitOrLossEntity grossProfitOrLoss = new GrossProfitOrLossEntity();
+        grossProfitOrLoss.setCostOfSales(rest.getCostOfSales());
+        grossProfitOrLoss.setGrossTotal(rest.getGrossTotal());
+        grossProfitOrLoss.setTurnover(rest.getTurnover());
+        return grossProfitOrLoss;
+    }
+
+    private OperatingProfitOrLossEntity mapRestToEntity(OperatingProfitOrLoss rest) {
+        OperatingProfitOrLossEntity operatingProfitOrLoss = new OperatingProfitOrLossEntity();
+        operatingProfitOrLoss.setAdministrativeExpenses(rest.getAdministrativeExpenses());
+        operatingProfitOrLoss.setDistributionCosts(rest.getDistributionCosts());
+        operatingProfitOrLoss.setOperatingTotal(rest.getOperatingTotal());
+        operatingProfitOrLoss.setOtherOperatingIncome(rest.getOtherOperatingIncome());
+        return operatingProfitOrLoss;
+    }
+
+    private ProfitOrLossBeforeTaxEntity mapRestToEntity(ProfitOrLossBeforeTax rest) {
+        ProfitOrLossBeforeTaxEntity profitOrLossBeforeTax = new ProfitOrLossBeforeTaxEntity();
+        profitOrLossBeforeTax.setInterestPayableAndSimilarCharges(rest.getInterestPayableAndSimilarCharges());
+        profitOrLossBeforeTax.setInterestReceivableAndSimilarIncome(rest.getInterestReceivableAndSimilarIncome());
+        profitOrLossBeforeTax.setTotalProfitOrLossBeforeTax(rest.getTotalProfitOrLossBeforeTax());
+        return profitOrLossBeforeTax;
+    }
+
+    private ProfitOrLossForFinancialYearEntity mapRestToEntity(ProfitOrLossForFinancialYear rest) {
+        ProfitOrLossForFinancialYearEntity profitOrLossForFinancialYear = new ProfitOrLossForFinancialYearEntity();
+        profitOrLossForFinancialYear.setTax(rest.getTax());
+        profitOrLossForFinancialYear.setTotalProfitOrLossForFinancialYear(rest.getTotalProfitOrLossForFinancialYear());
+        return profitOrLossForFinancialYear;
+    }
+
+    private GrossProfitOrLoss mapEntityToRest(GrossProfitOrLossEntity entity) {
+        GrossProfitOrLoss grossProfitOrLoss = new GrossProfitOrLoss();
+        grossProfitOrLoss.setCostOfSales(entity.getCostOfSales());
+        grossProfitOrLoss.setGrossTotal(entity.getGrossTotal());
+        grossProfitOrLoss.setTurnover(entity.getTurnover());
+        return grossProfitOrLoss;
+    }
+
+    private OperatingProfitOrLoss mapEntityToRest(OperatingProfitOrLossEntity entity) {
+        OperatingProfitOrLoss operatingProfitOrLoss = new OperatingProfitOrLoss();
+        operatingProfitOrLoss.setAdministrativeExpenses(entity.getAdministrativeExpenses());
+        operatingProfitOrLoss.setDistributionCosts(entity.getDistributionCosts());
+        operatingProfitOrLoss.setOperatingTotal(entity.getOperatingTotal());
+        operatingProfitOrLoss.setOtherOperatingIncome(entity.getOtherOperatingIncome());
+        return operatingProfitOrLoss;
+    }
+
+    private ProfitOrLossBeforeTax mapEntityToRest(ProfitOrLossBeforeTaxEntity entity) {
+        ProfitOrLossBeforeTax profitOrLossBeforeTax = new ProfitOrLossBeforeTax();
+        profitOrLossBeforeTax.setInterestPayableAndSimilarCharges(entity.getInterestPayableAndSimilarCharges());
+        profitOrLossBeforeTax.setInterestReceivableAndSimilarIncome(entity.getInterestReceivableAndSimilarIncome());
+        profitOrLossBeforeTax.setTotalProfitOrLossBeforeTax(entity.getTotalProfitOrLossBeforeTax());
+        return profitOrLossBeforeTax;
+    }
+
+    private ProfitOrLossForFinancialYear mapEntityToRest(ProfitOrLossForFinancialYearEntity entity) {
+        ProfitOrLossForFinancialYear profitOrLossForFinancialYear = new ProfitOrLossForFinancialYear();
+        profitOrLossForFinancialYear.setTax(entity.getTax());
+        profitOrLossForFinancialYear.setTotalProfitOrLossForFinancialYear(
+                entity.getTotalProfitOrLossForFinancialYear());
+        return profitOrLossForFinancialYear;
+    }
 }
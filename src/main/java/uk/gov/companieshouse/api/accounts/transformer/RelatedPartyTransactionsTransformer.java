@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions.RelatedPartyTransactionsDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions.RelatedPartyTransactionsEntity;
@@ -12,7 +11,10 @@ public class RelatedPartyTransactionsTransformer implements GenericTransformer<R
     @Override
     public RelatedPartyTransactionsEntity transform(RelatedPartyTransactions rest) {
         RelatedPartyTransactionsDataEntity dataEntity = new RelatedPartyTransactionsDataEntity();
-        BeanUtils.copyProperties(rest, dataEntity);
+        dataEntity.setTransactions(rest.getTransactions());
+        dataEntity.setEtag(rest.getEtag());
+        dataEntity.setLinks(rest.getLinks());
+        dataEntity.setKind(rest.getKind());
 
         RelatedPartyTransactionsEntity relatedPartyTransactionsEntity = new RelatedPartyTransactionsEntity();
         relatedPartyTransactionsEntity.setData(dataEntity);
@@ -25,7 +27,10 @@ public class RelatedPartyTransactionsTransformer implements GenericTransformer<R
         RelatedPartyTransactions relatedPartyTransactions = new RelatedPartyTransactions();
 
         RelatedPartyTransactionsDataEntity dataEntity = entity.getData();
-        BeanUtils.copyProperties(dataEntity, relatedPartyTransactions);
+        relatedPartyTransactions.setTransactions(dataEntity.getTransactions());
+        relatedPartyTransactions.setEtag(dataEntity.getEtag());
+        relatedPartyTransactions.setLinks(dataEntity.getLinks());
+        relatedPartyTransactions.setKind(dataEntity.getKind());
 
         return relatedPartyTransactions;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions.RptTransactionBreakdownEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.relatedpartytransactions.RptTransactionDataEntity;
@@ -25,7 +24,13 @@ public class RptTransactionTransformer implements GenericTransformerForMultipleR
     @Override
     public RptTransactionEntity transform(RptTransaction rest) {
         RptTransactionDataEntity dataEntity = new RptTransactionDataEntity();
-        BeanUtils.copyProperties(rest, dataEntity);
+        dataEntity.setNameOfRelatedParty(rest.getNameOfRelatedParty());
+        dataEntity.setRelationship(rest.getRelationship());
+        dataEntity.setDescriptionOfTransaction(rest.getDescriptionOfTransaction());
+        dataEntity.setTransactionType(rest.getTransactionType());
+        dataEntity.setEtag(rest.getEtag());
+        dataEntity.setLinks(rest.getLinks());
+        dataEntity.setKind(rest.getKind());
 
         if (rest.getBreakdown() != null) {
             dataEntity.setBreakdown(mapRestResourceToEntityResource(rest.getBreakdown()));
@@ -41,7 +46,13 @@ public class RptTransactionTransformer implements GenericTransformerForMultipleR
     public RptTransaction transform(RptTransactionEntity entity) {
         RptTransaction rptTransaction = new RptTransaction();
         RptTransactionDataEntity dataEntity = entity.getData();
-        BeanUtils.copyProperties(dataEntity, rptTransaction);
+        rptTransaction.setNameOfRelatedParty(dataEntity.getNameOfRelatedParty());
+        rptTransaction.setRelationship(dataEntity.getRelationship());
+        rptTransaction.setDescriptionOfTransaction(dataEntity.getDescriptionOfTransaction());
+        rptTransaction.setTransactionType(dataEntity.getTransactionType());
+        rptTransaction.setEtag(dataEntity.getEtag());
+        rptTransaction.setLinks(dataEntity.getLinks());
+        rptTransaction.setKind(dataEntity.getKind());
 
         if (dataEntity.getBreakdown() != null) {
             rptTransaction.setBreakdown(mapEntityResourceToRestResource(dataEntity.getBreakdown()));
@@ -53,14 +64,16 @@ public class RptTransactionTransformer implements GenericTransformerForMultipleR
     private RptTransactionBreakdownEntity mapRestResourceToEntityResource(RptTransactionBreakdown restResource) {
         RptTransactionBreakdownEntity entityResource = new RptTransactionBreakdownEntity();
 
-        BeanUtils.copyProperties(restResource, entityResource);
+        entityResource.setBalanceAtPeriodStart(restResource.getBalanceAtPeriodStart());
+        entityResource.setBalanceAtPeriodEnd(restResource.getBalanceAtPeriodEnd());
         return entityResource;
     }
 
     private RptTransactionBreakdown mapEntityResourceToRestResource(RptTransactionBreakdownEntity entityResource) {
         RptTransactionBreakdown restResource = new RptTransactionBreakdown();
 
-        BeanUtils.copyProperties(entityResource, restResource);
+        restResource.setBalanceAtPeriodStart(entityResource.getBalanceAtPeriodStart());
+        restResource.setBalanceAtPeriodEnd(entityResource.getBalanceAtPeriodEnd());
         return restResource;
     }
 }
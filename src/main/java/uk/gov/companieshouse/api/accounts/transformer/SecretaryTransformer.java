@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.SecretaryDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.SecretaryEntity;
@@ -12,7 +11,10 @@ public class SecretaryTransformer implements GenericTransformer<Secretary, Secre
     @Override
     public SecretaryEntity transform(Secretary entity) {
         SecretaryDataEntity secretaryDataEntity = new SecretaryDataEntity();
-        BeanUtils.copyProperties(entity, secretaryDataEntity);
+        secretaryDataEntity.setName(entity.getName());
+        secretaryDataEntity.setEtag(entity.getEtag());
+        secretaryDataEntity.setLinks(entity.getLinks());
+        secretaryDataEntity.setKind(entity.getKind());
 
         SecretaryEntity secretaryEntity = new SecretaryEntity();
         secretaryEntity.setData(secretaryDataEntity);
@@ -23,7 +25,11 @@ public class SecretaryTransformer implements GenericTransformer<Secretary, Secre
     @Override
     public Secretary transform(SecretaryEntity entity) {
         Secretary secretary = new Secretary();
-        BeanUtils.copyProperties(entity.getData(), secretary);
+        SecretaryDataEntity secretaryDataEntity = entity.getData();
+        secretary.setName(secretaryDataEntity.getName());
+        secretary.setEtag(secretaryDataEntity.getEtag());
+        secretary.setLinks(secretaryDataEntity.getLinks());
+        secretary.setKind(secretaryDataEntity.getKind());
 
         return secretary;
     }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 
 import uk.gov.companieshouse.api.accounts.model.entity.AccountingPeriodEntity;
@@ -18,17 +17,17 @@ public class SmallFullTransformer implements
     public SmallFullEntity transform(SmallFull entity) {
         SmallFullDataEntity smallFullDataEntity = new SmallFullDataEntity();
         SmallFullEntity smallFullEntity = new SmallFullEntity();
-        BeanUtils.copyProperties(entity, smallFullDataEntity);
+        smallFullDataEntity.setEtag(entity.getEtag());
+        smallFullDataEntity.setLinks(entity.getLinks());
+        smallFullDataEntity.setKind(entity.getKind());
 
         if (entity.getNextAccounts() != null) {
-            AccountingPeriodEntity nextAccounts = new AccountingPeriodEntity();
-            BeanUtils.copyProperties(entity.getNextAccounts(), nextAccounts);
+            AccountingPeriodEntity nextAccounts = mapRestToEntity(entity.getNextAccounts());
             smallFullDataEntity.setNextAccounts(nextAccounts);
         }
 
         if (entity.getLastAccounts() != null) {
-            AccountingPeriodEntity lastAccounts = new AccountingPeriodEntity();
-            BeanUtils.copyProperties(entity.getLastAccounts(), lastAccounts);
+            AccountingPeriodEntity lastAccounts = mapRestToEntity(entity.getLastAccounts());
             smallFullDataEntity.setLastAccounts(lastAccounts);
         }
         smallFullEntity.setData(smallFullDataEntity);
@@ -39,20 +38,48 @@ public class SmallFullTransformer implements
     public SmallFull transform(SmallFullEntity entity) {
         SmallFull smallFull = new SmallFull();
         SmallFullDataEntity smallFullDataEntity = entity.getData();
-        BeanUtils.copyProperties(smallFullDataEntity, smallFull);
+        smallFull.setEtag(smallFullDataEntity.getEtag());
+        smallFull.setLinks(smallFullDataEntity.getLinks());
+        smallFull.setKind(smallFullDataEntity.getKind());
 
         if (smallFullDataEntity.getNextAccounts() != null) {
-        	NextAccounts nextAccounts = new NextAccounts();
-            BeanUtils.copyProperties(smallFullDataEntity.getNextAccounts(), nextAccounts);
+        	NextAccounts nextAccounts = mapEntityToNextAccounts(smallFullDataEntity.getNextAccounts());
             smallFull.setNextAccounts(nextAccounts);
         }
 
         if (smallFullDataEntity.getLastAccounts() != null) {
-            LastAccounts lastAccounts = new LastAccounts();
-            BeanUtils.copyProperties(smallFullDataEntity.getLastAccounts(), lastAccounts);
+            LastAccounts lastAccounts = mapEntityToLastAccounts(smallFullDataEntity.getLastAccounts());
             smallFull.setLastAccounts(lastAccounts);
         }
 
         return smallFull;
     }
+
+    private AccountingPeriodEntity mapRestToEntity(NextAccounts rest) {
+        AccountingPeriodEntity accountingPeriodEntity = new AccountingPeriodEntity();
+        accountingPeriodEntity.setPeriodStartOn(rest.getPeriodStartOn());
+        accountingPeriodEntity.setPeriodEndOn(rest.getPeriodEndOn());
+        return accountingPeriodEntity;
+    }
+
+    private AccountingPeriodEntity mapRestToEntity(LastAccounts rest) {
+        AccountingPeriodEntity accountingPeriodEntity = new AccountingPeriodEntity();
+        accountingPeriodEntity.setPeriodStartOn(rest.getPeriodStartOn());
+        accountingPeriodEntity.setPeriodEndOn(rest.getPeriodEndOn());
+        return accountingPeriodEntity;
+    }
+
+    private NextAccounts mapEntityToNextAccounts(AccountingPeriodEntity entity) {
+        NextAccounts nextAccounts = new NextAccounts();
+        nextAccounts.setPeriodStartOn(entity.getPeriodStartOn());
+        nextAccounts.setPeriodEndOn(entity.getPeriodEndOn());
+        return nextAccounts;
+    }
+
+    private LastAccounts mapEntityToLastAccounts(AccountingPeriodEntity entity) {
+        LastAccounts lastAccounts = new LastAccounts();
+        lastAccounts.setPeriodStartOn(entity.getPeriodStartOn());
+        lastAccounts.setPeriodEndOn(entity.getPeriodEndOn());
+        return lastAccounts;
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.StatementDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.StatementEntity;
@@ -13,7 +12,11 @@ public class StatementTransformer implements GenericTransformer<Statement, State
     public StatementEntity transform(Statement entity) {
         StatementDataEntity statementDataEntity = new StatementDataEntity();
         StatementEntity statementEntity = new StatementEntity();
-        BeanUtils.copyProperties(entity, statementDataEntity);
+        statementDataEntity.setHasAgreedToLegalStatements(entity.getHasAgreedToLegalStatements());
+        statementDataEntity.setLegalStatements(entity.getLegalStatements());
+        statementDataEntity.setEtag(entity.getEtag());
+        statementDataEntity.setLinks(entity.getLinks());
+        statementDataEntity.setKind(entity.getKind());
         statementEntity.setData(statementDataEntity);
         return statementEntity;
     }
@@ -22,7 +25,11 @@ public class StatementTransformer implements GenericTransformer<Statement, State
     public Statement transform(StatementEntity entity) {
         Statement statement = new Statement();
         StatementDataEntity statementDataEntity = entity.getData();
-        BeanUtils.copyProperties(statementDataEntity, statement);
+        statement.setHasAgreedToLegalStatements(statementDataEntity.getHasAgreedToLegalStatements());
+        statement.setLegalStatements(statementDataEntity.getLegalStatements());
+        statement.setEtag(statementDataEntity.getEtag());
+        statement.setLinks(statementDataEntity.getLinks());
+        statement.setKind(statementDataEntity.getKind());
         return statement;
     }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.StatementsDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.StatementsEntity;
@@ -12,7 +11,13 @@ public class StatementsTransformer implements GenericTransformer<Statements, Sta
     @Override
     public StatementsEntity transform(Statements entity) {
         StatementsDataEntity statementsDataEntity = new StatementsDataEntity();
-        BeanUtils.copyProperties(entity, statementsDataEntity);
+        statementsDataEntity.setAdditionalInformation(entity.getAdditionalInformation());
+        statementsDataEntity.setCompanyPolicyOnDisabledEmployees(entity.getCompanyPolicyOnDisabledEmployees());
+        statementsDataEntity.setPoliticalAndCharitableDonations(entity.getPoliticalAndCharitableDonations());
+        statementsDataEntity.setPrincipalActivities(entity.getPrincipalActivities());
+        statementsDataEntity.setEtag(entity.getEtag());
+        statementsDataEntity.setLinks(entity.getLinks());
+        statementsDataEntity.setKind(entity.getKind());
 
         StatementsEntity statementsEntity = new StatementsEntity();
         statementsEntity.setData(statementsDataEntity);
@@ -23,7 +28,14 @@ public class StatementsTransformer implements GenericTransformer<Statements, Sta
     @Override
     public Statements transform(StatementsEntity entity) {
         Statements statements = new Statements();
-        BeanUtils.copyProperties(entity.getData(), statements);
+        StatementsDataEntity statementsDataEntity = entity.getData();
+        statements.setAdditionalInformation(statementsDataEntity.getAdditionalInformation());
+        statements.setCompanyPolicyOnDisabledEmployees(statementsDataEntity.getCompanyPolicyOnDisabledEmployees());
+        statements.setPoliticalAndCharitableDonations(statementsDataEntity.getPoliticalAndCharitableDonations());
+        statements.setPrincipalActivities(statementsDataEntity.getPrincipalActivities());
+        statements.setEtag(statementsDataEntity.getEtag());
+        statements.setLinks(statementsDataEntity.getLinks());
+        statements.setKind(statementsDataEntity.getKind());
 
         return statements;
     }
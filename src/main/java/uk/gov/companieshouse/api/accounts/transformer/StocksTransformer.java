@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.stocks.CurrentPeriodEntity;
@@ -19,17 +18,17 @@ public class StocksTransformer implements NoteTransformer<Stocks, StocksEntity>
         StocksDataEntity stocksDataEntity = new StocksDataEntity();
         StocksEntity stocksEntity = new StocksEntity();
 
-        BeanUtils.copyProperties(rest, stocksDataEntity);
+        stocksDataEntity.setEtag(rest.getEtag());
+        stocksDataEntity.setLinks(rest.getLinks());
+        stocksDataEntity.setKind(rest.getKind());
         
         if (rest.getCurrentPeriod() != null) {
-            CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
-            BeanUtils.copyProperties(rest.getCurrentPeriod(), currentPeriodEntity);
+            CurrentPeriodEntity currentPeriodEntity = mapRestToEntity(rest.getCurrentPeriod());
             stocksDataEntity.setCurrentPeriodEntity(currentPeriodEntity);
         }
 
         if (rest.getPreviousPeriod() != null) {
-            PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
-            BeanUtils.copyProperties(rest.getPreviousPeriod(), previousPeriodEntity);
+            PreviousPeriodEntity previousPeriodEntity = mapRestToEntity(rest.getPreviousPeriod());
             stocksDataEntity.setPreviousPeriodEntity(previousPeriodEntity);
         }
 
@@ -49,17 +48,17 @@ public class StocksTransformer implements NoteTransformer<Stocks, StocksEntity>
             stocksDataEntity = new StocksDataEntity();
         }
 
-        BeanUtils.copyProperties(stocksDataEntity, stocks);
+        stocks.setEtag(stocksDataEntity.getEtag());
+        stocks.setLinks(stocksDataEntity.getLinks());
+        stocks.setKind(stocksDataEntity.getKind());
 
         if (stocksDataEntity.getCurrentPeriodEntity() != null) {
-            CurrentPeriod currentPeriod = new CurrentPeriod();
-            BeanUtils.copyProperties(stocksDataEntity.getCurrentPeriodEntity(), currentPeriod);
+            CurrentPeriod currentPeriod = mapEntityToRest(stocksDataEntity.getCurrentPeriodEntity());
             stocks.setCurrentPeriod(currentPeriod);
         }
 
         if (stocksDataEntity.getPreviousPeriodEntity() != null) {
-            PreviousPeriod previousPeriod = new PreviousPeriod();
-            BeanUtils.copyProperties(stocksDataEntity.getPreviousPeriodEntity(), previousPeriod);
+            PreviousPeriod previousPeriod = mapEntityToRest(stocksDataEntity.getPreviousPeriodEntity());
             stocks.setPreviousPeriod(previousPeriod);
         }
 
@@ -70,4 +69,36 @@ public class StocksTransformer implements NoteTransformer<Stocks, StocksEntity>
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_STOCKS;
     }
+
+    private CurrentPeriodEntity mapRestToEntity(CurrentPeriod rest) {
+        CurrentPeriodEntity currentPeriodEntity = new CurrentPeriodEntity();
+        currentPeriodEntity.setPaymentsOnAccount(rest.getPaymentsOnAccount());
+        currentPeriodEntity.setStocks(rest.getStocks());
+        currentPeriodEntity.setTotal(rest.getTotal());
+        return currentPeriodEntity;
+    }
+
+    private PreviousPeriodEntity mapRestToEntity(PreviousPeriod rest) {
+        PreviousPeriodEntity previousPeriodEntity = new PreviousPeriodEntity();
+        previousPeriodEntity.setPaymentsOnAccount(rest.getPaymentsOnAccount());
+        previousPeriodEntity.setStocks(rest.getStocks());
+        previousPeriodEntity.setTotal(rest.getTotal());
+        return previousPeriodEntity;
+    }
+
+    private CurrentPeriod mapEntityToRest(CurrentPeriodEntity entity) {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setPaymentsOnAccount(entity.getPaymentsOnAccount());
+        currentPeriod.setStocks(entity.getStocks());
+        currentPeriod.setTotal(entity.getTotal());
+        return currentPeriod;
+    }
+
+    private PreviousPeriod mapEntityToRest(PreviousPeriodEntity entity) {
+        PreviousPeriod previousPeriod = new PreviousPeriod();
+        previousPeriod.setPaymentsOnAccount(entity.getPaymentsOnAccount());
+        previousPeriod.setStocks(entity.getStocks());
+        previousPeriod.setTotal(entity.getTotal());
+        return previousPeriod;
+    }
 }
@@ -1,6 +1,5 @@
 package uk.gov.companieshouse.api.accounts.transformer;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.tangibleassets.CostEntity;
@@ -21,7 +20,10 @@ public class TangibleAssetsTransformer implements NoteTransformer<TangibleAssets
         TangibleAssetsEntity tangibleAssetsEntity = new TangibleAssetsEntity();
         TangibleAssetsDataEntity tangibleAssetsDataEntity = new TangibleAssetsDataEntity();
 
-        BeanUtils.copyProperties(entity, tangibleAssetsDataEntity);
+        tangibleAssetsDataEntity.setAdditionalInformation(entity.getAdditionalInformation());
+        tangibleAssetsDataEntity.setEtag(entity.getEtag());
+        tangibleAssetsDataEntity.setLinks(entity.getLinks());
+        tangibleAssetsDataEntity.setKind(entity.getKind());
 
         if (entity.getFixturesAndFittings() != null) {
             tangibleAssetsDataEntity.setFixturesAndFittings(
@@ -58,17 +60,16 @@ public class TangibleAssetsTransformer implements NoteTransformer<TangibleAssets
 
     private TangibleAssetsResourceEntity mapRestResourceToEntityResource(TangibleAssetsResource restResource) {
         TangibleAssetsResourceEntity entityResource = new TangibleAssetsResourceEntity();
-        BeanUtils.copyProperties(restResource, entityResource);
+        entityResource.setNetBookValueAtEndOfCurrentPeriod(restResource.getNetBookValueAtEndOfCurrentPeriod());
+        entityResource.setNetBookValueAtEndOfPreviousPeriod(restResource.getNetBookValueAtEndOfPreviousPeriod());
 
         if (restResource.getCost() != null) {
-            CostEntity cost = new CostEntity();
-            BeanUtils.copyProperties(restResource.getCost(), cost);
+            CostEntity cost = mapRestToEntity(restResource.getCost());
             entityResource.setCost(cost);
         }
 
         if (restResource.getDepreciation() != null) {
-            DepreciationEntity depreciation = new DepreciationEntity();
-            BeanUtils.copyProperties(restResource.getDepreciation(), depreciation);
+            DepreciationEntity depreciation = mapRestToEntity(restResource.getDepreciation());
             entityResource.setDepreciation(depreciation);
         }
 
@@ -80,7 +81,10 @@ public class TangibleAssetsTransformer implements NoteTransformer<TangibleAssets
         TangibleAssets tangibleAssets = new TangibleAssets();
         TangibleAssetsDataEntity dataEntity = entity.getData();
 
-        BeanUtils.copyProperties(dataEntity, tangibleAssets);
+        tangibleAssets.setAdditionalInformation(dataEntity.getAdditionalInformation());
+        tangibleAssets.setEtag(dataEntity.getEtag());
+        tangibleAssets.setLinks(dataEntity.getLinks());
+        tangibleAssets.setKind(dataEntity.getKind());
 
         if (dataEntity.getFixturesAndFittings() != null) {
             tangibleAssets.setFixturesAndFittings(
@@ -116,17 +120,16 @@ public class TangibleAssetsTransformer implements NoteTransformer<TangibleAssets
 
     private TangibleAssetsResource mapEntityResourceToRestResource(TangibleAssetsResourceEntity entityResource) {
         TangibleAssetsResource restResource = new TangibleAssetsResource();
-        BeanUtils.copyProperties(entityResource, restResource);
+        restResource.setNetBookValueAtEndOfCurrentPeriod(entityResource.getNetBookValueAtEndOfCurrentPeriod());
+        restResource.setNetBookValueAtEndOfPreviousPeriod(entityResource.getNetBookValueAtEndOfPreviousPeriod());
 
         if (entityResource.getCost() != null) {
-            Cost cost = new Cost();
-            BeanUtils.copyProperties(entityResource.getCost(), cost);
+            Cost cost = mapEntityToRest(entityResource.getCost());
             restResource.setCost(cost);
         }
 
         if (entityResource.getDepreciation() != null) {
-            Depreciation depreciation = new Depreciation();
-            BeanUtils.copyProperties(entityResource.getDepreciation(), depreciation);
+            Depreciation depreciation = mapEntityToRest(entityResource.getDepreciation());
             restResource.setDepreciation(depreciation);
         }
 
@@ -137,4 +140,46 @@ public class TangibleAssetsTransformer implements NoteTransformer<TangibleAssets
     public AccountingNoteType getAccountingNoteType() {
         return AccountingNoteType.SMALL_FULL_TANGIBLE_ASSETS;
     }
-}
\ No newline at end of file
+
+    private CostEntity mapRestToEntity(Cost rest) {
+        CostEntity costEntity = new CostEntity();
+        costEntity.setAdditions(rest.getAdditions());
+        costEntity.setAtPeriodEnd(rest.getAtPeriodEnd());
+        costEntity.setAtPeriodStart(rest.getAtPeriodStart());
+        costEntity.setDisposals(rest.getDisposals());
+        costEntity.setRevaluations(rest.getRevaluations());
+        costEntity.setTransfers(rest.getTransfers());
+        return costEntity;
+    }
+
+    private DepreciationEntity mapRestToEntity(Depreciation rest) {
+        DepreciationEntity depreciationEntity = new DepreciationEntity();
+        depreciationEntity.setAtPeriodEnd(rest.getAtPeriodEnd());
+        depreciationEntity.setAtPeriodStart(rest.getAtPeriodStart());
+        depreciationEntity.setChargeForYear(rest.getChargeForYear());
+        depreciationEntity.setOnDisposals(rest.getOnDisposals());
+        depreciationEntity.setOtherAdjustments(rest.getOtherAdjustments());
+        return depreciationEntity;
+    }
+
+    private Cost mapEntityToRest(CostEntity entity) {
+        Cost cost = new Cost();
+        cost.setAdditions(entity.getAdditions());
+        cost.setAtPeriodEnd(entity.getAtPeriodEnd());
+        cost.setAtPeriodStart(entity.getAtPeriodStart());
+        cost.setDisposals(entity.getDisposals());
+        cost.setRevaluations(entity.getRevaluations());
+        cost.setTransfers(entity.getTransfers());
+        return cost;
+    }
+
+    private Depreciation mapEntityToRest(DepreciationEntity entity) {
+        Depreciation depreciation = new Depreciation();
+        depreciation.setAtPeriodEnd(entity.getAtPeriodEnd());
+        depreciation.setAtPeriodStart(entity.getAtPeriodStart());
+        depreciation.setChargeForYear(entity.getChargeForYear());
+        depreciation.setOnDisposals(entity.getOnDisposals());
+        depreciation.setOtherAdjustments(entity.getOtherAdjustments());
+        return depreciation;
+    }
+}
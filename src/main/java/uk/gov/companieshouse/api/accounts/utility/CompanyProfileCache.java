@@ -0,0 +1,213 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static uk.gov.companieshouse.api.accounts.CompanyAccountsApplication.APPLICATION_NAME_SPACE;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Bounded cache of the company profiles retrieved from the company profile API, keyed by company
+ * number. A profile is served from memory while it is fresh. Once it is stale, but still within
+ * the stale window, it continues to be served while a single background reload replaces it.
+ * Concurrent misses for the same company share a single call to the API, and failed loads are
+ * never cached. Profiles are evicted at the end of the stale window, or once the cache is full,
+ * the profiles least likely to be used again are evicted one at a time. Hits, stale hits and
+ * misses are counted in the {@code company.profile.cache} meter.
+ */
+@Component
+public class CompanyProfileCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private static final String TTL_MILLIS_ENV_VAR = "COMPANY_PROFILE_CACHE_TTL_MILLIS";
+    private static final String STALE_MILLIS_ENV_VAR = "COMPANY_PROFILE_CACHE_STALE_MILLIS";
+    private static final String MAX_SIZE_ENV_VAR = "COMPANY_PROFILE_CACHE_MAX_SIZE";
+    private static final int DEFAULT_TTL_MILLIS = 60000;
+    private static final int DEFAULT_STALE_MILLIS = 300000;
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final String METER_NAME = "company.profile.cache";
+    private static final String RESULT_TAG = "result";
+
+    private final AsyncCache<String, CachedProfile> profiles;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(createRefreshThreadFactory());
+
+    private final long ttlMillis;
+
+    private final Counter hits;
+
+    private final Counter staleHits;
+
+    private final Counter misses;
+
+    @Autowired
+    public CompanyProfileCache(EnvironmentReader environmentReader, MeterRegistry meterRegistry) {
+        this.ttlMillis = Optional.ofNullable(environmentReader.getOptionalInteger(TTL_MILLIS_ENV_VAR))
+                .orElse(DEFAULT_TTL_MILLIS);
+        int staleMillis = Optional.ofNullable(environmentReader.getOptionalInteger(STALE_MILLIS_ENV_VAR))
+                .orElse(DEFAULT_STALE_MILLIS);
+        int maxSize = Optional.ofNullable(environmentReader.getOptionalInteger(MAX_SIZE_ENV_VAR))
+                .orElse(DEFAULT_MAX_SIZE);
+
+        this.profiles = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMillis, 0) + Math.max(staleMillis, 0)))
+                .maximumSize(Math.max(maxSize, 0))
+                .buildAsync();
+
+        this.hits = meterRegistry.counter(METER_NAME, RESULT_TAG, "hit");
+        this.staleHits = meterRegistry.counter(METER_NAME, RESULT_TAG, "stale");
+        this.misses = meterRegistry.counter(METER_NAME, RESULT_TAG, "miss");
+    }
+
+    /**
+     * Get a company profile, calling the loader only if no usable profile is held for the company
+     * and no other thread is already loading it.
+     *
+     * @param companyNumber - the company number
+     * @param loader - retrieves the profile from the company profile API
+     * @return the company profile
+     * @throws ServiceException if the profile had to be loaded and the load failed
+     */
+    public CompanyProfileApi get(String companyNumber, CompanyProfileLoader loader) throws ServiceException {
+        if (ttlMillis <= 0) {
+            misses.increment();
+            return loader.load();
+        }
+
+        CompletableFuture<CachedProfile> cached = profiles.getIfPresent(companyNumber);
+
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            CachedProfile cachedProfile = cached.join();
+            if (System.currentTimeMillis() < cachedProfile.freshUntil()) {
+                hits.increment();
+            } else {
+                staleHits.increment();
+                refreshInBackground(companyNumber, cached, loader);
+            }
+            return cachedProfile.profile();
+        }
+
+        misses.increment();
+        CompletableFuture<CachedProfile> loading = new CompletableFuture<>();
+        CompletableFuture<CachedProfile> current = profiles.asMap().putIfAbsent(companyNumber, loading);
+
+        if (current != null) {
+            return await(current).profile();
+        }
+
+        try {
+            CachedProfile loaded = load(loader);
+            loading.complete(loaded);
+            return loaded.profile();
+        } catch (ServiceException | RuntimeException e) {
+            profiles.asMap().remove(companyNumber, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove the cached profile for a company, so the next lookup calls the API.
+     *
+     * @param companyNumber - the company number
+     */
+    public void invalidate(String companyNumber) {
+        profiles.synchronous().invalidate(companyNumber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshInBackground(String companyNumber, CompletableFuture<CachedProfile> stale,
+                                     CompanyProfileLoader loader) {
+        if (!refreshing.add(companyNumber)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    profiles.asMap().replace(companyNumber, stale, CompletableFuture.completedFuture(load(loader)));
+                } catch (ServiceException | RuntimeException e) {
+                    Map<String, Object> debugMap = new HashMap<>();
+                    debugMap.put("company_number", companyNumber);
+                    LOGGER.error("CompanyProfileCache: background refresh of company profile failed", e, debugMap);
+                } finally {
+                    refreshing.remove(companyNumber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(companyNumber);
+        }
+    }
+
+    private CachedProfile load(CompanyProfileLoader loader) throws ServiceException {
+        CompanyProfileApi profile = loader.load();
+        return new CachedProfile(profile, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private CachedProfile await(CompletableFuture<CachedProfile> profile) throws ServiceException {
+        try {
+            return profile.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServiceException(cause);
+        }
+    }
+
+    /**
+     * Retrieves a company profile from the company profile API
+     */
+    @FunctionalInterface
+    public interface CompanyProfileLoader {
+
+        CompanyProfileApi load() throws ServiceException;
+    }
+
+    private static ThreadFactory createRefreshThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("company-profile-refresh-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private record CachedProfile(CompanyProfileApi profile, long freshUntil) {
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provide a SHA-256 fingerprint of an object's content. The object is serialized to JSON with its
+ * properties and map entries sorted, so that equal content always gives the same fingerprint, and
+ * the JSON is streamed into the digest rather than being built in memory. Raw content, such as a
+ * document, is fingerprinted from its bytes.
+ */
+@Component
+public class ContentFingerprinter {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .addModule(new JavaTimeModule())
+            .build();
+
+    /**
+     * Fingerprint an object's content
+     *
+     * @param content the object to fingerprint
+     * @return the hex encoded SHA-256 digest of the object's content
+     */
+    public String fingerprint(Object content) {
+        MessageDigest messageDigest = createMessageDigest();
+        try (OutputStream digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest)) {
+            MAPPER.writeValue(digestStream, content);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not fingerprint content of class [" + content.getClass() + "]", e);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    /**
+     * Fingerprint raw content
+     *
+     * @param content the bytes to fingerprint
+     * @return the hex encoded SHA-256 digest of the content
+     */
+    public String fingerprint(byte[] content) {
+        return HexFormat.of().formatHex(createMessageDigest().digest(content));
+    }
+
+    /**
+     * Fingerprint raw content as it is copied from a stream, so that it only needs to be read once
+     *
+     * @param content the stream to fingerprint, which is read to the end
+     * @param copy where the content is copied to
+     * @return the hex encoded SHA-256 digest of the content
+     * @throws IOException if the content could not be read or copied
+     */
+    public String fingerprint(InputStream content, OutputStream copy) throws IOException {
+        MessageDigest messageDigest = createMessageDigest();
+        content.transferTo(new DigestOutputStream(copy, messageDigest));
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Request scoped identity map of the entities read from Mongo. The interceptor chain and the
+ * services called afterwards look up the same company account, small full and period documents,
+ * so each entity is held here once it has been read and is served from memory for the rest of
+ * the request. Services must evict an entity whenever they write it. Hits and misses are counted
+ * across all requests.
+ */
+@Component
+@RequestScope
+public class RequestEntityCache {
+
+    private static final String METER_NAME = "request.entity.cache";
+    private static final String RESULT_TAG = "result";
+
+    private final Map<String, Object> entities = new HashMap<>();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    @Autowired
+    public RequestEntityCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter(METER_NAME, RESULT_TAG, "hit");
+        this.misses = meterRegistry.counter(METER_NAME, RESULT_TAG, "miss");
+    }
+
+    /**
+     * Get an entity previously read during this request
+     *
+     * @param type - the entity class
+     * @param id - the entity id
+     * @return the cached entity, or empty if it has not been read yet
+     */
+    public <E> Optional<E> get(Class<E> type, String id) {
+        Object entity = entities.get(createKey(type, id));
+        if (entity == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(type.cast(entity));
+    }
+
+    /**
+     * Hold an entity read from the database for the rest of this request. Null entities are not
+     * cached, so a resource created later in the request will still be found.
+     *
+     * @param id - the entity id
+     * @param entity - the entity
+     */
+    public <E> void put(String id, E entity) {
+        if (entity != null) {
+            entities.put(createKey(entity.getClass(), id), entity);
+        }
+    }
+
+    /**
+     * Remove an entity that has been written, or is about to be written, during this request
+     *
+     * @param type - the entity class
+     * @param id - the entity id
+     */
+    public void evict(Class<?> type, String id) {
+        entities.remove(createKey(type, id));
+    }
+
+    private String createKey(Class<?> type, String id) {
+        return type.getName() + ":" + id;
+    }
+}
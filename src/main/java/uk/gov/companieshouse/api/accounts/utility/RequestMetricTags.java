@@ -0,0 +1,88 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.accounts.enumeration.AccountType;
+import uk.gov.companieshouse.api.accounts.enumeration.NoteType;
+
+/**
+ * The account type and note type tags added to the timers recorded while a request is processed,
+ * so that interceptor, repository and outbound call times can be broken down by the resource being
+ * worked on. Both are read from the request URI, e.g. {@code small-full} and {@code stocks} for
+ * {@code .../small-full/notes/stocks}, and are {@code none} when the URI has no such segment.
+ * Only the values of {@link AccountType} and {@link NoteType} are used, so the number of tag values
+ * stays bounded whatever the URI.
+ */
+public final class RequestMetricTags {
+
+    public static final String ACCOUNT_TYPE_TAG = "account_type";
+    public static final String NOTE_TYPE_TAG = "note_type";
+    public static final String NONE = "none";
+
+    private static final String NOTES_SEGMENT = "notes";
+
+    private static final String TAGS_ATTRIBUTE = RequestMetricTags.class.getName();
+
+    private static final Tags NO_REQUEST_TAGS = Tags.of(ACCOUNT_TYPE_TAG, NONE, NOTE_TYPE_TAG, NONE);
+
+    private static final Map<String, AccountType> ACCOUNT_TYPES = Arrays.stream(AccountType.values())
+            .collect(Collectors.toMap(AccountType::getType, Function.identity()));
+
+    private static final Map<String, NoteType> NOTE_TYPES = Arrays.stream(NoteType.values())
+            .collect(Collectors.toMap(NoteType::getType, Function.identity()));
+
+    private RequestMetricTags() {
+    }
+
+    /**
+     * @return the tags of the request being processed by the current thread, or {@code none} tags
+     *         when there is no such request, e.g. on a filing job thread
+     */
+    public static Tags forCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return forRequest(servletRequestAttributes.getRequest());
+        }
+        return NO_REQUEST_TAGS;
+    }
+
+    /**
+     * @return the tags of a request, which are worked out once and then held on the request
+     */
+    public static Tags forRequest(HttpServletRequest request) {
+        Object tags = request.getAttribute(TAGS_ATTRIBUTE);
+        if (tags instanceof Tags requestTags) {
+            return requestTags;
+        }
+
+        Tags requestTags = fromUri(request.getRequestURI());
+        request.setAttribute(TAGS_ATTRIBUTE, requestTags);
+        return requestTags;
+    }
+
+    static Tags fromUri(String uri) {
+        String accountType = NONE;
+        String noteType = NONE;
+
+        if (uri != null) {
+            String[] segments = uri.split("/");
+            for (int i = 0; i < segments.length; i++) {
+                if (ACCOUNT_TYPES.containsKey(segments[i])) {
+                    accountType = segments[i];
+                } else if (NOTES_SEGMENT.equals(segments[i]) && i + 1 < segments.length
+                        && NOTE_TYPES.containsKey(segments[i + 1])) {
+                    noteType = segments[i + 1];
+                }
+            }
+        }
+
+        return Tags.of(ACCOUNT_TYPE_TAG, accountType, NOTE_TYPE_TAG, noteType);
+    }
+}
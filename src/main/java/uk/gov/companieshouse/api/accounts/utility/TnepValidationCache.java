@@ -0,0 +1,159 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static uk.gov.companieshouse.api.accounts.CompanyAccountsApplication.APPLICATION_NAME_SPACE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.model.entity.TnepValidationResultEntity;
+import uk.gov.companieshouse.api.accounts.repository.TnepValidationResultRepository;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Cache of the documents which have passed TNEP validation, keyed by the SHA-256 of the validated
+ * ixbrl, so that a document which is known to be valid is not uploaded again. Only a passed status
+ * is cached: a failure may be caused by the validator itself, such as a taxonomy it has since been
+ * fixed to accept, so a failed document is always validated again. Passed statuses are held in a
+ * bounded in-process cache and stored in the {@code tnep_validation_results} collection, where they
+ * expire after {@code TNEP_VALIDATION_STORE_TTL_MILLIS}, seven days by default. A failure to read or
+ * write the collection is logged and treated as a miss. Hits from memory, hits from the collection
+ * and misses are counted in the {@code tnep.validation.cache} meter.
+ */
+@Component
+public class TnepValidationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private static final String TTL_MILLIS_ENV_VAR = "TNEP_VALIDATION_CACHE_TTL_MILLIS";
+    private static final String MAX_SIZE_ENV_VAR = "TNEP_VALIDATION_CACHE_MAX_SIZE";
+    private static final String STORE_TTL_MILLIS_ENV_VAR = "TNEP_VALIDATION_STORE_TTL_MILLIS";
+    private static final int DEFAULT_TTL_MILLIS = 3600000;
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final int DEFAULT_STORE_TTL_MILLIS = 604800000;
+
+    private static final String PASSED_STATUS = "OK";
+
+    private static final String METER_NAME = "tnep.validation.cache";
+    private static final String RESULT_TAG = "result";
+
+    private final TnepValidationResultRepository tnepValidationResultRepository;
+
+    private final Cache<String, String> validationStatuses;
+
+    private final long storeTtlMillis;
+
+    private final Counter hits;
+
+    private final Counter storedHits;
+
+    private final Counter misses;
+
+    @Autowired
+    public TnepValidationCache(TnepValidationResultRepository tnepValidationResultRepository,
+                               EnvironmentReader environmentReader,
+                               MeterRegistry meterRegistry) {
+        this.tnepValidationResultRepository = tnepValidationResultRepository;
+        int ttlMillis = Optional.ofNullable(environmentReader.getOptionalInteger(TTL_MILLIS_ENV_VAR))
+                .orElse(DEFAULT_TTL_MILLIS);
+        int maxSize = Optional.ofNullable(environmentReader.getOptionalInteger(MAX_SIZE_ENV_VAR))
+                .orElse(DEFAULT_MAX_SIZE);
+        this.storeTtlMillis = Optional.ofNullable(environmentReader.getOptionalInteger(STORE_TTL_MILLIS_ENV_VAR))
+                .orElse(DEFAULT_STORE_TTL_MILLIS);
+
+        this.validationStatuses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMillis, 0)))
+                .maximumSize(Math.max(maxSize, 0))
+                .build();
+
+        this.hits = meterRegistry.counter(METER_NAME, RESULT_TAG, "hit");
+        this.storedHits = meterRegistry.counter(METER_NAME, RESULT_TAG, "stored");
+        this.misses = meterRegistry.counter(METER_NAME, RESULT_TAG, "miss");
+    }
+
+    /**
+     * Get the validation status previously returned for an ixbrl document.
+     *
+     * @param contentHash - the SHA-256 of the ixbrl content
+     * @return the validation status, or null if the document is not known to have passed validation
+     */
+    public String getValidationStatus(String contentHash) {
+        String heldValidationStatus = validationStatuses.getIfPresent(contentHash);
+        if (heldValidationStatus != null) {
+            hits.increment();
+            return heldValidationStatus;
+        }
+
+        String validationStatus = findStoredValidationStatus(contentHash);
+        if (validationStatus == null) {
+            misses.increment();
+            return null;
+        }
+
+        storedHits.increment();
+        validationStatuses.put(contentHash, validationStatus);
+        return validationStatus;
+    }
+
+    /**
+     * Record the validation status returned for an ixbrl document. A status other than a pass is
+     * not recorded.
+     *
+     * @param contentHash - the SHA-256 of the ixbrl content
+     * @param validationStatus - the status returned by the TNEP validator
+     */
+    public void putValidationStatus(String contentHash, String validationStatus) {
+        if (!PASSED_STATUS.equalsIgnoreCase(validationStatus)) {
+            return;
+        }
+
+        validationStatuses.put(contentHash, validationStatus);
+
+        if (storeTtlMillis <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        TnepValidationResultEntity tnepValidationResult = new TnepValidationResultEntity();
+        tnepValidationResult.setId(contentHash);
+        tnepValidationResult.setValidationStatus(validationStatus);
+        tnepValidationResult.setCreatedAt(now);
+        tnepValidationResult.setExpiresAt(now.plus(Duration.ofMillis(storeTtlMillis)));
+
+        try {
+            tnepValidationResultRepository.save(tnepValidationResult);
+        } catch (DataAccessException e) {
+            logError(e, contentHash, "TnepValidationCache: failed to store validation status");
+        }
+    }
+
+    private String findStoredValidationStatus(String contentHash) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            return tnepValidationResultRepository.findById(contentHash)
+                    .filter(result -> result.getExpiresAt() == null || result.getExpiresAt().isAfter(now))
+                    .filter(result -> PASSED_STATUS.equalsIgnoreCase(result.getValidationStatus()))
+                    .map(TnepValidationResultEntity::getValidationStatus)
+                    .orElse(null);
+        } catch (DataAccessException e) {
+            logError(e, contentHash, "TnepValidationCache: failed to read stored validation status");
+            return null;
+        }
+    }
+
+    private void logError(DataAccessException e, String contentHash, String message) {
+        Map<String, Object> debugMap = new HashMap<>();
+        debugMap.put("content_hash", contentHash);
+        LOGGER.error(message, e, debugMap);
+    }
+}
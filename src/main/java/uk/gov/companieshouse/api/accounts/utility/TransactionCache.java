@@ -0,0 +1,128 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * Short lived, bounded cache of the transactions retrieved from the transactions API, keyed by
+ * transaction id and caller identity. Concurrent lookups of the same key share a single call to
+ * the transactions API, and failed lookups are never cached. Once the cache is full, the entries
+ * least likely to be used again are evicted one at a time.
+ *
+ * <p>A cached transaction is shared by every request which looks it up, so must not be modified.
+ */
+@Component
+public class TransactionCache {
+
+    private static final String TTL_MILLIS_ENV_VAR = "TRANSACTION_CACHE_TTL_MILLIS";
+    private static final String MAX_SIZE_ENV_VAR = "TRANSACTION_CACHE_MAX_SIZE";
+    private static final int DEFAULT_TTL_MILLIS = 5000;
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final long ttlMillis;
+
+    private final AsyncCache<String, Transaction> transactions;
+
+    @Autowired
+    public TransactionCache(EnvironmentReader environmentReader) {
+        this.ttlMillis = Optional.ofNullable(environmentReader.getOptionalInteger(TTL_MILLIS_ENV_VAR))
+                .orElse(DEFAULT_TTL_MILLIS);
+        int maxSize = Optional.ofNullable(environmentReader.getOptionalInteger(MAX_SIZE_ENV_VAR))
+                .orElse(DEFAULT_MAX_SIZE);
+
+        this.transactions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMillis, 0)))
+                .maximumSize(Math.max(maxSize, 0))
+                .buildAsync();
+    }
+
+    /**
+     * Get a transaction, calling the loader only if no unexpired transaction is held for the
+     * transaction id and caller identity, and no other thread is already loading it.
+     *
+     * @param transactionId - the transaction id
+     * @param identity - the caller identity, if null the cache is bypassed
+     * @param loader - retrieves the transaction from the transactions API
+     * @return the transaction
+     */
+    public Transaction get(String transactionId, String identity, TransactionLoader loader)
+            throws IOException, URIValidationException {
+        if (ttlMillis <= 0 || identity == null) {
+            return loader.load();
+        }
+
+        String key = createKey(transactionId, identity);
+        CompletableFuture<Transaction> loading = new CompletableFuture<>();
+        CompletableFuture<Transaction> transaction = transactions.asMap().putIfAbsent(key, loading);
+
+        if (transaction != null) {
+            return await(transaction);
+        }
+
+        try {
+            Transaction loaded = loader.load();
+            loading.complete(loaded);
+            return loaded;
+        } catch (IOException | URIValidationException | RuntimeException e) {
+            transactions.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove every cached copy of a transaction, for all caller identities. Must be called
+     * whenever the transaction is changed by this service.
+     *
+     * @param transactionId - the transaction id
+     */
+    public void invalidate(String transactionId) {
+        String prefix = transactionId + ":";
+        transactions.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private Transaction await(CompletableFuture<Transaction> transaction)
+            throws IOException, URIValidationException {
+        try {
+            return transaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for transaction", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof URIValidationException uriValidationException) {
+                throw uriValidationException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private String createKey(String transactionId, String identity) {
+        return transactionId + ":" + identity;
+    }
+
+    /**
+     * Retrieves a transaction from the transactions API
+     */
+    @FunctionalInterface
+    public interface TransactionLoader {
+
+        Transaction load() throws IOException, URIValidationException;
+    }
+}
@@ -1,5 +1,9 @@
 package uk.gov.companieshouse.api.accounts.utility.filetransfer;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 public interface FileTransferTool {
 
     /**
@@ -9,4 +13,45 @@ public interface FileTransferTool {
      * @return {@link String} containing the downloaded file. Return null if file not downloaded.
      */
     String downloadFileFromLocation(String fileLocation);
+
+    /**
+     * It will stream a file from the location passed in to the consumer, without holding the whole
+     * file in memory. The stream is closed once the consumer returns.
+     *
+     * @param fileLocation - Contains the public location of the file.
+     * @param consumer - Reads the file content.
+     * @return the value returned by the consumer. Return null if the file could not be streamed.
+     */
+    <T> T streamFileFromLocation(String fileLocation, FileStreamConsumer<T> consumer);
+
+    /**
+     * It will stream a file to the location passed in as the producer writes it, without holding
+     * the whole file in memory. Nothing is stored if the producer fails.
+     *
+     * @param fileLocation - Contains the private location the file is written to.
+     * @param contentType - the MIME type of the file.
+     * @param producer - Writes the file content.
+     * @return true if the whole file was stored, false otherwise.
+     */
+    boolean streamFileToLocation(String fileLocation, String contentType, FileStreamProducer producer);
+
+    @FunctionalInterface
+    interface FileStreamConsumer<T> {
+
+        /**
+         * @param content - the file content, which must not be closed by the consumer.
+         * @param contentLength - the length of the file content in bytes.
+         */
+        T accept(InputStream content, long contentLength) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface FileStreamProducer {
+
+        /**
+         * @param content - where the file content is written, which must not be closed by the
+         *                producer.
+         */
+        void writeTo(OutputStream content) throws IOException;
+    }
 }
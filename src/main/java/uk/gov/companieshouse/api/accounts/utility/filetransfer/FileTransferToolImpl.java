@@ -4,6 +4,9 @@ import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -13,6 +16,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.configuration.AmazonS3Configuration;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 
@@ -26,9 +31,12 @@ public class FileTransferToolImpl implements FileTransferTool {
 
     private final AmazonS3 amazonS3;
 
+    private final OutboundCallGuard outboundCallGuard;
+
     @Autowired
-    FileTransferToolImpl(AmazonS3 amazonS3) {
+    FileTransferToolImpl(AmazonS3 amazonS3, OutboundCallGuard outboundCallGuard) {
         this.amazonS3 = amazonS3;
+        this.outboundCallGuard = outboundCallGuard;
     }
 
     @Override
@@ -50,6 +58,96 @@ public class FileTransferToolImpl implements FileTransferTool {
         return downloadedFile;
     }
 
+    @Override
+    public <T> T streamFileFromLocation(String fileLocation, FileStreamConsumer<T> consumer) {
+        LOGGER.info("FileTransferToolImpl: Start process to stream file from location: " + fileLocation);
+
+        T result = null;
+
+        if (StringUtils.startsWithIgnoreCase(fileLocation, S3_BUCKET)) {
+            result = streamFileFromS3(fileLocation, consumer);
+        } else {
+            logError(null, "FileTransferImpl: Invalid file location",
+                "The file cannot be streamed as it is not stored in a private S3 location: "
+                    + fileLocation);
+        }
+
+        LOGGER.info("FileTransferToolImpl: Process to stream file has finished");
+
+        return result;
+    }
+
+    @Override
+    public boolean streamFileToLocation(String fileLocation, String contentType, FileStreamProducer producer) {
+        LOGGER.info("FileTransferToolImpl: Start process to stream file to location: " + fileLocation);
+
+        boolean stored = false;
+
+        if (StringUtils.startsWithIgnoreCase(fileLocation, S3_BUCKET)) {
+            stored = streamFileToS3(fileLocation, contentType, producer);
+        } else {
+            logError(null, "FileTransferImpl: Invalid file location",
+                "The file cannot be streamed as it is not a private S3 location: " + fileLocation);
+        }
+
+        LOGGER.info("FileTransferToolImpl: Process to stream file has finished");
+
+        return stored;
+    }
+
+    private boolean streamFileToS3(String fileLocation, String contentType, FileStreamProducer producer) {
+        String bucket = getBucket(fileLocation);
+        S3UploadOutputStream upload = new S3UploadOutputStream(amazonS3, outboundCallGuard,
+                bucket, getKey(fileLocation, bucket), contentType, S3UploadOutputStream.PART_SIZE);
+
+        boolean stored = false;
+        try {
+            producer.writeTo(upload);
+            upload.close();
+            stored = true;
+        } catch (SdkClientException sdkEx) {
+            logError(sdkEx,
+                "FileTransferImpl: SdkClientException thrown when streaming file to S3",
+                "Fail to stream file as S3 location cannot be accessed: " + fileLocation);
+        } catch (IOException ex) {
+            logError(ex,
+                "FileTransferImpl: IOException thrown when streaming file to S3",
+                "Fail to stream file to location: " + fileLocation);
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            logError(ex,
+                "FileTransferImpl: S3 call rejected when streaming file",
+                "Fail to stream file as S3 is unavailable or busy: " + fileLocation);
+        } finally {
+            if (!stored) {
+                upload.abort();
+            }
+        }
+
+        return stored;
+    }
+
+    private <T> T streamFileFromS3(String fileLocation, FileStreamConsumer<T> consumer) {
+        try (S3Object s3Object = getObjectInS3(fileLocation);
+                S3ObjectInputStream objectContent = s3Object.getObjectContent()) {
+
+            return consumer.accept(objectContent, s3Object.getObjectMetadata().getContentLength());
+        } catch (SdkClientException sdkEx) {
+            logError(sdkEx,
+                "FileTransferImpl: SdkClientException thrown when streaming file from S3",
+                "Fail to stream file as S3 location cannot be accessed: " + fileLocation);
+        } catch (IOException ex) {
+            logError(ex,
+                "FileTransferImpl: IOException thrown when streaming file from S3",
+                "Fail to stream file from location: " + fileLocation);
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            logError(ex,
+                "FileTransferImpl: S3 call rejected when streaming file",
+                "Fail to stream file as S3 is unavailable or busy: " + fileLocation);
+        }
+
+        return null;
+    }
+
     private String downloadFileFromS3(String fileLocation) {
         try {
             S3Object s3Object = getObjectInS3(fileLocation);
@@ -63,6 +161,10 @@ public class FileTransferToolImpl implements FileTransferTool {
             logError(ex,
                 "FileTransferImpl: IOException thrown when trying to convert file",
                 "Fail to convert file from InputString to String");
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            logError(ex,
+                "FileTransferImpl: S3 call rejected when downloading file",
+                "Fail to download file as S3 is unavailable or busy: " + fileLocation);
         }
 
         return null;
@@ -70,17 +172,24 @@ public class FileTransferToolImpl implements FileTransferTool {
 
     /**
      * It will get the S3Object by using the location information: bucket name and the location of the
-     * file within the bucket(key).
+     * file within the bucket(key). Getting an object is idempotent, so it is retried if it fails.
      *
      * @param location - location
      */
     private S3Object getObjectInS3(String location) {
-        String locationWithoutS3 = location.replace(S3_BUCKET, "");
+        String bucket = getBucket(location);
+        String key = getKey(location, bucket);
 
-        String bucket = locationWithoutS3.split(PATH_DELIMITER)[0];
-        String key = locationWithoutS3.replace(bucket + PATH_DELIMITER, "");
+        return outboundCallGuard.callIdempotent(AmazonS3Configuration.AMAZON_S3,
+                () -> amazonS3.getObject(new GetObjectRequest(bucket, key)));
+    }
+
+    private String getBucket(String location) {
+        return location.replace(S3_BUCKET, "").split(PATH_DELIMITER)[0];
+    }
 
-        return amazonS3.getObject(new GetObjectRequest(bucket, key));
+    private String getKey(String location, String bucket) {
+        return location.replace(S3_BUCKET, "").replace(bucket + PATH_DELIMITER, "");
     }
 
     private String convertInputStringToString(InputStream inputStream) throws IOException {
@@ -0,0 +1,179 @@
+package uk.gov.companieshouse.api.accounts.utility.filetransfer;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import uk.gov.companieshouse.api.accounts.configuration.AmazonS3Configuration;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
+
+/**
+ * Writes an S3 object as it is produced, holding at most one part in memory. An object that fits
+ * in a single part is stored with one put; a larger one is sent as a multipart upload, started
+ * when the first part is full. The part buffer starts small and grows as it is written to, so a
+ * small object does not cost a whole part. The object is only stored when the stream is closed,
+ * and {@link #abort()} discards anything already sent.
+ */
+class S3UploadOutputStream extends OutputStream {
+
+    /**
+     * The smallest part S3 accepts in a multipart upload, other than the last.
+     */
+    static final int PART_SIZE = 5 * 1024 * 1024;
+
+    static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3 amazonS3;
+
+    private final OutboundCallGuard outboundCallGuard;
+
+    private final String bucket;
+
+    private final String key;
+
+    private final String contentType;
+
+    private final int partSize;
+
+    private byte[] buffer;
+
+    private final List<PartETag> partETags = new ArrayList<>();
+
+    private int count;
+
+    private String uploadId;
+
+    private boolean closed;
+
+    S3UploadOutputStream(AmazonS3 amazonS3, OutboundCallGuard outboundCallGuard, String bucket,
+            String key, String contentType, int partSize) {
+        this.amazonS3 = amazonS3;
+        this.outboundCallGuard = outboundCallGuard;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.partSize = partSize;
+        this.buffer = new byte[Math.min(INITIAL_BUFFER_SIZE, partSize)];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (count == buffer.length) {
+            makeRoom();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            if (count == buffer.length) {
+                makeRoom();
+            }
+            int copied = Math.min(length, buffer.length - count);
+            System.arraycopy(bytes, offset, buffer, count, copied);
+            count += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    /**
+     * Store the object. A part is only sent once the next byte is written, so the last part is
+     * never empty.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (uploadId == null) {
+            outboundCallGuard.callIdempotent(AmazonS3Configuration.AMAZON_S3,
+                    () -> amazonS3.putObject(new PutObjectRequest(bucket, key,
+                            new ByteArrayInputStream(buffer, 0, count), metadata(count))));
+        } else {
+            uploadPart();
+            outboundCallGuard.callIdempotent(AmazonS3Configuration.AMAZON_S3,
+                    () -> amazonS3.completeMultipartUpload(
+                            new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags)));
+        }
+    }
+
+    /**
+     * Discard the object, aborting a multipart upload so that S3 does not keep its parts. This is
+     * best effort: a failure is left for the bucket's lifecycle rules to clean up.
+     */
+    void abort() {
+        closed = true;
+
+        if (uploadId != null) {
+            try {
+                amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            } catch (SdkClientException e) {
+                // The multipart upload is left incomplete
+            }
+            uploadId = null;
+        }
+    }
+
+    /**
+     * Make room in a full buffer, growing it until it holds a whole part and then sending the part.
+     */
+    private void makeRoom() {
+        if (buffer.length < partSize) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min((long) buffer.length * 2, partSize));
+        } else {
+            uploadPart();
+        }
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            uploadId = outboundCallGuard.call(AmazonS3Configuration.AMAZON_S3,
+                    () -> amazonS3.initiateMultipartUpload(
+                            new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId());
+        }
+
+        int partNumber = partETags.size() + 1;
+        int partSize = count;
+        partETags.add(outboundCallGuard.callIdempotent(AmazonS3Configuration.AMAZON_S3,
+                () -> amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, partSize))
+                        .withPartSize(partSize)).getPartETag()));
+        count = 0;
+    }
+
+    private ObjectMetadata metadata(long contentLength) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(contentLength);
+        return metadata;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -5,39 +5,93 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.companieshouse.api.accounts.utility.IdGenerator;
 
+/**
+ * Generates ids, shared by every request. Each key is digested with a clone of one prototype
+ * {@link MessageDigest}, which is never used itself, so there is no digest per thread to hold on
+ * to however many (virtual) threads generate ids. Random ids are drawn from one
+ * {@link SecureRandom}, which is safe for concurrent use. The interceptors and services of a request derive the same ids repeatedly,
+ * so during a request each id is generated once and remembered until the request ends.
+ */
 @Component
-@RequestScope
 public class KeyIdGenerator implements IdGenerator {
 
     private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder();
     private static final String MESSAGE_DIGEST_ALGORITHM = MessageDigestAlgorithms.SHA_256;
-    private final MessageDigest messageDigest;
+    private static final String GENERATED_IDS_ATTRIBUTE = KeyIdGenerator.class.getName() + ".GENERATED_IDS";
+    private static final int RANDOM_ID_BYTES = 20;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final MessageDigest prototypeMessageDigest;
 
     public KeyIdGenerator() {
-        try {
-            messageDigest = MessageDigest.getInstance(MESSAGE_DIGEST_ALGORITHM);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("Cannot find essential MessageDigest: " + MESSAGE_DIGEST_ALGORITHM, e);
-        }
+        // Fail on startup, rather than on the first request, if the algorithm is not available
+        prototypeMessageDigest = createMessageDigest();
     }
 
     @Override
     public String generate(String key) {
-        byte[] id = messageDigest.digest(key.getBytes(StandardCharsets.UTF_8));
-        return BASE64_ENCODER.encodeToString(id);
+        Map<String, String> generatedIds = getGeneratedIds();
+        if (generatedIds == null) {
+            return digest(key);
+        }
+        return generatedIds.computeIfAbsent(key, this::digest);
     }
 
     @Override
     public String generateRandom() {
-        SecureRandom random = new SecureRandom();
-        byte[] bytes = new byte[20];
-        random.nextBytes(bytes);
+        byte[] bytes = new byte[RANDOM_ID_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
         return BASE64_ENCODER.encodeToString(bytes);
     }
-}
\ No newline at end of file
+
+    private String digest(String key) {
+        byte[] id = newMessageDigest().digest(key.getBytes(StandardCharsets.UTF_8));
+        return BASE64_ENCODER.encodeToString(id);
+    }
+
+    /**
+     * @return the ids generated during the current request, or null outside of a request
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getGeneratedIds() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Map<String, String> generatedIds = (Map<String, String>) requestAttributes.getAttribute(
+                GENERATED_IDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (generatedIds == null) {
+            generatedIds = new HashMap<>();
+            requestAttributes.setAttribute(GENERATED_IDS_ATTRIBUTE, generatedIds, RequestAttributes.SCOPE_REQUEST);
+        }
+        return generatedIds;
+    }
+
+    private MessageDigest newMessageDigest() {
+        try {
+            return (MessageDigest) prototypeMessageDigest.clone();
+        } catch (CloneNotSupportedException e) {
+            // The provider's digest cannot be cloned, so look up a new one instead
+            return createMessageDigest();
+        }
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(MESSAGE_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot find essential MessageDigest: " + MESSAGE_DIGEST_ALGORITHM, e);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package uk.gov.companieshouse.api.accounts.utility.ixbrl;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -13,6 +16,8 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundHttpConfiguration;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorRequest;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
 import uk.gov.companieshouse.environment.EnvironmentReader;
@@ -41,10 +46,15 @@ public class DocumentGeneratorCaller {
 
     private final EnvironmentReader environmentReader;
 
+    private final OutboundCallGuard outboundCallGuard;
+
     @Autowired
-    DocumentGeneratorCaller(RestTemplate restTemplate, EnvironmentReader environmentReader) {
+    DocumentGeneratorCaller(@Qualifier(OutboundHttpConfiguration.DOCUMENT_GENERATOR_REST_TEMPLATE) RestTemplate restTemplate,
+                            EnvironmentReader environmentReader,
+                            OutboundCallGuard outboundCallGuard) {
         this.restTemplate = restTemplate;
         this.environmentReader = environmentReader;
+        this.outboundCallGuard = outboundCallGuard;
     }
 
     public DocumentGeneratorResponse callDocumentGeneratorService(String accountsResourceUri) {
@@ -53,11 +63,13 @@ public class DocumentGeneratorCaller {
         try {
             LOGGER.info("DocumentGeneratorCaller: Calling the document generator");
 
-            ResponseEntity<DocumentGeneratorResponse> response =
-                restTemplate.postForEntity(
+            // Generating a document is not idempotent, so the call is not retried
+            ResponseEntity<DocumentGeneratorResponse> response = outboundCallGuard.call(
+                OutboundHttpConfiguration.DOCUMENT_GENERATOR,
+                () -> restTemplate.postForEntity(
                     getDocumentGeneratorURL(),
                     createHttpEntity(accountsResourceUri),
-                    DocumentGeneratorResponse.class);
+                    DocumentGeneratorResponse.class));
 
             if (response.getStatusCode().equals(HttpStatus.CREATED)) {
                 documentGeneratorResponse = response.getBody();
@@ -75,6 +87,12 @@ public class DocumentGeneratorCaller {
             LOGGER.error(
                 "DocumentGeneratorCaller: Exception occurred when calling the Document Generator",
                 e, debugMap);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            final Map<String, Object> debugMap = new HashMap<>();
+            debugMap.put("accounts id", accountsResourceUri);
+            LOGGER.error(
+                "DocumentGeneratorCaller: Document Generator call rejected as the service is unavailable or busy",
+                e, debugMap);
         }
 
         return documentGeneratorResponse;
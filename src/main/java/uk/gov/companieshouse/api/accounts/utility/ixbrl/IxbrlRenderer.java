@@ -0,0 +1,217 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.AccountsType;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.exception.TemplateException;
+import uk.gov.companieshouse.api.accounts.links.CompanyAccountLinkType;
+import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
+import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.Links;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
+import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.FilingTemplate;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Renders the ixbrl of an account in process, from the filing template bundled for its account
+ * type, instead of calling the document generator. The ixbrl is streamed to S3 as it is rendered
+ * and is described by a {@link DocumentGeneratorResponse}, as the document generator would.
+ *
+ * <p>Rendering is enabled for the account types listed in {@code IXBRL_RENDERING_ACCOUNT_TYPES},
+ * e.g. {@code small-full}, and writes beneath the S3 location in {@code IXBRL_RENDERING_LOCATION}.
+ * It is disabled unless both are set.
+ */
+@Component
+public class IxbrlRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
+
+    private static final String ACCOUNT_TYPES_ENV_VAR = "IXBRL_RENDERING_ACCOUNT_TYPES";
+    private static final String LOCATION_ENV_VAR = "IXBRL_RENDERING_LOCATION";
+
+    private static final String TEMPLATE_PATH = "filing/templates/";
+    private static final String CONTENT_TYPE = "text/html";
+    private static final String LOG_MESSAGE_KEY = "message";
+    private static final String PERIOD_END_ON = "period_end_on";
+
+    /**
+     * The filing description of each account type that has a bundled template.
+     */
+    private static final Map<AccountsType, String> DESCRIPTIONS = Map.of(
+            AccountsType.SMALL_FULL_ACCOUNTS, "Small full accounts made up to {period_end_on}");
+
+    private final AccountTreeService accountTreeService;
+
+    private final SmallFullAccountsModelBuilder smallFullAccountsModelBuilder;
+
+    private final FileTransferTool fileTransferTool;
+
+    private final String location;
+
+    private final ContentFingerprinter contentFingerprinter;
+
+    private final Map<AccountsType, FilingTemplate> templates = new EnumMap<>(AccountsType.class);
+
+    private final Map<AccountsType, String> templateVersions = new EnumMap<>(AccountsType.class);
+
+    @Autowired
+    public IxbrlRenderer(EnvironmentReader environmentReader,
+                         AccountTreeService accountTreeService,
+                         SmallFullAccountsModelBuilder smallFullAccountsModelBuilder,
+                         FileTransferTool fileTransferTool,
+                         ContentFingerprinter contentFingerprinter) {
+        this.accountTreeService = accountTreeService;
+        this.smallFullAccountsModelBuilder = smallFullAccountsModelBuilder;
+        this.fileTransferTool = fileTransferTool;
+        this.contentFingerprinter = contentFingerprinter;
+
+        String accountTypes = environmentReader.getOptionalString(ACCOUNT_TYPES_ENV_VAR);
+        if (accountTypes == null || accountTypes.isBlank()) {
+            this.location = null;
+            return;
+        }
+
+        this.location = environmentReader.getOptionalString(LOCATION_ENV_VAR);
+        if (location == null || location.isBlank()) {
+            logError(null, "IxbrlRenderer: Rendering disabled",
+                    LOCATION_ENV_VAR + " must be set to render ixbrl in process");
+            return;
+        }
+
+        for (String accountType : accountTypes.split(",")) {
+            loadTemplate(accountType.trim());
+        }
+    }
+
+    /**
+     * @return true if the ixbrl of the account type is rendered in process.
+     */
+    public boolean isRenderingEnabled(AccountsType accountsType) {
+        return templates.containsKey(accountsType);
+    }
+
+    /**
+     * @return the version of the template the ixbrl of the account type is rendered from, which
+     *         changes whenever the bundled template does, or null if it is not rendered in process.
+     */
+    public String getTemplateVersion(AccountsType accountsType) {
+        return templateVersions.get(accountsType);
+    }
+
+    /**
+     * Render the ixbrl of an account and store it in S3.
+     *
+     * @param transaction - the transaction the account is filed with
+     * @param companyAccount - the company account
+     * @param accountsType - the account type, for which rendering must be enabled
+     * @return the location and description of the ixbrl, or null if it could not be rendered or
+     *         stored
+     */
+    public DocumentGeneratorResponse renderIxbrl(Transaction transaction, CompanyAccount companyAccount,
+                                                 AccountsType accountsType) {
+
+        FilingTemplate template = templates.get(accountsType);
+        String companyAccountsURI = companyAccount.getLinks().get(CompanyAccountLinkType.SELF.getLink());
+
+        try {
+            AccountTree accountTree = accountTreeService.getAccountTree(companyAccount);
+            LocalDate periodEndOn = smallFullAccountsModelBuilder.getPeriodEndOn(accountTree);
+            if (periodEndOn == null) {
+                logError(null, "IxbrlRenderer: Ixbrl rendering failed",
+                        "The account has no period end: " + companyAccountsURI);
+                return null;
+            }
+
+            Map<String, Object> model = smallFullAccountsModelBuilder.buildModel(transaction, accountTree);
+            String fileLocation = location + "/" + accountsType.getAccountType() + "-" + UUID.randomUUID() + ".html";
+
+            LOGGER.info("IxbrlRenderer: Rendering ixbrl for " + companyAccountsURI);
+
+            boolean stored = fileTransferTool.streamFileToLocation(fileLocation, CONTENT_TYPE, content -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(content, StandardCharsets.UTF_8));
+                template.render(model, writer);
+                writer.flush();
+            });
+
+            return stored ? createResponse(accountsType, fileLocation, periodEndOn) : null;
+        } catch (DataException | ServiceException | TemplateException e) {
+            logError(e, "IxbrlRenderer: Ixbrl rendering failed",
+                    "Unable to render ixbrl for " + companyAccountsURI);
+            return null;
+        }
+    }
+
+    private DocumentGeneratorResponse createResponse(AccountsType accountsType, String fileLocation,
+                                                     LocalDate periodEndOn) {
+        Links links = new Links();
+        links.setLocation(fileLocation);
+
+        Map<String, String> descriptionValues = new HashMap<>();
+        descriptionValues.put(PERIOD_END_ON, periodEndOn.toString());
+
+        DocumentGeneratorResponse response = new DocumentGeneratorResponse();
+        response.setLinks(links);
+        response.setDescription(DESCRIPTIONS.get(accountsType));
+        response.setDescriptionIdentifier(accountsType.getFilingDescriptionKey());
+        response.setDescriptionValues(descriptionValues);
+        return response;
+    }
+
+    private void loadTemplate(String accountType) {
+        AccountsType accountsType = getAccountsType(accountType);
+        if (accountsType == null || !DESCRIPTIONS.containsKey(accountsType)) {
+            logError(null, "IxbrlRenderer: Account type not rendered",
+                    "No filing template is bundled for account type: " + accountType);
+            return;
+        }
+
+        ClassPathResource resource = new ClassPathResource(TEMPLATE_PATH + accountsType.getTemplateName());
+        try (InputStream template = resource.getInputStream()) {
+            byte[] templateContent = template.readAllBytes();
+            templates.put(accountsType, FilingTemplate.parse(accountsType.getTemplateName(),
+                    new ByteArrayInputStream(templateContent)));
+            templateVersions.put(accountsType, contentFingerprinter.fingerprint(templateContent));
+            LOGGER.info("IxbrlRenderer: Rendering ixbrl in process for account type " + accountType);
+        } catch (IOException | TemplateException e) {
+            logError(e, "IxbrlRenderer: Account type not rendered",
+                    "Unable to load filing template for account type: " + accountType);
+        }
+    }
+
+    private AccountsType getAccountsType(String accountType) {
+        for (AccountsType accountsType : AccountsType.values()) {
+            if (accountsType.getAccountType().equals(accountType)) {
+                return accountsType;
+            }
+        }
+        return null;
+    }
+
+    private void logError(Exception exception, String errorKey, String message) {
+        Map<String, Object> logMap = new HashMap<>();
+        logMap.put(LOG_MESSAGE_KEY, message);
+        LOGGER.error(errorKey, exception, logMap);
+    }
+}
@@ -0,0 +1,502 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.enumeration.NoteType;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.links.BasicLinkType;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+/**
+ * Builds the data the small full accounts filing template is rendered from, out of the resources
+ * of an account tree. The data has the shape the document generator gives the template: every
+ * figure is paired as {@code current_amount} and {@code previous_amount}, the tangible and
+ * intangible assets notes are turned to be read by row, and dates are also formatted for display.
+ */
+@Component
+public class SmallFullAccountsModelBuilder {
+
+    static final String SMALL_FULL_ACCOUNTS = "small_full_accounts";
+    static final String CIC_REPORT = "cic_report";
+
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.UK);
+
+    private static final String SMALL_FULL_PATH = "/" + ResourceName.SMALL_FULL.getName();
+    private static final String NOTES_PATH = SMALL_FULL_PATH + "/notes/";
+    private static final String DIRECTORS_REPORT_PATH = SMALL_FULL_PATH + "/" + ResourceName.DIRECTORS_REPORT.getName();
+    private static final String LOANS_TO_DIRECTORS_PATH = NOTES_PATH + ResourceName.LOANS_TO_DIRECTORS.getName();
+    private static final String CIC_REPORT_PATH = "/" + ResourceName.CIC_REPORT.getName();
+
+    private static final String CURRENT_AMOUNT = "current_amount";
+    private static final String PREVIOUS_AMOUNT = "previous_amount";
+    private static final String CURRENT_PERIOD = "current_period";
+    private static final String PREVIOUS_PERIOD = "previous_period";
+    private static final String PERIOD_START_ON = "period_start_on";
+    private static final String PERIOD_END_ON = "period_end_on";
+    private static final String NEXT_ACCOUNTS = "next_accounts";
+    private static final String LAST_ACCOUNTS = "last_accounts";
+    private static final String TOTAL = "total";
+    private static final String DETAILS = "details";
+    private static final String NAME = "name";
+    private static final String DATE = "date";
+    private static final String APPROVAL_NAME = "approval_name";
+    private static final String ADDITIONAL_INFORMATION = "additional_information";
+    private static final String INDEX = "index";
+    private static final String APPOINTMENT_ON = "appointment_on";
+    private static final String RESIGNATION_ON = "resignation_on";
+    private static final String APPOINTMENT_DATE_FORMATTED = "appointment_date_formatted";
+    private static final String RESIGNATION_DATE_FORMATTED = "resignation_date_formatted";
+
+    private static final List<String> TANGIBLE_ASSETS_CATEGORIES = List.of("fixtures_and_fittings",
+            "land_and_buildings", "motor_vehicles", "office_equipment", "plant_and_machinery", TOTAL);
+
+    private static final List<String> INTANGIBLE_ASSETS_CATEGORIES = List.of("goodwill",
+            "other_intangible_assets", TOTAL);
+
+    private final CompanyService companyService;
+
+    @Autowired
+    public SmallFullAccountsModelBuilder(CompanyService companyService) {
+        this.companyService = companyService;
+    }
+
+    /**
+     * Build the template data for the small full accounts of an account tree.
+     *
+     * @param transaction - the transaction the accounts are filed with
+     * @param accountTree - the resources of the company account
+     * @return the template data, holding {@code small_full_accounts} and, for a community interest
+     *         company, {@code cic_report}
+     * @throws ServiceException if the company profile could not be read
+     */
+    public Map<String, Object> buildModel(Transaction transaction, AccountTree accountTree) throws ServiceException {
+        Map<String, Map<String, Object>> resources = accountTree.getResources();
+        String base = accountTree.getCompanyAccount().getLinks().get(BasicLinkType.SELF.getLink());
+
+        Map<String, Object> period = buildPeriod(resources.get(base + SMALL_FULL_PATH));
+        List<Map<String, Object>> directors = getDirectors(resources, base, period);
+
+        Map<String, Object> smallFullAccounts = new LinkedHashMap<>();
+        smallFullAccounts.put("company", buildCompany(transaction, accountTree.getCompanyAccount().getCompanyFacts()));
+        smallFullAccounts.put("period", period);
+        smallFullAccounts.put("balance_sheet", buildBalanceSheet(resources, base));
+        putIfPresent(smallFullAccounts, "profit_and_loss", buildProfitAndLoss(resources, base));
+        smallFullAccounts.put("balance_sheet_notes", buildBalanceSheetNotes(resources, base, directors));
+        putIfPresent(smallFullAccounts, "additional_notes", buildAdditionalNotes(resources, base));
+        putIfPresent(smallFullAccounts, "directors_report", buildDirectorsReport(resources, base, directors));
+
+        Map<String, Object> approval = resources.get(base + SMALL_FULL_PATH + "/" + ResourceName.APPROVAL.getName());
+        if (approval != null) {
+            smallFullAccounts.put(APPROVAL_NAME, approval.get(NAME));
+            smallFullAccounts.put("approval_date", formatDate(approval.get(DATE)));
+            smallFullAccounts.put("approval_index", getDirectorIndex(directors, approval.get(NAME)));
+        }
+
+        Map<String, Object> model = new HashMap<>();
+        model.put(SMALL_FULL_ACCOUNTS, smallFullAccounts);
+        putIfPresent(model, CIC_REPORT, buildCicReport(resources, base));
+        return model;
+    }
+
+    /**
+     * Get the end of the current period of an account tree.
+     *
+     * @param accountTree - the resources of the company account
+     * @return the period end, or null if the small full accounts have no current period
+     */
+    public LocalDate getPeriodEndOn(AccountTree accountTree) {
+        String base = accountTree.getCompanyAccount().getLinks().get(BasicLinkType.SELF.getLink());
+        Map<String, Object> nextAccounts = asMap(getField(accountTree.getResources().get(base + SMALL_FULL_PATH), NEXT_ACCOUNTS));
+        return nextAccounts.get(PERIOD_END_ON) instanceof String periodEndOn && !periodEndOn.isEmpty()
+                ? LocalDate.parse(periodEndOn) : null;
+    }
+
+    private Map<String, Object> buildCompany(Transaction transaction, CompanyFacts companyFacts)
+            throws ServiceException {
+        Map<String, Object> company = new LinkedHashMap<>();
+        company.put("company_name", companyService.getCompanyProfile(transaction.getCompanyNumber()).getCompanyName());
+        company.put("company_number", transaction.getCompanyNumber());
+        company.put("is_lbg", companyFacts != null && companyFacts.isRecordedFor(transaction.getCompanyNumber())
+                ? companyFacts.isLimitedByGuarantee()
+                : companyService.isLBG(transaction));
+        return company;
+    }
+
+    private Map<String, Object> buildPeriod(Map<String, Object> smallFull) {
+        Map<String, Object> period = new LinkedHashMap<>();
+        putPeriod(period, "current", asMap(getField(smallFull, NEXT_ACCOUNTS)));
+        putPeriod(period, "previous", asMap(getField(smallFull, LAST_ACCOUNTS)));
+        return period;
+    }
+
+    private void putPeriod(Map<String, Object> period, String prefix, Map<String, Object> accountingPeriod) {
+        Object periodStartOn = accountingPeriod.get(PERIOD_START_ON);
+        Object periodEndOn = accountingPeriod.get(PERIOD_END_ON);
+        if (periodEndOn == null) {
+            return;
+        }
+
+        putIfPresent(period, prefix + "_period_start_on", Objects.toString(periodStartOn, null));
+        period.put(prefix + "_period_end_on", periodEndOn.toString());
+        putIfPresent(period, prefix + "_period_start_on_formatted", formatDate(periodStartOn));
+        period.put(prefix + "_period_end_on_formatted", formatDate(periodEndOn));
+        period.put(prefix + "_period_bs_date", formatDate(periodEndOn));
+    }
+
+    private Map<String, Object> buildBalanceSheet(Map<String, Map<String, Object>> resources, String base) {
+        Map<String, Object> balanceSheet = pair(
+                asMap(getField(resources.get(base + SMALL_FULL_PATH + "/" + ResourceName.CURRENT_PERIOD.getName()), "balance_sheet")),
+                asMap(getField(resources.get(base + SMALL_FULL_PATH + "/" + ResourceName.PREVIOUS_PERIOD.getName()), "balance_sheet")));
+
+        flatten(asMap(balanceSheet.get("fixed_assets")), TOTAL, "current_total", "previous_total");
+        flatten(asMap(balanceSheet.get("current_assets")), TOTAL, "current_total", "previous_total");
+
+        Map<String, Object> otherLiabilitiesOrAssets = asMap(balanceSheet.get("other_liabilities_or_assets"));
+        rename(otherLiabilitiesOrAssets, "creditors_due_within_one_year", "creditors_amounts_falling_due_within_one_year");
+        rename(otherLiabilitiesOrAssets, "creditors_after_one_year", "creditors_amounts_falling_due_after_more_than_one_year");
+        flatten(otherLiabilitiesOrAssets, "total_net_assets", "current_total_net_assets", "previous_total_net_assets");
+
+        rename(balanceSheet, "capital_and_reserves", "capital_and_reserve");
+        rename(asMap(balanceSheet.get("capital_and_reserve")), "total_shareholders_funds", "total_share_holders_fund");
+
+        Object legalStatements = getField(resources.get(base + SMALL_FULL_PATH + "/" + ResourceName.STATEMENTS.getName()), "legal_statements");
+        if (legalStatements != null) {
+            balanceSheet.put("balance_sheet_statements", legalStatements);
+        }
+
+        return balanceSheet;
+    }
+
+    private Map<String, Object> buildProfitAndLoss(Map<String, Map<String, Object>> resources, String base) {
+        String profitAndLossPath = "/" + ResourceName.PROFIT_LOSS.getName();
+        Map<String, Object> current = resources.get(base + SMALL_FULL_PATH + "/" + ResourceName.CURRENT_PERIOD.getName() + profitAndLossPath);
+        if (current == null) {
+            return null;
+        }
+
+        Map<String, Object> profitAndLoss = pair(withoutMetadata(current), withoutMetadata(
+                resources.get(base + SMALL_FULL_PATH + "/" + ResourceName.PREVIOUS_PERIOD.getName() + profitAndLossPath)));
+        rename(profitAndLoss, "profit_or_loss_financial_year", "profit_or_loss_for_financial_year");
+        return profitAndLoss;
+    }
+
+    private Map<String, Object> buildBalanceSheetNotes(Map<String, Map<String, Object>> resources, String base,
+            List<Map<String, Object>> directors) {
+
+        Map<String, Object> notes = new LinkedHashMap<>();
+        putIfPresent(notes, "intangible_assets", byRow(getNote(resources, base, NoteType.INTANGIBLE_ASSETS),
+                INTANGIBLE_ASSETS_CATEGORIES, "cost", "amortisation"));
+        putIfPresent(notes, "tangible_assets", byRow(getNote(resources, base, NoteType.TANGIBLE_ASSETS),
+                TANGIBLE_ASSETS_CATEGORIES, "cost", "depreciation"));
+        putIfPresent(notes, "fixed_assets_investments", getNote(resources, base, NoteType.FIXED_ASSETS_INVESTMENTS));
+        putIfPresent(notes, "stocks", pairPeriods(getNote(resources, base, NoteType.STOCKS)));
+        putIfPresent(notes, "debtors", pairPeriods(getNote(resources, base, NoteType.DEBTORS)));
+        putIfPresent(notes, "current_assets_investments", getNote(resources, base, NoteType.CURRENT_ASSETS_INVESTMENTS));
+        putIfPresent(notes, "creditors_within_one_year", pairPeriods(getNote(resources, base, NoteType.CREDITORS_WITHIN)));
+        putIfPresent(notes, "creditors_after_one_year", pairPeriods(getNote(resources, base, NoteType.CREDITORS_AFTER)));
+        putIfPresent(notes, "financial_commitments", getNote(resources, base, NoteType.FINANCIAL_COMMITMENTS));
+        putIfPresent(notes, "loans_to_directors", buildLoansToDirectors(resources, base, directors));
+        putIfPresent(notes, "off_balance_sheet_arrangements", getNote(resources, base, NoteType.OFF_BALANCE_SHEET_ARRANGEMENTS));
+        return notes;
+    }
+
+    private Map<String, Object> buildAdditionalNotes(Map<String, Map<String, Object>> resources, String base) {
+        Map<String, Object> notes = new LinkedHashMap<>();
+        putIfPresent(notes, "accounting_policies", getNote(resources, base, NoteType.ACCOUNTING_POLICIES));
+        putIfPresent(notes, "employees", pairPeriods(getNote(resources, base, NoteType.EMPLOYEES)));
+        return notes.isEmpty() ? null : notes;
+    }
+
+    private Map<String, Object> buildLoansToDirectors(Map<String, Map<String, Object>> resources, String base,
+            List<Map<String, Object>> directors) {
+
+        if (!resources.containsKey(base + LOANS_TO_DIRECTORS_PATH)) {
+            return null;
+        }
+
+        // Loans to a director who is not named in the directors report are indexed after those who are
+        List<String> directorNames = new ArrayList<>(directors.stream().map(director -> (String) director.get(NAME)).toList());
+        Map<String, Integer> loansByDirector = new HashMap<>();
+        List<Map<String, Object>> loans = new ArrayList<>();
+
+        for (Map<String, Object> stored : getResourcesUnder(resources, base + LOANS_TO_DIRECTORS_PATH + "/" + ResourceName.LOANS.getName() + "/")) {
+            String directorName = (String) stored.get("director_name");
+            if (!directorNames.contains(directorName)) {
+                directorNames.add(directorName);
+            }
+
+            Map<String, Object> loan = new LinkedHashMap<>();
+            loan.put("director_name", directorName);
+            loan.put("description", stored.get("description"));
+            loan.putAll(asMap(stored.get("breakdown")));
+            loan.put("director_index", (long) directorNames.indexOf(directorName) + 1);
+            loan.put("director_loan_index", (long) loansByDirector.merge(directorName, 1, Integer::sum));
+            loans.add(loan);
+        }
+
+        Map<String, Object> loansToDirectors = new LinkedHashMap<>();
+        loansToDirectors.put("loans", loans);
+        putIfPresent(loansToDirectors, ADDITIONAL_INFORMATION,
+                resources.get(base + LOANS_TO_DIRECTORS_PATH + "/" + ResourceName.ADDITIONAL_INFO.getName()));
+        return loansToDirectors;
+    }
+
+    private Map<String, Object> buildDirectorsReport(Map<String, Map<String, Object>> resources, String base,
+            List<Map<String, Object>> directors) {
+
+        if (!resources.containsKey(base + DIRECTORS_REPORT_PATH)) {
+            return null;
+        }
+
+        Map<String, Object> directorsReport = new LinkedHashMap<>();
+        putIfPresent(directorsReport, "directors_report_statements",
+                withoutMetadata(resources.get(base + DIRECTORS_REPORT_PATH + "/" + ResourceName.STATEMENTS.getName())));
+
+        // Directors who held office for the same part of the period are listed together
+        Map<List<Object>, List<Map<String, Object>>> directorsByTerm = new LinkedHashMap<>();
+        for (Map<String, Object> director : directors) {
+            directorsByTerm.computeIfAbsent(
+                    List.of(director.get(APPOINTMENT_DATE_FORMATTED), director.get(RESIGNATION_DATE_FORMATTED)),
+                    term -> new ArrayList<>())
+                    .add(Map.of(INDEX, director.get(INDEX), NAME, director.get(NAME)));
+        }
+
+        List<Map<String, Object>> sortedDirectors = new ArrayList<>();
+        directorsByTerm.forEach((term, termDirectors) -> {
+            Map<String, Object> sorted = new LinkedHashMap<>();
+            sorted.put(APPOINTMENT_DATE_FORMATTED, term.get(0));
+            sorted.put(RESIGNATION_DATE_FORMATTED, term.get(1));
+            sorted.put("directors", termDirectors);
+            sortedDirectors.add(sorted);
+        });
+        directorsReport.put("sorted_directors", sortedDirectors);
+
+        Object secretaryName = getField(resources.get(base + DIRECTORS_REPORT_PATH + "/" + ResourceName.SECRETARY.getName()), NAME);
+        if (secretaryName != null) {
+            directorsReport.put("secretary", Map.of("secretary_name", secretaryName));
+        }
+
+        Map<String, Object> storedApproval = resources.get(base + DIRECTORS_REPORT_PATH + "/" + ResourceName.APPROVAL.getName());
+        if (storedApproval != null) {
+            Map<String, Object> approval = new LinkedHashMap<>();
+            approval.put(APPROVAL_NAME, storedApproval.get(NAME));
+            approval.put(DATE, formatDate(storedApproval.get(DATE)));
+            approval.put("director_index", getDirectorIndex(directors, storedApproval.get(NAME)));
+            approval.put("is_secretary", secretaryName != null && secretaryName.equals(storedApproval.get(NAME)));
+            directorsReport.put("approval", approval);
+        }
+
+        return directorsReport;
+    }
+
+    /**
+     * Get the directors in the order they are listed, each numbered from 1 by its {@code index}.
+     * A director appointed before or resigning after the current period is treated as holding
+     * office from its start or to its end.
+     */
+    private List<Map<String, Object>> getDirectors(Map<String, Map<String, Object>> resources, String base,
+            Map<String, Object> period) {
+
+        List<Map<String, Object>> directors = new ArrayList<>();
+        for (Map<String, Object> stored : getResourcesUnder(resources, base + DIRECTORS_REPORT_PATH + "/" + ResourceName.DIRECTORS.getName() + "/")) {
+            Map<String, Object> director = new LinkedHashMap<>();
+            director.put(NAME, stored.get(NAME));
+            director.put(APPOINTMENT_ON, Objects.toString(stored.get("appointment_date"), (String) period.get("current_period_start_on")));
+            director.put(RESIGNATION_ON, Objects.toString(stored.get("resignation_date"), (String) period.get("current_period_end_on")));
+            directors.add(director);
+        }
+
+        directors.sort(Comparator.comparing((Map<String, Object> director) -> (String) director.get(APPOINTMENT_ON), Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(director -> (String) director.get(RESIGNATION_ON), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(director -> (String) director.get(NAME), Comparator.nullsLast(Comparator.naturalOrder())));
+
+        long index = 1;
+        for (Map<String, Object> director : directors) {
+            director.put(INDEX, index++);
+            director.put(APPOINTMENT_DATE_FORMATTED, formatDate(director.remove(APPOINTMENT_ON)));
+            director.put(RESIGNATION_DATE_FORMATTED, formatDate(director.remove(RESIGNATION_ON)));
+        }
+        return directors;
+    }
+
+    private Map<String, Object> buildCicReport(Map<String, Map<String, Object>> resources, String base) {
+        if (!resources.containsKey(base + CIC_REPORT_PATH)) {
+            return null;
+        }
+
+        Map<String, Object> cicReport = new LinkedHashMap<>();
+        putIfPresent(cicReport, "statements", asMapOrNull(getField(
+                resources.get(base + CIC_REPORT_PATH + "/" + ResourceName.CIC_STATEMENTS.getName()), "report_statements")));
+
+        Map<String, Object> storedApproval = resources.get(base + CIC_REPORT_PATH + "/" + ResourceName.CIC_APPROVAL.getName());
+        if (storedApproval != null) {
+            Map<String, Object> approval = new LinkedHashMap<>();
+            approval.put(NAME, storedApproval.get(NAME));
+            approval.put(DATE, formatDate(storedApproval.get(DATE)));
+            cicReport.put("approval", approval);
+        }
+        return cicReport;
+    }
+
+    private long getDirectorIndex(List<Map<String, Object>> directors, Object name) {
+        return directors.stream()
+                .filter(director -> Objects.equals(director.get(NAME), name))
+                .map(director -> (Long) director.get(INDEX))
+                .findFirst()
+                .orElse(1L);
+    }
+
+    private Map<String, Object> getNote(Map<String, Map<String, Object>> resources, String base, NoteType noteType) {
+        return withoutMetadata(resources.get(base + NOTES_PATH + noteType.getType()));
+    }
+
+    private List<Map<String, Object>> getResourcesUnder(Map<String, Map<String, Object>> resources, String prefix) {
+        // The resources are sorted by self link, so those under a path are together
+        List<Map<String, Object>> under = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> resource : resources.entrySet()) {
+            if (resource.getKey().startsWith(prefix)) {
+                under.add(resource.getValue());
+            }
+        }
+        return under;
+    }
+
+    /**
+     * Pair the figures of a note held as {@code current_period} and {@code previous_period}.
+     */
+    private Map<String, Object> pairPeriods(Map<String, Object> note) {
+        if (note == null) {
+            return null;
+        }
+
+        Map<String, Object> currentPeriod = new LinkedHashMap<>(asMap(note.get(CURRENT_PERIOD)));
+        Object details = currentPeriod.remove(DETAILS);
+
+        Map<String, Object> paired = pair(currentPeriod, asMap(note.get(PREVIOUS_PERIOD)));
+        putIfPresent(paired, DETAILS, details);
+        return paired;
+    }
+
+    /**
+     * Turn a fixed assets note held by category, such as {@code land_and_buildings.cost.additions},
+     * to be read by row, as {@code cost.additions.land_and_buildings}.
+     */
+    private Map<String, Object> byRow(Map<String, Object> note, List<String> categories, String... sections) {
+        if (note == null) {
+            return null;
+        }
+
+        Map<String, Object> rows = new LinkedHashMap<>();
+        Map<String, Object> netBookValue = new LinkedHashMap<>();
+        for (String category : categories) {
+            Map<String, Object> byCategory = asMap(note.get(category));
+            for (String section : sections) {
+                asMap(byCategory.get(section)).forEach((row, value) ->
+                        asNewMap(asNewMap(rows, section), row).put(category, value));
+            }
+            asNewMap(netBookValue, CURRENT_PERIOD).put(category, byCategory.get("net_book_value_at_end_of_current_period"));
+            asNewMap(netBookValue, PREVIOUS_PERIOD).put(category, byCategory.get("net_book_value_at_end_of_previous_period"));
+        }
+        rows.put("net_book_value", netBookValue);
+        putIfPresent(rows, ADDITIONAL_INFORMATION, note.get(ADDITIONAL_INFORMATION));
+        return rows;
+    }
+
+    /**
+     * Pair each figure of the current and previous period, keeping the structure they are held in.
+     */
+    private Map<String, Object> pair(Map<String, Object> current, Map<String, Object> previous) {
+        Set<String> keys = new LinkedHashSet<>(current.keySet());
+        keys.addAll(previous.keySet());
+
+        Map<String, Object> paired = new LinkedHashMap<>();
+        for (String key : keys) {
+            Object currentValue = current.get(key);
+            Object previousValue = previous.get(key);
+
+            if (currentValue instanceof Map || previousValue instanceof Map) {
+                paired.put(key, pair(asMap(currentValue), asMap(previousValue)));
+            } else {
+                Map<String, Object> amounts = new LinkedHashMap<>();
+                putIfPresent(amounts, CURRENT_AMOUNT, currentValue);
+                putIfPresent(amounts, PREVIOUS_AMOUNT, previousValue);
+                paired.put(key, amounts);
+            }
+        }
+        return paired;
+    }
+
+    /**
+     * Replace a pair of figures by its amounts held directly under their own names.
+     */
+    private void flatten(Map<String, Object> figures, String key, String currentKey, String previousKey) {
+        Map<String, Object> amounts = asMap(figures.remove(key));
+        putIfPresent(figures, currentKey, amounts.get(CURRENT_AMOUNT));
+        putIfPresent(figures, previousKey, amounts.get(PREVIOUS_AMOUNT));
+    }
+
+    private void rename(Map<String, Object> map, String from, String to) {
+        if (map.containsKey(from)) {
+            map.put(to, map.remove(from));
+        }
+    }
+
+    private Map<String, Object> withoutMetadata(Map<String, Object> resource) {
+        if (resource == null) {
+            return null;
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>(resource);
+        data.remove("links");
+        data.remove("etag");
+        data.remove("kind");
+        return data;
+    }
+
+    private String formatDate(Object date) {
+        if (date instanceof String text && !text.isEmpty()) {
+            return LocalDate.parse(text).format(DISPLAY_DATE_FORMATTER);
+        }
+        return null;
+    }
+
+    private void putIfPresent(Map<String, Object> map, String key, Object value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    private Object getField(Map<String, Object> resource, String field) {
+        return resource == null ? null : resource.get(field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : new LinkedHashMap<>();
+    }
+
+    private Map<String, Object> asMapOrNull(Object value) {
+        return value instanceof Map ? asMap(value) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asNewMap(Map<String, Object> map, String key) {
+        return (Map<String, Object>) map.computeIfAbsent(key, newKey -> new LinkedHashMap<String, Object>());
+    }
+}
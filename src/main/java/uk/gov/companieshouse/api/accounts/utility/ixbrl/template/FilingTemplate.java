@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import uk.gov.companieshouse.api.accounts.exception.TemplateException;
+
+/**
+ * A filing template, written in the Go template language used by the document generator, parsed
+ * once so that it can be rendered any number of times, concurrently. A template which calls
+ * {@code doTwoPass} is rendered twice: the first pass only records the values set with {@code
+ * setValue} and {@code incValue}, such as note numbers, so that the second pass can write them
+ * before the point where they are set.
+ */
+public final class FilingTemplate {
+
+    private final String name;
+
+    private final List<TemplateNode> nodes;
+
+    private final boolean twoPass;
+
+    private FilingTemplate(String name, List<TemplateNode> nodes, boolean twoPass) {
+        this.name = name;
+        this.nodes = nodes;
+        this.twoPass = twoPass;
+    }
+
+    /**
+     * Parse a template.
+     *
+     * @param name - the template name, used in error messages.
+     * @param text - the template text.
+     * @return the parsed template.
+     * @throws TemplateException if the template is not valid.
+     */
+    public static FilingTemplate parse(String name, String text) {
+        List<TemplateNode> nodes = TemplateParser.parse(name, text);
+        return new FilingTemplate(name, nodes, text.contains("doTwoPass"));
+    }
+
+    /**
+     * Parse a template read from a stream.
+     *
+     * @param name - the template name, used in error messages.
+     * @param template - the UTF-8 template text, which is read to the end.
+     * @return the parsed template.
+     * @throws IOException if the template could not be read.
+     * @throws TemplateException if the template is not valid.
+     */
+    public static FilingTemplate parse(String name, InputStream template) throws IOException {
+        return parse(name, new String(template.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Render the template, writing the output as it is produced.
+     *
+     * @param data - the template data, made of maps, lists, strings, numbers and booleans.
+     * @param writer - where the output is written. It is not closed.
+     * @throws IOException if the output could not be written.
+     * @throws TemplateException if the data could not be rendered.
+     */
+    public void render(Map<String, Object> data, Writer writer) throws IOException {
+        Map<String, Object> values = new HashMap<>();
+
+        try {
+            if (twoPass) {
+                new TemplateRenderer(Writer.nullWriter(), values).render(nodes, data);
+            }
+            new TemplateRenderer(writer, values).render(nodes, data);
+        } catch (TemplateException e) {
+            throw new TemplateException(name + ": " + e.getMessage(), e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
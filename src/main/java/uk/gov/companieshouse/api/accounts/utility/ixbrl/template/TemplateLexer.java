@@ -0,0 +1,171 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import uk.gov.companieshouse.api.accounts.exception.TemplateException;
+
+/**
+ * Splits the content of a template action into tokens.
+ */
+final class TemplateLexer {
+
+    enum Kind {
+        STRING, NUMBER, VARIABLE, FIELD, IDENTIFIER, LEFT, RIGHT, PIPE, COMMA, DECLARE, ASSIGN
+    }
+
+    /**
+     * @param text - the token as written
+     * @param value - the value of a string or number literal
+     */
+    record Token(Kind kind, String text, Object value) {
+    }
+
+    private final String content;
+    private final int line;
+    private int position;
+
+    TemplateLexer(String content, int line) {
+        this.content = content;
+        this.line = line;
+    }
+
+    List<Token> tokens() {
+        List<Token> tokens = new ArrayList<>();
+
+        while (position < content.length()) {
+            char character = content.charAt(position);
+
+            if (Character.isWhitespace(character)) {
+                position++;
+            } else if (character == '(') {
+                tokens.add(single(Kind.LEFT));
+            } else if (character == ')') {
+                tokens.add(single(Kind.RIGHT));
+            } else if (character == '|') {
+                tokens.add(single(Kind.PIPE));
+            } else if (character == ',') {
+                tokens.add(single(Kind.COMMA));
+            } else if (content.startsWith(":=", position)) {
+                position += 2;
+                tokens.add(new Token(Kind.DECLARE, ":=", null));
+            } else if (character == '=') {
+                tokens.add(single(Kind.ASSIGN));
+            } else if (character == '"') {
+                tokens.add(quotedString());
+            } else if (character == '`') {
+                tokens.add(rawString());
+            } else if (isNumberStart(character)) {
+                tokens.add(number());
+            } else if (character == '$') {
+                tokens.add(new Token(Kind.VARIABLE, chain(position + 1), null));
+            } else if (character == '.') {
+                tokens.add(new Token(Kind.FIELD, chain(position), null));
+            } else if (Character.isLetter(character) || character == '_') {
+                String word = word(position);
+                position += word.length();
+                tokens.add(new Token(Kind.IDENTIFIER, word, null));
+            } else {
+                throw error("unexpected character '" + character + "'");
+            }
+        }
+
+        return tokens;
+    }
+
+    private Token single(Kind kind) {
+        return new Token(kind, String.valueOf(content.charAt(position++)), null);
+    }
+
+    private boolean isNumberStart(char character) {
+        return Character.isDigit(character) || ((character == '-' || character == '+')
+                && position + 1 < content.length() && Character.isDigit(content.charAt(position + 1)));
+    }
+
+    private Token number() {
+        int start = position++;
+        while (position < content.length()
+                && (Character.isLetterOrDigit(content.charAt(position)) || content.charAt(position) == '.')) {
+            position++;
+        }
+
+        String number = content.substring(start, position);
+        try {
+            if (number.contains(".") || number.contains("e") || number.contains("E")) {
+                return new Token(Kind.NUMBER, number, Double.valueOf(number));
+            }
+            return new Token(Kind.NUMBER, number, Long.valueOf(number));
+        } catch (NumberFormatException e) {
+            throw error("bad number syntax: " + number);
+        }
+    }
+
+    /**
+     * Read a variable or field chain, such as {@code $name.a.b} or {@code .a.b}, starting at the
+     * first character after any {@code $}.
+     */
+    private String chain(int from) {
+        int start = position;
+        position = from;
+
+        while (position < content.length()) {
+            char character = content.charAt(position);
+            if (character == '.') {
+                position++;
+            } else if (Character.isLetterOrDigit(character) || character == '_') {
+                position += word(position).length();
+            } else {
+                break;
+            }
+        }
+
+        return content.substring(start, position);
+    }
+
+    private String word(int from) {
+        int end = from;
+        while (end < content.length()
+                && (Character.isLetterOrDigit(content.charAt(end)) || content.charAt(end) == '_')) {
+            end++;
+        }
+        return content.substring(from, end);
+    }
+
+    private Token quotedString() {
+        int start = position++;
+        StringBuilder value = new StringBuilder();
+
+        while (position < content.length()) {
+            char character = content.charAt(position++);
+            if (character == '"') {
+                return new Token(Kind.STRING, content.substring(start, position), value.toString());
+            }
+            if (character == '\\' && position < content.length()) {
+                char escaped = content.charAt(position++);
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    default -> value.append(escaped);
+                }
+            } else {
+                value.append(character);
+            }
+        }
+
+        throw error("unterminated quoted string");
+    }
+
+    private Token rawString() {
+        int start = position++;
+        int end = content.indexOf('`', position);
+        if (end < 0) {
+            throw error("unterminated raw quoted string");
+        }
+        position = end + 1;
+        return new Token(Kind.STRING, content.substring(start, position), content.substring(start + 1, end));
+    }
+
+    private TemplateException error(String message) {
+        return new TemplateException("line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl.template;
+
+import java.util.List;
+
+/**
+ * A node of a parsed filing template: literal text, or an action between {@code {{ }}}.
+ */
+sealed interface TemplateNode {
+
+    /**
+     * Text copied to the output as it is.
+     */
+    record Text(String text) implements TemplateNode {
+    }
+
+    /**
+     * A pipeline whose value is written to the output, unless it declares or assigns variables.
+     */
+    record Action(Pipeline pipeline) implements TemplateNode {
+    }
+
+    /**
+     * {@code {{if pipeline}} then {{else}} otherwise {{end}}}
+     */
+    record If(Pipeline condition, List<TemplateNode> then, List<TemplateNode> otherwise) implements TemplateNode {
+    }
+
+    /**
+     * {@code {{range $index, $element := pipeline}} body {{else}} otherwise {{end}}}
+     */
+    record Range(Pipeline pipeline, List<TemplateNode> body, List<TemplateNode> otherwise) implements TemplateNode {
+    }
+
+    /**
+     * Commands separated by {@code |}, each command's value passed as the last argument of the
+     * next. The value may be declared as ({@code :=}) or assigned to ({@code =}) variables.
+     */
+    record Pipeline(List<String> variables, boolean declare, List<Command> commands) {
+    }
+
+    /**
+     * A function and its arguments, or a single operand.
+     */
+    record Command(List<Operand> operands) {
+    }
+
+    sealed interface Operand {
+    }
+
+    record Literal(Object value) implements Operand {
+    }
+
+    /**
+     * {@code .a.b}, or the dot itself when there are no names.
+     */
+    record Field(List<String> names) implements Operand {
+    }
+
+    /**
+     * {@code $name.a.b}
+     */
+    record Variable(String name, List<String> names) implements Operand {
+    }
+
+    record Function(String name) implements Operand {
+    }
+
+    /**
+     * A parenthesised pipeline.
+     */
+    record Nested(Pipeline pipeline) implements Operand {
+    }
+}
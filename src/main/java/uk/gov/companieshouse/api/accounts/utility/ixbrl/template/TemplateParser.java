@@ -0,0 +1,366 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl.template;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import uk.gov.companieshouse.api.accounts.exception.TemplateException;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Action;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Command;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Field;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Function;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.If;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Literal;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Nested;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Operand;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Pipeline;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Range;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Text;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Variable;
+
+/**
+ * Parses the subset of the Go template language used by the filing templates: text, actions with
+ * {@code {{-}} and {@code -}}} whitespace trimming, comments, {@code if}/{@code else if}/{@code
+ * else}, {@code range}, variable declaration and assignment, parenthesised pipelines and the
+ * functions provided by {@link TemplateRenderer}.
+ */
+final class TemplateParser {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final String TRIM = "-";
+
+    private static final String IF = "if";
+    private static final String ELSE = "else";
+    private static final String END = "end";
+    private static final String RANGE = "range";
+
+    private final String name;
+    private final String text;
+
+    private final List<Object> items = new ArrayList<>();
+    private int index;
+    private ActionItem terminator;
+
+    private TemplateParser(String name, String text) {
+        this.name = name;
+        this.text = text;
+    }
+
+    static List<TemplateNode> parse(String name, String text) {
+        TemplateParser parser = new TemplateParser(name, text);
+        parser.split();
+
+        List<TemplateNode> nodes = parser.parseList();
+        if (parser.terminator != null) {
+            throw parser.error(parser.terminator, "unexpected {{" + parser.terminator.keyword() + "}}");
+        }
+        return nodes;
+    }
+
+    /**
+     * Split the text into text items and the tokens of each action, trimming whitespace next to
+     * trim markers and dropping comments.
+     */
+    private void split() {
+        int position = 0;
+        boolean trimLeadingSpace = false;
+
+        while (position < text.length()) {
+            int open = text.indexOf(OPEN, position);
+            String literal = text.substring(position, open < 0 ? text.length() : open);
+
+            if (trimLeadingSpace) {
+                literal = literal.stripLeading();
+            }
+
+            if (open < 0) {
+                addText(literal);
+                break;
+            }
+
+            int contentStart = open + OPEN.length();
+            boolean trimBefore = text.startsWith(TRIM, contentStart)
+                    && contentStart + 1 < text.length() && Character.isWhitespace(text.charAt(contentStart + 1));
+            if (trimBefore) {
+                literal = literal.stripTrailing();
+                contentStart++;
+            }
+            addText(literal);
+
+            int close = findClose(contentStart);
+            int contentEnd = close;
+            trimLeadingSpace = close - 1 > contentStart && text.startsWith(TRIM, close - 1)
+                    && Character.isWhitespace(text.charAt(close - 2));
+            if (trimLeadingSpace) {
+                contentEnd--;
+            }
+
+            String content = text.substring(contentStart, contentEnd).strip();
+            if (!(content.startsWith("/*") && content.endsWith("*/"))) {
+                int line = lineOf(open);
+                items.add(new ActionItem(new TemplateLexer(content, line).tokens(), line));
+            }
+
+            position = close + CLOSE.length();
+        }
+    }
+
+    private void addText(String literal) {
+        if (!literal.isEmpty()) {
+            items.add(literal);
+        }
+    }
+
+    private int findClose(int from) {
+        char quote = 0;
+        for (int position = from; position < text.length(); position++) {
+            char character = text.charAt(position);
+            if (quote != 0) {
+                if (character == '\\' && quote == '"') {
+                    position++;
+                } else if (character == quote) {
+                    quote = 0;
+                }
+            } else if (character == '"' || character == '`') {
+                quote = character;
+            } else if (text.startsWith(CLOSE, position)) {
+                return position;
+            }
+        }
+        throw new TemplateException(name + ":" + lineOf(from) + ": unclosed action");
+    }
+
+    private int lineOf(int position) {
+        int line = 1;
+        for (int i = 0; i < position; i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Parse nodes until the end of the text, or an {@code else} or {@code end} action, which is
+     * left in {@link #terminator}.
+     */
+    private List<TemplateNode> parseList() {
+        List<TemplateNode> nodes = new ArrayList<>();
+
+        while (index < items.size()) {
+            Object item = items.get(index++);
+            if (item instanceof String literal) {
+                nodes.add(new Text(literal));
+                continue;
+            }
+
+            ActionItem action = (ActionItem) item;
+            switch (action.keyword()) {
+                case ELSE, END -> {
+                    terminator = action;
+                    return nodes;
+                }
+                case IF -> nodes.add(parseIf(action, 1));
+                case RANGE -> nodes.add(parseRange(action));
+                default -> nodes.add(new Action(parsePipeline(action, action.tokens(), true)));
+            }
+        }
+
+        terminator = null;
+        return nodes;
+    }
+
+    private If parseIf(ActionItem action, int conditionStart) {
+        Pipeline condition = parsePipeline(action,
+                action.tokens().subList(conditionStart, action.tokens().size()), true);
+        List<TemplateNode> then = parseList();
+        ActionItem end = requireTerminator(action);
+
+        if (END.equals(end.keyword())) {
+            return new If(condition, then, List.of());
+        }
+
+        // An {{else if}} shares the {{end}} of the if it follows
+        if (end.tokens().size() > 1 && IF.equals(end.tokens().get(1).text())) {
+            return new If(condition, then, List.of(parseIf(end, 2)));
+        }
+
+        List<TemplateNode> otherwise = parseList();
+        requireEnd(action);
+        return new If(condition, then, otherwise);
+    }
+
+    private Range parseRange(ActionItem action) {
+        Pipeline pipeline = parsePipeline(action, action.tokens().subList(1, action.tokens().size()), false);
+        List<TemplateNode> body = parseList();
+        ActionItem end = requireTerminator(action);
+
+        if (END.equals(end.keyword())) {
+            return new Range(pipeline, body, List.of());
+        }
+
+        List<TemplateNode> otherwise = parseList();
+        requireEnd(action);
+        return new Range(pipeline, body, otherwise);
+    }
+
+    private ActionItem requireTerminator(ActionItem action) {
+        if (terminator == null) {
+            throw error(action, "{{" + action.keyword() + "}} has no {{end}}");
+        }
+        return terminator;
+    }
+
+    private void requireEnd(ActionItem action) {
+        if (terminator == null || !END.equals(terminator.keyword())) {
+            throw error(action, "{{" + action.keyword() + "}} has no {{end}}");
+        }
+    }
+
+    private Pipeline parsePipeline(ActionItem action, List<TemplateLexer.Token> tokens, boolean singleVariable) {
+        List<String> variables = new ArrayList<>();
+        boolean declare = false;
+        int start = 0;
+
+        int declaration = findDeclaration(tokens);
+        if (declaration > 0) {
+            for (int i = 0; i < declaration; i += 2) {
+                TemplateLexer.Token variable = tokens.get(i);
+                if (variable.kind() != TemplateLexer.Kind.VARIABLE || variable.text().indexOf('.') >= 0
+                        || (i + 1 < declaration && tokens.get(i + 1).kind() != TemplateLexer.Kind.COMMA)) {
+                    throw error(action, "bad variable declaration");
+                }
+                variables.add(variable.text());
+            }
+            if (variables.size() > (singleVariable ? 1 : 2)) {
+                throw error(action, "too many declarations");
+            }
+            declare = tokens.get(declaration).kind() == TemplateLexer.Kind.DECLARE;
+            start = declaration + 1;
+        }
+
+        List<Command> commands = new ArrayList<>();
+        List<Operand> operands = new ArrayList<>();
+        int position = start;
+        while (position < tokens.size()) {
+            TemplateLexer.Token token = tokens.get(position);
+            if (token.kind() == TemplateLexer.Kind.PIPE) {
+                commands.add(createCommand(action, operands));
+                operands = new ArrayList<>();
+                position++;
+                continue;
+            }
+            position = parseOperand(action, tokens, position, operands);
+        }
+        commands.add(createCommand(action, operands));
+
+        for (int i = 1; i < commands.size(); i++) {
+            if (!(commands.get(i).operands().get(0) instanceof Function)) {
+                throw error(action, "non-function in pipeline");
+            }
+        }
+
+        return new Pipeline(variables, declare, commands);
+    }
+
+    /**
+     * @return the position of the {@code :=} or {@code =} that ends a declaration at the start of
+     *         the pipeline, or -1 if there is none.
+     */
+    private int findDeclaration(List<TemplateLexer.Token> tokens) {
+        for (int i = 1; i < tokens.size() && i <= 3; i += 2) {
+            TemplateLexer.Kind kind = tokens.get(i).kind();
+            if (kind == TemplateLexer.Kind.DECLARE || kind == TemplateLexer.Kind.ASSIGN) {
+                return i;
+            }
+            if (kind != TemplateLexer.Kind.COMMA) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private int parseOperand(ActionItem action, List<TemplateLexer.Token> tokens, int position,
+                             List<Operand> operands) {
+        TemplateLexer.Token token = tokens.get(position);
+
+        switch (token.kind()) {
+            case STRING, NUMBER -> operands.add(new Literal(token.value()));
+            case FIELD -> operands.add(new Field(names(token.text(), 0)));
+            case VARIABLE -> {
+                int dot = token.text().indexOf('.');
+                String variable = dot < 0 ? token.text() : token.text().substring(0, dot);
+                operands.add(new Variable(variable, dot < 0 ? List.of() : names(token.text(), dot)));
+            }
+            case IDENTIFIER -> operands.add(createIdentifier(action, token.text()));
+            case LEFT -> {
+                int close = findMatchingRight(action, tokens, position);
+                operands.add(new Nested(parsePipeline(action, tokens.subList(position + 1, close), true)));
+                return close + 1;
+            }
+            default -> throw error(action, "unexpected " + token.text());
+        }
+
+        return position + 1;
+    }
+
+    private Operand createIdentifier(ActionItem action, String identifier) {
+        return switch (identifier) {
+            case "true" -> new Literal(Boolean.TRUE);
+            case "false" -> new Literal(Boolean.FALSE);
+            case "nil" -> new Literal(null);
+            default -> {
+                if (!TemplateRenderer.FUNCTIONS.contains(identifier)) {
+                    throw error(action, "function " + identifier + " not defined");
+                }
+                yield new Function(identifier);
+            }
+        };
+    }
+
+    private int findMatchingRight(ActionItem action, List<TemplateLexer.Token> tokens, int left) {
+        int depth = 0;
+        for (int position = left; position < tokens.size(); position++) {
+            TemplateLexer.Kind kind = tokens.get(position).kind();
+            if (kind == TemplateLexer.Kind.LEFT) {
+                depth++;
+            } else if (kind == TemplateLexer.Kind.RIGHT && --depth == 0) {
+                return position;
+            }
+        }
+        throw error(action, "unclosed left paren");
+    }
+
+    private Command createCommand(ActionItem action, List<Operand> operands) {
+        if (operands.isEmpty()) {
+            throw error(action, "missing value for command");
+        }
+        if (operands.size() > 1 && !(operands.get(0) instanceof Function)) {
+            throw error(action, "can't give argument to non-function");
+        }
+        return new Command(List.copyOf(operands));
+    }
+
+    private List<String> names(String chain, int from) {
+        String fields = chain.substring(from);
+        if (fields.equals(".")) {
+            return List.of();
+        }
+        return Arrays.asList(fields.substring(1).split("\\."));
+    }
+
+    private TemplateException error(ActionItem action, String message) {
+        return new TemplateException(name + ":" + action.line() + ": " + message);
+    }
+
+    private record ActionItem(List<TemplateLexer.Token> tokens, int line) {
+
+        String keyword() {
+            if (tokens.isEmpty()) {
+                return "";
+            }
+            TemplateLexer.Token first = tokens.get(0);
+            return first.kind() == TemplateLexer.Kind.IDENTIFIER ? first.text() : "";
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl.template;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+import uk.gov.companieshouse.api.accounts.exception.TemplateException;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Action;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Command;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Field;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Function;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.If;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Literal;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Nested;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Operand;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Pipeline;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Range;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Text;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.template.TemplateNode.Variable;
+
+/**
+ * Renders the nodes of a parsed template against data made of maps, lists, strings, numbers and
+ * booleans, writing the output as it goes. Values written by actions are HTML escaped unless they
+ * come from {@code unescaped}. A missing field, or a field of a missing value, is empty rather than
+ * an error, and comparisons involving an empty value are false. One renderer is used for a single
+ * pass over a template, by a single thread.
+ */
+final class TemplateRenderer {
+
+    static final Set<String> FUNCTIONS = Set.of("and", "or", "not", "eq", "ne", "lt", "le", "gt", "ge",
+            "len", "printf", "unescaped", "isNotEmpty", "getMagnitudeFormatted", "emitIfNegative",
+            "emitIfPositive", "getValue", "setValue", "incValue", "getJurisdiction", "doTwoPass");
+
+    private static final String ROOT_VARIABLE = "$";
+
+    private static final List<String> SCOTTISH_PREFIXES = List.of("SC", "SO", "SL", "SZ", "SA", "SF", "SP", "SR");
+    private static final List<String> NORTHERN_IRISH_PREFIXES =
+            List.of("NI", "NC", "NL", "NZ", "NA", "NF", "NO", "NP", "NR", "R0");
+
+    private final Writer writer;
+
+    private final Map<String, Object> values;
+
+    private final List<String> variableNames = new ArrayList<>();
+
+    private final List<Object> variableValues = new ArrayList<>();
+
+    private final DecimalFormat magnitudeFormat =
+            new DecimalFormat("#,##0.##", DecimalFormatSymbols.getInstance(Locale.UK));
+
+    /**
+     * @param values - the values held by {@code setValue} and {@code incValue}, which may be kept
+     *            from an earlier pass over the template.
+     */
+    TemplateRenderer(Writer writer, Map<String, Object> values) {
+        this.writer = writer;
+        this.values = values;
+    }
+
+    void render(List<TemplateNode> nodes, Object data) throws IOException {
+        declare(ROOT_VARIABLE, data);
+        renderList(nodes, data);
+    }
+
+    private void renderList(List<TemplateNode> nodes, Object dot) throws IOException {
+        for (TemplateNode node : nodes) {
+            if (node instanceof Text text) {
+                writer.write(text.text());
+            } else if (node instanceof Action action) {
+                Object value = evaluate(action.pipeline(), dot);
+                if (action.pipeline().variables().isEmpty()) {
+                    writer.write(escape(value));
+                }
+            } else if (node instanceof If ifNode) {
+                renderIf(ifNode, dot);
+            } else if (node instanceof Range range) {
+                renderRange(range, dot);
+            }
+        }
+    }
+
+    private void renderIf(If ifNode, Object dot) throws IOException {
+        int scope = variableNames.size();
+        try {
+            if (isTrue(evaluate(ifNode.condition(), dot))) {
+                renderList(ifNode.then(), dot);
+            } else {
+                renderList(ifNode.otherwise(), dot);
+            }
+        } finally {
+            endScope(scope);
+        }
+    }
+
+    private void renderRange(Range range, Object dot) throws IOException {
+        int scope = variableNames.size();
+        try {
+            Object value = evaluateCommands(range.pipeline(), dot);
+
+            Map<Object, Object> elements = new TreeMap<>();
+            List<Object> indexes = new ArrayList<>();
+            if (value instanceof List<?> list) {
+                for (int index = 0; index < list.size(); index++) {
+                    indexes.add(index);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                elements.putAll(map);
+                indexes.addAll(elements.keySet());
+            } else if (value != null) {
+                throw new TemplateException("range can't iterate over " + value);
+            }
+
+            if (indexes.isEmpty()) {
+                renderList(range.otherwise(), dot);
+                return;
+            }
+
+            List<String> variables = range.pipeline().variables();
+            for (Object index : indexes) {
+                Object element = value instanceof List<?> list ? list.get((Integer) index) : elements.get(index);
+
+                if (variables.size() == 1) {
+                    declare(variables.get(0), element);
+                } else if (variables.size() == 2) {
+                    declare(variables.get(0), index);
+                    declare(variables.get(1), element);
+                }
+
+                renderList(range.body(), element);
+                endScope(scope);
+            }
+        } finally {
+            endScope(scope);
+        }
+    }
+
+    private Object evaluate(Pipeline pipeline, Object dot) {
+        Object value = evaluateCommands(pipeline, dot);
+
+        for (String variable : pipeline.variables()) {
+            if (pipeline.declare()) {
+                declare(variable, value);
+            } else {
+                assign(variable, value);
+            }
+        }
+
+        return value;
+    }
+
+    private Object evaluateCommands(Pipeline pipeline, Object dot) {
+        Object value = null;
+        boolean piped = false;
+
+        for (Command command : pipeline.commands()) {
+            value = evaluateCommand(command, dot, value, piped);
+            piped = true;
+        }
+
+        return value;
+    }
+
+    private Object evaluateCommand(Command command, Object dot, Object pipedValue, boolean piped) {
+        List<Operand> operands = command.operands();
+
+        if (operands.get(0) instanceof Function function) {
+            List<Object> arguments = new ArrayList<>();
+            for (Operand operand : operands.subList(1, operands.size())) {
+                arguments.add(evaluateOperand(operand, dot));
+            }
+            if (piped) {
+                arguments.add(pipedValue);
+            }
+            return call(function.name(), arguments);
+        }
+
+        return evaluateOperand(operands.get(0), dot);
+    }
+
+    private Object evaluateOperand(Operand operand, Object dot) {
+        if (operand instanceof Literal literal) {
+            return literal.value();
+        }
+        if (operand instanceof Field field) {
+            return resolve(dot, field.names());
+        }
+        if (operand instanceof Variable variable) {
+            return resolve(lookup(variable.name()), variable.names());
+        }
+        if (operand instanceof Nested nested) {
+            return evaluate(nested.pipeline(), dot);
+        }
+        return call(((Function) operand).name(), List.of());
+    }
+
+    private Object resolve(Object value, List<String> names) {
+        Object resolved = value;
+        for (String name : names) {
+            if (resolved instanceof Map<?, ?> map) {
+                resolved = map.get(name);
+            } else if (resolved != null) {
+                throw new TemplateException("can't evaluate field " + name + " of " + resolved.getClass().getSimpleName());
+            } else {
+                return null;
+            }
+        }
+        return resolved;
+    }
+
+    private void declare(String variable, Object value) {
+        variableNames.add(variable);
+        variableValues.add(value);
+    }
+
+    private void assign(String variable, Object value) {
+        int index = variableNames.lastIndexOf(variable);
+        if (index < 0) {
+            throw new TemplateException("undefined variable: " + variable);
+        }
+        variableValues.set(index, value);
+    }
+
+    private Object lookup(String variable) {
+        int index = variableNames.lastIndexOf(variable);
+        if (index < 0) {
+            throw new TemplateException("undefined variable: " + variable);
+        }
+        return variableValues.get(index);
+    }
+
+    private void endScope(int scope) {
+        variableNames.subList(scope, variableNames.size()).clear();
+        variableValues.subList(scope, variableValues.size()).clear();
+    }
+
+    private Object call(String function, List<Object> arguments) {
+        return switch (function) {
+            case "and" -> and(arguments);
+            case "or" -> or(arguments);
+            case "not" -> !isTrue(argument(arguments, 0));
+            case "eq" -> isEqualToAny(arguments);
+            case "ne" -> !isEqual(argument(arguments, 0), argument(arguments, 1));
+            case "lt" -> compare(arguments, comparison -> comparison < 0);
+            case "le" -> compare(arguments, comparison -> comparison <= 0);
+            case "gt" -> compare(arguments, comparison -> comparison > 0);
+            case "ge" -> compare(arguments, comparison -> comparison >= 0);
+            case "len" -> length(argument(arguments, 0));
+            case "printf" -> printf(arguments);
+            case "unescaped" -> new SafeHtml(toText(argument(arguments, 0)));
+            case "isNotEmpty" -> arguments.stream().anyMatch(argument -> !isEmpty(argument));
+            case "getMagnitudeFormatted" -> formatMagnitude(argument(arguments, 0));
+            case "emitIfNegative" -> compareToZero(argument(arguments, 0)) < 0 ? argument(arguments, 1) : "";
+            case "emitIfPositive" -> compareToZero(argument(arguments, 0)) > 0 ? argument(arguments, 1) : "";
+            case "getValue" -> values.getOrDefault(toText(argument(arguments, 0)), "");
+            case "setValue" -> {
+                values.put(toText(argument(arguments, 0)), argument(arguments, 1));
+                yield "";
+            }
+            case "incValue" -> {
+                Object value = values.get(toText(argument(arguments, 0)));
+                long current = value instanceof Number number ? number.longValue() : 0;
+                values.put(toText(argument(arguments, 0)), current + 1);
+                yield "";
+            }
+            case "getJurisdiction" -> getJurisdiction(toText(argument(arguments, 0)));
+            // The second pass is arranged by FilingTemplate before rendering starts
+            case "doTwoPass" -> "";
+            default -> throw new TemplateException("function " + function + " not defined");
+        };
+    }
+
+    private Object argument(List<Object> arguments, int index) {
+        return index < arguments.size() ? arguments.get(index) : null;
+    }
+
+    private Object and(List<Object> arguments) {
+        Object value = null;
+        for (Object argument : arguments) {
+            value = argument;
+            if (!isTrue(value)) {
+                return value;
+            }
+        }
+        return value;
+    }
+
+    private Object or(List<Object> arguments) {
+        Object value = null;
+        for (Object argument : arguments) {
+            value = argument;
+            if (isTrue(value)) {
+                return value;
+            }
+        }
+        return value;
+    }
+
+    private boolean isEqualToAny(List<Object> arguments) {
+        Object first = argument(arguments, 0);
+        for (Object argument : arguments.subList(Math.min(1, arguments.size()), arguments.size())) {
+            if (isEqual(first, argument)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEqual(Object first, Object second) {
+        if (first instanceof Number firstNumber && second instanceof Number secondNumber) {
+            return Double.compare(firstNumber.doubleValue(), secondNumber.doubleValue()) == 0;
+        }
+        return Objects.equals(first, second);
+    }
+
+    private boolean compare(List<Object> arguments, IntPredicate test) {
+        Object first = argument(arguments, 0);
+        Object second = argument(arguments, 1);
+
+        if (first instanceof Number firstNumber && second instanceof Number secondNumber) {
+            return test.test(Double.compare(firstNumber.doubleValue(), secondNumber.doubleValue()));
+        }
+        if (first instanceof String firstString && second instanceof String secondString) {
+            return test.test(firstString.compareTo(secondString));
+        }
+        return false;
+    }
+
+    private int compareToZero(Object value) {
+        return value instanceof Number number ? Double.compare(number.doubleValue(), 0) : 0;
+    }
+
+    private int length(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return string.length();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        throw new TemplateException("len of " + value.getClass().getSimpleName());
+    }
+
+    private String printf(List<Object> arguments) {
+        String format = toText(argument(arguments, 0));
+        StringBuilder result = new StringBuilder();
+        int next = 1;
+
+        for (int position = 0; position < format.length(); position++) {
+            char character = format.charAt(position);
+            if (character != '%' || position + 1 == format.length()) {
+                result.append(character);
+                continue;
+            }
+
+            char verb = format.charAt(++position);
+            if (verb == '%') {
+                result.append('%');
+            } else if (next >= arguments.size()) {
+                result.append("%!").append(verb).append("(MISSING)");
+            } else if (verb == 's' || verb == 'v') {
+                result.append(toText(arguments.get(next++)));
+            } else if (verb == 'd' && arguments.get(next) instanceof Number number) {
+                result.append(number.longValue());
+                next++;
+            } else {
+                throw new TemplateException("printf verb %" + verb + " is not supported");
+            }
+        }
+
+        return result.toString();
+    }
+
+    private String formatMagnitude(Object value) {
+        if (value instanceof Number number) {
+            return magnitudeFormat.format(Math.abs(number.doubleValue()));
+        }
+        return toText(value);
+    }
+
+    private String getJurisdiction(String companyNumber) {
+        String prefix = companyNumber.length() < 2 ? companyNumber : companyNumber.substring(0, 2).toUpperCase();
+        if (SCOTTISH_PREFIXES.contains(prefix)) {
+            return "Scotland";
+        }
+        if (NORTHERN_IRISH_PREFIXES.contains(prefix)) {
+            return "Northern Ireland";
+        }
+        return "England and Wales";
+    }
+
+    private boolean isTrue(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue() != 0;
+        }
+        return !isEmpty(value);
+    }
+
+    private boolean isEmpty(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof String string) {
+            return string.isEmpty();
+        }
+        if (value instanceof SafeHtml safeHtml) {
+            return safeHtml.html().isEmpty();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.isEmpty();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.isEmpty();
+        }
+        return false;
+    }
+
+    private String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof SafeHtml safeHtml) {
+            return safeHtml.html();
+        }
+        if (value instanceof Double number && number == Math.rint(number) && !number.isInfinite()) {
+            return String.valueOf(number.longValue());
+        }
+        return value.toString();
+    }
+
+    private String escape(Object value) {
+        if (value instanceof SafeHtml safeHtml) {
+            return safeHtml.html();
+        }
+
+        String text = toText(value);
+        StringBuilder escaped = null;
+        for (int position = 0; position < text.length(); position++) {
+            String replacement = switch (text.charAt(position)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&#34;";
+                case '\'' -> "&#39;";
+                case '+' -> "&#43;";
+                case '\0' -> "\uFFFD";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, position);
+            }
+            if (escaped != null) {
+                escaped.append(replacement != null ? replacement : String.valueOf(text.charAt(position)));
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+
+    /**
+     * Text which is written without escaping.
+     */
+    private record SafeHtml(String html) {
+    }
+}
@@ -80,7 +80,7 @@ public class AccountsValidator extends BaseValidator {
 
             BalanceSheet currentPeriodBalanceSheet = currentPeriodService.find(companyAccountsId, request).getData().getBalanceSheet();
             BalanceSheet previousPeriodBalanceSheet = null;
-            if (getIsMultipleYearFiler(transaction)) {
+            if (getIsMultipleYearFiler(transaction, request)) {
                 previousPeriodBalanceSheet = previousPeriodService.find(companyAccountsId, request).getData().getBalanceSheet();
             }
 
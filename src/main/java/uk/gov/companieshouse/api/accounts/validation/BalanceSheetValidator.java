@@ -1,11 +1,11 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
-import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.model.rest.BalanceSheet;
 import uk.gov.companieshouse.api.accounts.model.rest.CapitalAndReserves;
 import uk.gov.companieshouse.api.accounts.model.rest.CurrentAssets;
@@ -45,9 +45,10 @@ public class BalanceSheetValidator extends BaseValidator {
 
     public void validateBalanceSheet(BalanceSheet balanceSheet,
                                      Transaction transaction,
+                                     HttpServletRequest request,
                                      String periodPath,
                                      Errors errors) throws DataException {
-        boolean isLBGCompanyFiling = getIsLBGCompanyFiling(transaction);
+        boolean isLBGCompanyFiling = getIsLBG(transaction, request);
 
         validateTotalFixedAssets(balanceSheet, periodPath, errors);
         validateTotalCurrentAssets(balanceSheet, periodPath, errors);
@@ -257,12 +258,4 @@ public class BalanceSheetValidator extends BaseValidator {
             addError(errors, unexpectedData, periodPath + MEMBERS_FUNDS_PATH);
         }
     }
-
-    private boolean getIsLBGCompanyFiling(Transaction transaction) throws DataException {
-        try {
-            return getCompanyService().isLBG(transaction);
-        } catch (ServiceException e) {
-            throw new DataException(e.getMessage(), e);
-        }
-    }
 }
@@ -1,9 +1,13 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 
+import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.validation.Error;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
@@ -107,6 +111,76 @@ public class BaseValidator {
         }
     }
 
+    /**
+     * Whether the company is a multiple year filer, taken from the company facts recorded on the
+     * company account the request is for, or from the company profile if none were recorded
+     *
+     * @param transaction the transaction for the company account
+     * @param request the request, holding the company account
+     */
+    protected boolean getIsMultipleYearFiler(Transaction transaction, HttpServletRequest request)
+            throws DataException {
+        CompanyFacts companyFacts = getRecordedCompanyFacts(transaction, request);
+        if (companyFacts != null) {
+            return companyFacts.isMultipleYearFiler();
+        }
+
+        return getIsMultipleYearFiler(transaction);
+    }
+
+    /**
+     * Whether the company is limited by guarantee, taken from the company facts recorded on the
+     * company account the request is for, or from the company profile if none were recorded
+     *
+     * @param transaction the transaction for the company account
+     * @param request the request, holding the company account
+     */
+    protected boolean getIsLBG(Transaction transaction, HttpServletRequest request) throws DataException {
+        CompanyFacts companyFacts = getRecordedCompanyFacts(transaction, request);
+        if (companyFacts != null) {
+            return companyFacts.isLimitedByGuarantee();
+        }
+
+        try {
+            return companyService.isLBG(transaction);
+        } catch (ServiceException e) {
+            throw new DataException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether the company is a community interest company, taken from the company facts recorded
+     * on the company account the request is for, or from the company profile if none were recorded
+     *
+     * @param transaction the transaction for the company account
+     * @param request the request, holding the company account
+     */
+    protected boolean getIsCIC(Transaction transaction, HttpServletRequest request) throws DataException {
+        CompanyFacts companyFacts = getRecordedCompanyFacts(transaction, request);
+        if (companyFacts != null) {
+            return companyFacts.isCommunityInterestCompany();
+        }
+
+        try {
+            return companyService.isCIC(transaction);
+        } catch (ServiceException e) {
+            throw new DataException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the company facts recorded on the company account the request is for, or null if
+     *         none were recorded for the transaction's company
+     */
+    private CompanyFacts getRecordedCompanyFacts(Transaction transaction, HttpServletRequest request) {
+        CompanyAccount companyAccount =
+                (CompanyAccount) request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue());
+
+        CompanyFacts companyFacts = companyAccount != null ? companyAccount.getCompanyFacts() : null;
+        return companyFacts != null && companyFacts.isRecordedFor(transaction.getCompanyNumber())
+                ? companyFacts : null;
+    }
+
     public CompanyService getCompanyService() {
         return companyService;
     }
@@ -1,10 +1,10 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import uk.gov.companieshouse.api.accounts.exception.DataException;
-import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -19,15 +19,12 @@ public class CicReportValidator extends BaseValidator {
         super(companyService);
     }
 
-    public Errors validateCicReportCreation(Transaction transaction) throws DataException {
+    public Errors validateCicReportCreation(Transaction transaction, HttpServletRequest request)
+            throws DataException {
         Errors errors = new Errors();
 
-        try {
-            if (!getCompanyService().isCIC(transaction)) {
-                addError(errors, unexpectedData, CIC_REPORT_PATH);
-            }
-        } catch (ServiceException e) {
-            throw new DataException(e.getMessage(), e);
+        if (!getIsCIC(transaction, request)) {
+            addError(errors, unexpectedData, CIC_REPORT_PATH);
         }
 
         return errors;
@@ -73,7 +73,7 @@ public class CreditorsAfterMoreThanOneYearValidator extends BaseValidator implem
             return errors;
         }
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         BalanceSheet currentPeriodBalanceSheet = getCurrentPeriodBalanceSheet(request, companyAccountsId);
         BalanceSheet previousPeriodBalanceSheet = getPreviousPeriodBalanceSheet(request, companyAccountsId);
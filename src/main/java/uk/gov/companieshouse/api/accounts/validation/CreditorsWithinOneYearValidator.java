@@ -72,7 +72,7 @@ public class CreditorsWithinOneYearValidator extends BaseValidator implements No
             return errors;
         }
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         BalanceSheet currentPeriodBalanceSheet = getCurrentPeriodBalanceSheet(request, companyAccountsId);
         BalanceSheet previousPeriodBalanceSheet = getPreviousPeriodBalanceSheet(request, companyAccountsId);
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
@@ -16,12 +17,13 @@ public class CurrentPeriodValidator {
     private static final String CURRENT_PERIOD_PATH = "$.current_period";
 
 
-    public Errors validateCurrentPeriod(CurrentPeriod currentPeriod, Transaction transaction) throws DataException {
+    public Errors validateCurrentPeriod(CurrentPeriod currentPeriod, Transaction transaction,
+            HttpServletRequest request) throws DataException {
         Errors errors = new Errors();
 
         if (currentPeriod.getBalanceSheet() != null) {
             balanceSheetValidator.validateBalanceSheet(
-                    currentPeriod.getBalanceSheet(), transaction, CURRENT_PERIOD_PATH, errors);
+                    currentPeriod.getBalanceSheet(), transaction, request, CURRENT_PERIOD_PATH, errors);
         }
 
         return errors;
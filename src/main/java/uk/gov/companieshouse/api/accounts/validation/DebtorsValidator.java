@@ -71,7 +71,7 @@ public class DebtorsValidator extends BaseValidator implements NoteValidator<Deb
             return errors;
         }
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         BalanceSheet currentPeriodBalanceSheet = getCurrentPeriodBalanceSheet(request, companyAccountsId);
         BalanceSheet previousPeriodBalanceSheet = getPreviousPeriodBalanceSheet(request, companyAccountsId);
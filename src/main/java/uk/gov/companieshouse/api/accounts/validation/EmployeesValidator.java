@@ -35,7 +35,7 @@ public class EmployeesValidator extends BaseValidator implements NoteValidator<E
                                      HttpServletRequest request) throws DataException {
         Errors errors = new Errors();
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         if (isMultipleYearFiler) {
             if (employees.getPreviousPeriod() == null
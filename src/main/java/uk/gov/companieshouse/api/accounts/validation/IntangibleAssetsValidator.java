@@ -67,7 +67,7 @@ public class IntangibleAssetsValidator extends BaseValidator implements NoteVali
                                      HttpServletRequest request) throws DataException {
         Errors errors = new Errors();
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         List<IntangibleSubResource> invalidSubResources = new ArrayList<>();
 
@@ -41,7 +41,7 @@ public class LoanValidator extends BaseValidator {
                                HttpServletRequest request) throws DataException {
         Errors errors = new Errors();
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         if (!isMultipleYearFiler && loan.getBreakdown().getBalanceAtPeriodStart() != null) {
             addError(errors, unexpectedData, LOANS_BREAKDOWN_PATH_BALANCE_AT_PERIOD_START);
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -22,17 +23,18 @@ public class PreviousPeriodValidator extends BaseValidator {
         this.balanceSheetValidator = balanceSheetValidator;
     }
 
-    public Errors validatePreviousPeriod(PreviousPeriod previousPeriod, Transaction transaction) throws DataException {
+    public Errors validatePreviousPeriod(PreviousPeriod previousPeriod, Transaction transaction,
+            HttpServletRequest request) throws DataException {
 
         Errors errors = new Errors();
 
-            boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+            boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
             if (isMultipleYearFiler) {
                 if (previousPeriod.getBalanceSheet() != null) {
 
                     balanceSheetValidator.validateBalanceSheet(
-                            previousPeriod.getBalanceSheet(), transaction, PREVIOUS_PERIOD_PATH, errors);
+                            previousPeriod.getBalanceSheet(), transaction, request, PREVIOUS_PERIOD_PATH, errors);
                 }
             } else {
                 addError(errors, unexpectedData, PREVIOUS_PERIOD_PATH);
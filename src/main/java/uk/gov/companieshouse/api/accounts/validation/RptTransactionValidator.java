@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
@@ -18,10 +19,11 @@ public class RptTransactionValidator extends BaseValidator {
         super(companyService);
     }
 
-    public Errors validateRptTransaction(RptTransaction rptTransaction, Transaction transaction) throws DataException {
+    public Errors validateRptTransaction(RptTransaction rptTransaction, Transaction transaction,
+            HttpServletRequest request) throws DataException {
         Errors errors = new Errors();
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
         if (!isMultipleYearFiler && rptTransaction.getBreakdown().getBalanceAtPeriodStart() != null) {
             addError(errors, unexpectedData, TRANSACTION_BREAKDOWN_PATH_BALANCE_AT_PERIOD_START);
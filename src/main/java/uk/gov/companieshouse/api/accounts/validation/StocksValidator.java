@@ -315,7 +315,7 @@ public class StocksValidator extends BaseValidator implements NoteValidator<Stoc
             return errors;
         }
 
-        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
         BalanceSheet currentPeriodBalanceSheet = getCurrentPeriodBalanceSheet(request, companyAccountId);
         BalanceSheet previousPeriodBalanceSheet = getPreviousPeriodBalanceSheet(request, companyAccountId);
         CurrentPeriod currentPeriodNote = note.getCurrentPeriod();
@@ -10,7 +10,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
-import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.model.rest.BalanceSheet;
 import uk.gov.companieshouse.api.accounts.model.rest.CurrentPeriod;
 import uk.gov.companieshouse.api.accounts.model.rest.FixedAssets;
@@ -64,24 +63,20 @@ public class TangibleAssetsValidator extends BaseValidator implements NoteValida
                                      HttpServletRequest request) throws DataException {
         Errors errors = new Errors();
 
-        try {
-            boolean isMultipleYearFiler = getCompanyService().isMultipleYearFiler(transaction);
+        boolean isMultipleYearFiler = getIsMultipleYearFiler(transaction, request);
 
-            List<TangibleSubResource> invalidSubResources = new ArrayList<>();
+        List<TangibleSubResource> invalidSubResources = new ArrayList<>();
 
-            verifySubResourcesAreValid(tangibleAssets, errors, isMultipleYearFiler, invalidSubResources);
-            verifyNoteNotEmpty(tangibleAssets, errors, isMultipleYearFiler);
-            validateSubResourceTotals(tangibleAssets, errors, isMultipleYearFiler, invalidSubResources);
-            if (errors.hasErrors()) {
-                return errors;
-            }
-
-            validateTotalFieldsMatch(errors, tangibleAssets, isMultipleYearFiler);
-            crossValidate(tangibleAssets, request, companyAccountsId, errors);
-        } catch (ServiceException e) {
-            throw new DataException(e.getMessage(), e);
+        verifySubResourcesAreValid(tangibleAssets, errors, isMultipleYearFiler, invalidSubResources);
+        verifyNoteNotEmpty(tangibleAssets, errors, isMultipleYearFiler);
+        validateSubResourceTotals(tangibleAssets, errors, isMultipleYearFiler, invalidSubResources);
+        if (errors.hasErrors()) {
+            return errors;
         }
 
+        validateTotalFieldsMatch(errors, tangibleAssets, isMultipleYearFiler);
+        crossValidate(tangibleAssets, request, companyAccountsId, errors);
+
         return errors;
     }
 
@@ -0,0 +1,289 @@
+package uk.gov.companieshouse.api.accounts.validation.ixbrl;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.accounts.CompanyAccountsApplication;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Checks an ixbrl document in a single streaming pass, before it is sent to the TNEP validator, so
+ * that a malformed document, which cannot pass, is rejected without the upload. The document must
+ * be well formed, contain the inline XBRL header with its contexts, and refer only to contexts and
+ * units that it declares. Its latest context date is also compared with the period end returned by
+ * the document generator, but as that depends on how the dates are written rather than whether the
+ * document is well formed, a difference is only logged and left to the TNEP validator. Only the
+ * declared and referenced ids are held, so memory does not grow with the size of the document, and
+ * the check stops at the first problem found.
+ */
+@Component
+public class IxbrlPreValidator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountsApplication.APPLICATION_NAME_SPACE);
+
+    private static final String LOG_MESSAGE_KEY = "message";
+    private static final String LOG_LOCATION_KEY = "location";
+
+    static final String IX_NAMESPACE = "http://www.xbrl.org/2013/inlineXBRL";
+    static final String XBRLI_NAMESPACE = "http://www.xbrl.org/2003/instance";
+
+    private static final String HEADER = "header";
+    private static final String RESOURCES = "resources";
+    private static final String NON_FRACTION = "nonFraction";
+    private static final String NON_NUMERIC = "nonNumeric";
+    private static final String CONTEXT = "context";
+    private static final String UNIT = "unit";
+    private static final String INSTANT = "instant";
+    private static final String END_DATE = "endDate";
+
+    private static final String ID_ATTRIBUTE = "id";
+    private static final String CONTEXT_REF_ATTRIBUTE = "contextRef";
+    private static final String UNIT_REF_ATTRIBUTE = "unitRef";
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public IxbrlPreValidator() {
+        xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    }
+
+    /**
+     * Check that the ixbrl can be sent to the TNEP validator.
+     *
+     * @param ixbrl - the ixbrl content, which is read until the first problem is found.
+     * @param periodEndOn - the period end on returned by the document generator.
+     * @param location - the ixbrl location.
+     * @return true if the document is not malformed.
+     */
+    public boolean isIxbrlValid(InputStream ixbrl, String periodEndOn, String location) {
+        IxbrlSummary summary = new IxbrlSummary();
+
+        String problem;
+        try {
+            problem = findProblem(ixbrl, summary);
+        } catch (XMLStreamException e) {
+            problem = "Ixbrl is not well formed: " + e.getMessage();
+        }
+
+        if (problem != null) {
+            LOGGER.error("IxbrlPreValidator: ixbrl has failed pre-validation", createLogMap(problem, location));
+
+            return false;
+        }
+
+        String warning = summary.findPeriodEndWarning(periodEndOn);
+        if (warning != null) {
+            LOGGER.info("IxbrlPreValidator: ixbrl period end has not been confirmed", createLogMap(warning, location));
+        }
+
+        return true;
+    }
+
+    private Map<String, Object> createLogMap(String message, String location) {
+        Map<String, Object> logMap = new HashMap<>();
+        logMap.put(LOG_MESSAGE_KEY, message);
+        logMap.put(LOG_LOCATION_KEY, location);
+        return logMap;
+    }
+
+    String findProblem(InputStream ixbrl, IxbrlSummary summary) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(ixbrl);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    String problem = summary.add(reader);
+                    if (problem != null) {
+                        return problem;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return summary.findProblem();
+    }
+
+    /**
+     * What has been read of a document: the header elements found, the context and unit ids
+     * declared and referenced, and the latest context date, along with the first context date that
+     * could not be read.
+     */
+    static class IxbrlSummary {
+
+        private boolean hasHeader;
+        private boolean hasResources;
+
+        private final Set<String> contextIds = new HashSet<>();
+        private final Set<String> unitIds = new HashSet<>();
+        private final Set<String> contextRefs = new HashSet<>();
+        private final Set<String> unitRefs = new HashSet<>();
+
+        private LocalDate latestContextDate;
+        private String unreadContextDate;
+
+        String add(XMLStreamReader reader) throws XMLStreamException {
+            String namespace = reader.getNamespaceURI();
+            String name = reader.getLocalName();
+
+            if (IX_NAMESPACE.equals(namespace)) {
+                return addInlineElement(reader, name);
+            }
+
+            if (XBRLI_NAMESPACE.equals(namespace)) {
+                return addInstanceElement(reader, name);
+            }
+
+            return null;
+        }
+
+        private String addInlineElement(XMLStreamReader reader, String name) {
+            switch (name) {
+                case HEADER -> hasHeader = true;
+                case RESOURCES -> hasResources = true;
+                case NON_FRACTION -> {
+                    String unitRef = reader.getAttributeValue(null, UNIT_REF_ATTRIBUTE);
+                    if (unitRef == null) {
+                        return "Numeric fact " + reader.getAttributeValue(null, "name") + " has no unit";
+                    }
+                    unitRefs.add(unitRef);
+                    return addContextRef(reader);
+                }
+                case NON_NUMERIC -> {
+                    return addContextRef(reader);
+                }
+                default -> {
+                    // Other inline elements are not checked
+                }
+            }
+            return null;
+        }
+
+        private String addContextRef(XMLStreamReader reader) {
+            String contextRef = reader.getAttributeValue(null, CONTEXT_REF_ATTRIBUTE);
+            if (contextRef == null) {
+                return "Fact " + reader.getAttributeValue(null, "name") + " has no context";
+            }
+            contextRefs.add(contextRef);
+            return null;
+        }
+
+        private String addInstanceElement(XMLStreamReader reader, String name) throws XMLStreamException {
+            switch (name) {
+                case CONTEXT -> {
+                    return addId(reader, contextIds, "Context");
+                }
+                case UNIT -> {
+                    return addId(reader, unitIds, "Unit");
+                }
+                case INSTANT, END_DATE -> {
+                    return addContextDate(reader.getElementText());
+                }
+                default -> {
+                    // Other instance elements are not checked
+                }
+            }
+            return null;
+        }
+
+        private String addId(XMLStreamReader reader, Set<String> ids, String element) {
+            String id = reader.getAttributeValue(null, ID_ATTRIBUTE);
+            if (id == null) {
+                return element + " has no id";
+            }
+            if (!ids.add(id)) {
+                return element + " " + id + " is declared more than once";
+            }
+            return null;
+        }
+
+        private String addContextDate(String text) {
+            String date = text.trim();
+            try {
+                LocalDate contextDate = getPeriodEndDay(date);
+                if (latestContextDate == null || contextDate.isAfter(latestContextDate)) {
+                    latestContextDate = contextDate;
+                }
+            } catch (DateTimeParseException e) {
+                if (unreadContextDate == null) {
+                    unreadContextDate = date;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * The last day in a period that ends, or an instant that falls, at a context date. In XBRL,
+         * a date on its own is the end of that day, while a date and time is that moment, so a time
+         * of midnight is the end of the day before.
+         */
+        private LocalDate getPeriodEndDay(String date) {
+            if (date.indexOf('T') < 0) {
+                return LocalDate.from(DateTimeFormatter.ISO_DATE.parse(date));
+            }
+
+            LocalDateTime dateTime = LocalDateTime.from(DateTimeFormatter.ISO_DATE_TIME.parse(date));
+            if (dateTime.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+                return dateTime.toLocalDate().minusDays(1);
+            }
+            return dateTime.toLocalDate();
+        }
+
+        String findProblem() {
+            if (!hasHeader || !hasResources) {
+                return "Ixbrl has no " + (hasHeader ? "ix:resources" : "ix:header") + " element";
+            }
+            if (contextIds.isEmpty()) {
+                return "Ixbrl declares no contexts";
+            }
+
+            for (String contextRef : contextRefs) {
+                if (!contextIds.contains(contextRef)) {
+                    return "Context " + contextRef + " is referred to but not declared";
+                }
+            }
+            for (String unitRef : unitRefs) {
+                if (!unitIds.contains(unitRef)) {
+                    return "Unit " + unitRef + " is referred to but not declared";
+                }
+            }
+
+            return null;
+        }
+
+        String findPeriodEndWarning(String periodEndOn) {
+            if (unreadContextDate != null) {
+                return "Context date " + unreadContextDate + " is not a date";
+            }
+
+            if (periodEndOn == null) {
+                return "No period end on was returned by the document generator";
+            }
+
+            try {
+                if (!LocalDate.parse(periodEndOn).equals(latestContextDate)) {
+                    return "Ixbrl period ends on " + latestContextDate + " but the period end on is " + periodEndOn;
+                }
+            } catch (DateTimeParseException e) {
+                return "Period end on " + periodEndOn + " is not a date";
+            }
+
+            return null;
+        }
+    }
+}
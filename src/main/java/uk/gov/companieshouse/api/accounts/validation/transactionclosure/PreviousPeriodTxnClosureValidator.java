@@ -37,7 +37,7 @@ public class PreviousPeriodTxnClosureValidator extends BaseValidator {
                            Transaction transaction,
                            HttpServletRequest request,
                            Errors errors) throws DataException {
-        if (getIsMultipleYearFiler(transaction)) {
+        if (getIsMultipleYearFiler(transaction, request)) {
             if (smallFull.getLinks().get(SmallFullLinkType.PREVIOUS_PERIOD.getLink()) != null) {
                 ResponseObject<PreviousPeriod> previousPeriodResponseObject =
                         previousPeriodService.find(companyAccountsId, request);
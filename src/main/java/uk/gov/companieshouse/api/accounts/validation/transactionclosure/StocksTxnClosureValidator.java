@@ -65,7 +65,7 @@ public class StocksTxnClosureValidator extends BaseValidator {
 
             long previousStock = 0L;
 
-            if (getIsMultipleYearFiler(transaction)) {
+            if (getIsMultipleYearFiler(transaction, request)) {
                  previousStock = Optional.of(previousPeriodBalanceSheet)
                         .map(BalanceSheet::getCurrentAssets)
                         .map(CurrentAssets::getStocks)
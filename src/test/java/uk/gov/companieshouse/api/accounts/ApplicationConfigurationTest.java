@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.web.client.RestTemplate;
 
 import uk.gov.companieshouse.environment.EnvironmentReader;
 
@@ -17,13 +16,6 @@ class ApplicationConfigurationTest {
 		applicationConfiguration = new ApplicationConfiguration();
 	}
 	
-	@Test
-	@DisplayName("Get the bean for sending REST requests")
-	void getBeanForRestRequests() {
-		RestTemplate bean = applicationConfiguration.getRestTemplate();
-		assertNotNull(bean);
-	}
-	
 	@Test
 	@DisplayName("Get the bean for reading environment variables")
 	void getBeanForReadingEnvironmentVariables() {
@@ -1,16 +1,20 @@
 package uk.gov.companieshouse.api.accounts;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InOrder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import uk.gov.companieshouse.api.accounts.configuration.ApplicationTracer;
+import uk.gov.companieshouse.api.accounts.interceptor.AncestorResourcesInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.AuthenticationInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.CicReportInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.ClosedTransactionInterceptor;
@@ -23,11 +27,15 @@ import uk.gov.companieshouse.api.accounts.interceptor.OpenTransactionInterceptor
 import uk.gov.companieshouse.api.accounts.interceptor.PreviousPeriodInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.RelatedPartyTransactionsInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.SmallFullInterceptor;
+import uk.gov.companieshouse.api.accounts.interceptor.TimedInterceptor;
 import uk.gov.companieshouse.api.accounts.interceptor.TransactionInterceptor;
 import uk.gov.companieshouse.api.interceptor.TokenPermissionsInterceptor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +54,9 @@ class CompanyAccountsApplicationTest {
     @Mock
     private ClosedTransactionInterceptor closedTransactionInterceptor;
 
+    @Mock
+    private AncestorResourcesInterceptor ancestorResourcesInterceptor;
+
     @Mock
     private CompanyAccountInterceptor companyAccountInterceptor;
 
@@ -79,6 +90,12 @@ class CompanyAccountsApplicationTest {
     @Mock
     private AuthenticationInterceptor authenticationInterceptor;
 
+    @Mock
+    private MeterRegistry meterRegistry;
+
+    @Mock
+    private ApplicationTracer applicationTracer;
+
     @Mock
     private InterceptorRegistry interceptorRegistry;
 
@@ -88,29 +105,24 @@ class CompanyAccountsApplicationTest {
     @Test
     @DisplayName("Test if interceptors are added correctly")
     void testAddInterceptors() {
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(loggingInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(tokenPermissionsInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(authenticationInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(transactionInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(openTransactionInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(closedTransactionInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(companyAccountInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(smallFullInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(currentPeriodInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(previousPeriodInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(cicReportInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(directorsReportInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(loansToDirectorsInterceptor);
-        doReturn(interceptorRegistration).when(interceptorRegistry).addInterceptor(relatedPartyTransactionsInterceptor);
+        when(interceptorRegistry.addInterceptor(any(HandlerInterceptor.class))).thenReturn(interceptorRegistration);
         when(interceptorRegistration.addPathPatterns(anyString())).thenReturn(interceptorRegistration);
         when(interceptorRegistration.addPathPatterns(anyString(), anyString())).thenReturn(interceptorRegistration);
         when(interceptorRegistration.excludePathPatterns(anyString())).thenReturn(interceptorRegistration);
 
         companyAccountsApplication.addInterceptors(interceptorRegistry);
 
-        InOrder inOrder = Mockito.inOrder(interceptorRegistry);
-        inOrder.verify(interceptorRegistry).addInterceptor(tokenPermissionsInterceptor);
-        inOrder.verify(interceptorRegistry).addInterceptor(authenticationInterceptor);
+        ArgumentCaptor<HandlerInterceptor> interceptors = ArgumentCaptor.forClass(HandlerInterceptor.class);
+        verify(interceptorRegistry, times(15)).addInterceptor(interceptors.capture());
+
+        List<HandlerInterceptor> timedInterceptors = interceptors.getAllValues().stream()
+                .map(interceptor -> ((TimedInterceptor) interceptor).getInterceptor())
+                .toList();
+        assertEquals(List.of(loggingInterceptor, tokenPermissionsInterceptor, authenticationInterceptor,
+                transactionInterceptor, openTransactionInterceptor, closedTransactionInterceptor,
+                ancestorResourcesInterceptor, companyAccountInterceptor, smallFullInterceptor, currentPeriodInterceptor,
+                previousPeriodInterceptor, cicReportInterceptor, directorsReportInterceptor, loansToDirectorsInterceptor,
+                relatedPartyTransactionsInterceptor), timedInterceptors);
 
         verifyNoMoreInteractions(interceptorRegistry);
     }
@@ -50,6 +50,18 @@ class AmazonS3ConfigurationTest {
         verifyRegionCheck();
     }
 
+    @Test
+    @DisplayName("Test get Amazon S3 by Providing an Endpoint")
+    void testGetAmazonS3WithEndpoint() {
+        when(environmentReader.getOptionalString("IMAGE_CLOUD_PROXY_HOST")).thenReturn(null);
+        when(environmentReader.getOptionalString("AMAZON_S3_ENDPOINT")).thenReturn("http://localhost:9090");
+        AmazonS3 result = amazonS3Configuration.getAmazonS3();
+        assertNotNull(result);
+        verifyProxyCheck();
+        verifyRegionCheck();
+        verify(environmentReader, times(1)).getOptionalString("AMAZON_S3_ENDPOINT");
+    }
+
     /**
      * Verify the proxy configuration check
      */
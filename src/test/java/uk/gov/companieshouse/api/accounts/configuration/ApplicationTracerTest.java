@@ -0,0 +1,85 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.model.validation.Error;
+import uk.gov.companieshouse.api.accounts.model.validation.Errors;
+import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
+import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
+import uk.gov.companieshouse.api.accounts.validation.ErrorType;
+import uk.gov.companieshouse.api.accounts.validation.LocationType;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationTracerTest {
+
+    @Mock
+    private Span span;
+
+    private ApplicationTracer applicationTracer;
+
+    @BeforeEach
+    void setUp() {
+        applicationTracer = new ApplicationTracer(OpenTelemetry.noop());
+    }
+
+    @Test
+    @DisplayName("Set result - status of a response object")
+    void setResultResponseObject() {
+        applicationTracer.setResult(span, new ResponseObject<>(ResponseStatus.CREATED));
+
+        verify(span).setAttribute(ApplicationTracer.RESULT_STATUS, "CREATED");
+    }
+
+    @Test
+    @DisplayName("Set result - validity and error count of validation errors")
+    void setResultErrors() {
+        Errors errors = new Errors();
+        errors.addError(new Error("invalid.value", "$.note.value", LocationType.JSON_PATH.getValue(),
+                ErrorType.VALIDATION.getType()));
+
+        applicationTracer.setResult(span, errors);
+
+        verify(span).setAttribute(ApplicationTracer.RESULT_STATUS, "invalid");
+        verify(span).setAttribute(ApplicationTracer.ERROR_COUNT, 1L);
+    }
+
+    @Test
+    @DisplayName("Set result - no result")
+    void setResultNone() {
+        applicationTracer.setResult(span, null);
+
+        verify(span).setAttribute(ApplicationTracer.RESULT_STATUS, "none");
+    }
+
+    @Test
+    @DisplayName("Set failure - exception recorded and span marked as an error")
+    void setFailure() {
+        IllegalStateException exception = new IllegalStateException();
+
+        applicationTracer.setFailure(span, exception);
+
+        verify(span).recordException(exception);
+        verify(span).setStatus(StatusCode.ERROR);
+    }
+
+    @Test
+    @DisplayName("Trace - result of the operation returned and its exception thrown")
+    void trace() {
+        assertEquals("result", applicationTracer.trace("operation", () -> "result"));
+
+        assertThrows(IllegalStateException.class, () -> applicationTracer.trace("operation", () -> {
+            throw new IllegalStateException();
+        }));
+    }
+}
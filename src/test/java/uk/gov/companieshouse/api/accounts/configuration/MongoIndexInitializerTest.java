@@ -0,0 +1,100 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorEntity;
+import uk.gov.companieshouse.api.accounts.repository.DirectorRepository;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexInitializerTest {
+
+    private static final String COLLECTION = "directors_report";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Test
+    @DisplayName("Create indexes - indexes declared on repository entities are created")
+    void createIndexes() {
+        MongoIndexInitializer mongoIndexInitializer = createMongoIndexInitializer();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(Collections.emptyList()).getSimpleTypeHolder());
+        when(mongoTemplate.getConverter())
+                .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.indexOps(COLLECTION)).thenReturn(indexOperations);
+
+        mongoIndexInitializer.createIndexes(List.of(DirectorRepository.class));
+
+        verify(indexOperations).createIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    @DisplayName("Report unindexed queries - query supported by an index")
+    void reportIndexedQuery() {
+        MongoIndexInitializer mongoIndexInitializer = createMongoIndexInitializer();
+        when(mongoTemplate.getCollectionName(DirectorEntity.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.indexOps(COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(new IndexInfo(
+                List.of(IndexField.create("data.links.directors", Direction.ASC)),
+                "data_links_directors", false, true, null)));
+
+        assertTrue(mongoIndexInitializer.reportUnindexedQueries(List.of(DirectorRepository.class)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Report unindexed queries - query without a supporting index")
+    void reportUnindexedQuery() {
+        MongoIndexInitializer mongoIndexInitializer = createMongoIndexInitializer();
+        when(mongoTemplate.getCollectionName(DirectorEntity.class)).thenReturn(COLLECTION);
+        when(mongoTemplate.indexOps(COLLECTION)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(Collections.emptyList());
+
+        List<String> unindexedQueries =
+                mongoIndexInitializer.reportUnindexedQueries(List.of(DirectorRepository.class));
+
+        assertEquals(2, unindexedQueries.size());
+        assertTrue(unindexedQueries.contains("DirectorRepository.findAllDirectors(data.links.directors)"));
+    }
+
+    @Test
+    @DisplayName("Get repository interfaces - resolved from the repository beans")
+    void getRepositoryInterfaces() {
+        MongoIndexInitializer mongoIndexInitializer = createMongoIndexInitializer(mock(DirectorRepository.class));
+
+        assertTrue(mongoIndexInitializer.getRepositoryInterfaces().contains(DirectorRepository.class));
+    }
+
+    private MongoIndexInitializer createMongoIndexInitializer(MongoRepository<?, ?>... repositories) {
+        return new MongoIndexInitializer(mongoTemplate, List.of(repositories), environmentReader);
+    }
+}
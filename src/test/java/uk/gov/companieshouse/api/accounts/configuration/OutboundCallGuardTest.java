@@ -0,0 +1,143 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundCallGuardTest {
+
+    private static final String DESTINATION = "tnep-validator";
+    private static final String DESTINATION_ENV_VAR_PREFIX = "TNEP_VALIDATOR";
+    private static final String RESULT = "result";
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private MeterRegistry meterRegistry;
+
+    private OutboundCallGuard outboundCallGuard;
+
+    @BeforeEach
+    void setUp() {
+        when(environmentReader.getOptionalInteger(anyString())).thenReturn(null);
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        meterRegistry = new SimpleMeterRegistry();
+        outboundCallGuard = new OutboundCallGuard(environmentReader, circuitBreakerRegistry,
+                BulkheadRegistry.ofDefaults(), RetryRegistry.ofDefaults(), new OutboundCallMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Call - result of the call returned")
+    void callSuccess() {
+        assertEquals(RESULT, outboundCallGuard.call(DESTINATION, () -> RESULT));
+    }
+
+    @Test
+    @DisplayName("Call - rejected while the circuit is open")
+    void callRejectedWhenCircuitOpen() {
+        outboundCallGuard.call(DESTINATION, () -> RESULT);
+        circuitBreakerRegistry.circuitBreaker(DESTINATION).transitionToOpenState();
+
+        assertThrows(CallNotPermittedException.class, () -> outboundCallGuard.call(DESTINATION, () -> RESULT));
+    }
+
+    @Test
+    @DisplayName("Call - circuit opens once the failure rate reaches the threshold")
+    void callFailuresOpenCircuit() {
+        when(environmentReader.getOptionalInteger(DESTINATION_ENV_VAR_PREFIX
+                + OutboundCallGuard.CIRCUIT_MINIMUM_CALLS_ENV_VAR)).thenReturn(2);
+
+        Supplier<String> failingCall = () -> {
+            throw new ResourceAccessException("timed out");
+        };
+        assertThrows(ResourceAccessException.class, () -> outboundCallGuard.call(DESTINATION, failingCall));
+        assertThrows(ResourceAccessException.class, () -> outboundCallGuard.call(DESTINATION, failingCall));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker(DESTINATION).getState());
+    }
+
+    @Test
+    @DisplayName("Call - request errors do not count towards opening the circuit")
+    void callRequestErrorsNotRecorded() {
+        assertThrows(HttpClientErrorException.class, () -> outboundCallGuard.call(DESTINATION, () -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }));
+
+        assertEquals(0, circuitBreakerRegistry.circuitBreaker(DESTINATION).getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    @DisplayName("Call - a full bulkhead does not count towards opening the circuit")
+    void callBulkheadFullNotRecorded() {
+        when(environmentReader.getOptionalInteger(DESTINATION_ENV_VAR_PREFIX
+                + OutboundCallGuard.BULKHEAD_MAX_CONCURRENT_CALLS_ENV_VAR)).thenReturn(1);
+        when(environmentReader.getOptionalInteger(DESTINATION_ENV_VAR_PREFIX
+                + OutboundCallGuard.BULKHEAD_MAX_WAIT_MILLIS_ENV_VAR)).thenReturn(0);
+
+        outboundCallGuard.call(DESTINATION, () -> {
+            assertThrows(BulkheadFullException.class, () -> outboundCallGuard.call(DESTINATION, () -> RESULT));
+            return RESULT;
+        });
+
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker(DESTINATION).getMetrics();
+        assertEquals(0, metrics.getNumberOfFailedCalls());
+        assertEquals(1, metrics.getNumberOfSuccessfulCalls());
+    }
+
+    @Test
+    @DisplayName("Call idempotent - retried until it succeeds")
+    void callIdempotentRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = outboundCallGuard.callIdempotent(DESTINATION, () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new ResourceAccessException("connection reset");
+            }
+            return RESULT;
+        });
+
+        assertEquals(RESULT, result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, meterRegistry.get(OutboundCallMetrics.METER_NAME)
+                .tag("destination", DESTINATION).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Call idempotent - request errors are not retried")
+    void callIdempotentRequestErrorNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> outboundCallGuard.callIdempotent(DESTINATION, () -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
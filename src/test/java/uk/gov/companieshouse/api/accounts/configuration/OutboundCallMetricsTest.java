@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+
+class OutboundCallMetricsTest {
+
+    private static final String RESULT = "result";
+
+    private MeterRegistry meterRegistry;
+
+    private OutboundCallMetrics outboundCallMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboundCallMetrics = new OutboundCallMetrics(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Record - successful call timed with the account and note type of the request")
+    void recordSuccess() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/transactions/123/company-accounts/456/small-full/notes/debtors");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertEquals(RESULT, outboundCallMetrics.record(AmazonS3Configuration.AMAZON_S3, () -> RESULT));
+
+        assertEquals(1, meterRegistry.get(OutboundCallMetrics.METER_NAME)
+                .tag("destination", AmazonS3Configuration.AMAZON_S3)
+                .tag("outcome", "success")
+                .tag("account_type", "small-full")
+                .tag("note_type", "debtors")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Record - failed call timed outside of a request")
+    void recordFailure() {
+        assertThrows(ResourceAccessException.class, () -> outboundCallMetrics.record(
+                OutboundHttpConfiguration.TNEP_VALIDATOR, () -> {
+                    throw new ResourceAccessException("connection reset");
+                }));
+
+        assertEquals(1, meterRegistry.get(OutboundCallMetrics.METER_NAME)
+                .tag("destination", OutboundHttpConfiguration.TNEP_VALIDATOR)
+                .tag("outcome", "failure")
+                .tag("account_type", "none")
+                .tag("note_type", "none")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Record api call - failed call timed and its exception thrown")
+    void recordApiCallFailure() {
+        assertThrows(URIValidationException.class, () -> outboundCallMetrics.recordApiCall(
+                OutboundCallMetrics.COMPANY_PROFILE_API, () -> {
+                    throw new URIValidationException("invalid uri");
+                }));
+
+        assertEquals(1, meterRegistry.get(OutboundCallMetrics.METER_NAME)
+                .tag("destination", OutboundCallMetrics.COMPANY_PROFILE_API)
+                .tag("outcome", "failure")
+                .timer().count());
+    }
+}
@@ -0,0 +1,139 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundHttpClientFactory.DeadlineClientHttpRequestFactory;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundHttpClientFactoryTest {
+
+    private static final String DESTINATION = "tnep-validator";
+    private static final String ENV_VAR_PREFIX = "TNEP_VALIDATOR";
+
+    private static final URI URI = java.net.URI.create("http://tnep.url/validate");
+    private static final long DEADLINE_MILLIS = 1000;
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private ScheduledExecutorService deadlineScheduler;
+
+    @Mock
+    private ScheduledFuture<?> deadline;
+
+    private MeterRegistry meterRegistry;
+
+    private OutboundHttpClientFactory outboundHttpClientFactory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboundHttpClientFactory = new OutboundHttpClientFactory(environmentReader, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        outboundHttpClientFactory.shutdown();
+    }
+
+    @Test
+    @DisplayName("Create rest template - defaults applied and pool metrics published")
+    void createRestTemplateWithDefaults() {
+        when(environmentReader.getOptionalInteger(anyString())).thenReturn(null);
+
+        RestTemplate restTemplate = outboundHttpClientFactory.createRestTemplate(DESTINATION, ENV_VAR_PREFIX);
+
+        DeadlineClientHttpRequestFactory requestFactory =
+                assertInstanceOf(DeadlineClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+        assertEquals(120000, requestFactory.getDeadlineMillis());
+
+        Gauge maxConnections = meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                .tag("destination", DESTINATION).gauge();
+        assertNotNull(maxConnections);
+        assertEquals(20, maxConnections.value());
+    }
+
+    @Test
+    @DisplayName("Create rest template - settings read from the destination's environment variables")
+    void createRestTemplateWithSettings() {
+        when(environmentReader.getOptionalInteger(anyString())).thenReturn(null);
+        when(environmentReader.getOptionalInteger(ENV_VAR_PREFIX + "_HTTP_MAX_CONNECTIONS")).thenReturn(5);
+        when(environmentReader.getOptionalInteger(ENV_VAR_PREFIX + "_HTTP_DEADLINE_MILLIS")).thenReturn(1000);
+
+        RestTemplate restTemplate = outboundHttpClientFactory.createRestTemplate(DESTINATION, ENV_VAR_PREFIX);
+
+        assertEquals(1000, ((DeadlineClientHttpRequestFactory) restTemplate.getRequestFactory()).getDeadlineMillis());
+        assertEquals(5, meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                .tag("destination", DESTINATION).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Execute request - deadline cancelled when the response is closed")
+    void executeCancelsDeadlineOnClose() throws IOException {
+        DeadlineClientHttpRequestFactory requestFactory = createRequestFactory();
+        when(httpClient.executeOpen(isNull(), any(ClassicHttpRequest.class), any(HttpContext.class)))
+                .thenReturn(new BasicClassicHttpResponse(200));
+
+        ClientHttpResponse response = requestFactory.createRequest(URI, HttpMethod.GET).execute();
+        verify(deadline, never()).cancel(false);
+
+        response.close();
+        verify(deadline).cancel(false);
+    }
+
+    @Test
+    @DisplayName("Execute request - deadline cancelled when the execution fails")
+    void executeCancelsDeadlineOnFailure() throws IOException {
+        DeadlineClientHttpRequestFactory requestFactory = createRequestFactory();
+        when(httpClient.executeOpen(isNull(), any(ClassicHttpRequest.class), any(HttpContext.class)))
+                .thenThrow(new IOException("connection refused"));
+
+        assertThrows(IOException.class, () -> requestFactory.createRequest(URI, HttpMethod.GET).execute());
+        verify(deadline).cancel(false);
+    }
+
+    private DeadlineClientHttpRequestFactory createRequestFactory() {
+        doReturn(deadline).when(deadlineScheduler)
+                .schedule(any(Callable.class), eq(DEADLINE_MILLIS), eq(TimeUnit.MILLISECONDS));
+        return new DeadlineClientHttpRequestFactory(httpClient, DEADLINE_MILLIS, deadlineScheduler);
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.companieshouse.api.accounts.service.impl.StatementService;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceTracingPostProcessorTest {
+
+    private static final String BEAN_NAME = "statementService";
+
+    @Mock
+    private ObjectProvider<ApplicationTracer> applicationTracer;
+
+    private ServiceTracingPostProcessor serviceTracingPostProcessor;
+
+    @BeforeEach
+    void setUp() {
+        serviceTracingPostProcessor = new ServiceTracingPostProcessor(applicationTracer);
+    }
+
+    @Test
+    @DisplayName("Post process - a service is proxied")
+    void postProcessService() {
+        StatementService statementService = new StatementService();
+
+        Object bean = serviceTracingPostProcessor.postProcessAfterInitialization(statementService, BEAN_NAME);
+
+        assertTrue(AopUtils.isCglibProxy(bean));
+        assertTrue(bean instanceof StatementService);
+    }
+
+    @Test
+    @DisplayName("Post process - any other bean is not proxied")
+    void postProcessOtherBean() {
+        KeyIdGenerator keyIdGenerator = new KeyIdGenerator();
+
+        assertSame(keyIdGenerator,
+                serviceTracingPostProcessor.postProcessAfterInitialization(keyIdGenerator, "keyIdGenerator"));
+    }
+
+    @Test
+    @DisplayName("Post process - a service referenced early is proxied once, when referenced")
+    void postProcessEarlyReference() {
+        StatementService statementService = new StatementService();
+
+        Object earlyBean = serviceTracingPostProcessor.getEarlyBeanReference(statementService, BEAN_NAME);
+
+        assertTrue(AopUtils.isCglibProxy(earlyBean));
+        Object bean = serviceTracingPostProcessor.postProcessAfterInitialization(statementService, BEAN_NAME);
+        assertSame(statementService, bean);
+        assertFalse(AopUtils.isCglibProxy(bean));
+    }
+}
@@ -0,0 +1,57 @@
+package uk.gov.companieshouse.api.accounts.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadsTest {
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Test
+    @DisplayName("Executor runs tasks on platform threads when virtual threads are not enabled")
+    void executorRunsTasksOnPlatformThreadsByDefault() throws Exception {
+        when(environmentReader.getOptionalBoolean(VirtualThreads.ENABLED_ENV_VAR)).thenReturn(null);
+
+        assertFalse(VirtualThreads.isEnabled(environmentReader));
+        assertFalse(isRunOnVirtualThread(VirtualThreads.newExecutor(environmentReader, "test", 1)));
+    }
+
+    @Test
+    @DisplayName("Executor runs tasks on virtual threads when virtual threads are enabled")
+    void executorRunsTasksOnVirtualThreadsWhenEnabled() throws Exception {
+        when(environmentReader.getOptionalBoolean(VirtualThreads.ENABLED_ENV_VAR)).thenReturn(true);
+
+        assertTrue(VirtualThreads.isEnabled(environmentReader));
+        assertTrue(isRunOnVirtualThread(VirtualThreads.newExecutor(environmentReader, "test", 1)));
+    }
+
+    @Test
+    @DisplayName("Thread factory creates named virtual threads when virtual threads are enabled")
+    void threadFactoryCreatesVirtualThreadsWhenEnabled() {
+        when(environmentReader.getOptionalBoolean(VirtualThreads.ENABLED_ENV_VAR)).thenReturn(true);
+
+        Thread thread = VirtualThreads.threadFactory(environmentReader, "test").newThread(() -> { });
+
+        assertTrue(thread.isVirtual());
+        assertTrue(thread.getName().startsWith("test-"));
+    }
+
+    private static boolean isRunOnVirtualThread(ExecutorService executor) throws Exception {
+        try {
+            return executor.submit(() -> Thread.currentThread().isVirtual()).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.companieshouse.api.accounts.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.companieshouse.api.accounts.AttributeName;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+
+@ExtendWith(MockitoExtension.class)
+class AccountTreeControllerTest {
+
+    @Mock
+    private AccountTreeService accountTreeService;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private CompanyAccount companyAccount;
+
+    @Mock
+    private AccountTree accountTree;
+
+    @InjectMocks
+    private AccountTreeController accountTreeController;
+
+    @Test
+    @DisplayName("Get account tree - success")
+    void getAccountTree() throws DataException {
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(companyAccount);
+        when(accountTreeService.getAccountTree(companyAccount)).thenReturn(accountTree);
+
+        ResponseEntity<?> response = accountTreeController.getAccountTree(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(accountTree, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Get account tree - no company account in request")
+    void getAccountTreeNoCompanyAccount() {
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(null);
+
+        ResponseEntity<?> response = accountTreeController.getAccountTree(request);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Get account tree - data exception")
+    void getAccountTreeDataException() throws DataException {
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(companyAccount);
+        when(accountTreeService.getAccountTree(companyAccount)).thenThrow(DataException.class);
+
+        ResponseEntity<?> response = accountTreeController.getAccountTree(request);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+}
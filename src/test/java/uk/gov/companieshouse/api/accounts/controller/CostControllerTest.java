@@ -17,6 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.rest.Cost;
 import uk.gov.companieshouse.api.accounts.service.CostService;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -48,7 +50,7 @@ class CostControllerTest {
     void getCostsForPayableTransaction() throws DataException {
         Cost[] costs = {new Cost()};
 
-        when(costService.getCosts(transaction)).thenReturn(costs);
+        when(costService.getCosts(transaction, null)).thenReturn(costs);
 
         ResponseEntity<Cost[]> response = costController.get(COMPANY_ACCOUNTS_ID, request);
 
@@ -61,7 +63,7 @@ class CostControllerTest {
     void getCostsForNonPayableTransaction() throws DataException {
         Cost[] costs = {};
 
-        when(costService.getCosts(transaction)).thenReturn(costs);
+        when(costService.getCosts(transaction, null)).thenReturn(costs);
 
         ResponseEntity<Cost[]> response = costController.get(COMPANY_ACCOUNTS_ID, request);
 
@@ -72,11 +74,28 @@ class CostControllerTest {
     @Test
     @DisplayName("Get costs - data exception")
     void getCostsDataException() throws DataException {
-        when(costService.getCosts(transaction)).thenThrow(DataException.class);
+        when(costService.getCosts(transaction, null)).thenThrow(DataException.class);
 
         ResponseEntity<Cost[]> response = costController.get(COMPANY_ACCOUNTS_ID, request);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNull(response.getBody());
     }
+
+    @Test
+    @DisplayName("Get costs - with the company facts recorded on the company account")
+    void getCostsWithRecordedCompanyFacts() throws DataException {
+        Cost[] costs = {new Cost()};
+        CompanyFacts companyFacts = new CompanyFacts();
+        CompanyAccount companyAccount = new CompanyAccount();
+        companyAccount.setCompanyFacts(companyFacts);
+
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(companyAccount);
+        when(costService.getCosts(transaction, companyFacts)).thenReturn(costs);
+
+        ResponseEntity<Cost[]> response = costController.get(COMPANY_ACCOUNTS_ID, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(costs, response.getBody());
+    }
 }
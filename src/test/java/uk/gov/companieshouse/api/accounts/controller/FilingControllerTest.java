@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -15,9 +16,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
 import uk.gov.companieshouse.api.accounts.model.filing.Filing;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
-import uk.gov.companieshouse.api.accounts.service.FilingService;
+import uk.gov.companieshouse.api.accounts.model.rest.FilingJob;
+import uk.gov.companieshouse.api.accounts.service.FilingJobService;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +31,7 @@ class FilingControllerTest {
     private ResponseEntity<?> response;
 
     @Mock
-    private FilingService filingServiceMock;
+    private FilingJobService filingJobServiceMock;
     @Mock
     private HttpServletRequest httpServletRequestMock;
     @Mock
@@ -44,24 +47,85 @@ class FilingControllerTest {
     void shouldGenerateFiling() {
         mockHttpServletRequestAllAttributesSet();
 
-        when(filingServiceMock.generateAccountFiling(transactionMock, companyAccount)).thenReturn(new Filing());
+        FilingJob filingJob = createFilingJob(FilingJobStatus.COMPLETE);
+        filingJob.setFilings(List.of(new Filing()));
+        when(filingJobServiceMock.awaitFilingJob(transactionMock, companyAccount, ACCOUNTS_ID)).thenReturn(filingJob);
 
         response = filingController.generateFiling(TRANSACTION_ID, ACCOUNTS_ID, httpServletRequestMock);
 
         assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
+        assertEquals(filingJob.getFilings(), response.getBody());
     }
 
     @Test
     @DisplayName("Tests the unsuccessful creation of the ixbrl - filing is null")
     void shouldNotGenerateFiling() {
         mockHttpServletRequestAllAttributesSet();
-        when(filingServiceMock.generateAccountFiling(transactionMock, companyAccount)).thenReturn(null);
+        when(filingJobServiceMock.awaitFilingJob(transactionMock, companyAccount, ACCOUNTS_ID))
+                .thenReturn(createFilingJob(FilingJobStatus.FAILED));
 
         response = filingController.generateFiling(TRANSACTION_ID, ACCOUNTS_ID, httpServletRequestMock);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatusCode().value());
     }
 
+    @Test
+    @DisplayName("Tests the filing job still in progress once the wait times out - filing is not returned")
+    void shouldNotGenerateFilingWhenJobUnfinished() {
+        mockHttpServletRequestAllAttributesSet();
+        when(filingJobServiceMock.awaitFilingJob(transactionMock, companyAccount, ACCOUNTS_ID))
+                .thenReturn(createFilingJob(FilingJobStatus.RUNNING));
+
+        response = filingController.generateFiling(TRANSACTION_ID, ACCOUNTS_ID, httpServletRequestMock);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("Tests the submission of a filing job")
+    void shouldSubmitFilingJob() {
+        mockHttpServletRequestAllAttributesSet();
+        FilingJob filingJob = createFilingJob(FilingJobStatus.PENDING);
+        when(filingJobServiceMock.submitFilingJob(transactionMock, companyAccount, ACCOUNTS_ID)).thenReturn(filingJob);
+
+        response = filingController.submitFilingJob(TRANSACTION_ID, ACCOUNTS_ID, httpServletRequestMock);
+
+        assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode().value());
+        assertEquals(filingJob, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Tests the filing job not submitted when the transaction is not set in the request's attribute")
+    void shouldNotSubmitFilingJobAsTransactionNotSetInRequest() {
+        when(httpServletRequestMock.getAttribute(anyString())).thenReturn(null);
+
+        response = filingController.submitFilingJob(TRANSACTION_ID, ACCOUNTS_ID, httpServletRequestMock);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("Tests getting the filing job")
+    void shouldGetFilingJob() {
+        FilingJob filingJob = createFilingJob(FilingJobStatus.RUNNING);
+        when(filingJobServiceMock.getFilingJob(ACCOUNTS_ID)).thenReturn(filingJob);
+
+        response = filingController.getFilingJob(TRANSACTION_ID, ACCOUNTS_ID);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
+        assertEquals(filingJob, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Tests getting the filing job when none has been submitted")
+    void shouldNotFindFilingJob() {
+        when(filingJobServiceMock.getFilingJob(ACCOUNTS_ID)).thenReturn(null);
+
+        response = filingController.getFilingJob(TRANSACTION_ID, ACCOUNTS_ID);
+
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatusCode().value());
+    }
+
     @Test
     @DisplayName("Tests the transaction not being set in the request's attribute")
     void shouldFailTransactionAsNotSetInRequest() {
@@ -82,6 +146,12 @@ class FilingControllerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatusCode().value());
     }
 
+    private FilingJob createFilingJob(FilingJobStatus status) {
+        FilingJob filingJob = new FilingJob();
+        filingJob.setStatus(status.getStatus());
+        return filingJob;
+    }
+
     private void mockHttpServletRequestAllAttributesSet() {
         when(httpServletRequestMock.getAttribute(anyString())).thenReturn(transactionMock).thenReturn(companyAccount);
     }
@@ -0,0 +1,105 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.EnumSet;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.service.AncestorResourceService;
+
+@ExtendWith(MockitoExtension.class)
+class AncestorResourcesInterceptorTest {
+
+    private static final String COMPANY_ACCOUNT_ID = "companyAccountId";
+    private static final String COMPANY_ACCOUNT_URI = "/transactions/123-456/company-accounts/" + COMPANY_ACCOUNT_ID;
+    private static final String SMALL_FULL_URI = COMPANY_ACCOUNT_URI + "/small-full";
+
+    @Mock
+    private AncestorResourceService ancestorResourceService;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @InjectMocks
+    private AncestorResourcesInterceptor interceptor;
+
+    @Test
+    @DisplayName("Loads the company account, small full and current period of a current period note")
+    void loadsAncestorsOfCurrentPeriodNote() throws DataException {
+        mockRequest("GET", SMALL_FULL_URI + "/current-period/notes/debtors");
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+
+        verify(ancestorResourceService).loadAncestors(COMPANY_ACCOUNT_ID, EnumSet.of(ResourceName.COMPANY_ACCOUNT,
+                ResourceName.SMALL_FULL, ResourceName.CURRENT_PERIOD));
+    }
+
+    @Test
+    @DisplayName("Loads the company account and small full of a note")
+    void loadsAncestorsOfNote() throws DataException {
+        mockRequest("POST", SMALL_FULL_URI + "/notes/debtors");
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+
+        verify(ancestorResourceService).loadAncestors(COMPANY_ACCOUNT_ID,
+                EnumSet.of(ResourceName.COMPANY_ACCOUNT, ResourceName.SMALL_FULL));
+    }
+
+    @Test
+    @DisplayName("Loads the small full on a GET, but not the POST creating it")
+    void doesNotLoadResourceOnPostCreatingIt() throws DataException {
+        mockRequest("GET", SMALL_FULL_URI + "/previous-period");
+        interceptor.preHandle(request, response, new Object());
+        verify(ancestorResourceService).loadAncestors(COMPANY_ACCOUNT_ID, EnumSet.of(ResourceName.COMPANY_ACCOUNT,
+                ResourceName.SMALL_FULL, ResourceName.PREVIOUS_PERIOD));
+
+        mockRequest("POST", SMALL_FULL_URI);
+        interceptor.preHandle(request, response, new Object());
+        verify(ancestorResourceService).loadAncestors(COMPANY_ACCOUNT_ID, EnumSet.of(ResourceName.COMPANY_ACCOUNT));
+    }
+
+    @Test
+    @DisplayName("Proceeds without loading when there is no company account id")
+    void proceedsWithoutCompanyAccountId() throws DataException {
+        when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(Map.of());
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+
+        verify(ancestorResourceService, never()).loadAncestors(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Proceeds when the ancestors cannot be read, leaving the checks to the interceptors after it")
+    void proceedsWhenAncestorsCannotBeRead() throws DataException {
+        mockRequest("GET", COMPANY_ACCOUNT_URI);
+        doThrow(new DataException("Failed")).when(ancestorResourceService).loadAncestors(anyString(), any());
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+    }
+
+    private void mockRequest(String method, String uri) {
+        when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE))
+                .thenReturn(Map.of("companyAccountId", COMPANY_ACCOUNT_ID));
+        when(request.getMethod()).thenReturn(method);
+        when(request.getRequestURI()).thenReturn(uri);
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.companieshouse.api.accounts.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.companieshouse.api.accounts.configuration.ApplicationTracer;
+
+@ExtendWith(MockitoExtension.class)
+class TimedInterceptorTest {
+
+    @Mock
+    private SmallFullInterceptor smallFullInterceptor;
+
+    private MeterRegistry meterRegistry;
+
+    private TimedInterceptor timedInterceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private final Object handler = new Object();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timedInterceptor = new TimedInterceptor(smallFullInterceptor, meterRegistry,
+                new ApplicationTracer(OpenTelemetry.noop()));
+
+        request = new MockHttpServletRequest();
+        request.setRequestURI("/transactions/123/company-accounts/456/small-full/notes/stocks");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Pre handle - time recorded when the request proceeds")
+    void preHandleProceeds() throws Exception {
+        when(smallFullInterceptor.preHandle(request, response, handler)).thenReturn(true);
+
+        assertTrue(timedInterceptor.preHandle(request, response, handler));
+
+        assertEquals(1, getTimerCount("proceed"));
+    }
+
+    @Test
+    @DisplayName("Pre handle - time recorded when the request is halted")
+    void preHandleHalts() throws Exception {
+        when(smallFullInterceptor.preHandle(request, response, handler)).thenReturn(false);
+
+        assertFalse(timedInterceptor.preHandle(request, response, handler));
+
+        assertEquals(1, getTimerCount("halt"));
+    }
+
+    @Test
+    @DisplayName("Pre handle - time recorded when the interceptor throws")
+    void preHandleThrows() throws Exception {
+        when(smallFullInterceptor.preHandle(request, response, handler)).thenThrow(IllegalStateException.class);
+
+        assertThrows(IllegalStateException.class, () -> timedInterceptor.preHandle(request, response, handler));
+
+        assertEquals(1, getTimerCount("error"));
+    }
+
+    @Test
+    @DisplayName("After completion - passed to the interceptor")
+    void afterCompletion() throws Exception {
+        timedInterceptor.afterCompletion(request, response, handler, null);
+
+        verify(smallFullInterceptor).afterCompletion(request, response, handler, null);
+    }
+
+    private long getTimerCount(String outcome) {
+        return meterRegistry.get(TimedInterceptor.METER_NAME)
+                .tag("interceptor", smallFullInterceptor.getClass().getSimpleName())
+                .tag("outcome", outcome)
+                .tag("account_type", "small-full")
+                .tag("note_type", "stocks")
+                .timer().count();
+    }
+}
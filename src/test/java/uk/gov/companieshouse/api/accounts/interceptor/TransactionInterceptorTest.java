@@ -8,12 +8,16 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.servlet.HandlerMapping;
 import uk.gov.companieshouse.api.ApiClient;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallMetrics;
 import uk.gov.companieshouse.api.accounts.sdk.ApiClientService;
+import uk.gov.companieshouse.api.accounts.utility.TransactionCache;
+import uk.gov.companieshouse.api.accounts.utility.TransactionCache.TransactionLoader;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.handler.transaction.TransactionsResourceHandler;
@@ -21,6 +25,7 @@ import uk.gov.companieshouse.api.handler.transaction.request.TransactionsGet;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -29,13 +34,20 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @TestInstance(Lifecycle.PER_CLASS)
 class TransactionInterceptorTest {
+    @Spy
+    private OutboundCallMetrics outboundCallMetrics = new OutboundCallMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private TransactionInterceptor transactionInterceptor;
 
@@ -63,6 +75,9 @@ class TransactionInterceptorTest {
     @Mock
     private ApiResponse<Transaction> apiResponse;
 
+    @Mock
+    private TransactionCache transactionCache;
+
     @BeforeEach
     void setUp() throws URIValidationException, IOException {
         Map<String, String> pathVariables = new HashMap<>();
@@ -71,6 +86,11 @@ class TransactionInterceptorTest {
         when(httpServletRequestMock.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE))
             .thenReturn(pathVariables);
         when(httpServletRequestMock.getHeader("ERIC-Access-Token")).thenReturn("1111");
+        lenient().when(httpServletRequestMock.getHeader("ERIC-Identity")).thenReturn("identity");
+        lenient().when(httpServletRequestMock.getRequestURI()).thenReturn("/transactions/5555/company-accounts");
+        lenient().when(httpServletRequestMock.getMethod()).thenReturn("GET");
+        when(transactionCache.get(eq("5555"), any(), any(TransactionLoader.class)))
+            .thenAnswer(invocation -> invocation.<TransactionLoader>getArgument(2).load());
 
         httpServletResponseMock.setContentType("text/html");
 
@@ -82,8 +102,10 @@ class TransactionInterceptorTest {
 
     @Test
     @DisplayName("Tests the interceptor with an existing transaction")
-    void testPreHandleExistingTransaction() {
+    void testPreHandleExistingTransaction() throws IOException, URIValidationException {
         assertTrue(transactionInterceptor.preHandle(httpServletRequestMock, httpServletResponseMock, new Object()));
+
+        verify(transactionCache).get(eq("5555"), eq("identity"), any(TransactionLoader.class));
     }
 
     @Test
@@ -113,4 +135,24 @@ class TransactionInterceptorTest {
 
         verify(httpServletResponseMock).setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Transaction interceptor - private requests bypass the transaction cache")
+    void testPreHandlePrivateRequestBypassesCache() throws IOException, URIValidationException {
+        when(httpServletRequestMock.getRequestURI()).thenReturn("/private/transactions/5555/company-accounts");
+
+        assertTrue(transactionInterceptor.preHandle(httpServletRequestMock, httpServletResponseMock, new Object()));
+
+        verify(transactionCache).get(eq("5555"), isNull(), any(TransactionLoader.class));
+    }
+
+    @Test
+    @DisplayName("Transaction interceptor - requests which change the accounts bypass the transaction cache")
+    void testPreHandleWriteRequestBypassesCache() throws IOException, URIValidationException {
+        when(httpServletRequestMock.getMethod()).thenReturn("PUT");
+
+        assertTrue(transactionInterceptor.preHandle(httpServletRequestMock, httpServletResponseMock, new Object()));
+
+        verify(transactionCache).get(eq("5555"), isNull(), any(TransactionLoader.class));
+    }
+}
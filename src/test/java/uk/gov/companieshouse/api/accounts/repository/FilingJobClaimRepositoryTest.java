@@ -0,0 +1,89 @@
+package uk.gov.companieshouse.api.accounts.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
+import uk.gov.companieshouse.api.accounts.model.entity.FilingJobEntity;
+
+@ExtendWith(MockitoExtension.class)
+class FilingJobClaimRepositoryTest {
+
+    private static final String ID = "companyAccountId";
+    private static final String TRANSACTION_ID = "transactionId";
+    private static final LocalDateTime STALE_BEFORE = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private FilingJobEntity filingJobEntity;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    @Captor
+    private ArgumentCaptor<FindAndModifyOptions> optionsCaptor;
+
+    private FilingJobClaimRepository filingJobClaimRepository;
+
+    @BeforeEach
+    void setUp() {
+        filingJobClaimRepository = new FilingJobClaimRepository(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Claim - a missing, finished or stale job is upserted as pending")
+    void claim() {
+        when(mongoTemplate.findAndModify(queryCaptor.capture(), updateCaptor.capture(), optionsCaptor.capture(),
+                eq(FilingJobEntity.class))).thenReturn(filingJobEntity);
+
+        assertSame(filingJobEntity, filingJobClaimRepository.claim(ID, TRANSACTION_ID, STALE_BEFORE));
+
+        Document query = queryCaptor.getValue().getQueryObject();
+        assertEquals(ID, query.get("_id"));
+        String conditions = query.get("$or").toString();
+        assertTrue(conditions.contains("status=Document{{$in=[FAILED, COMPLETE]}}"));
+        assertTrue(conditions.contains("updated_at=Document{{$lt=" + STALE_BEFORE + "}}"));
+
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals(FilingJobStatus.PENDING, set.get("status"));
+        assertEquals(TRANSACTION_ID, set.get("transaction_id"));
+        assertTrue(((Document) updateCaptor.getValue().getUpdateObject().get("$unset")).containsKey("filing"));
+
+        assertTrue(optionsCaptor.getValue().isUpsert());
+        assertTrue(optionsCaptor.getValue().isReturnNew());
+    }
+
+    @Test
+    @DisplayName("Claim - an in progress job is not claimed")
+    void claimNotMatched() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(FilingJobEntity.class))).thenThrow(new DuplicateKeyException("duplicate key"));
+
+        assertNull(filingJobClaimRepository.claim(ID, TRANSACTION_ID, STALE_BEFORE));
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.companieshouse.api.accounts.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
+
+@ExtendWith(MockitoExtension.class)
+class LinkUpdateRepositoryTest {
+
+    private static final String ID = "id";
+    private static final String LINK_TYPE = "self";
+    private static final String LINK = "link";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private UpdateResult updateResult;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    private LinkUpdateRepository linkUpdateRepository;
+
+    @BeforeEach
+    void setUp() {
+        linkUpdateRepository = new LinkUpdateRepository(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Set link - updates the single link with $set")
+    void setLink() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(SmallFullEntity.class)))
+                .thenReturn(updateResult);
+        when(updateResult.getMatchedCount()).thenReturn(1L);
+
+        assertTrue(linkUpdateRepository.setLink(SmallFullEntity.class, ID, LINK_TYPE, LINK));
+
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(SmallFullEntity.class));
+        assertEquals(ID, queryCaptor.getValue().getQueryObject().get("_id"));
+        assertEquals(LINK, ((Document) updateCaptor.getValue().getUpdateObject().get("$set"))
+                .get("data.links." + LINK_TYPE));
+    }
+
+    @Test
+    @DisplayName("Unset link - removes the single link with $unset")
+    void unsetLink() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(SmallFullEntity.class)))
+                .thenReturn(updateResult);
+        when(updateResult.getMatchedCount()).thenReturn(1L);
+
+        assertTrue(linkUpdateRepository.unsetLink(SmallFullEntity.class, ID, LINK_TYPE));
+
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(SmallFullEntity.class));
+        assertTrue(((Document) updateCaptor.getValue().getUpdateObject().get("$unset"))
+                .containsKey("data.links." + LINK_TYPE));
+    }
+
+    @Test
+    @DisplayName("Set entry - updates the map entry with $set")
+    void setEntry() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(SmallFullEntity.class)))
+                .thenReturn(updateResult);
+        when(updateResult.getMatchedCount()).thenReturn(1L);
+
+        assertTrue(linkUpdateRepository.setEntry(SmallFullEntity.class, ID, "loans", "loanId", LINK));
+
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(SmallFullEntity.class));
+        assertEquals(LINK, ((Document) updateCaptor.getValue().getUpdateObject().get("$set"))
+                .get("data.loans.loanId"));
+    }
+
+    @Test
+    @DisplayName("Unset entry - entity not found")
+    void unsetEntryNotFound() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(SmallFullEntity.class)))
+                .thenReturn(updateResult);
+        when(updateResult.getMatchedCount()).thenReturn(0L);
+
+        assertFalse(linkUpdateRepository.unsetEntry(SmallFullEntity.class, ID, "loans", "loanId"));
+    }
+
+    @Test
+    @DisplayName("Set field - replaces the single data field with $set")
+    void setField() {
+        Object value = new Object();
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(SmallFullEntity.class)))
+                .thenReturn(updateResult);
+        when(updateResult.getMatchedCount()).thenReturn(1L);
+
+        assertTrue(linkUpdateRepository.setField(SmallFullEntity.class, ID, "company_facts", value));
+
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(SmallFullEntity.class));
+        assertEquals(value, ((Document) updateCaptor.getValue().getUpdateObject().get("$set"))
+                .get("data.company_facts"));
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.companieshouse.api.accounts.request;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.api.accounts.controller.NoteController;
+import uk.gov.companieshouse.api.accounts.enumeration.AccountType;
+import uk.gov.companieshouse.api.accounts.enumeration.NoteType;
+import uk.gov.companieshouse.api.accounts.model.rest.Note;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.TangibleAssets;
+
+@ExtendWith(MockitoExtension.class)
+class NoteArgumentResolverTest {
+
+    private static final String ACCOUNT_TYPE = "small-full";
+    private static final String NOTE_TYPE = "tangible-assets";
+
+    @Mock
+    private NoteReaderRegistry noteReaderRegistry;
+
+    @InjectMocks
+    private NoteArgumentResolver noteArgumentResolver;
+
+    private MethodParameter noteParameter;
+
+    private MockHttpServletRequest request;
+
+    private ModelAndViewContainer mavContainer;
+
+    private Validator validator;
+
+    private final WebDataBinderFactory binderFactory = (webRequest, target, name) -> {
+        WebDataBinder binder = new WebDataBinder(target, name);
+        if (validator != null) {
+            binder.setValidator(validator);
+        }
+        return binder;
+    };
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        noteParameter = new MethodParameter(NoteController.class.getMethod("create", Note.class,
+                BindingResult.class, String.class, AccountType.class, NoteType.class, HttpServletRequest.class), 0);
+
+        request = new MockHttpServletRequest("POST", "/notes");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Map.of("accountType", ACCOUNT_TYPE, "noteType", NOTE_TYPE));
+        mavContainer = new ModelAndViewContainer();
+    }
+
+    @Test
+    @DisplayName("Supports note parameters only")
+    void supportsParameter() {
+        assertTrue(noteArgumentResolver.supportsParameter(noteParameter));
+        assertFalse(noteArgumentResolver.supportsParameter(new MethodParameter(noteParameter.getMethod(), 2)));
+    }
+
+    @Test
+    @DisplayName("Resolves the note of the path's account type and note type, binding its errors")
+    void resolveArgument() throws Exception {
+        TangibleAssets note = new TangibleAssets();
+        when(noteReaderRegistry.read(eq(ACCOUNT_TYPE), eq(NOTE_TYPE), any())).thenReturn(note);
+        validator = new Validator() {
+            @Override
+            public boolean supports(Class<?> clazz) {
+                return true;
+            }
+
+            @Override
+            public void validate(Object target, Errors errors) {
+                errors.reject("invalid");
+            }
+        };
+
+        Object resolved = noteArgumentResolver.resolveArgument(noteParameter, mavContainer,
+                new ServletWebRequest(request), binderFactory);
+
+        assertSame(note, resolved);
+        BindingResult bindingResult =
+                (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "note");
+        assertNotNull(bindingResult);
+        assertTrue(bindingResult.hasErrors());
+    }
+
+    @Test
+    @DisplayName("Throws HttpMessageNotReadableException when the body cannot be read")
+    void resolveArgumentUnreadable() throws Exception {
+        when(noteReaderRegistry.read(eq(ACCOUNT_TYPE), eq(NOTE_TYPE), any()))
+                .thenThrow(new JsonParseException(null, "Unexpected end-of-input"));
+
+        assertThrows(HttpMessageNotReadableException.class, () -> noteArgumentResolver.resolveArgument(
+                noteParameter, mavContainer, new ServletWebRequest(request), binderFactory));
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.companieshouse.api.accounts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
+import uk.gov.companieshouse.api.accounts.exception.InvalidPathParameterException;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.tangibleassets.TangibleAssets;
+import uk.gov.companieshouse.api.accounts.utility.YamlResourceMapper;
+
+class NoteReaderRegistryTest {
+
+    private final NoteReaderRegistry noteReaderRegistry =
+            new NoteReaderRegistry(new ObjectMapper().findAndRegisterModules(), new YamlResourceMapper());
+
+    @Test
+    @DisplayName("Read - every accounting note type read as its class")
+    void readEveryNoteType() throws IOException {
+        for (AccountingNoteType accountingNoteType : AccountingNoteType.values()) {
+            assertEquals(accountingNoteType.getRestClass(), noteReaderRegistry.read(
+                    accountingNoteType.getAccountType().getType(), accountingNoteType.getNoteType().getType(),
+                    body("{}")).getClass());
+        }
+    }
+
+    @Test
+    @DisplayName("Read - note fields bound")
+    void readNoteFields() throws IOException {
+        TangibleAssets tangibleAssets = (TangibleAssets) noteReaderRegistry.read("small-full", "tangible-assets",
+                body("{\"additional_information\":\"information\"}"));
+
+        assertEquals("information", tangibleAssets.getAdditionalInformation());
+    }
+
+    @Test
+    @DisplayName("Read - unknown note type throws InvalidPathParameterException")
+    void readUnknownNoteType() {
+        assertThrows(InvalidPathParameterException.class,
+                () -> noteReaderRegistry.read("small-full", "unknown", body("{}")));
+    }
+
+    @Test
+    @DisplayName("Read - malformed body throws IOException")
+    void readMalformedBody() {
+        assertThrows(IOException.class,
+                () -> noteReaderRegistry.read("small-full", "tangible-assets", body("{\"additional_information\":")));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,202 @@
+package uk.gov.companieshouse.api.accounts.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mongodb.MongoException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.entity.BaseEntity;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.NextAccounts;
+import uk.gov.companieshouse.api.accounts.model.rest.SmallFull;
+import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.Director;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.CurrentPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.Debtors;
+import uk.gov.companieshouse.api.accounts.transformer.DebtorsTransformer;
+import uk.gov.companieshouse.api.accounts.transformer.DirectorTransformer;
+import uk.gov.companieshouse.api.accounts.transformer.SmallFullTransformer;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class AccountTreeServiceImplTest {
+
+    private static final String COMPANY_ACCOUNT_ID = "abc=";
+    private static final String COMPANY_ACCOUNT_SELF_LINK = "/transactions/123-456/company-accounts/" + COMPANY_ACCOUNT_ID;
+    private static final String SMALL_FULL_SELF_LINK = COMPANY_ACCOUNT_SELF_LINK + "/small-full";
+    private static final String DEBTORS_SELF_LINK = SMALL_FULL_SELF_LINK + "/notes/debtors";
+    private static final String DIRECTORS_LINK = SMALL_FULL_SELF_LINK + "/directors-report/directors";
+    private static final String DIRECTOR_SELF_LINK = DIRECTORS_LINK + "/director";
+    private static final String OTHER_DIRECTOR_SELF_LINK = "/transactions/123-456/company-accounts/abc=def"
+            + "/small-full/directors-report/directors/director";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    private final KeyIdGenerator keyIdGenerator = new KeyIdGenerator();
+
+    private final SmallFullTransformer smallFullTransformer = new SmallFullTransformer();
+
+    private final DebtorsTransformer debtorsTransformer = new DebtorsTransformer();
+
+    private final DirectorTransformer directorTransformer = new DirectorTransformer();
+
+    private MappingMongoConverter converter;
+
+    private AccountTreeServiceImpl accountTreeService;
+
+    private CompanyAccount companyAccount;
+
+    @BeforeEach
+    void setUp() {
+        when(environmentReader.getOptionalInteger("ACCOUNT_TREE_READ_THREADS")).thenReturn(null);
+        when(environmentReader.getOptionalInteger("ACCOUNT_TREE_READ_TIMEOUT_MILLIS")).thenReturn(null);
+        accountTreeService = new AccountTreeServiceImpl(mongoTemplate, keyIdGenerator,
+                JsonMapper.builder().findAndAddModules().build(),
+                List.of(smallFullTransformer, debtorsTransformer, directorTransformer), environmentReader);
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(Collections.emptyList()).getSimpleTypeHolder());
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        companyAccount = new CompanyAccount();
+        companyAccount.setLinks(Map.of("self", COMPANY_ACCOUNT_SELF_LINK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountTreeService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Get account tree - transformed resources keyed by self link")
+    void getAccountTree() throws DataException {
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), anyString())).thenReturn(Collections.emptyList());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("accounts")))
+                .thenReturn(List.of(createSmallFullDocument()));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("notes")))
+                .thenReturn(List.of(createDebtorsDocument()));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("directors_report")))
+                .thenReturn(List.of(createDirectorDocument(DIRECTOR_SELF_LINK, DIRECTORS_LINK),
+                        createDirectorDocument(OTHER_DIRECTOR_SELF_LINK, OTHER_DIRECTOR_SELF_LINK)));
+
+        AccountTree accountTree = accountTreeService.getAccountTree(companyAccount);
+
+        assertSame(companyAccount, accountTree.getCompanyAccount());
+        assertEquals(3, accountTree.getResources().size());
+        assertEquals("2019-01-31", ((Map<?, ?>) accountTree.getResources().get(SMALL_FULL_SELF_LINK)
+                .get("next_accounts")).get("period_end_on"));
+        assertEquals(100L, ((Map<?, ?>) accountTree.getResources().get(DEBTORS_SELF_LINK)
+                .get("current_period")).get("total"));
+        assertEquals("2019-03-01", accountTree.getResources().get(DIRECTOR_SELF_LINK).get("appointment_date"));
+        assertFalse(accountTree.getResources().containsKey(OTHER_DIRECTOR_SELF_LINK));
+    }
+
+    @Test
+    @DisplayName("Get account tree - resources found by derived id and parent link")
+    void getAccountTreeQueries() throws DataException {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), anyString())).thenReturn(Collections.emptyList());
+
+        accountTreeService.getAccountTree(companyAccount);
+
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Document.class), eq("accounts"));
+        assertTrue(queryCaptor.getValue().getQueryObject().toJson()
+                .contains(keyIdGenerator.generate(COMPANY_ACCOUNT_ID + "-small-full")));
+
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Document.class), eq("directors_report"));
+        String directorsReportQuery = queryCaptor.getValue().getQueryObject().toJson();
+        assertTrue(directorsReportQuery.contains("\"data.links.directors\": \"" + DIRECTORS_LINK + "\""));
+        assertFalse(directorsReportQuery.contains("$regex"));
+    }
+
+    @Test
+    @DisplayName("Get account tree - read failure throws a DataException")
+    void getAccountTreeReadFailure() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), anyString())).thenReturn(Collections.emptyList());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("periods")))
+                .thenThrow(new MongoException("read failure"));
+
+        assertThrows(DataException.class, () -> accountTreeService.getAccountTree(companyAccount));
+    }
+
+    private Document createSmallFullDocument() {
+        NextAccounts nextAccounts = new NextAccounts();
+        nextAccounts.setPeriodStartOn(LocalDate.of(2018, 2, 1));
+        nextAccounts.setPeriodEndOn(LocalDate.of(2019, 1, 31));
+
+        SmallFull smallFull = new SmallFull();
+        smallFull.setNextAccounts(nextAccounts);
+        smallFull.setLinks(Map.of("self", SMALL_FULL_SELF_LINK));
+
+        return write(smallFullTransformer.transform(smallFull), COMPANY_ACCOUNT_ID + "-small-full");
+    }
+
+    private Document createDebtorsDocument() {
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setTotal(100L);
+
+        Debtors debtors = new Debtors();
+        debtors.setCurrentPeriod(currentPeriod);
+        debtors.setLinks(Map.of("self", DEBTORS_SELF_LINK));
+
+        return write(debtorsTransformer.transform(debtors), COMPANY_ACCOUNT_ID + "-debtors");
+    }
+
+    private Document createDirectorDocument(String selfLink, String directorsLink) {
+        Director director = new Director();
+        director.setName("name");
+        director.setAppointmentDate(LocalDate.of(2019, 3, 1));
+        director.setLinks(Map.of("self", selfLink, "directors", directorsLink));
+
+        BaseEntity entity = directorTransformer.transform(director);
+        entity.setId(keyIdGenerator.generateRandom());
+        Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+
+    private Document write(BaseEntity entity, String key) {
+        entity.setId(keyIdGenerator.generate(key));
+        Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+}
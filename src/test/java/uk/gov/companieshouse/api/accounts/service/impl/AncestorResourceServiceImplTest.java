@@ -0,0 +1,128 @@
+package uk.gov.companieshouse.api.accounts.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoException;
+import java.util.EnumSet;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.gov.companieshouse.api.accounts.ResourceName;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class AncestorResourceServiceImplTest {
+
+    private static final String COMPANY_ACCOUNT_ID = "companyAccountId";
+    private static final String SMALL_FULL_ID = "smallFullId";
+    private static final String CURRENT_PERIOD_ID = "currentPeriodId";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoConverter mongoConverter;
+
+    @Mock
+    private RequestEntityCache requestEntityCache;
+
+    @Mock
+    private KeyIdGenerator keyIdGenerator;
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private CompanyAccountEntity companyAccountEntity;
+
+    @Mock
+    private SmallFullEntity smallFullEntity;
+
+    @Mock
+    private CurrentPeriodEntity currentPeriodEntity;
+
+    private AncestorResourceServiceImpl ancestorResourceService;
+
+    @BeforeEach
+    void setUp() {
+        when(environmentReader.getOptionalInteger("ANCESTOR_READ_THREADS")).thenReturn(null);
+        ancestorResourceService =
+                new AncestorResourceServiceImpl(mongoTemplate, requestEntityCache, keyIdGenerator, environmentReader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ancestorResourceService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Load ancestors - one read per collection, each entity cached by id")
+    void loadAncestors() throws DataException {
+        Document companyAccount = new Document("_id", COMPANY_ACCOUNT_ID);
+        Document smallFull = new Document("_id", SMALL_FULL_ID);
+        Document currentPeriod = new Document("_id", CURRENT_PERIOD_ID);
+
+        when(keyIdGenerator.generate(COMPANY_ACCOUNT_ID + "-small-full")).thenReturn(SMALL_FULL_ID);
+        when(keyIdGenerator.generate(COMPANY_ACCOUNT_ID + "-current-period")).thenReturn(CURRENT_PERIOD_ID);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("accounts")))
+                .thenReturn(List.of(companyAccount, smallFull));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("periods")))
+                .thenReturn(List.of(currentPeriod));
+        when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+        when(mongoConverter.read(CompanyAccountEntity.class, companyAccount)).thenReturn(companyAccountEntity);
+        when(mongoConverter.read(SmallFullEntity.class, smallFull)).thenReturn(smallFullEntity);
+        when(mongoConverter.read(CurrentPeriodEntity.class, currentPeriod)).thenReturn(currentPeriodEntity);
+
+        ancestorResourceService.loadAncestors(COMPANY_ACCOUNT_ID, EnumSet.of(ResourceName.COMPANY_ACCOUNT,
+                ResourceName.SMALL_FULL, ResourceName.CURRENT_PERIOD));
+
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(Document.class), anyString());
+        verify(requestEntityCache).put(COMPANY_ACCOUNT_ID, companyAccountEntity);
+        verify(requestEntityCache).put(SMALL_FULL_ID, smallFullEntity);
+        verify(requestEntityCache).put(CURRENT_PERIOD_ID, currentPeriodEntity);
+    }
+
+    @Test
+    @DisplayName("Load ancestors - resources not found are not cached")
+    void loadAncestorsNotFound() throws DataException {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("accounts"))).thenReturn(List.of());
+
+        ancestorResourceService.loadAncestors(COMPANY_ACCOUNT_ID, EnumSet.of(ResourceName.COMPANY_ACCOUNT));
+
+        verify(requestEntityCache, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Load ancestors - throws DataException when a collection cannot be read")
+    void loadAncestorsThrowsDataException() {
+        when(keyIdGenerator.generate(COMPANY_ACCOUNT_ID + "-current-period")).thenReturn(CURRENT_PERIOD_ID);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("accounts"))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("periods")))
+                .thenThrow(new MongoException("Failed"));
+
+        assertThrows(DataException.class, () -> ancestorResourceService.loadAncestors(COMPANY_ACCOUNT_ID,
+                EnumSet.of(ResourceName.COMPANY_ACCOUNT, ResourceName.CURRENT_PERIOD)));
+    }
+}
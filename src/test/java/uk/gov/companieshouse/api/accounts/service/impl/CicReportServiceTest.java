@@ -98,7 +98,7 @@ class CicReportServiceTest {
     @Test
     @DisplayName("Create cic report - success")
     void createCicReportSuccess() throws DataException {
-        when(validator.validateCicReportCreation(transaction)).thenReturn(errors);
+        when(validator.validateCicReportCreation(transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
@@ -134,7 +134,7 @@ class CicReportServiceTest {
     @Test
     @DisplayName("Create cic report - validation errors")
     void createCicReportValidationErrors() throws DataException {
-        when(validator.validateCicReportCreation(transaction)).thenReturn(errors);
+        when(validator.validateCicReportCreation(transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(true);
 
         ResponseObject<CicReport> response = service.create(cicReport, transaction, COMPANY_ACCOUNTS_ID, request);
@@ -148,7 +148,7 @@ class CicReportServiceTest {
     @Test
     @DisplayName("Create cic report - duplicate key exception")
     void createCicReportDuplicateKeyException() throws DataException {
-        when(validator.validateCicReportCreation(transaction)).thenReturn(errors);
+        when(validator.validateCicReportCreation(transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
@@ -181,7 +181,7 @@ class CicReportServiceTest {
     @Test
     @DisplayName("Create cic report - Mongo exception")
     void createCicReportMongoException() throws DataException {
-        when(validator.validateCicReportCreation(transaction)).thenReturn(errors);
+        when(validator.validateCicReportCreation(transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
@@ -2,31 +2,43 @@ package uk.gov.companieshouse.api.accounts.service.impl;
 
 import com.mongodb.DuplicateKeyException;
 import com.mongodb.MongoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.accounts.Kind;
 import uk.gov.companieshouse.api.accounts.PayableResource;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallMetrics;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.PatchException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.links.CompanyAccountLinkType;
-import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CompanyFactsEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.repository.CompanyAccountRepository;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.sdk.ApiClientService;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.TransactionService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.CompanyAccountTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
+import uk.gov.companieshouse.api.accounts.utility.TransactionCache;
+import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.handler.privatetransaction.PrivateTransactionResourceHandler;
 import uk.gov.companieshouse.api.handler.privatetransaction.request.PrivateTransactionPatch;
@@ -36,7 +48,6 @@ import uk.gov.companieshouse.api.model.transaction.TransactionLinks;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -44,8 +55,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -65,6 +80,24 @@ class CompanyAccountServiceImplTest {
     @Mock
     private TransactionService transactionService;
 
+    @Mock
+    private CompanyService companyService;
+
+    @Mock
+    private RequestEntityCache requestEntityCache;
+
+    @Mock
+    private TransactionCache transactionCache;
+
+    @Mock
+    private LinkUpdateRepository linkUpdateRepository;
+
+    @Spy
+    private OutboundCallMetrics outboundCallMetrics = new OutboundCallMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private KeyIdGenerator keyIdGenerator = new KeyIdGenerator();
+
     @InjectMocks
     private CompanyAccountServiceImpl companyAccountService;
 
@@ -84,7 +117,7 @@ class CompanyAccountServiceImplTest {
     private CompanyAccountEntity companyAccountEntity;
 
     @Mock
-    private CompanyAccountDataEntity companyAccountDataEntity;
+    private CompanyFactsEntity companyFactsEntity;
 
     @Mock
     private InternalApiClient internalApiClient;
@@ -95,11 +128,13 @@ class CompanyAccountServiceImplTest {
     @Mock
     private PrivateTransactionPatch privateTransactionPatch;
 
-    @Mock
-    private Map<String, String> companyAccountsLinks;
+    @Captor
+    private ArgumentCaptor<Transaction> transactionCaptor;
 
     private static final String TRANSACTION_ID = "transactionId";
 
+    private static final String COMPANY_NUMBER = "12345678";
+
     private static final String COMPANY_ACCOUNTS_ID = "companyAccountsId";
 
     private static final String TRANSACTION_SELF_LINK = "transaction_self_link";
@@ -113,7 +148,7 @@ class CompanyAccountServiceImplTest {
     @Test
     @DisplayName("Create company accounts - success path with next and last accounts")
     void createCompanyAccountsSuccessPathWithNextAndLastAccounts()
-            throws ServiceException, IOException, PatchException, DataException {
+            throws ServiceException, IOException, URIValidationException, PatchException, DataException {
         when(transaction.getLinks()).thenReturn(transactionLinks);
         when(transactionLinks.getSelf()).thenReturn(TRANSACTION_SELF_LINK);
 
@@ -126,10 +161,10 @@ class CompanyAccountServiceImplTest {
         when(transaction.getId()).thenReturn(TRANSACTION_ID);
 
         when(internalApiClient.privateTransaction()).thenReturn(privateTransactionResourceHandler);
-        when(privateTransactionResourceHandler.patch(TRANSACTION_PATCH_LINK, transaction))
+        when(privateTransactionResourceHandler.patch(eq(TRANSACTION_PATCH_LINK), any(Transaction.class)))
                 .thenReturn(privateTransactionPatch);
 
-        when(transactionService.getPayableResources(transaction)).thenReturn(List.of(PayableResource.CIC));
+        when(transactionService.getPayableResources(transaction, null)).thenReturn(List.of(PayableResource.CIC));
 
         ResponseObject<CompanyAccount> response = companyAccountService.create(companyAccount, transaction, request);
 
@@ -138,6 +173,10 @@ class CompanyAccountServiceImplTest {
         assertEquals(companyAccount, response.getData());
         assertNull(response.getErrors());
 
+        InOrder inOrder = inOrder(privateTransactionPatch, transactionCache);
+        inOrder.verify(privateTransactionPatch).execute();
+        inOrder.verify(transactionCache).invalidate(TRANSACTION_ID);
+
         verify(companyAccount, times(1)).setEtag(anyString());
         verify(companyAccount, times(1)).setLinks(anyMap());
         verify(companyAccount, times(1)).setKind(Kind.COMPANY_ACCOUNTS.getValue());
@@ -146,7 +185,9 @@ class CompanyAccountServiceImplTest {
 
         verify(repository, times(1)).insert(companyAccountEntity);
 
-        verify(transaction, times(1)).setResources(anyMap());
+        verify(transaction, never()).setResources(anyMap());
+        verify(privateTransactionResourceHandler).patch(eq(TRANSACTION_PATCH_LINK), transactionCaptor.capture());
+        assertEquals(1, transactionCaptor.getValue().getResources().size());
     }
 
     @Test
@@ -165,10 +206,10 @@ class CompanyAccountServiceImplTest {
         when(transaction.getId()).thenReturn(TRANSACTION_ID);
 
         when(internalApiClient.privateTransaction()).thenReturn(privateTransactionResourceHandler);
-        when(privateTransactionResourceHandler.patch(TRANSACTION_PATCH_LINK, transaction))
+        when(privateTransactionResourceHandler.patch(eq(TRANSACTION_PATCH_LINK), any(Transaction.class)))
                 .thenReturn(privateTransactionPatch);
 
-        when(transactionService.getPayableResources(transaction)).thenReturn(new ArrayList<>());
+        when(transactionService.getPayableResources(transaction, null)).thenReturn(new ArrayList<>());
 
         ResponseObject<CompanyAccount> response = companyAccountService.create(companyAccount, transaction, request);
 
@@ -185,7 +226,9 @@ class CompanyAccountServiceImplTest {
 
         verify(repository, times(1)).insert(companyAccountEntity);
 
-        verify(transaction, times(1)).setResources(anyMap());
+        verify(transaction, never()).setResources(anyMap());
+        verify(privateTransactionResourceHandler).patch(eq(TRANSACTION_PATCH_LINK), transactionCaptor.capture());
+        assertEquals(1, transactionCaptor.getValue().getResources().size());
     }
 
     @Test
@@ -249,14 +292,16 @@ class CompanyAccountServiceImplTest {
         when(transaction.getId()).thenReturn(TRANSACTION_ID);
 
         when(internalApiClient.privateTransaction()).thenReturn(privateTransactionResourceHandler);
-        when(privateTransactionResourceHandler.patch(TRANSACTION_PATCH_LINK, transaction))
+        when(privateTransactionResourceHandler.patch(eq(TRANSACTION_PATCH_LINK), any(Transaction.class)))
                 .thenReturn(privateTransactionPatch);
 
-        when(transactionService.getPayableResources(transaction)).thenReturn(new ArrayList<>());
+        when(transactionService.getPayableResources(transaction, null)).thenReturn(new ArrayList<>());
 
         when(privateTransactionPatch.execute()).thenThrow(URIValidationException.class);
 
         assertThrows(PatchException.class, () -> companyAccountService.create(companyAccount, transaction, request));
+
+        verify(transactionCache).invalidate(TRANSACTION_ID);
     }
 
     @Test
@@ -298,21 +343,20 @@ class CompanyAccountServiceImplTest {
     @Test
     @DisplayName("Add link - success path")
     void addLinkSuccessPath() {
-        when(repository.findById(COMPANY_ACCOUNTS_ID)).thenReturn(Optional.of(companyAccountEntity));
-
-        when(companyAccountEntity.getData()).thenReturn(companyAccountDataEntity);
+        when(linkUpdateRepository.setLink(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID,
+                CompanyAccountLinkType.TRANSACTION.getLink(), TRANSACTION_SELF_LINK)).thenReturn(true);
 
         companyAccountService.addLink(COMPANY_ACCOUNTS_ID, CompanyAccountLinkType.TRANSACTION, TRANSACTION_SELF_LINK);
 
-        verify(companyAccountDataEntity, times(1)).setLinks(anyMap());
-
-        verify(repository, times(1)).save(companyAccountEntity);
+        verify(requestEntityCache, times(1)).evict(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID);
+        verify(repository, never()).save(companyAccountEntity);
     }
 
     @Test
     @DisplayName("Add link - company account not found")
     void addLinkCompanyAccountNotFound() {
-        when(repository.findById(COMPANY_ACCOUNTS_ID)).thenReturn(Optional.empty());
+        when(linkUpdateRepository.setLink(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID,
+                CompanyAccountLinkType.TRANSACTION.getLink(), TRANSACTION_SELF_LINK)).thenReturn(false);
 
         assertThrows(MongoException.class, () -> companyAccountService.addLink(
                 COMPANY_ACCOUNTS_ID, CompanyAccountLinkType.TRANSACTION, TRANSACTION_SELF_LINK));
@@ -321,27 +365,118 @@ class CompanyAccountServiceImplTest {
     @Test
     @DisplayName("Remove link - success path")
     void removeLinkSuccessPath() {
-        when(repository.findById(COMPANY_ACCOUNTS_ID)).thenReturn(Optional.of(companyAccountEntity));
-
-        when(companyAccountEntity.getData()).thenReturn(companyAccountDataEntity);
-
-        when(companyAccountDataEntity.getLinks()).thenReturn(companyAccountsLinks);
-
         CompanyAccountLinkType linkType = CompanyAccountLinkType.CIC_REPORT;
 
+        when(linkUpdateRepository.unsetLink(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID, linkType.getLink()))
+                .thenReturn(true);
+
         assertAll(() -> companyAccountService.removeLink(COMPANY_ACCOUNTS_ID, linkType));
 
-        verify(companyAccountsLinks, times(1)).remove(linkType.getLink());
-        verify(repository, times(1)).save(companyAccountEntity);
+        verify(requestEntityCache, times(1)).evict(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID);
+        verify(repository, never()).save(companyAccountEntity);
     }
 
     @Test
     @DisplayName("Remove link - company account not found")
     void removeLinkCompanyAccountNotFound() {
-        when(repository.findById(COMPANY_ACCOUNTS_ID)).thenReturn(Optional.empty());
-
         CompanyAccountLinkType linkType = CompanyAccountLinkType.CIC_REPORT;
 
+        when(linkUpdateRepository.unsetLink(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID, linkType.getLink()))
+                .thenReturn(false);
+
         assertThrows(MongoException.class, () -> companyAccountService.removeLink(COMPANY_ACCOUNTS_ID, linkType));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Create company accounts - created without company facts when the company profile is unavailable")
+    void createCompanyAccountsCompanyProfileUnavailable()
+            throws ServiceException, IOException, PatchException, DataException {
+        when(transaction.getLinks()).thenReturn(transactionLinks);
+        when(transactionLinks.getSelf()).thenReturn(TRANSACTION_SELF_LINK);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(companyService.getCompanyFacts(COMPANY_NUMBER)).thenThrow(ServiceException.class);
+
+        when(transformer.transform(companyAccount)).thenReturn(companyAccountEntity);
+
+        when(request.getHeader(ERIC_PASSTHROUGH_TOKEN_HEADER)).thenReturn(ERIC_PASSTHROUGH_TOKEN);
+
+        when(apiClientService.getInternalApiClient(ERIC_PASSTHROUGH_TOKEN)).thenReturn(internalApiClient);
+
+        when(transaction.getId()).thenReturn(TRANSACTION_ID);
+
+        when(internalApiClient.privateTransaction()).thenReturn(privateTransactionResourceHandler);
+        when(privateTransactionResourceHandler.patch(eq(TRANSACTION_PATCH_LINK), any(Transaction.class)))
+                .thenReturn(privateTransactionPatch);
+
+        when(transactionService.getPayableResources(transaction, null)).thenReturn(new ArrayList<>());
+
+        ResponseObject<CompanyAccount> response = companyAccountService.create(companyAccount, transaction, request);
+
+        assertEquals(ResponseStatus.CREATED, response.getStatus());
+
+        verify(companyAccount, times(1)).setCompanyFacts(null);
+        verify(repository, times(1)).insert(companyAccountEntity);
+    }
+
+    @Test
+    @DisplayName("Create company accounts - nothing created when the company profile API is down")
+    void createCompanyAccountsCompanyProfileApiDown() throws ServiceException {
+        when(transaction.getLinks()).thenReturn(transactionLinks);
+        when(transactionLinks.getSelf()).thenReturn(TRANSACTION_SELF_LINK);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(companyService.getCompanyFacts(COMPANY_NUMBER)).thenThrow(ServiceException.class);
+
+        when(transactionService.getPayableResources(transaction, null)).thenThrow(ServiceException.class);
+
+        assertThrows(DataException.class, () -> companyAccountService.create(companyAccount, transaction, request));
+
+        verify(repository, never()).insert(any(CompanyAccountEntity.class));
+        verify(privateTransactionResourceHandler, never()).patch(anyString(), any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("Refresh company facts - success path")
+    void refreshCompanyFactsSuccessPath() throws ServiceException, DataException {
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(COMPANY_NUMBER);
+        companyFacts.setMultipleYearFiler(true);
+
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(companyService.getCompanyFacts(COMPANY_NUMBER)).thenReturn(companyFacts);
+        when(transformer.transform(companyFacts)).thenReturn(companyFactsEntity);
+        when(linkUpdateRepository.setField(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID, "company_facts",
+                companyFactsEntity)).thenReturn(true);
+
+        companyAccountService.refreshCompanyFacts(COMPANY_ACCOUNTS_ID, transaction);
+
+        verify(requestEntityCache, times(1)).evict(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID);
+        verify(repository, never()).save(any(CompanyAccountEntity.class));
+    }
+
+    @Test
+    @DisplayName("Refresh company facts - service exception")
+    void refreshCompanyFactsServiceException() throws ServiceException {
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(companyService.getCompanyFacts(COMPANY_NUMBER)).thenThrow(ServiceException.class);
+
+        assertThrows(DataException.class,
+                () -> companyAccountService.refreshCompanyFacts(COMPANY_ACCOUNTS_ID, transaction));
+
+        verify(linkUpdateRepository, never()).setField(any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Refresh company facts - company account not found")
+    void refreshCompanyFactsCompanyAccountNotFound() throws ServiceException {
+        CompanyFacts companyFacts = new CompanyFacts();
+
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(companyService.getCompanyFacts(COMPANY_NUMBER)).thenReturn(companyFacts);
+        when(transformer.transform(companyFacts)).thenReturn(companyFactsEntity);
+        when(linkUpdateRepository.setField(CompanyAccountEntity.class, COMPANY_ACCOUNTS_ID, "company_facts",
+                companyFactsEntity)).thenReturn(false);
+
+        assertThrows(DataException.class,
+                () -> companyAccountService.refreshCompanyFacts(COMPANY_ACCOUNTS_ID, transaction));
+    }
+}
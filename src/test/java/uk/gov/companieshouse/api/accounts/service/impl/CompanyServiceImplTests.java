@@ -1,11 +1,18 @@
 package uk.gov.companieshouse.api.accounts.service.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +21,16 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.ApiClient;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallMetrics;
 import uk.gov.companieshouse.api.accounts.sdk.ApiClientService;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.accounts.utility.CompanyProfileCache;
+import uk.gov.companieshouse.api.accounts.utility.CompanyProfileCache.CompanyProfileLoader;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
@@ -53,6 +65,12 @@ class CompanyServiceImplTests {
     @Mock
     private ApiResponse<CompanyProfileApi> apiResponse;
 
+    @Mock
+    private CompanyProfileCache companyProfileCache;
+
+    @Spy
+    private OutboundCallMetrics outboundCallMetrics = new OutboundCallMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private CompanyService companyService = new CompanyServiceImpl();
 
@@ -64,10 +82,12 @@ class CompanyServiceImplTests {
     private static final String PLC = "plc";
 
     @BeforeEach
-    public void init() {
-        when(mockApiClientService.getApiClient()).thenReturn(mockApiClient);
-        when(mockApiClient.company()).thenReturn(mockCompanyResourceHandler);
-        when(mockCompanyResourceHandler.get(COMPANY_URI)).thenReturn(mockCompanyGet);
+    public void init() throws ServiceException {
+        lenient().when(companyProfileCache.get(eq(COMPANY_NUMBER), any(CompanyProfileLoader.class)))
+                .thenAnswer(invocation -> invocation.<CompanyProfileLoader>getArgument(1).load());
+        lenient().when(mockApiClientService.getApiClient()).thenReturn(mockApiClient);
+        lenient().when(mockApiClient.company()).thenReturn(mockCompanyResourceHandler);
+        lenient().when(mockCompanyResourceHandler.get(COMPANY_URI)).thenReturn(mockCompanyGet);
     }
 
     @Test
@@ -192,6 +212,24 @@ class CompanyServiceImplTests {
         assertFalse(companyService.isLBG(mockTransaction));
     }
 
+    @Test
+    @DisplayName("Get company facts - derived from the company profile")
+    void getCompanyFacts() throws ServiceException, ApiErrorResponseException, URIValidationException {
+        when(mockCompanyGet.execute()).thenReturn(apiResponse);
+        when(apiResponse.getData()).thenReturn(mockCompanyProfileApi);
+        when(mockCompanyProfileApi.getType()).thenReturn(LIMITED_BY_GUARANTEE);
+        when(mockCompanyProfileApi.isCommunityInterestCompany()).thenReturn(true);
+        when(mockCompanyProfileApi.getAccounts()).thenReturn(generateMultipleYearFiler().getAccounts());
+
+        CompanyFacts companyFacts = companyService.getCompanyFacts(COMPANY_NUMBER);
+
+        assertEquals(COMPANY_NUMBER, companyFacts.getCompanyNumber());
+        assertEquals(LIMITED_BY_GUARANTEE, companyFacts.getCompanyType());
+        assertTrue(companyFacts.isMultipleYearFiler());
+        assertTrue(companyFacts.isCommunityInterestCompany());
+        assertTrue(companyFacts.isLimitedByGuarantee());
+    }
+
     private CompanyProfileApi generateMultipleYearFiler() {
         CompanyProfileApi companyProfileApi = new CompanyProfileApi();
         CompanyAccountApi companyAccountApi = new CompanyAccountApi();
@@ -57,13 +57,13 @@ class CostServiceImplTest {
     @Test
     @DisplayName("Get costs for payable transaction")
     void getCostsForPayableTransaction() throws ServiceException, DataException {
-        when(transactionService.getPayableResources(transaction)).thenReturn(List.of(PayableResource.CIC));
+        when(transactionService.getPayableResources(transaction, null)).thenReturn(List.of(PayableResource.CIC));
 
         when(costs.getCostsMap()).thenReturn(costMap);
 
         when(costMap.get(PayableResource.CIC.getResource())).thenReturn(cost);
 
-        Cost[] costArray = costService.getCosts(transaction);
+        Cost[] costArray = costService.getCosts(transaction, null);
 
         assertEquals(1, costArray.length);
         assertEquals(cost, costArray[0]);
@@ -72,9 +72,9 @@ class CostServiceImplTest {
     @Test
     @DisplayName("Get costs for non-payable transaction")
     void getCostsForNonPayableTransaction() throws ServiceException, DataException {
-        when(transactionService.getPayableResources(transaction)).thenReturn(new ArrayList<>());
+        when(transactionService.getPayableResources(transaction, null)).thenReturn(new ArrayList<>());
 
-        Cost[] costArray = costService.getCosts(transaction);
+        Cost[] costArray = costService.getCosts(transaction, null);
 
         assertEquals(0, costArray.length);
     }
@@ -82,8 +82,8 @@ class CostServiceImplTest {
     @Test
     @DisplayName("Get costs - transaction service exception")
     void getCostsTransactionServiceException() throws ServiceException {
-        when(transactionService.getPayableResources(transaction)).thenThrow(ServiceException.class);
+        when(transactionService.getPayableResources(transaction, null)).thenThrow(ServiceException.class);
 
-        assertThrows(DataException.class, () -> costService.getCosts(transaction));
+        assertThrows(DataException.class, () -> costService.getCosts(transaction, null));
     }
 }
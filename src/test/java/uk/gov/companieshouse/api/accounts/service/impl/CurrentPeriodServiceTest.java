@@ -21,16 +21,17 @@ import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.CurrentPeriod;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
 import uk.gov.companieshouse.api.accounts.repository.CurrentPeriodRepository;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.CurrentPeriodTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
 import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.accounts.validation.CurrentPeriodValidator;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.model.transaction.TransactionLinks;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -43,7 +44,6 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 @ExtendWith(MockitoExtension.class)
 @TestInstance(Lifecycle.PER_CLASS)
@@ -78,9 +78,6 @@ class CurrentPeriodServiceTest {
     @Mock
     private Errors errors;
 
-    @Mock
-    private Map<String, String> links;
-
     @Mock
     private CurrentPeriodTransformer currentPeriodTransformer;
 
@@ -93,6 +90,12 @@ class CurrentPeriodServiceTest {
     @Mock
     private KeyIdGenerator keyIdGenerator;
 
+    @Mock
+    private RequestEntityCache requestEntityCache;
+
+    @Mock
+    private LinkUpdateRepository linkUpdateRepository;
+
     @InjectMocks
     private CurrentPeriodService currentPeriodService;
 
@@ -111,7 +114,7 @@ class CurrentPeriodServiceTest {
     @Test
     @DisplayName("Tests the successful creation of a currentPeriod resource")
     void canCreateCurrentPeriod() throws DataException {
-        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction)).thenReturn(errors);
+        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction, request)).thenReturn(errors);
         when(currentPeriodTransformer.transform(currentPeriod)).thenReturn(currentPeriodEntity);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
@@ -126,7 +129,7 @@ class CurrentPeriodServiceTest {
     @Test
     @DisplayName("Tests the duplicate key when creating a current period resource")
     void createSmallfullDuplicateKey() throws DataException {
-        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction)).thenReturn(errors);
+        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction, request)).thenReturn(errors);
         doReturn(currentPeriodEntity).when(currentPeriodTransformer).transform(any(CurrentPeriod.class));
         when(currentPeriodRepository.insert(currentPeriodEntity)).thenThrow(duplicateKeyException);
 
@@ -142,7 +145,7 @@ class CurrentPeriodServiceTest {
     @Test
     @DisplayName("Tests the mongo exception when creating a current period")
     void createSmallFullMongoExceptionFailure() throws DataException {
-        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction)).thenReturn(errors);
+        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction, request)).thenReturn(errors);
         doReturn(currentPeriodEntity).when(currentPeriodTransformer).transform(any(CurrentPeriod.class));
         when(currentPeriodRepository.insert(currentPeriodEntity)).thenThrow(mongoException);
 
@@ -180,74 +183,62 @@ class CurrentPeriodServiceTest {
     @Test
     @DisplayName("Tests the successful removal of a current period link")
     void removeLinkSuccess() {
-        when(currentPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.ofNullable(currentPeriodEntity));
-
-        when(currentPeriodEntity.getData()).thenReturn(currentPeriodDataEntity);
-        when(currentPeriodDataEntity.getLinks()).thenReturn(links);
-
         CurrentPeriodLinkType currentPeriodLinkType = CurrentPeriodLinkType.PROFIT_AND_LOSS;
 
+        when(linkUpdateRepository.unsetLink(CurrentPeriodEntity.class, RESOURCE_ID, currentPeriodLinkType.getLink()))
+                .thenReturn(true);
+
         assertAll(() -> currentPeriodService.removeLink(COMPANY_ACCOUNTS_ID, currentPeriodLinkType, request));
 
-        verify(links, times(1)).remove(currentPeriodLinkType.getLink());
+        verify(requestEntityCache).evict(CurrentPeriodEntity.class, RESOURCE_ID);
+        verify(currentPeriodRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Tests the  removal of a current period link where the repository throws a Mongo exception")
     void removeLinkMongoException() {
-        when(currentPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.ofNullable(currentPeriodEntity));
-
-        when(currentPeriodEntity.getData()).thenReturn(currentPeriodDataEntity);
-        when(currentPeriodDataEntity.getLinks()).thenReturn(links);
-
-        when(currentPeriodRepository.save(currentPeriodEntity)).thenThrow(MongoException.class);
-
         CurrentPeriodLinkType currentPeriodLinkType = CurrentPeriodLinkType.PROFIT_AND_LOSS;
 
+        when(linkUpdateRepository.unsetLink(CurrentPeriodEntity.class, RESOURCE_ID, currentPeriodLinkType.getLink()))
+                .thenThrow(MongoException.class);
+
         assertThrows(DataException.class,
                 () -> currentPeriodService.removeLink(COMPANY_ACCOUNTS_ID, currentPeriodLinkType, request));
-
-        verify(links, times(1)).remove(currentPeriodLinkType.getLink());
     }
 
     @Test
     @DisplayName("Tests the  removal of a current period link where the entity is not found")
     void removeLinkSmallFullEntityNotFound() {
-        CurrentPeriodEntity currentPeriodEntity = null;
-        when(currentPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.ofNullable(currentPeriodEntity));
-
         CurrentPeriodLinkType currentPeriodLinkType = CurrentPeriodLinkType.PROFIT_AND_LOSS;
 
+        when(linkUpdateRepository.unsetLink(CurrentPeriodEntity.class, RESOURCE_ID, currentPeriodLinkType.getLink()))
+                .thenReturn(false);
+
         assertThrows(DataException.class,
                 () -> currentPeriodService.removeLink(COMPANY_ACCOUNTS_ID, currentPeriodLinkType, request));
-
-        verify(currentPeriodRepository, never()).save(currentPeriodEntity);
     }
 
     @Test
     @DisplayName("Add link to current period resource- success")
     void addLinkSuccess() {
-        when(currentPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.ofNullable(currentPeriodEntity));
-
-        when(currentPeriodEntity.getData()).thenReturn(currentPeriodDataEntity);
-        when(currentPeriodDataEntity.getLinks()).thenReturn(links);
-
         CurrentPeriodLinkType currentPeriodLinkType = CurrentPeriodLinkType.SELF;
 
+        when(linkUpdateRepository.setLink(CurrentPeriodEntity.class, RESOURCE_ID,
+                currentPeriodLinkType.getLink(), CURRENT_PERIOD_PROFIT_AND_LOSS)).thenReturn(true);
+
         assertAll(() ->
                 currentPeriodService.addLink(
                         COMPANY_ACCOUNTS_ID, currentPeriodLinkType, CURRENT_PERIOD_PROFIT_AND_LOSS, request));
 
-        verify(links).put(currentPeriodLinkType.getLink(), CURRENT_PERIOD_PROFIT_AND_LOSS);
-        verify(currentPeriodRepository).save(currentPeriodEntity);
+        verify(requestEntityCache).evict(CurrentPeriodEntity.class, RESOURCE_ID);
+        verify(currentPeriodRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Add link - not found")
     void addLinkNotFound() {
-        CurrentPeriodEntity currentPeriodEntity = null;
-
-        when(currentPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.ofNullable(currentPeriodEntity));
+        when(linkUpdateRepository.setLink(CurrentPeriodEntity.class, RESOURCE_ID,
+                CurrentPeriodLinkType.PROFIT_AND_LOSS.getLink(), CURRENT_PERIOD_PROFIT_AND_LOSS)).thenReturn(false);
 
         assertThrows(DataException.class, () ->
                 currentPeriodService.addLink(
@@ -257,7 +248,9 @@ class CurrentPeriodServiceTest {
     @Test
     @DisplayName("Add link - Mongo exception")
     void addLinkMongoException() {
-        when(currentPeriodRepository.findById(RESOURCE_ID)).thenThrow(MongoException.class);
+        when(linkUpdateRepository.setLink(CurrentPeriodEntity.class, RESOURCE_ID,
+                CurrentPeriodLinkType.PROFIT_AND_LOSS.getLink(), CURRENT_PERIOD_PROFIT_AND_LOSS))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class, () ->
                 currentPeriodService.addLink(
@@ -272,7 +265,7 @@ class CurrentPeriodServiceTest {
         when(currentPeriodDataEntity.getLinks()).thenReturn(new HashMap<>());
 
         when(currentPeriodTransformer.transform(currentPeriod)).thenReturn(currentPeriodEntity);
-        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction)).thenReturn(errors);
+        when(currentPeriodValidator.validateCurrentPeriod(currentPeriod, transaction, request)).thenReturn(errors);
         when(currentPeriodRepository.save(any())).thenThrow(new MongoException("ERROR"));
 
         assertThrows(DataException.class, () -> currentPeriodService.update(currentPeriod, transaction, COMPANY_ACCOUNTS_ID, request));
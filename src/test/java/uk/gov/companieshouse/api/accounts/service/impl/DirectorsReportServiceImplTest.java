@@ -20,6 +20,7 @@ import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.Directors
 import uk.gov.companieshouse.api.accounts.model.entity.directorsreport.DirectorsReportEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.DirectorsReport;
 import uk.gov.companieshouse.api.accounts.repository.DirectorsReportRepository;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.DirectorsReportTransformer;
@@ -35,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
@@ -70,6 +72,9 @@ class DirectorsReportServiceImplTest {
     @Mock
     private DirectorsApprovalService directorsApprovalService;
 
+    @Mock
+    private LinkUpdateRepository linkUpdateRepository;
+
     @Mock
     private DirectorsReport directorsReport;
 
@@ -85,9 +90,6 @@ class DirectorsReportServiceImplTest {
     @Mock
     private Map<String, String> links;
 
-    @Mock
-    private Map<String, String> director;
-
     @Mock
     private HttpServletRequest request;
 
@@ -266,15 +268,12 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
-
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getDirectors()).thenReturn(director);
+        when(linkUpdateRepository.unsetEntry(DirectorsReportEntity.class, GENERATED_ID, "directors", DIRECTORS_ID))
+                .thenReturn(true);
 
         assertAll(() -> service.removeDirector(COMPANY_ACCOUNTS_ID, DIRECTORS_ID, request));
 
-        verify(director, times(1)).remove(DIRECTORS_ID);
-        verify(repository, times(1)).save(directorsReportEntity);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -283,16 +282,24 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
+        when(linkUpdateRepository.unsetEntry(DirectorsReportEntity.class, GENERATED_ID, "directors", DIRECTORS_ID))
+                .thenThrow(MongoException.class);
 
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getDirectors()).thenReturn(director);
+        assertThrows(DataException.class,
+                () -> service.removeDirector(COMPANY_ACCOUNTS_ID, DIRECTORS_ID, request));
+    }
 
-        when(repository.save(directorsReportEntity)).thenThrow(MongoException.class);
+    @Test
+    @DisplayName("Tests removal of a director when the directors report is not found")
+    void removeDirectorNotFound() {
+        when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
+                .thenReturn(GENERATED_ID);
 
-        assertThrows(DataException.class, () -> service.removeDirector(COMPANY_ACCOUNTS_ID, DIRECTORS_ID, request));
+        when(linkUpdateRepository.unsetEntry(DirectorsReportEntity.class, GENERATED_ID, "directors", DIRECTORS_ID))
+                .thenReturn(false);
 
-        verify(director, times(1)).remove(DIRECTORS_ID);
+        assertThrows(DataException.class,
+                () -> service.removeDirector(COMPANY_ACCOUNTS_ID, DIRECTORS_ID, request));
     }
 
     @Test
@@ -301,15 +308,27 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
-
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getDirectors()).thenReturn(director);
+        when(linkUpdateRepository.setEntry(
+                DirectorsReportEntity.class, GENERATED_ID, "directors", DIRECTORS_ID, SELF_LINK))
+                .thenReturn(true);
 
         assertAll(() -> service.addDirector(COMPANY_ACCOUNTS_ID, DIRECTORS_ID, SELF_LINK, request));
 
-        verify(repository, times(1)).save(directorsReportEntity);
+        verify(repository, never()).save(any());
+    }
 
+    @Test
+    @DisplayName("Tests creation of a director when the directors report is not found")
+    void addDirectorNotFound() {
+        when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
+                .thenReturn(GENERATED_ID);
+
+        when(linkUpdateRepository.setEntry(
+                DirectorsReportEntity.class, GENERATED_ID, "directors", DIRECTORS_ID, SELF_LINK))
+                .thenReturn(false);
+
+        assertThrows(DataException.class,
+                () -> service.addDirector(COMPANY_ACCOUNTS_ID, DIRECTORS_ID, SELF_LINK, request));
     }
 
     @Test
@@ -318,16 +337,13 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
-
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getLinks()).thenReturn(links);
-
-        DirectorsReportLinkType directorsReportLinkType = DirectorsReportLinkType.SELF;
+        when(linkUpdateRepository.setLink(
+                DirectorsReportEntity.class, GENERATED_ID, DirectorsReportLinkType.SELF.getLink(), SELF_LINK))
+                .thenReturn(true);
 
-        assertAll(() -> service.addLink(COMPANY_ACCOUNTS_ID, directorsReportLinkType, SELF_LINK, request));
+        assertAll(() -> service.addLink(COMPANY_ACCOUNTS_ID, DirectorsReportLinkType.SELF, SELF_LINK, request));
 
-        verify(links, times(1)).put(directorsReportLinkType.getLink(), SELF_LINK);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -336,19 +352,12 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
-
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getLinks()).thenReturn(links);
-
-        when(repository.save(directorsReportEntity)).thenThrow(MongoException.class);
-
-        DirectorsReportLinkType directorsReportLinkType = DirectorsReportLinkType.SELF;
+        when(linkUpdateRepository.setLink(
+                DirectorsReportEntity.class, GENERATED_ID, DirectorsReportLinkType.SELF.getLink(), SELF_LINK))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class,
-                () -> service.addLink(COMPANY_ACCOUNTS_ID, directorsReportLinkType, SELF_LINK, request));
-
-        verify(links, times(1)).put(directorsReportLinkType.getLink(), SELF_LINK);
+                () -> service.addLink(COMPANY_ACCOUNTS_ID, DirectorsReportLinkType.SELF, SELF_LINK, request));
     }
 
     @Test
@@ -357,15 +366,12 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        DirectorsReportEntity directorsReportEntity = null;
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.empty());
-
-        DirectorsReportLinkType directorsReportLinkType = DirectorsReportLinkType.SELF;
+        when(linkUpdateRepository.setLink(
+                DirectorsReportEntity.class, GENERATED_ID, DirectorsReportLinkType.SELF.getLink(), SELF_LINK))
+                .thenReturn(false);
 
         assertThrows(DataException.class,
-                () -> service.addLink(COMPANY_ACCOUNTS_ID, directorsReportLinkType, SELF_LINK, request));
-
-        verify(repository, never()).save(directorsReportEntity);
+                () -> service.addLink(COMPANY_ACCOUNTS_ID, DirectorsReportLinkType.SELF, SELF_LINK, request));
     }
 
     @Test
@@ -374,16 +380,13 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
-
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getLinks()).thenReturn(links);
-
-        DirectorsReportLinkType directorsReportLinkType = DirectorsReportLinkType.SELF;
+        when(linkUpdateRepository.unsetLink(
+                DirectorsReportEntity.class, GENERATED_ID, DirectorsReportLinkType.SELF.getLink()))
+                .thenReturn(true);
 
-        assertAll(() -> service.removeLink(COMPANY_ACCOUNTS_ID, directorsReportLinkType, request));
+        assertAll(() -> service.removeLink(COMPANY_ACCOUNTS_ID, DirectorsReportLinkType.SELF, request));
 
-        verify(links, times(1)).remove(directorsReportLinkType.getLink());
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -392,19 +395,12 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(directorsReportEntity));
-
-        when(directorsReportEntity.getData()).thenReturn(directorsDataEntity);
-        when(directorsDataEntity.getLinks()).thenReturn(links);
-
-        when(repository.save(directorsReportEntity)).thenThrow(MongoException.class);
-
-        DirectorsReportLinkType directorsReportLinkType = DirectorsReportLinkType.SELF;
+        when(linkUpdateRepository.unsetLink(
+                DirectorsReportEntity.class, GENERATED_ID, DirectorsReportLinkType.SELF.getLink()))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class,
-                () -> service.removeLink(COMPANY_ACCOUNTS_ID, directorsReportLinkType, request));
-
-        verify(links, times(1)).remove(directorsReportLinkType.getLink());
+                () -> service.removeLink(COMPANY_ACCOUNTS_ID, DirectorsReportLinkType.SELF, request));
     }
 
     @Test
@@ -413,15 +409,12 @@ class DirectorsReportServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.DIRECTORS_REPORT.getName()))
                 .thenReturn(GENERATED_ID);
 
-        DirectorsReportEntity directorsReportEntity = null;
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.empty());
-
-        DirectorsReportLinkType directorsReportLinkType = DirectorsReportLinkType.SELF;
+        when(linkUpdateRepository.unsetLink(
+                DirectorsReportEntity.class, GENERATED_ID, DirectorsReportLinkType.SELF.getLink()))
+                .thenReturn(false);
 
         assertThrows(DataException.class,
-                () -> service.removeLink(COMPANY_ACCOUNTS_ID, directorsReportLinkType, request));
-
-        verify(repository, never()).save(directorsReportEntity);
+                () -> service.removeLink(COMPANY_ACCOUNTS_ID, DirectorsReportLinkType.SELF, request));
     }
 
     private void assertIdGeneratedForDatabaseEntity() {
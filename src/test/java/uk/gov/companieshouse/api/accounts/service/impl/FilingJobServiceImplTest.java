@@ -0,0 +1,245 @@
+package uk.gov.companieshouse.api.accounts.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.enumeration.FilingJobStatus;
+import uk.gov.companieshouse.api.accounts.model.entity.FilingJobEntity;
+import uk.gov.companieshouse.api.accounts.model.filing.Filing;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.FilingJob;
+import uk.gov.companieshouse.api.accounts.repository.FilingJobClaimRepository;
+import uk.gov.companieshouse.api.accounts.repository.FilingJobRepository;
+import uk.gov.companieshouse.api.accounts.service.FilingService;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class FilingJobServiceImplTest {
+
+    private static final String COMPANY_ACCOUNT_ID = "companyAccountId";
+    private static final String TRANSACTION_ID = "transactionId";
+
+    @Mock
+    private FilingService filingService;
+
+    @Mock
+    private FilingJobRepository filingJobRepository;
+
+    @Mock
+    private FilingJobClaimRepository filingJobClaimRepository;
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private Transaction transaction;
+
+    @Mock
+    private CompanyAccount companyAccount;
+
+    @Mock
+    private Filing filing;
+
+    @Captor
+    private ArgumentCaptor<LocalDateTime> staleBeforeCaptor;
+
+    private FilingJobServiceImpl filingJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(environmentReader.getOptionalInteger(anyString())).thenReturn(null);
+        lenient().when(environmentReader.getOptionalInteger("FILING_JOB_POLL_MILLIS")).thenReturn(1);
+        lenient().when(transaction.getId()).thenReturn(TRANSACTION_ID);
+        filingJobService = new FilingJobServiceImpl(filingService, filingJobRepository, filingJobClaimRepository,
+                environmentReader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filingJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Submit filing job - claimed job runs and completes with the filing")
+    void submitFilingJobComplete() {
+        FilingJobEntity claimedJob = createFilingJobEntity(FilingJobStatus.PENDING, LocalDateTime.now());
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(claimedJob);
+        when(filingService.generateAccountFiling(transaction, companyAccount)).thenReturn(filing);
+
+        FilingJob filingJob = filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        assertEquals(FilingJobStatus.PENDING.getStatus(), filingJob.getStatus());
+        verify(filingJobRepository, timeout(5000).times(2)).save(claimedJob);
+        assertEquals(FilingJobStatus.COMPLETE, claimedJob.getStatus());
+        assertSame(filing, claimedJob.getFiling());
+    }
+
+    @Test
+    @DisplayName("Submit filing job - claimed job fails when no filing is generated")
+    void submitFilingJobFailed() {
+        FilingJobEntity claimedJob = createFilingJobEntity(FilingJobStatus.PENDING, LocalDateTime.now());
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(claimedJob);
+        when(filingService.generateAccountFiling(transaction, companyAccount)).thenReturn(null);
+
+        filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        verify(filingJobRepository, timeout(5000).times(2)).save(claimedJob);
+        assertEquals(FilingJobStatus.FAILED, claimedJob.getStatus());
+        assertNull(claimedJob.getFiling());
+    }
+
+    @Test
+    @DisplayName("Submit filing job - claimed job fails when filing generation throws")
+    void submitFilingJobThrows() {
+        FilingJobEntity claimedJob = createFilingJobEntity(FilingJobStatus.PENDING, LocalDateTime.now());
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(claimedJob);
+        when(filingService.generateAccountFiling(transaction, companyAccount))
+                .thenThrow(new IllegalStateException());
+
+        filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        verify(filingJobRepository, timeout(5000).times(2)).save(claimedJob);
+        assertEquals(FilingJobStatus.FAILED, claimedJob.getStatus());
+    }
+
+    @Test
+    @DisplayName("Submit filing job - a job not claimed is returned rather than run")
+    void submitFilingJobNotClaimed() {
+        FilingJobEntity runningJob = createFilingJobEntity(FilingJobStatus.RUNNING, LocalDateTime.now());
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(null);
+        when(filingJobRepository.findById(COMPANY_ACCOUNT_ID)).thenReturn(Optional.of(runningJob));
+
+        FilingJob filingJob = filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        assertEquals(FilingJobStatus.RUNNING.getStatus(), filingJob.getStatus());
+        verify(filingJobRepository, never()).save(any(FilingJobEntity.class));
+        verify(filingService, never()).generateAccountFiling(any(), any());
+    }
+
+    @Test
+    @DisplayName("Submit filing job - a job resubmitted after completion runs the filing service again")
+    void submitFilingJobAfterCompletion() {
+        FilingJobEntity firstJob = createFilingJobEntity(FilingJobStatus.PENDING, LocalDateTime.now());
+        FilingJobEntity secondJob = createFilingJobEntity(FilingJobStatus.PENDING, LocalDateTime.now());
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(firstJob, secondJob);
+        when(filingService.generateAccountFiling(transaction, companyAccount)).thenReturn(filing);
+
+        filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+        verify(filingJobRepository, timeout(5000).times(2)).save(firstJob);
+        assertEquals(FilingJobStatus.COMPLETE, firstJob.getStatus());
+
+        filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+        verify(filingJobRepository, timeout(5000).times(2)).save(secondJob);
+        assertEquals(FilingJobStatus.COMPLETE, secondJob.getStatus());
+        verify(filingService, times(2)).generateAccountFiling(transaction, companyAccount);
+    }
+
+    @Test
+    @DisplayName("Await filing job - waits for the job to complete")
+    void awaitFilingJobComplete() {
+        FilingJobEntity runningJob = createFilingJobEntity(FilingJobStatus.RUNNING, LocalDateTime.now());
+        FilingJobEntity completeJob = createFilingJobEntity(FilingJobStatus.COMPLETE, LocalDateTime.now());
+        completeJob.setFiling(filing);
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(null);
+        when(filingJobRepository.findById(COMPANY_ACCOUNT_ID))
+                .thenReturn(Optional.of(runningJob), Optional.of(runningJob), Optional.of(completeJob));
+
+        FilingJob filingJob = filingJobService.awaitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        assertEquals(FilingJobStatus.COMPLETE.getStatus(), filingJob.getStatus());
+        assertSame(filing, filingJob.getFilings().get(0));
+        verify(filingJobRepository, times(3)).findById(COMPANY_ACCOUNT_ID);
+    }
+
+    @Test
+    @DisplayName("Await filing job - stops waiting once the wait times out")
+    void awaitFilingJobTimesOut() {
+        when(environmentReader.getOptionalInteger("FILING_JOB_WAIT_MILLIS")).thenReturn(50);
+        when(environmentReader.getOptionalInteger("FILING_JOB_POLL_MILLIS")).thenReturn(10);
+        filingJobService.shutdown();
+        filingJobService = new FilingJobServiceImpl(filingService, filingJobRepository, filingJobClaimRepository,
+                environmentReader);
+
+        FilingJobEntity runningJob = createFilingJobEntity(FilingJobStatus.RUNNING, LocalDateTime.now());
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), any(LocalDateTime.class)))
+                .thenReturn(null);
+        when(filingJobRepository.findById(COMPANY_ACCOUNT_ID)).thenReturn(Optional.of(runningJob));
+
+        FilingJob filingJob = filingJobService.awaitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        assertEquals(FilingJobStatus.RUNNING.getStatus(), filingJob.getStatus());
+    }
+
+    @Test
+    @DisplayName("Submit filing job - jobs unfinished for longer than the stale period may be claimed")
+    void submitFilingJobStaleBefore() {
+        when(filingJobClaimRepository.claim(eq(COMPANY_ACCOUNT_ID), eq(TRANSACTION_ID), staleBeforeCaptor.capture()))
+                .thenReturn(null);
+        when(filingJobRepository.findById(COMPANY_ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        LocalDateTime before = LocalDateTime.now();
+        filingJobService.submitFilingJob(transaction, companyAccount, COMPANY_ACCOUNT_ID);
+
+        assertFalse(staleBeforeCaptor.getValue().isBefore(before.minusMinutes(10)));
+        assertFalse(staleBeforeCaptor.getValue().isAfter(LocalDateTime.now().minusMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("Get filing job - none submitted")
+    void getFilingJobNotFound() {
+        when(filingJobRepository.findById(COMPANY_ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        assertNull(filingJobService.getFilingJob(COMPANY_ACCOUNT_ID));
+    }
+
+    @Test
+    @DisplayName("Get filing job - found")
+    void getFilingJob() {
+        FilingJobEntity completeJob = createFilingJobEntity(FilingJobStatus.COMPLETE, LocalDateTime.now());
+        completeJob.setFiling(filing);
+        when(filingJobRepository.findById(COMPANY_ACCOUNT_ID)).thenReturn(Optional.of(completeJob));
+
+        FilingJob filingJob = filingJobService.getFilingJob(COMPANY_ACCOUNT_ID);
+
+        assertEquals(FilingJobStatus.COMPLETE.getStatus(), filingJob.getStatus());
+        assertSame(filing, filingJob.getFilings().get(0));
+    }
+
+    private FilingJobEntity createFilingJobEntity(FilingJobStatus status, LocalDateTime updatedAt) {
+        FilingJobEntity filingJobEntity = new FilingJobEntity();
+        filingJobEntity.setId(COMPANY_ACCOUNT_ID);
+        filingJobEntity.setStatus(status);
+        filingJobEntity.setCreatedAt(updatedAt);
+        filingJobEntity.setUpdatedAt(updatedAt);
+        return filingJobEntity;
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.api.accounts.service.impl;
 
+import io.opentelemetry.api.OpenTelemetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,30 +11,51 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.accountsdates.AccountsDatesHelper;
 import uk.gov.companieshouse.api.accounts.AccountsType;
+import uk.gov.companieshouse.api.accounts.configuration.ApplicationTracer;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.links.BasicLinkType;
 import uk.gov.companieshouse.api.accounts.links.CompanyAccountLinkType;
+import uk.gov.companieshouse.api.accounts.model.entity.GeneratedFilingEntity;
 import uk.gov.companieshouse.api.accounts.model.filing.Data;
 import uk.gov.companieshouse.api.accounts.model.filing.Filing;
 import uk.gov.companieshouse.api.accounts.model.filing.Link;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.Links;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.repository.GeneratedFilingRepository;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.FilingService;
 import uk.gov.companieshouse.api.accounts.service.TnepValidationService;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
 import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool;
+import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool.FileStreamConsumer;
 import uk.gov.companieshouse.api.accounts.utility.ixbrl.DocumentGeneratorCaller;
+import uk.gov.companieshouse.api.accounts.utility.ixbrl.IxbrlRenderer;
 import uk.gov.companieshouse.api.accounts.validation.ixbrl.DocumentGeneratorResponseValidator;
+import uk.gov.companieshouse.api.accounts.validation.ixbrl.IxbrlPreValidator;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
@@ -44,12 +66,18 @@ import static org.mockito.internal.verification.VerificationModeFactory.times;
 @TestInstance(Lifecycle.PER_CLASS)
 class FilingServiceImplTest {
     private static final String COMPANY_NUMBER = "9999999";
+    private static final String COMPANY_NAME = "TEST COMPANY LIMITED";
+    private static final String COMPANY_TYPE = "ltd";
+    private static final String TEMPLATE_VERSION = "templateVersion";
+    private static final String DOCUMENT_GENERATOR_RENDERER = "document-generator";
     private static final String TRANSACTION_ID = "1234561-1234561-1234561";
     private static final String ACCOUNTS_ID = "1234561";
     private static final String SMALL_FULL_ID = "smallFullId";
     private static final String IXBRL_LOCATION = "http://test/ixbrl_bucket_location";
     private static final String IXBRL_DATA = getIxbrlContent();
+    private static final long IXBRL_LENGTH = IXBRL_DATA.getBytes().length;
     private static final String DISABLE_IXBRL_VALIDATION_ENV_VAR = "DISABLE_IXBRL_VALIDATION";
+    private static final String DISABLE_IXBRL_PRE_VALIDATION_ENV_VAR = "DISABLE_IXBRL_PRE_VALIDATION";
     private static final String ACCOUNTS_SELF_REF = "/transactions/" + TRANSACTION_ID + "/company-accounts/"
             + ACCOUNTS_ID;
 
@@ -77,6 +105,22 @@ class FilingServiceImplTest {
     private FileTransferTool fileTransferToolMock;
     @Mock
     private TnepValidationService tnepValidationServiceMock;
+    @Mock
+    private AccountTreeService accountTreeServiceMock;
+    @Mock
+    private CompanyService companyServiceMock;
+    @Mock
+    private CompanyProfileApi companyProfileMock;
+    @Mock
+    private ContentFingerprinter contentFingerprinterMock;
+    @Mock
+    private GeneratedFilingRepository generatedFilingRepositoryMock;
+    @Mock
+    private AccountTree accountTreeMock;
+    @Mock
+    private IxbrlPreValidator ixbrlPreValidatorMock;
+    @Mock
+    private IxbrlRenderer ixbrlRendererMock;
 
     private static String getIxbrlContent() {
         return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
@@ -94,7 +138,12 @@ class FilingServiceImplTest {
 
         filingService = new FilingServiceImpl(documentGeneratorCallerMock, environmentReaderMock,
                 docGeneratorResponseValidatorMock, accountsDatesHelperMock, fileTransferToolMock,
-                tnepValidationServiceMock);
+                tnepValidationServiceMock, accountTreeServiceMock, companyServiceMock, contentFingerprinterMock,
+                generatedFilingRepositoryMock, ixbrlPreValidatorMock, ixbrlRendererMock,
+                new ApplicationTracer(OpenTelemetry.noop()));
+
+        lenient().when(ixbrlPreValidatorMock.isIxbrlValid(any(InputStream.class), eq(PERIOD_END_ON_VALUE),
+                eq(IXBRL_LOCATION))).thenReturn(true);
     }
 
     @Test
@@ -110,9 +159,10 @@ class FilingServiceImplTest {
 
         doReturn(false).when(environmentReaderMock).getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR);
 
-        when(fileTransferToolMock.downloadFileFromLocation(IXBRL_LOCATION)).thenReturn(IXBRL_DATA);
+        mockStreamFileFromLocation(IXBRL_DATA);
 
-        when(tnepValidationServiceMock.validate(IXBRL_DATA, IXBRL_LOCATION)).thenReturn(true);
+        when(tnepValidationServiceMock.validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION)))
+            .thenReturn(true);
 
         doReturn(PERIOD_END_ON_VALUE_DATE).when(accountsDatesHelperMock).convertStringToDate(PERIOD_END_ON_VALUE);
         doReturn("18 January 2018").when(accountsDatesHelperMock)
@@ -124,6 +174,136 @@ class FilingServiceImplTest {
         verifyFilingData(filing);
     }
 
+    @Test
+    @DisplayName("Tests the filing generation when the ixbrl is rendered in process")
+    void shouldGenerateFilingFromRenderedIxbrl() {
+        documentGeneratorResponse = createDocumentGeneratorResponse();
+
+        when(ixbrlRendererMock.isRenderingEnabled(AccountsType.SMALL_FULL_ACCOUNTS)).thenReturn(true);
+        when(ixbrlRendererMock.renderIxbrl(transaction, companyAccount, AccountsType.SMALL_FULL_ACCOUNTS))
+                .thenReturn(documentGeneratorResponse);
+
+        doReturn(true).when(docGeneratorResponseValidatorMock)
+                .isDocumentGeneratorResponseValid(documentGeneratorResponse);
+        doReturn(false).when(environmentReaderMock).getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR);
+        mockStreamFileFromLocation(IXBRL_DATA);
+        when(tnepValidationServiceMock.validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION)))
+            .thenReturn(true);
+        doReturn(PERIOD_END_ON_VALUE_DATE).when(accountsDatesHelperMock).convertStringToDate(PERIOD_END_ON_VALUE);
+        doReturn("18 January 2018").when(accountsDatesHelperMock)
+                .convertLocalDateToDisplayDate(PERIOD_END_ON_VALUE_DATE);
+
+        Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
+
+        verify(documentGeneratorCallerMock, never()).callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+        verifyTnepValidationServiceMock();
+        verifyFilingData(filing);
+    }
+
+    @Test
+    @DisplayName("Tests the document generator is called when the ixbrl could not be rendered in process")
+    void shouldGenerateFilingWithDocumentGeneratorWhenRenderingFails() {
+        documentGeneratorResponse = createDocumentGeneratorResponse();
+
+        when(ixbrlRendererMock.isRenderingEnabled(AccountsType.SMALL_FULL_ACCOUNTS)).thenReturn(true);
+        when(ixbrlRendererMock.renderIxbrl(transaction, companyAccount, AccountsType.SMALL_FULL_ACCOUNTS))
+                .thenReturn(null);
+
+        doReturn(documentGeneratorResponse).when(documentGeneratorCallerMock)
+                .callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+        doReturn(true).when(docGeneratorResponseValidatorMock)
+                .isDocumentGeneratorResponseValid(documentGeneratorResponse);
+        doReturn(false).when(environmentReaderMock).getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR);
+        mockStreamFileFromLocation(IXBRL_DATA);
+        when(tnepValidationServiceMock.validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION)))
+            .thenReturn(true);
+        doReturn(PERIOD_END_ON_VALUE_DATE).when(accountsDatesHelperMock).convertStringToDate(PERIOD_END_ON_VALUE);
+        doReturn("18 January 2018").when(accountsDatesHelperMock)
+                .convertLocalDateToDisplayDate(PERIOD_END_ON_VALUE_DATE);
+
+        Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
+
+        verifyAllMockCalls();
+        verifyFilingData(filing);
+    }
+
+    @Test
+    @DisplayName("Tests the stored filing is returned when the account content is unchanged")
+    void shouldReturnStoredFilingWhenFingerprintUnchanged() throws Exception {
+        Filing storedFiling = new Filing();
+        GeneratedFilingEntity generatedFiling = new GeneratedFilingEntity();
+        generatedFiling.setFingerprint("fingerprint");
+        generatedFiling.setFiling(storedFiling);
+
+        when(accountTreeServiceMock.getAccountTree(companyAccount)).thenReturn(accountTreeMock);
+        mockCompanyProfile();
+        when(contentFingerprinterMock.fingerprint(createFingerprintContent(DOCUMENT_GENERATOR_RENDERER)))
+                .thenReturn("fingerprint");
+        when(generatedFilingRepositoryMock.findById(ACCOUNTS_SELF_REF)).thenReturn(Optional.of(generatedFiling));
+
+        assertSame(storedFiling, filingService.generateAccountFiling(transaction, companyAccount));
+
+        verify(documentGeneratorCallerMock, never()).callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+    }
+
+    @Test
+    @DisplayName("Tests the fingerprint covers the version of the template the ixbrl is rendered from")
+    void shouldFingerprintRenderedTemplateVersion() throws Exception {
+        when(accountTreeServiceMock.getAccountTree(companyAccount)).thenReturn(accountTreeMock);
+        mockCompanyProfile();
+        when(ixbrlRendererMock.isRenderingEnabled(AccountsType.SMALL_FULL_ACCOUNTS)).thenReturn(true);
+        when(ixbrlRendererMock.getTemplateVersion(AccountsType.SMALL_FULL_ACCOUNTS)).thenReturn(TEMPLATE_VERSION);
+        when(contentFingerprinterMock.fingerprint(createFingerprintContent(TEMPLATE_VERSION)))
+                .thenReturn("fingerprint");
+        when(generatedFilingRepositoryMock.findById(ACCOUNTS_SELF_REF)).thenReturn(Optional.empty());
+
+        filingService.generateAccountFiling(transaction, companyAccount);
+
+        verify(contentFingerprinterMock).fingerprint(createFingerprintContent(TEMPLATE_VERSION));
+    }
+
+    @Test
+    @DisplayName("Tests the filing is not reused when the company profile is unavailable")
+    void shouldNotReuseFilingWhenCompanyProfileUnavailable() throws Exception {
+        when(companyServiceMock.getCompanyProfile(COMPANY_NUMBER)).thenThrow(ServiceException.class);
+
+        filingService.generateAccountFiling(transaction, companyAccount);
+
+        verify(generatedFilingRepositoryMock, never()).findById(ACCOUNTS_SELF_REF);
+        verify(generatedFilingRepositoryMock, never()).save(any(GeneratedFilingEntity.class));
+    }
+
+    @Test
+    @DisplayName("Tests the filing is regenerated and stored when the account content has changed")
+    void shouldGenerateAndStoreFilingWhenFingerprintChanged() throws Exception {
+        GeneratedFilingEntity generatedFiling = new GeneratedFilingEntity();
+        generatedFiling.setFingerprint("previousFingerprint");
+
+        when(accountTreeServiceMock.getAccountTree(companyAccount)).thenReturn(accountTreeMock);
+        mockCompanyProfile();
+        when(contentFingerprinterMock.fingerprint(createFingerprintContent(DOCUMENT_GENERATOR_RENDERER)))
+                .thenReturn("fingerprint");
+        when(generatedFilingRepositoryMock.findById(ACCOUNTS_SELF_REF)).thenReturn(Optional.of(generatedFiling));
+
+        documentGeneratorResponse = createDocumentGeneratorResponse();
+        doReturn(documentGeneratorResponse).when(documentGeneratorCallerMock)
+                .callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+        doReturn(true).when(docGeneratorResponseValidatorMock)
+                .isDocumentGeneratorResponseValid(documentGeneratorResponse);
+        doReturn(false).when(environmentReaderMock).getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR);
+        mockStreamFileFromLocation(IXBRL_DATA);
+        when(tnepValidationServiceMock.validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION)))
+            .thenReturn(true);
+        doReturn(PERIOD_END_ON_VALUE_DATE).when(accountsDatesHelperMock).convertStringToDate(PERIOD_END_ON_VALUE);
+        doReturn("18 January 2018").when(accountsDatesHelperMock)
+                .convertLocalDateToDisplayDate(PERIOD_END_ON_VALUE_DATE);
+
+        Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
+
+        verifyFilingData(filing);
+        verify(generatedFilingRepositoryMock).save(any(GeneratedFilingEntity.class));
+    }
+
     @Test
     @DisplayName("Tests the filing not generated when small full accounts link is not present")
     void shouldNotGenerateFilingAsSmallFullLinkNotPresentWithinAccountData() {
@@ -189,7 +369,7 @@ class FilingServiceImplTest {
 
         doReturn(false).when(environmentReaderMock).getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR);
 
-        when(fileTransferToolMock.downloadFileFromLocation(IXBRL_LOCATION))
+        when(fileTransferToolMock.streamFileFromLocation(eq(IXBRL_LOCATION), any()))
             .thenReturn(null);
 
         Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
@@ -197,7 +377,9 @@ class FilingServiceImplTest {
         verifyDocumentGeneratorCallerMock();
         verifyEnviromentReaderMockForDisableIxbrlVariable();
         verifyDocumentGeneratorResponseValidatorMock();
-        verifyfileTransferToolMock();
+        // Pre-validation is skipped when the ixbrl cannot be read, leaving it to tnep validation
+        verifyfileTransferToolMock(2);
+        verify(ixbrlPreValidatorMock, never()).isIxbrlValid(any(InputStream.class), any(), any());
 
         assertNull(filing);
     }
@@ -215,21 +397,104 @@ class FilingServiceImplTest {
 
         when(environmentReaderMock.getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR)).thenReturn(false);
 
-        when(fileTransferToolMock.downloadFileFromLocation(IXBRL_LOCATION)).thenReturn(IXBRL_DATA);
+        mockStreamFileFromLocation(IXBRL_DATA);
 
-        when(tnepValidationServiceMock.validate(IXBRL_DATA, IXBRL_LOCATION)).thenReturn(false);
+        when(tnepValidationServiceMock.validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION)))
+            .thenReturn(false);
 
         Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
 
         verifyDocumentGeneratorCallerMock();
         verifyEnviromentReaderMockForDisableIxbrlVariable();
         verifyDocumentGeneratorResponseValidatorMock();
-        verifyfileTransferToolMock();
+        verifyfileTransferToolMock(2);
         verifyTnepValidationServiceMock();
 
         assertNull(filing);
     }
 
+    @Test
+    @DisplayName("Tests the filing not generated when the streamed ixbrl is empty")
+    void shouldNotGenerateFilingAsIxbrlIsEmpty() {
+        documentGeneratorResponse = createDocumentGeneratorResponse();
+
+        doReturn(documentGeneratorResponse).when(documentGeneratorCallerMock)
+                .callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+
+        doReturn(true).when(docGeneratorResponseValidatorMock)
+                .isDocumentGeneratorResponseValid(documentGeneratorResponse);
+
+        when(environmentReaderMock.getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR)).thenReturn(false);
+
+        mockStreamFileFromLocation("");
+
+        Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
+
+        verifyfileTransferToolMock(2);
+        verify(tnepValidationServiceMock, never()).validate(any(InputStream.class), anyLong(), any());
+
+        assertNull(filing);
+    }
+
+    @Test
+    @DisplayName("Tests the filing not generated, and tnep not called, when the ixbrl fails pre-validation")
+    void shouldNotGenerateFilingAsIxbrlFailsPreValidation() {
+        documentGeneratorResponse = createDocumentGeneratorResponse();
+
+        doReturn(documentGeneratorResponse).when(documentGeneratorCallerMock)
+                .callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+
+        doReturn(true).when(docGeneratorResponseValidatorMock)
+                .isDocumentGeneratorResponseValid(documentGeneratorResponse);
+
+        when(environmentReaderMock.getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR)).thenReturn(false);
+
+        mockStreamFileFromLocation(IXBRL_DATA);
+
+        when(ixbrlPreValidatorMock.isIxbrlValid(any(InputStream.class), eq(PERIOD_END_ON_VALUE),
+                eq(IXBRL_LOCATION))).thenReturn(false);
+
+        Filing filing = filingService.generateAccountFiling(transaction, companyAccount);
+
+        verifyfileTransferToolMock(1);
+        verify(tnepValidationServiceMock, never()).validate(any(InputStream.class), anyLong(), any());
+
+        assertNull(filing);
+    }
+
+    @Test
+    @DisplayName("Tests the ixbrl is only validated against tnep when pre-validation is disabled")
+    void shouldNotPreValidateIxbrlWhenDisabled() {
+        documentGeneratorResponse = createDocumentGeneratorResponse();
+
+        doReturn(documentGeneratorResponse).when(documentGeneratorCallerMock)
+                .callDocumentGeneratorService(ACCOUNTS_SELF_REF);
+
+        doReturn(true).when(docGeneratorResponseValidatorMock)
+                .isDocumentGeneratorResponseValid(documentGeneratorResponse);
+
+        when(environmentReaderMock.getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR)).thenReturn(false);
+        when(environmentReaderMock.getOptionalBoolean(DISABLE_IXBRL_PRE_VALIDATION_ENV_VAR)).thenReturn(true);
+
+        mockStreamFileFromLocation(IXBRL_DATA);
+
+        when(tnepValidationServiceMock.validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION)))
+            .thenReturn(false);
+
+        filingService.generateAccountFiling(transaction, companyAccount);
+
+        verifyfileTransferToolMock(1);
+        verifyTnepValidationServiceMock();
+        verify(ixbrlPreValidatorMock, never()).isIxbrlValid(any(InputStream.class), any(), any());
+    }
+
+    private void mockStreamFileFromLocation(String ixbrl) {
+        byte[] ixbrlBytes = ixbrl.getBytes();
+        when(fileTransferToolMock.streamFileFromLocation(eq(IXBRL_LOCATION), any()))
+            .thenAnswer(invocation -> invocation.<FileStreamConsumer<?>>getArgument(1)
+                .accept(new ByteArrayInputStream(ixbrlBytes), ixbrlBytes.length));
+    }
+
     /**
      * Verify small full data the data within the filing object is correct
      *
@@ -263,7 +528,7 @@ class FilingServiceImplTest {
         verifyDocumentGeneratorCallerMock();
         verifyEnviromentReaderMockForDisableIxbrlVariable();
         verifyDocumentGeneratorResponseValidatorMock();
-        verifyfileTransferToolMock();
+        verifyfileTransferToolMock(2);
         verifyTnepValidationServiceMock();
         verifyAccountsDatesHelperMock();
     }
@@ -280,13 +545,18 @@ class FilingServiceImplTest {
         verify(environmentReaderMock, times(1)).getOptionalBoolean(DISABLE_IXBRL_VALIDATION_ENV_VAR);
     }
 
-    private void verifyfileTransferToolMock() {
-        verify(fileTransferToolMock, times(1))
-            .downloadFileFromLocation(IXBRL_LOCATION);
+    /**
+     * Verifies the ixbrl is streamed once to be pre-validated, and again to be validated
+     * against TNEP when the pre-validation passes.
+     */
+    private void verifyfileTransferToolMock(int numberOfStreams) {
+        verify(fileTransferToolMock, times(numberOfStreams))
+            .streamFileFromLocation(eq(IXBRL_LOCATION), any());
     }
 
     private void verifyTnepValidationServiceMock() {
-        verify(tnepValidationServiceMock, times(1)).validate(IXBRL_DATA, IXBRL_LOCATION);
+        verify(tnepValidationServiceMock, times(1))
+            .validate(any(InputStream.class), eq(IXBRL_LENGTH), eq(IXBRL_LOCATION));
     }
 
     private void verifyAccountsDatesHelperMock() {
@@ -376,4 +646,20 @@ class FilingServiceImplTest {
         return descriptionValues;
     }
 
-}
\ No newline at end of file
+
+    private void mockCompanyProfile() throws ServiceException {
+        when(companyServiceMock.getCompanyProfile(COMPANY_NUMBER)).thenReturn(companyProfileMock);
+        when(companyProfileMock.getCompanyName()).thenReturn(COMPANY_NAME);
+        when(companyProfileMock.getType()).thenReturn(COMPANY_TYPE);
+    }
+
+    private Map<String, Object> createFingerprintContent(String renderer) {
+        Map<String, Object> content = new HashMap<>();
+        content.put("account_tree", accountTreeMock);
+        content.put("company_number", COMPANY_NUMBER);
+        content.put("company_name", COMPANY_NAME);
+        content.put("company_type", COMPANY_TYPE);
+        content.put("renderer", renderer);
+        return content;
+    }
+}
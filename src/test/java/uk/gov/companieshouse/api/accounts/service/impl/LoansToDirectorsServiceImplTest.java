@@ -19,6 +19,7 @@ import uk.gov.companieshouse.api.accounts.links.SmallFullLinkType;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoansToDirectorsDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.smallfull.notes.loanstodirectors.LoansToDirectorsEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.LoansToDirectors;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.repository.smallfull.LoansToDirectorsRepository;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
@@ -74,9 +75,6 @@ class LoansToDirectorsServiceImplTest {
     @Mock
     private Map<String, String> links;
 
-    @Mock
-    private Map<String, String> loans;
-
     @Mock
     private HttpServletRequest request;
 
@@ -89,6 +87,9 @@ class LoansToDirectorsServiceImplTest {
     @Mock
     private LoansToDirectorsAdditionalInformationService additionalInformationService;
 
+    @Mock
+    private LinkUpdateRepository linkUpdateRepository;
+
     @InjectMocks
     private LoansToDirectorsServiceImpl service;
 
@@ -263,15 +264,12 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLoans()).thenReturn(loans);
+        when(linkUpdateRepository.unsetEntry(LoansToDirectorsEntity.class, GENERATED_ID, "loans", LOAN_ID))
+                .thenReturn(true);
 
         assertAll(() -> service.removeLoan(COMPANY_ACCOUNTS_ID, LOAN_ID, request));
 
-        verify(loans).remove(LOAN_ID);
-        verify(repository).save(loansToDirectorsEntity);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -280,17 +278,11 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLoans()).thenReturn(loans);
-
-        when(repository.save(loansToDirectorsEntity)).thenThrow(MongoException.class);
+        when(linkUpdateRepository.unsetEntry(LoansToDirectorsEntity.class, GENERATED_ID, "loans", LOAN_ID))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class,
                 () -> service.removeLoan(COMPANY_ACCOUNTS_ID, LOAN_ID, request));
-
-        verify(loans).remove(LOAN_ID);
     }
 
     @Test
@@ -299,12 +291,11 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.empty());
+        when(linkUpdateRepository.unsetEntry(LoansToDirectorsEntity.class, GENERATED_ID, "loans", LOAN_ID))
+                .thenReturn(false);
 
         assertThrows(DataException.class,
                 () -> service.removeLoan(COMPANY_ACCOUNTS_ID, LOAN_ID, request));
-
-        verify(repository, never()).save(any());
     }
 
     @Test
@@ -313,15 +304,12 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLoans()).thenReturn(loans);
+        when(linkUpdateRepository.setEntry(LoansToDirectorsEntity.class, GENERATED_ID, "loans", LOAN_ID, SELF_LINK))
+                .thenReturn(true);
 
         assertAll(() -> service.addLoan(COMPANY_ACCOUNTS_ID, LOAN_ID, SELF_LINK, request));
 
-        verify(loans).put(LOAN_ID, SELF_LINK);
-        verify(repository).save(loansToDirectorsEntity);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -330,17 +318,11 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLoans()).thenReturn(loans);
-
-        when(repository.save(loansToDirectorsEntity)).thenThrow(MongoException.class);
+        when(linkUpdateRepository.setEntry(LoansToDirectorsEntity.class, GENERATED_ID, "loans", LOAN_ID, SELF_LINK))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class,
                 () -> service.addLoan(COMPANY_ACCOUNTS_ID, LOAN_ID, SELF_LINK, request));
-
-        verify(loans).put(LOAN_ID, SELF_LINK);
     }
 
     @Test
@@ -349,12 +331,11 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.empty());
+        when(linkUpdateRepository.setEntry(LoansToDirectorsEntity.class, GENERATED_ID, "loans", LOAN_ID, SELF_LINK))
+                .thenReturn(false);
 
         assertThrows(DataException.class,
                 () -> service.addLoan(COMPANY_ACCOUNTS_ID, LOAN_ID, SELF_LINK, request));
-
-        verify(repository, never()).save(any());
     }
 
     @Test
@@ -363,17 +344,13 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLinks()).thenReturn(links);
-
-        LoansToDirectorsLinkType loansToDirectorsLinkType = LoansToDirectorsLinkType.SELF;
+        when(linkUpdateRepository.setLink(
+                LoansToDirectorsEntity.class, GENERATED_ID, LoansToDirectorsLinkType.SELF.getLink(), SELF_LINK))
+                .thenReturn(true);
 
-        assertAll(() -> service.addLink(COMPANY_ACCOUNTS_ID, loansToDirectorsLinkType, SELF_LINK, request));
+        assertAll(() -> service.addLink(COMPANY_ACCOUNTS_ID, LoansToDirectorsLinkType.SELF, SELF_LINK, request));
 
-        verify(links).put(loansToDirectorsLinkType.getLink(), SELF_LINK);
-        verify(repository).save(loansToDirectorsEntity);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -382,19 +359,12 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLinks()).thenReturn(links);
-
-        when(repository.save(loansToDirectorsEntity)).thenThrow(MongoException.class);
-
-        LoansToDirectorsLinkType loansToDirectorsLinkType = LoansToDirectorsLinkType.SELF;
+        when(linkUpdateRepository.setLink(
+                LoansToDirectorsEntity.class, GENERATED_ID, LoansToDirectorsLinkType.SELF.getLink(), SELF_LINK))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class,
-                () -> service.addLink(COMPANY_ACCOUNTS_ID, loansToDirectorsLinkType, SELF_LINK, request));
-
-        verify(links).put(loansToDirectorsLinkType.getLink(), SELF_LINK);
+                () -> service.addLink(COMPANY_ACCOUNTS_ID, LoansToDirectorsLinkType.SELF, SELF_LINK, request));
     }
 
     @Test
@@ -403,14 +373,12 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.empty());
-
-        LoansToDirectorsLinkType loansToDirectorsLinkType = LoansToDirectorsLinkType.SELF;
+        when(linkUpdateRepository.setLink(
+                LoansToDirectorsEntity.class, GENERATED_ID, LoansToDirectorsLinkType.SELF.getLink(), SELF_LINK))
+                .thenReturn(false);
 
         assertThrows(DataException.class,
-                () -> service.addLink(COMPANY_ACCOUNTS_ID, loansToDirectorsLinkType, SELF_LINK, request));
-
-        verify(repository, never()).save(any());
+                () -> service.addLink(COMPANY_ACCOUNTS_ID, LoansToDirectorsLinkType.SELF, SELF_LINK, request));
     }
 
     @Test
@@ -419,17 +387,13 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
+        when(linkUpdateRepository.unsetLink(
+                LoansToDirectorsEntity.class, GENERATED_ID, LoansToDirectorsLinkType.SELF.getLink()))
+                .thenReturn(true);
 
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLinks()).thenReturn(links);
-
-        LoansToDirectorsLinkType loansToDirectorsLinkType = LoansToDirectorsLinkType.SELF;
+        assertAll(() -> service.removeLink(COMPANY_ACCOUNTS_ID, LoansToDirectorsLinkType.SELF, request));
 
-        assertAll(() -> service.removeLink(COMPANY_ACCOUNTS_ID, loansToDirectorsLinkType, request));
-
-        verify(links).remove(loansToDirectorsLinkType.getLink());
-        verify(repository).save(loansToDirectorsEntity);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -438,19 +402,12 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.of(loansToDirectorsEntity));
-
-        when(loansToDirectorsEntity.getData()).thenReturn(loansToDirectorsDataEntity);
-        when(loansToDirectorsDataEntity.getLinks()).thenReturn(links);
-
-        when(repository.save(loansToDirectorsEntity)).thenThrow(MongoException.class);
-
-        LoansToDirectorsLinkType loansToDirectorsLinkType = LoansToDirectorsLinkType.SELF;
+        when(linkUpdateRepository.unsetLink(
+                LoansToDirectorsEntity.class, GENERATED_ID, LoansToDirectorsLinkType.SELF.getLink()))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class,
-                () -> service.removeLink(COMPANY_ACCOUNTS_ID, loansToDirectorsLinkType, request));
-
-        verify(links).remove(loansToDirectorsLinkType.getLink());
+                () -> service.removeLink(COMPANY_ACCOUNTS_ID, LoansToDirectorsLinkType.SELF, request));
     }
 
     @Test
@@ -459,14 +416,12 @@ class LoansToDirectorsServiceImplTest {
         when(keyIdGenerator.generate(COMPANY_ACCOUNTS_ID + "-" + ResourceName.LOANS_TO_DIRECTORS.getName()))
                 .thenReturn(GENERATED_ID);
 
-        when(repository.findById(GENERATED_ID)).thenReturn(Optional.empty());
-
-        LoansToDirectorsLinkType loansToDirectorsLinkType = LoansToDirectorsLinkType.SELF;
+        when(linkUpdateRepository.unsetLink(
+                LoansToDirectorsEntity.class, GENERATED_ID, LoansToDirectorsLinkType.SELF.getLink()))
+                .thenReturn(false);
 
         assertThrows(DataException.class,
-                () -> service.removeLink(COMPANY_ACCOUNTS_ID, loansToDirectorsLinkType, request));
-
-        verify(repository, never()).save(any());
+                () -> service.removeLink(COMPANY_ACCOUNTS_ID, LoansToDirectorsLinkType.SELF, request));
     }
 
     @Test
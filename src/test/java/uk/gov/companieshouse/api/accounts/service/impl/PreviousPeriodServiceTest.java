@@ -20,17 +20,18 @@ import uk.gov.companieshouse.api.accounts.model.entity.PreviousPeriodDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.PreviousPeriodEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.PreviousPeriod;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.repository.PreviousPeriodRepository;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.PreviousPeriodTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
 import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.accounts.validation.PreviousPeriodValidator;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.model.transaction.TransactionLinks;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -40,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -86,10 +88,13 @@ class PreviousPeriodServiceTest {
     private KeyIdGenerator keyIdGenerator;
 
     @Mock
-    private PreviousPeriodDataEntity previousPeriodDataEntity;
+    private RequestEntityCache requestEntityCache;
 
     @Mock
-    private Map<String, String> links;
+    private LinkUpdateRepository linkUpdateRepository;
+
+    @Mock
+    private PreviousPeriodDataEntity previousPeriodDataEntity;
 
     @InjectMocks
     private PreviousPeriodService previousPeriodService;
@@ -109,7 +114,7 @@ class PreviousPeriodServiceTest {
     @DisplayName("Tests the successful creation of a previousPeriod resource")
     void canCreatePreviousPeriod() throws DataException {
         when(previousPeriodTransformer.transform(previousPeriod)).thenReturn(previousPeriodEntity);
-        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction)).thenReturn(errors);
+        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction, request)).thenReturn(errors);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
         when(transactionLinks.getSelf()).thenReturn(SELF_LINK);
@@ -126,7 +131,7 @@ class PreviousPeriodServiceTest {
         doReturn(previousPeriodEntity).when(previousPeriodTransformer).transform(ArgumentMatchers
                 .any(PreviousPeriod.class));
         when(previousPeriodRepository.insert(previousPeriodEntity)).thenThrow(duplicateKeyException);
-        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction)).thenReturn(errors);
+        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction, request)).thenReturn(errors);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
         when(transactionLinks.getSelf()).thenReturn(SELF_LINK);
@@ -143,7 +148,7 @@ class PreviousPeriodServiceTest {
     void createSmallfullMongoExceptionFailure() throws DataException {
         doReturn(previousPeriodEntity).when(previousPeriodTransformer).transform(ArgumentMatchers
             .any(PreviousPeriod.class));
-        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction)).thenReturn(errors);
+        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction, request)).thenReturn(errors);
         when(previousPeriodRepository.insert(previousPeriodEntity)).thenThrow(mongoException);
 
         when(transaction.getLinks()).thenReturn(transactionLinks);
@@ -193,7 +198,7 @@ class PreviousPeriodServiceTest {
         when(previousPeriodDataEntity.getLinks()).thenReturn(new HashMap<>());
 
         when(previousPeriodTransformer.transform(previousPeriod)).thenReturn(previousPeriodEntity);
-        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction)).thenReturn(errors);
+        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction, request)).thenReturn(errors);
 
         ResponseObject<PreviousPeriod> result = previousPeriodService
                 .update(previousPeriod, transaction, COMPANY_ACCOUNTS_ID, request);
@@ -209,7 +214,7 @@ class PreviousPeriodServiceTest {
         when(previousPeriodDataEntity.getLinks()).thenReturn(new HashMap<>());
 
         when(previousPeriodTransformer.transform(previousPeriod)).thenReturn(previousPeriodEntity);
-        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction)).thenReturn(errors);
+        when(previousPeriodValidator.validatePreviousPeriod(previousPeriod, transaction, request)).thenReturn(errors);
         when(previousPeriodRepository.save(any())).thenThrow(new MongoException("ERROR"));
 
         assertThrows(DataException.class,
@@ -219,24 +224,23 @@ class PreviousPeriodServiceTest {
     @Test
     @DisplayName("Add link to current period resource- success")
     void addLinkSuccess() {
-        when(previousPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.of(previousPeriodEntity));
-
-        when(previousPeriodEntity.getData()).thenReturn(previousPeriodDataEntity);
-        when(previousPeriodDataEntity.getLinks()).thenReturn(links);
-
         PreviousPeriodLinkType previousPeriodLinkType = PreviousPeriodLinkType.PROFIT_AND_LOSS;
 
+        when(linkUpdateRepository.setLink(PreviousPeriodEntity.class, RESOURCE_ID,
+                previousPeriodLinkType.getLink(), PREVIOUS_PERIOD_PROFIT_AND_LOSS)).thenReturn(true);
+
         assertAll(() -> previousPeriodService.addLink(
                 COMPANY_ACCOUNTS_ID, previousPeriodLinkType, PREVIOUS_PERIOD_PROFIT_AND_LOSS, request));
 
-        verify(links).put(previousPeriodLinkType.getLink(), PREVIOUS_PERIOD_PROFIT_AND_LOSS);
-        verify(previousPeriodRepository).save(previousPeriodEntity);
+        verify(requestEntityCache).evict(PreviousPeriodEntity.class, RESOURCE_ID);
+        verify(previousPeriodRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Add link - not found")
     void addLinkNotFound() {
-        when(previousPeriodRepository.findById(RESOURCE_ID)).thenReturn(Optional.empty());
+        when(linkUpdateRepository.setLink(PreviousPeriodEntity.class, RESOURCE_ID,
+                PreviousPeriodLinkType.PROFIT_AND_LOSS.getLink(), PREVIOUS_PERIOD_PROFIT_AND_LOSS)).thenReturn(false);
 
         assertThrows(DataException.class, () -> previousPeriodService.addLink(
                 COMPANY_ACCOUNTS_ID, PreviousPeriodLinkType.PROFIT_AND_LOSS, PREVIOUS_PERIOD_PROFIT_AND_LOSS, request));
@@ -245,9 +249,11 @@ class PreviousPeriodServiceTest {
     @Test
     @DisplayName("Add link - Mongo exception")
     void addLinkMongoException() {
-        when(previousPeriodRepository.findById(RESOURCE_ID)).thenThrow(MongoException.class);
+        when(linkUpdateRepository.setLink(PreviousPeriodEntity.class, RESOURCE_ID,
+                PreviousPeriodLinkType.PROFIT_AND_LOSS.getLink(), PREVIOUS_PERIOD_PROFIT_AND_LOSS))
+                .thenThrow(MongoException.class);
 
         assertThrows(DataException.class, () -> previousPeriodService.addLink(
                 COMPANY_ACCOUNTS_ID, PreviousPeriodLinkType.PROFIT_AND_LOSS, PREVIOUS_PERIOD_PROFIT_AND_LOSS, request));
     }
-}
\ No newline at end of file
+}
@@ -92,7 +92,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests successful creation of a related party transactions transaction resource")
     void createRptTransactionSuccess() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transformer.transform(rptTransaction)).thenReturn(rptTransactionEntity);
@@ -120,7 +120,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests the creation of a related party transactions transaction resource where the repository throws a duplicate key exception")
     void createRptTransactionDuplicateKeyException() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transformer.transform(rptTransaction)).thenReturn(rptTransactionEntity);
@@ -139,7 +139,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests the creation of a related party transactions transaction resource where the repository throws a mongo exception")
     void createRptTransactionMongoException() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transformer.transform(rptTransaction)).thenReturn(rptTransactionEntity);
@@ -154,7 +154,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests the creation of a RptTransaction resource where the validator returns errors")
     void createRptTransactionWithValidationErrors() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(true);
 
         ResponseObject<RptTransaction> response =
@@ -243,7 +243,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests successful update of a related party transactions transaction resource")
     void updateRptTransactionSuccess() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(transformer.transform(rptTransaction)).thenReturn(rptTransactionEntity);
@@ -266,7 +266,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests the update of a related party transactions transaction resource where the repository throws a mongo exception")
     void updateRptTransactionMongoException() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(false);
 
         when(request.getRequestURI()).thenReturn(URI);
@@ -282,7 +282,7 @@ class RptTransactionServiceImplTest {
     @Test
     @DisplayName("Tests the update of a RptTransaction resource where the validator returns errors")
     void updateLoanWithValidationErrors() throws DataException {
-        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction)).thenReturn(errors);
+        when(rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request)).thenReturn(errors);
         when(errors.hasErrors()).thenReturn(true);
 
         ResponseObject<RptTransaction> response =
@@ -5,13 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,12 +45,14 @@ import uk.gov.companieshouse.api.accounts.model.entity.SmallFullDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.NextAccounts;
 import uk.gov.companieshouse.api.accounts.model.rest.SmallFull;
+import uk.gov.companieshouse.api.accounts.repository.LinkUpdateRepository;
 import uk.gov.companieshouse.api.accounts.repository.SmallFullRepository;
 import uk.gov.companieshouse.api.accounts.service.CompanyAccountService;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseObject;
 import uk.gov.companieshouse.api.accounts.service.response.ResponseStatus;
 import uk.gov.companieshouse.api.accounts.transformer.SmallFullTransformer;
+import uk.gov.companieshouse.api.accounts.utility.RequestEntityCache;
 import uk.gov.companieshouse.api.accounts.utility.impl.KeyIdGenerator;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.company.account.CompanyAccountApi;
@@ -101,6 +103,12 @@ class SmallFullServiceTest {
     @Mock
     private KeyIdGenerator keyIdGenerator;
 
+    @Mock
+    private RequestEntityCache requestEntityCache;
+
+    @Mock
+    private LinkUpdateRepository linkUpdateRepository;
+
     @Mock
     private CompanyService companyService;
 
@@ -235,42 +243,46 @@ class SmallFullServiceTest {
         assertThrows(DataException.class, executable);
     }
 
+    @Test
+    @DisplayName("Tests the find of a small full resource already read during the request")
+    void findSmallfullFromRequestEntityCache() throws DataException {
+        setUpKeyIdGeneratorStubbing();
+        when(requestEntityCache.get(SmallFullEntity.class, GENERATED_ID)).thenReturn(Optional.of(smallFullEntity));
+        when(smallFullTransformer.transform(smallFullEntity)).thenReturn(smallFull);
+        ResponseObject<SmallFull> result = smallFullService
+                .find(COMPANY_ACCOUNTS_ID, request);
+        assertEquals(smallFull, result.getData());
+        verify(smallFullRepository, never()).findById(anyString());
+    }
+
     @Test
     @DisplayName("Tests the successful removal of a small full link")
     void removeLinkSuccess() {
         setUpKeyIdGeneratorStubbing();
 
-        when(smallFullRepository.findById(GENERATED_ID))
-                .thenReturn(Optional.of(smallFullEntity));
-
-        when(smallFullEntity.getData()).thenReturn(smallFullDataEntity);
-        when(smallFullDataEntity.getLinks()).thenReturn(links);
-
         SmallFullLinkType smallFullLinkType = SmallFullLinkType.TANGIBLE_ASSETS_NOTE;
 
+        when(linkUpdateRepository.unsetLink(SmallFullEntity.class, GENERATED_ID, smallFullLinkType.getLink()))
+                .thenReturn(true);
+
         assertAll(() -> smallFullService.removeLink(COMPANY_ACCOUNTS_ID, smallFullLinkType, request));
 
-        verify(links, times(1)).remove(smallFullLinkType.getLink());
+        verify(requestEntityCache).evict(SmallFullEntity.class, GENERATED_ID);
+        verify(smallFullRepository, never()).save(any(SmallFullEntity.class));
     }
 
     @Test
     @DisplayName("Tests the  removal of a small full link where the repository throws a Mongo exception")
     void removeLinkMongoException() {
         setUpKeyIdGeneratorStubbing();
-        when(smallFullRepository.findById(GENERATED_ID))
-                .thenReturn(Optional.of(smallFullEntity));
-
-        when(smallFullEntity.getData()).thenReturn(smallFullDataEntity);
-        when(smallFullDataEntity.getLinks()).thenReturn(links);
-
-        when(smallFullRepository.save(smallFullEntity)).thenThrow(MongoException.class);
 
         SmallFullLinkType smallFullLinkType = SmallFullLinkType.TANGIBLE_ASSETS_NOTE;
 
+        when(linkUpdateRepository.unsetLink(SmallFullEntity.class, GENERATED_ID, smallFullLinkType.getLink()))
+                .thenThrow(MongoException.class);
+
         assertThrows(DataException.class,
                 () -> smallFullService.removeLink(COMPANY_ACCOUNTS_ID, smallFullLinkType, request));
-
-        verify(links, times(1)).remove(smallFullLinkType.getLink());
     }
 
     @Test
@@ -278,16 +290,42 @@ class SmallFullServiceTest {
     void removeLinkSmallFullEntityNotFound() {
         setUpKeyIdGeneratorStubbing();
 
-        SmallFullEntity smallFullEntity = null;
-        when(smallFullRepository.findById(GENERATED_ID))
-                .thenReturn(Optional.empty());
-
         SmallFullLinkType smallFullLinkType = SmallFullLinkType.TANGIBLE_ASSETS_NOTE;
 
+        when(linkUpdateRepository.unsetLink(SmallFullEntity.class, GENERATED_ID, smallFullLinkType.getLink()))
+                .thenReturn(false);
+
         assertThrows(DataException.class,
                 () -> smallFullService.removeLink(COMPANY_ACCOUNTS_ID, smallFullLinkType, request));
+    }
+
+    @Test
+    @DisplayName("Tests the successful addition of a small full link")
+    void addLinkSuccess() {
+        setUpKeyIdGeneratorStubbing();
+
+        SmallFullLinkType smallFullLinkType = SmallFullLinkType.TANGIBLE_ASSETS_NOTE;
 
-        verify(smallFullRepository, never()).save(smallFullEntity);
+        when(linkUpdateRepository.setLink(SmallFullEntity.class, GENERATED_ID, smallFullLinkType.getLink(), SELF_LINK))
+                .thenReturn(true);
+
+        assertAll(() -> smallFullService.addLink(COMPANY_ACCOUNTS_ID, smallFullLinkType, SELF_LINK, request));
+
+        verify(requestEntityCache).evict(SmallFullEntity.class, GENERATED_ID);
+    }
+
+    @Test
+    @DisplayName("Tests the addition of a small full link where the entity is not found")
+    void addLinkSmallFullEntityNotFound() {
+        setUpKeyIdGeneratorStubbing();
+
+        SmallFullLinkType smallFullLinkType = SmallFullLinkType.TANGIBLE_ASSETS_NOTE;
+
+        when(linkUpdateRepository.setLink(SmallFullEntity.class, GENERATED_ID, smallFullLinkType.getLink(), SELF_LINK))
+                .thenReturn(false);
+
+        assertThrows(DataException.class,
+                () -> smallFullService.addLink(COMPANY_ACCOUNTS_ID, smallFullLinkType, SELF_LINK, request));
     }
 
     @Test
@@ -322,6 +360,7 @@ class SmallFullServiceTest {
 
         verify(smallFullEntity).setId(GENERATED_ID);
         verify(smallFullRepository).save(smallFullEntity);
+        verify(companyAccountService).refreshCompanyFacts(COMPANY_ACCOUNTS_ID, transaction);
     }
 
     @Test
@@ -1,22 +1,37 @@
 package uk.gov.companieshouse.api.accounts.service.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
+import uk.gov.companieshouse.api.accounts.utility.TnepValidationCache;
 import uk.gov.companieshouse.api.accounts.validation.Results;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 
@@ -34,12 +49,22 @@ class TnepValidationServiceImplTest {
     private RestTemplate restTemplateMock;
     @Mock
     private EnvironmentReader environmentReaderMock;
+    @Mock
+    private OutboundCallGuard outboundCallGuardMock;
+    @Mock
+    private TnepValidationCache tnepValidationCacheMock;
+
+    private final ContentFingerprinter contentFingerprinter = new ContentFingerprinter();
 
     private TnepValidationServiceImpl tnepValidationService;
 
     @BeforeEach
     void setup() {
-        tnepValidationService = new TnepValidationServiceImpl(restTemplateMock, environmentReaderMock);
+        lenient().when(outboundCallGuardMock.call(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        tnepValidationService = new TnepValidationServiceImpl(restTemplateMock, environmentReaderMock,
+                outboundCallGuardMock, contentFingerprinter, tnepValidationCacheMock);
     }
 
     @Test
@@ -70,6 +95,86 @@ class TnepValidationServiceImplTest {
         assertFalse(validateIxbrl());
     }
 
+    @Test
+    @DisplayName("Tnep validation of a stream sends the stream as the multipart file")
+    @SuppressWarnings("unchecked")
+    void validationOfStreamSuccess() throws IOException {
+        Results results = new Results();
+        results.setValidationStatus(VALIDATION_STATUS_OK);
+
+        mockEnvironmentReaderGetMandatoryString(ENV_VARIABLE_IXBRL_VALIDATOR_URI_VALUE);
+
+        when(restTemplateMock.postForObject(any(URI.class), any(HttpEntity.class), eq(Results.class)))
+            .thenReturn(results);
+
+        byte[] ixbrlBytes = IXBRL.getBytes(StandardCharsets.UTF_8);
+        assertTrue(tnepValidationService.validate(new ByteArrayInputStream(ixbrlBytes), ixbrlBytes.length,
+            IXBRL_LOCATION));
+
+        ArgumentCaptor<HttpEntity<MultiValueMap<String, Object>>> requestCaptor =
+            ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplateMock).postForObject(any(URI.class), requestCaptor.capture(), eq(Results.class));
+
+        Resource file = (Resource) requestCaptor.getValue().getBody().getFirst("file");
+        assertEquals(IXBRL_LOCATION, file.getFilename());
+        assertEquals(ixbrlBytes.length, file.contentLength());
+
+        verify(tnepValidationCacheMock).putValidationStatus(contentFingerprinter.fingerprint(ixbrlBytes),
+            VALIDATION_STATUS_OK);
+    }
+
+    @Test
+    @DisplayName("Tnep validation is not called when the same content has been validated before")
+    void validationOfCachedContent() {
+        when(tnepValidationCacheMock.getValidationStatus(contentFingerprinter.fingerprint(IXBRL.getBytes(StandardCharsets.UTF_8))))
+            .thenReturn(VALIDATION_STATUS_OK);
+
+        assertTrue(validateIxbrl());
+
+        verify(restTemplateMock, never()).postForObject(any(URI.class), any(HttpEntity.class), eq(Results.class));
+        verify(tnepValidationCacheMock, never()).putValidationStatus(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Tnep validation sends and fingerprints the ixbrl encoded as UTF-8")
+    @SuppressWarnings("unchecked")
+    void validationOfNonAsciiContent() throws IOException {
+        String ixbrl = IXBRL.replace("</body>", "\u00a3</body>");
+        byte[] ixbrlBytes = ixbrl.getBytes(StandardCharsets.UTF_8);
+        Results results = new Results();
+        results.setValidationStatus(VALIDATION_STATUS_OK);
+
+        mockEnvironmentReaderGetMandatoryString(ENV_VARIABLE_IXBRL_VALIDATOR_URI_VALUE);
+
+        when(restTemplateMock.postForObject(any(URI.class), any(HttpEntity.class), eq(Results.class)))
+            .thenReturn(results);
+
+        assertTrue(tnepValidationService.validate(ixbrl, IXBRL_LOCATION));
+
+        ArgumentCaptor<HttpEntity<MultiValueMap<String, Object>>> requestCaptor =
+            ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplateMock).postForObject(any(URI.class), requestCaptor.capture(), eq(Results.class));
+
+        Resource file = (Resource) requestCaptor.getValue().getBody().getFirst("file");
+        assertEquals(ixbrlBytes.length, file.contentLength());
+
+        verify(tnepValidationCacheMock).putValidationStatus(contentFingerprinter.fingerprint(ixbrlBytes),
+            VALIDATION_STATUS_OK);
+    }
+
+    @Test
+    @DisplayName("Tnep validation of a stream is not called when the same content has failed validation before")
+    void validationOfCachedStreamFailure() {
+        byte[] ixbrlBytes = IXBRL.getBytes(StandardCharsets.UTF_8);
+        when(tnepValidationCacheMock.getValidationStatus(contentFingerprinter.fingerprint(ixbrlBytes)))
+            .thenReturn(VALIDATION_STATUS_UNIT_TEST_FAILURE);
+
+        assertFalse(tnepValidationService.validate(new ByteArrayInputStream(ixbrlBytes), ixbrlBytes.length,
+            IXBRL_LOCATION));
+
+        verify(restTemplateMock, never()).postForObject(any(URI.class), any(HttpEntity.class), eq(Results.class));
+    }
+
     @Test
     void validationMissingResponse() {
         mockEnvironmentReaderGetMandatoryString(ENV_VARIABLE_IXBRL_VALIDATOR_URI_VALUE);
@@ -88,6 +193,7 @@ class TnepValidationServiceImplTest {
             .thenThrow(new RestClientException(VALIDATION_STATUS_UNIT_TEST_FAILURE));
 
         assertFalse(validateIxbrl());
+        verify(tnepValidationCacheMock, never()).putValidationStatus(anyString(), anyString());
     }
 
     @Test
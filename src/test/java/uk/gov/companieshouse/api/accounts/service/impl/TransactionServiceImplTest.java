@@ -1,6 +1,8 @@
 package uk.gov.companieshouse.api.accounts.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -13,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.accounts.PayableResource;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
 import uk.gov.companieshouse.api.accounts.service.TransactionService;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -29,6 +32,8 @@ class TransactionServiceImplTest {
     @Mock
     private Transaction transaction;
 
+    private static final String COMPANY_NUMBER = "12345678";
+
     @Test
     @DisplayName("Get payable resources - is CIC")
     void getPayableResourcesForCIC() throws ServiceException {
@@ -48,4 +53,34 @@ class TransactionServiceImplTest {
 
         assertTrue(payableResources.isEmpty());
     }
+
+    @Test
+    @DisplayName("Get payable resources - recorded company facts used without the company profile")
+    void getPayableResourcesRecordedCompanyFacts() throws ServiceException {
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(COMPANY_NUMBER);
+        companyFacts.setCommunityInterestCompany(true);
+
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
+        List<PayableResource> payableResources = transactionService.getPayableResources(transaction, companyFacts);
+
+        assertTrue(payableResources.contains(PayableResource.CIC));
+        verify(companyService, never()).isCIC(transaction);
+    }
+
+    @Test
+    @DisplayName("Get payable resources - company facts recorded for another company ignored")
+    void getPayableResourcesCompanyFactsForOtherCompany() throws ServiceException {
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber("87654321");
+        companyFacts.setCommunityInterestCompany(true);
+
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(companyService.isCIC(transaction)).thenReturn(false);
+
+        List<PayableResource> payableResources = transactionService.getPayableResources(transaction, companyFacts);
+
+        assertTrue(payableResources.isEmpty());
+    }
 }
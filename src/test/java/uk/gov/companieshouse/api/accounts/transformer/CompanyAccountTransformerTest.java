@@ -3,6 +3,7 @@ package uk.gov.companieshouse.api.accounts.transformer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
 
@@ -15,7 +16,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountDataEntity;
 import uk.gov.companieshouse.api.accounts.model.entity.CompanyAccountEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.CompanyFactsEntity;
 import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 
 @ExtendWith(MockitoExtension.class)
 @TestInstance(Lifecycle.PER_CLASS)
@@ -48,4 +51,39 @@ class CompanyAccountTransformerTest {
         assertNull(companyAccount.getKind());
         assertEquals(new HashMap<>(), companyAccount.getLinks());
     }
+
+    @Test
+    @DisplayName("Tests rest to entity account transformer with company facts")
+    void testRestToEntityTransformerWithCompanyFacts() {
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber("12345678");
+        companyFacts.setMultipleYearFiler(true);
+
+        CompanyAccount companyAccount = new CompanyAccount();
+        companyAccount.setCompanyFacts(companyFacts);
+
+        CompanyAccountEntity companyAccountEntity = companyAccountTransformer.transform(companyAccount);
+
+        assertEquals("12345678", companyAccountEntity.getData().getCompanyFacts().getCompanyNumber());
+        assertTrue(companyAccountEntity.getData().getCompanyFacts().isMultipleYearFiler());
+    }
+
+    @Test
+    @DisplayName("Tests entity to rest account transformer with company facts")
+    void testEntityToRestTransformerWithCompanyFacts() {
+        CompanyFactsEntity companyFactsEntity = new CompanyFactsEntity();
+        companyFactsEntity.setCompanyNumber("12345678");
+        companyFactsEntity.setCommunityInterestCompany(true);
+
+        CompanyAccountDataEntity companyAccountDataEntity = new CompanyAccountDataEntity();
+        companyAccountDataEntity.setCompanyFacts(companyFactsEntity);
+
+        CompanyAccountEntity companyAccountEntity = new CompanyAccountEntity();
+        companyAccountEntity.setData(companyAccountDataEntity);
+
+        CompanyAccount companyAccount = companyAccountTransformer.transform(companyAccountEntity);
+
+        assertEquals("12345678", companyAccount.getCompanyFacts().getCompanyNumber());
+        assertTrue(companyAccount.getCompanyFacts().isCommunityInterestCompany());
+    }
 }
@@ -0,0 +1,127 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.utility.CompanyProfileCache.CompanyProfileLoader;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyProfileCacheTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private CompanyProfileLoader companyProfileLoader;
+
+    @Mock
+    private CompanyProfileApi companyProfileApi;
+
+    private MeterRegistry meterRegistry;
+
+    private CompanyProfileCache companyProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (companyProfileCache != null) {
+            companyProfileCache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Get company profile - loaded once while fresh")
+    void getCompanyProfileCached() throws ServiceException {
+        createCompanyProfileCache(60000);
+        when(companyProfileLoader.load()).thenReturn(companyProfileApi);
+
+        assertSame(companyProfileApi, companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader));
+        assertSame(companyProfileApi, companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader));
+
+        verify(companyProfileLoader, times(1)).load();
+        assertEquals(1, meterRegistry.counter("company.profile.cache", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("company.profile.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Get company profile - stale profile served while it is reloaded in the background")
+    void getCompanyProfileStale() throws Exception {
+        createCompanyProfileCache(1);
+        CompanyProfileApi refreshedProfile = new CompanyProfileApi();
+        when(companyProfileLoader.load()).thenReturn(companyProfileApi).thenReturn(refreshedProfile);
+
+        companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader);
+        Thread.sleep(5);
+
+        assertSame(companyProfileApi, companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader));
+        verify(companyProfileLoader, timeout(1000).times(2)).load();
+        assertEquals(1, meterRegistry.counter("company.profile.cache", "result", "stale").count());
+    }
+
+    @Test
+    @DisplayName("Get company profile - caching disabled with a zero ttl")
+    void getCompanyProfileCachingDisabled() throws ServiceException {
+        createCompanyProfileCache(0);
+        when(companyProfileLoader.load()).thenReturn(companyProfileApi);
+
+        companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader);
+        companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader);
+
+        verify(companyProfileLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("Get company profile - reloaded after invalidation")
+    void getCompanyProfileAfterInvalidate() throws ServiceException {
+        createCompanyProfileCache(60000);
+        when(companyProfileLoader.load()).thenReturn(companyProfileApi);
+
+        companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader);
+        companyProfileCache.invalidate(COMPANY_NUMBER);
+        companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader);
+
+        verify(companyProfileLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("Get company profile - failures are not cached")
+    void getCompanyProfileFailureNotCached() throws ServiceException {
+        createCompanyProfileCache(60000);
+        when(companyProfileLoader.load())
+                .thenThrow(new ServiceException(new RuntimeException()))
+                .thenReturn(companyProfileApi);
+
+        assertThrows(ServiceException.class, () -> companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader));
+        assertSame(companyProfileApi, companyProfileCache.get(COMPANY_NUMBER, companyProfileLoader));
+    }
+
+    private void createCompanyProfileCache(int ttlMillis) {
+        when(environmentReader.getOptionalInteger("COMPANY_PROFILE_CACHE_TTL_MILLIS")).thenReturn(ttlMillis);
+        when(environmentReader.getOptionalInteger("COMPANY_PROFILE_CACHE_STALE_MILLIS")).thenReturn(null);
+        when(environmentReader.getOptionalInteger("COMPANY_PROFILE_CACHE_MAX_SIZE")).thenReturn(null);
+        companyProfileCache = new CompanyProfileCache(environmentReader, meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContentFingerprinterTest {
+
+    private final ContentFingerprinter contentFingerprinter = new ContentFingerprinter();
+
+    @Test
+    @DisplayName("Fingerprint - equal content in a different order gives the same fingerprint")
+    void fingerprintIgnoresOrder() {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("total", 100L);
+        content.put("period_end_on", LocalDate.of(2019, 1, 31));
+
+        Map<String, Object> reorderedContent = new LinkedHashMap<>();
+        reorderedContent.put("period_end_on", LocalDate.of(2019, 1, 31));
+        reorderedContent.put("total", 100L);
+
+        assertEquals(contentFingerprinter.fingerprint(content), contentFingerprinter.fingerprint(reorderedContent));
+        assertEquals(64, contentFingerprinter.fingerprint(content).length());
+    }
+
+    @Test
+    @DisplayName("Fingerprint - different content gives a different fingerprint")
+    void fingerprintDiffersForDifferentContent() {
+        assertNotEquals(contentFingerprinter.fingerprint(Map.of("total", 100L)),
+                contentFingerprinter.fingerprint(Map.of("total", 101L)));
+    }
+
+    @Test
+    @DisplayName("Fingerprint - a copied stream gives the same fingerprint as its bytes")
+    void fingerprintStreamMatchesBytes() throws IOException {
+        byte[] content = "<html>ixbrl</html>".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        String fingerprint = contentFingerprinter.fingerprint(new ByteArrayInputStream(content), copy);
+
+        assertEquals(contentFingerprinter.fingerprint(content), fingerprint);
+        assertArrayEquals(content, copy.toByteArray());
+    }
+}
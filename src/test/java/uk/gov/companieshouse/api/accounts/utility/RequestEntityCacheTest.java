@@ -0,0 +1,72 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.accounts.model.entity.CurrentPeriodEntity;
+import uk.gov.companieshouse.api.accounts.model.entity.SmallFullEntity;
+
+class RequestEntityCacheTest {
+
+    private static final String ID = "id";
+
+    private MeterRegistry meterRegistry;
+
+    private RequestEntityCache requestEntityCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestEntityCache = new RequestEntityCache(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Get an entity which has been put - hit")
+    void getCachedEntity() {
+        SmallFullEntity smallFullEntity = new SmallFullEntity();
+        requestEntityCache.put(ID, smallFullEntity);
+
+        assertSame(smallFullEntity, requestEntityCache.get(SmallFullEntity.class, ID).orElse(null));
+        assertEquals(1, meterRegistry.counter("request.entity.cache", "result", "hit").count());
+        assertEquals(0, meterRegistry.counter("request.entity.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Get an entity which has not been put - miss")
+    void getUncachedEntity() {
+        assertFalse(requestEntityCache.get(SmallFullEntity.class, ID).isPresent());
+        assertEquals(0, meterRegistry.counter("request.entity.cache", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("request.entity.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Entities of different types with the same id are held separately")
+    void getEntityOfDifferentType() {
+        requestEntityCache.put(ID, new SmallFullEntity());
+
+        assertFalse(requestEntityCache.get(CurrentPeriodEntity.class, ID).isPresent());
+    }
+
+    @Test
+    @DisplayName("Null entities are not cached")
+    void putNullEntity() {
+        requestEntityCache.put(ID, null);
+
+        assertFalse(requestEntityCache.get(SmallFullEntity.class, ID).isPresent());
+    }
+
+    @Test
+    @DisplayName("Get an entity which has been evicted")
+    void getEvictedEntity() {
+        requestEntityCache.put(ID, new SmallFullEntity());
+        requestEntityCache.evict(SmallFullEntity.class, ID);
+
+        assertFalse(requestEntityCache.get(SmallFullEntity.class, ID).isPresent());
+    }
+}
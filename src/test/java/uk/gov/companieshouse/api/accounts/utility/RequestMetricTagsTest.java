@@ -0,0 +1,57 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.micrometer.core.instrument.Tags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RequestMetricTagsTest {
+
+    private static final String COMPANY_ACCOUNTS_URI = "/transactions/123/company-accounts/456";
+
+    @Test
+    @DisplayName("Tags of a note request hold its account and note type")
+    void noteRequestTags() {
+        assertEquals(tags("small-full", "tangible-assets"),
+                RequestMetricTags.fromUri(COMPANY_ACCOUNTS_URI + "/small-full/notes/tangible-assets"));
+    }
+
+    @Test
+    @DisplayName("Tags of an account request hold no note type")
+    void accountRequestTags() {
+        assertEquals(tags("small-full", "none"),
+                RequestMetricTags.fromUri(COMPANY_ACCOUNTS_URI + "/small-full/current-period"));
+    }
+
+    @Test
+    @DisplayName("Unknown types are not used as tag values")
+    void unknownTypesNotUsed() {
+        assertEquals(tags("none", "none"),
+                RequestMetricTags.fromUri(COMPANY_ACCOUNTS_URI + "/cic-report/notes/not-a-note"));
+    }
+
+    @Test
+    @DisplayName("Tags are held on the request once worked out")
+    void tagsHeldOnRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI(COMPANY_ACCOUNTS_URI + "/small-full/notes/stocks");
+
+        Tags tags = RequestMetricTags.forRequest(request);
+
+        assertEquals(tags("small-full", "stocks"), tags);
+        assertSame(tags, RequestMetricTags.forRequest(request));
+    }
+
+    @Test
+    @DisplayName("Tags outside of a request hold no types")
+    void noRequestTags() {
+        assertEquals(tags("none", "none"), RequestMetricTags.forCurrentRequest());
+    }
+
+    private Tags tags(String accountType, String noteType) {
+        return Tags.of(RequestMetricTags.ACCOUNT_TYPE_TAG, accountType, RequestMetricTags.NOTE_TYPE_TAG, noteType);
+    }
+}
@@ -0,0 +1,160 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.companieshouse.api.accounts.model.entity.TnepValidationResultEntity;
+import uk.gov.companieshouse.api.accounts.repository.TnepValidationResultRepository;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class TnepValidationCacheTest {
+
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String VALIDATION_STATUS = "OK";
+    private static final String FAILED_VALIDATION_STATUS = "FAILED";
+
+    @Mock
+    private TnepValidationResultRepository tnepValidationResultRepository;
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    private MeterRegistry meterRegistry;
+
+    private TnepValidationCache tnepValidationCache;
+
+    @BeforeEach
+    void setUp() {
+        when(environmentReader.getOptionalInteger(anyString())).thenReturn(null);
+
+        meterRegistry = new SimpleMeterRegistry();
+        tnepValidationCache = new TnepValidationCache(tnepValidationResultRepository, environmentReader,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Get validation status - status put in the cache is held in memory and stored")
+    void putValidationStatus() {
+        tnepValidationCache.putValidationStatus(CONTENT_HASH, VALIDATION_STATUS);
+
+        assertEquals(VALIDATION_STATUS, tnepValidationCache.getValidationStatus(CONTENT_HASH));
+
+        ArgumentCaptor<TnepValidationResultEntity> entityCaptor =
+                ArgumentCaptor.forClass(TnepValidationResultEntity.class);
+        verify(tnepValidationResultRepository).save(entityCaptor.capture());
+        assertEquals(CONTENT_HASH, entityCaptor.getValue().getId());
+        assertEquals(VALIDATION_STATUS, entityCaptor.getValue().getValidationStatus());
+        assertEquals(Duration.ofDays(7), Duration.between(entityCaptor.getValue().getCreatedAt(),
+                entityCaptor.getValue().getExpiresAt()));
+        verify(tnepValidationResultRepository, times(0)).findById(anyString());
+        assertEquals(1, getCount("hit"));
+    }
+
+    @Test
+    @DisplayName("Put validation status - failed status is neither held nor stored")
+    void putFailedValidationStatus() {
+        when(tnepValidationResultRepository.findById(CONTENT_HASH)).thenReturn(Optional.empty());
+
+        tnepValidationCache.putValidationStatus(CONTENT_HASH, FAILED_VALIDATION_STATUS);
+
+        assertNull(tnepValidationCache.getValidationStatus(CONTENT_HASH));
+        verify(tnepValidationResultRepository, never()).save(any(TnepValidationResultEntity.class));
+    }
+
+    @Test
+    @DisplayName("Put validation status - not stored when the store ttl is zero")
+    void putValidationStatusStoreDisabled() {
+        when(environmentReader.getOptionalInteger("TNEP_VALIDATION_STORE_TTL_MILLIS")).thenReturn(0);
+        tnepValidationCache = new TnepValidationCache(tnepValidationResultRepository, environmentReader,
+                meterRegistry);
+
+        tnepValidationCache.putValidationStatus(CONTENT_HASH, VALIDATION_STATUS);
+
+        assertEquals(VALIDATION_STATUS, tnepValidationCache.getValidationStatus(CONTENT_HASH));
+        verify(tnepValidationResultRepository, never()).save(any(TnepValidationResultEntity.class));
+    }
+
+    @Test
+    @DisplayName("Get validation status - stored status read once and then held in memory")
+    void getStoredValidationStatus() {
+        TnepValidationResultEntity tnepValidationResult = new TnepValidationResultEntity();
+        tnepValidationResult.setValidationStatus(VALIDATION_STATUS);
+        when(tnepValidationResultRepository.findById(CONTENT_HASH)).thenReturn(Optional.of(tnepValidationResult));
+
+        assertEquals(VALIDATION_STATUS, tnepValidationCache.getValidationStatus(CONTENT_HASH));
+        assertEquals(VALIDATION_STATUS, tnepValidationCache.getValidationStatus(CONTENT_HASH));
+
+        verify(tnepValidationResultRepository, times(1)).findById(CONTENT_HASH);
+        assertEquals(1, getCount("stored"));
+        assertEquals(1, getCount("hit"));
+    }
+
+    @Test
+    @DisplayName("Get validation status - content not validated before")
+    void getValidationStatusMiss() {
+        when(tnepValidationResultRepository.findById(CONTENT_HASH)).thenReturn(Optional.empty());
+
+        assertNull(tnepValidationCache.getValidationStatus(CONTENT_HASH));
+        assertEquals(1, getCount("miss"));
+    }
+
+    @Test
+    @DisplayName("Get validation status - expired or failed stored status treated as a miss")
+    void getStoredValidationStatusNotUsable() {
+        TnepValidationResultEntity expiredResult = new TnepValidationResultEntity();
+        expiredResult.setValidationStatus(VALIDATION_STATUS);
+        expiredResult.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        TnepValidationResultEntity failedResult = new TnepValidationResultEntity();
+        failedResult.setValidationStatus(FAILED_VALIDATION_STATUS);
+        when(tnepValidationResultRepository.findById(CONTENT_HASH))
+                .thenReturn(Optional.of(expiredResult), Optional.of(failedResult));
+
+        assertNull(tnepValidationCache.getValidationStatus(CONTENT_HASH));
+        assertNull(tnepValidationCache.getValidationStatus(CONTENT_HASH));
+        assertEquals(2, getCount("miss"));
+    }
+
+    @Test
+    @DisplayName("Get validation status - failure to read the stored status treated as a miss")
+    void getValidationStatusStoreFailure() {
+        when(tnepValidationResultRepository.findById(CONTENT_HASH))
+                .thenThrow(new DataAccessResourceFailureException("unavailable"));
+
+        assertNull(tnepValidationCache.getValidationStatus(CONTENT_HASH));
+    }
+
+    @Test
+    @DisplayName("Put validation status - failure to store the status still holds it in memory")
+    void putValidationStatusStoreFailure() {
+        when(tnepValidationResultRepository.save(any(TnepValidationResultEntity.class)))
+                .thenThrow(new DataAccessResourceFailureException("unavailable"));
+
+        tnepValidationCache.putValidationStatus(CONTENT_HASH, VALIDATION_STATUS);
+
+        assertEquals(VALIDATION_STATUS, tnepValidationCache.getValidationStatus(CONTENT_HASH));
+    }
+
+    private double getCount(String result) {
+        return meterRegistry.get("tnep.validation.cache").tag("result", result).counter().count();
+    }
+}
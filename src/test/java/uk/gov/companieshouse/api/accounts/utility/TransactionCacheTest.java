@@ -0,0 +1,156 @@
+package uk.gov.companieshouse.api.accounts.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.utility.TransactionCache.TransactionLoader;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCacheTest {
+
+    private static final String TRANSACTION_ID = "transactionId";
+    private static final String IDENTITY = "identity";
+    private static final String OTHER_IDENTITY = "otherIdentity";
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private TransactionLoader transactionLoader;
+
+    @Mock
+    private Transaction transaction;
+
+    @Test
+    @DisplayName("Get transaction - loaded once for the same transaction and identity")
+    void getTransactionCached() throws IOException, URIValidationException {
+        TransactionCache transactionCache = createTransactionCache(60000);
+        when(transactionLoader.load()).thenReturn(transaction);
+
+        assertSame(transaction, transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader));
+        assertSame(transaction, transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader));
+
+        verify(transactionLoader, times(1)).load();
+    }
+
+    @Test
+    @DisplayName("Get transaction - loaded separately for each identity")
+    void getTransactionDifferentIdentity() throws IOException, URIValidationException {
+        TransactionCache transactionCache = createTransactionCache(60000);
+        when(transactionLoader.load()).thenReturn(transaction);
+
+        transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader);
+        transactionCache.get(TRANSACTION_ID, OTHER_IDENTITY, transactionLoader);
+
+        verify(transactionLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("Get transaction - no identity bypasses the cache")
+    void getTransactionNoIdentity() throws IOException, URIValidationException {
+        TransactionCache transactionCache = createTransactionCache(60000);
+        when(transactionLoader.load()).thenReturn(transaction);
+
+        transactionCache.get(TRANSACTION_ID, null, transactionLoader);
+        transactionCache.get(TRANSACTION_ID, null, transactionLoader);
+
+        verify(transactionLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("Get transaction - caching disabled with a zero ttl")
+    void getTransactionCachingDisabled() throws IOException, URIValidationException {
+        TransactionCache transactionCache = createTransactionCache(0);
+        when(transactionLoader.load()).thenReturn(transaction);
+
+        transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader);
+        transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader);
+
+        verify(transactionLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("Get transaction - reloaded after invalidation")
+    void getTransactionAfterInvalidate() throws IOException, URIValidationException {
+        TransactionCache transactionCache = createTransactionCache(60000);
+        when(transactionLoader.load()).thenReturn(transaction);
+
+        transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader);
+        transactionCache.invalidate(TRANSACTION_ID);
+        transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader);
+
+        verify(transactionLoader, times(2)).load();
+    }
+
+    @Test
+    @DisplayName("Get transaction - failures are not cached")
+    void getTransactionFailureNotCached() throws IOException, URIValidationException {
+        TransactionCache transactionCache = createTransactionCache(60000);
+        when(transactionLoader.load()).thenThrow(new IOException()).thenReturn(transaction);
+
+        assertThrows(IOException.class, () -> transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader));
+        assertSame(transaction, transactionCache.get(TRANSACTION_ID, IDENTITY, transactionLoader));
+    }
+
+    @Test
+    @DisplayName("Get transaction - concurrent lookups share a single load")
+    void getTransactionConcurrentLookups() throws Exception {
+        TransactionCache transactionCache = createTransactionCache(60000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        TransactionLoader slowLoader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted waiting to release the load");
+            }
+            return transaction;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Transaction> first = executor.submit(() -> transactionCache.get(TRANSACTION_ID, IDENTITY, slowLoader));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<Transaction> second = executor.submit(() -> transactionCache.get(TRANSACTION_ID, IDENTITY, slowLoader));
+            release.countDown();
+
+            assertSame(transaction, first.get(5, TimeUnit.SECONDS));
+            assertSame(transaction, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TransactionCache createTransactionCache(int ttlMillis) {
+        when(environmentReader.getOptionalInteger("TRANSACTION_CACHE_TTL_MILLIS")).thenReturn(ttlMillis);
+        when(environmentReader.getOptionalInteger("TRANSACTION_CACHE_MAX_SIZE")).thenReturn(null);
+        return new TransactionCache(environmentReader);
+    }
+}
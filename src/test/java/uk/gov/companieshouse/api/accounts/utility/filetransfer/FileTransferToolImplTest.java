@@ -1,18 +1,35 @@
 package uk.gov.companieshouse.api.accounts.utility.filetransfer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
 import org.apache.http.client.methods.HttpGet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,8 +37,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
 
 @ExtendWith(MockitoExtension.class)
 @TestInstance(Lifecycle.PER_CLASS)
@@ -33,6 +52,8 @@ class FileTransferToolImplTest {
     private AmazonS3 amazonS3Mock;
     @Mock
     private S3Object s3ObjectMock;
+    @Mock
+    private OutboundCallGuard outboundCallGuardMock;
 
     private FileTransferTool fileTransferTool;
 
@@ -56,7 +77,12 @@ class FileTransferToolImplTest {
 
     @BeforeEach
     void setBeforeEach() {
-        fileTransferTool = new FileTransferToolImpl(amazonS3Mock);
+        lenient().when(outboundCallGuardMock.callIdempotent(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(outboundCallGuardMock.call(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        fileTransferTool = new FileTransferToolImpl(amazonS3Mock, outboundCallGuardMock);
     }
 
     @Test
@@ -93,6 +119,131 @@ class FileTransferToolImplTest {
         verifyS3ObjectMockCall();
     }
 
+    @Test
+    @DisplayName("File is streamed from location to the consumer successfully")
+    void shouldStreamFileSuccessfully() {
+        when(amazonS3Mock.getObject(any())).thenReturn(s3ObjectMock);
+        when(s3ObjectMock.getObjectContent()).thenReturn(createS3InputStream());
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(IXBRL.getBytes().length);
+        when(s3ObjectMock.getObjectMetadata()).thenReturn(objectMetadata);
+
+        String streamedFile = fileTransferTool.streamFileFromLocation(IXBRL_LOCATION,
+                (content, contentLength) -> contentLength + ":" + new String(content.readAllBytes()));
+
+        assertEquals(IXBRL.getBytes().length + ":" + IXBRL, streamedFile);
+        verifyAmazonS3MockCall();
+        verifyS3ObjectMockCall();
+    }
+
+    @Test
+    @DisplayName("File not streamed. Consumer throws an IOException")
+    void shouldFailToStreamAsConsumerThrowsIOException() {
+        when(amazonS3Mock.getObject(any())).thenReturn(s3ObjectMock);
+        when(s3ObjectMock.getObjectContent()).thenReturn(createS3InputStream());
+        when(s3ObjectMock.getObjectMetadata()).thenReturn(new ObjectMetadata());
+
+        assertNull(fileTransferTool.streamFileFromLocation(IXBRL_LOCATION, (content, contentLength) -> {
+            throw new IOException();
+        }));
+    }
+
+    @Test
+    @DisplayName("File not streamed. Location is not in S3")
+    void shouldFailToStreamAsLocationIsNotInS3() {
+        assertNull(fileTransferTool.streamFileFromLocation("http://test/ixbrl",
+                (content, contentLength) -> contentLength));
+
+        verify(amazonS3Mock, times(0)).getObject(any());
+    }
+
+    @Test
+    @DisplayName("File is streamed to location with a single put")
+    void shouldStreamSmallFileToLocationWithSinglePut() throws IOException {
+        ArgumentCaptor<PutObjectRequest> putObjectRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+        assertTrue(fileTransferTool.streamFileToLocation(IXBRL_LOCATION, "text/html",
+                content -> content.write(IXBRL.getBytes(StandardCharsets.UTF_8))));
+
+        verify(amazonS3Mock).putObject(putObjectRequest.capture());
+        assertEquals("test-bucket_name", putObjectRequest.getValue().getBucketName());
+        assertEquals("accounts/ixbrl-generated-name.html", putObjectRequest.getValue().getKey());
+        assertEquals("text/html", putObjectRequest.getValue().getMetadata().getContentType());
+        assertEquals(IXBRL, new String(putObjectRequest.getValue().getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8));
+        verify(amazonS3Mock, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("File larger than a part is streamed to location with a multipart upload")
+    void shouldStreamLargeFileToLocationWithMultipartUpload() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(amazonS3Mock.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .thenReturn(initiateResult);
+        when(amazonS3Mock.uploadPart(any(UploadPartRequest.class))).thenReturn(new UploadPartResult());
+
+        assertTrue(fileTransferTool.streamFileToLocation(IXBRL_LOCATION, "text/html",
+                content -> content.write(new byte[S3UploadOutputStream.PART_SIZE + 1])));
+
+        ArgumentCaptor<UploadPartRequest> uploadPartRequest = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3Mock, times(2)).uploadPart(uploadPartRequest.capture());
+        assertEquals(S3UploadOutputStream.PART_SIZE, uploadPartRequest.getAllValues().get(0).getPartSize());
+        assertEquals(1, uploadPartRequest.getAllValues().get(1).getPartSize());
+        verify(amazonS3Mock).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(amazonS3Mock, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("File written in small chunks is sent in whole parts as the buffer grows")
+    void shouldStreamFileWrittenInChunksInWholeParts() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(amazonS3Mock.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .thenReturn(initiateResult);
+        when(amazonS3Mock.uploadPart(any(UploadPartRequest.class))).thenReturn(new UploadPartResult());
+
+        byte[] chunk = new byte[S3UploadOutputStream.INITIAL_BUFFER_SIZE / 3];
+        assertTrue(fileTransferTool.streamFileToLocation(IXBRL_LOCATION, "text/html", content -> {
+            for (long written = 0; written <= S3UploadOutputStream.PART_SIZE; written += chunk.length) {
+                content.write(chunk);
+            }
+        }));
+
+        ArgumentCaptor<UploadPartRequest> uploadPartRequest = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3Mock, times(2)).uploadPart(uploadPartRequest.capture());
+        assertEquals(S3UploadOutputStream.PART_SIZE, uploadPartRequest.getAllValues().get(0).getPartSize());
+        verify(amazonS3Mock).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("File not streamed to location. Producer throws an IOException so the upload is aborted")
+    void shouldAbortUploadAsProducerThrowsIOException() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(amazonS3Mock.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .thenReturn(initiateResult);
+        when(amazonS3Mock.uploadPart(any(UploadPartRequest.class))).thenReturn(new UploadPartResult());
+
+        assertFalse(fileTransferTool.streamFileToLocation(IXBRL_LOCATION, "text/html", content -> {
+            content.write(new byte[S3UploadOutputStream.PART_SIZE + 1]);
+            throw new IOException();
+        }));
+
+        verify(amazonS3Mock).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3Mock, never()).completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("File not streamed to location. Location is not in S3")
+    void shouldFailToStreamToLocationAsLocationIsNotInS3() {
+        assertFalse(fileTransferTool.streamFileToLocation("http://test/ixbrl", "text/html",
+                content -> content.write(1)));
+
+        verify(amazonS3Mock, never()).putObject(any(PutObjectRequest.class));
+    }
+
     private S3ObjectInputStream createS3InputStream() {
         InputStream inputStreamResponse = new ByteArrayInputStream(IXBRL.getBytes());
         return new S3ObjectInputStream(inputStreamResponse, new HttpGet());
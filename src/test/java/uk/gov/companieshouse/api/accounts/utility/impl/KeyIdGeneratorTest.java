@@ -1,15 +1,28 @@
 package uk.gov.companieshouse.api.accounts.utility.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.codec.binary.Base64;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -17,6 +30,11 @@ class KeyIdGeneratorTest {
     @InjectMocks
     private KeyIdGenerator keyIdGenerator;
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     @DisplayName("Test generate a Base 64 encoded String")
     void testGenerate() {
@@ -31,4 +49,55 @@ class KeyIdGeneratorTest {
         String value = keyIdGenerator.generateRandom();
         assertNotNull(value);
     }
+
+    @Test
+    @DisplayName("Test generate the same id for a key within and outside of a request")
+    void testGenerateSameIdWithinRequest() {
+        String id = keyIdGenerator.generate("string");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertEquals(id, keyIdGenerator.generate("string"));
+        assertEquals(id, keyIdGenerator.generate("string"));
+        assertNotEquals(id, keyIdGenerator.generate("other"));
+    }
+
+    @Test
+    @DisplayName("Test generate the same id for a key on concurrent threads")
+    void testGenerateConcurrently() throws Exception {
+        String id = keyIdGenerator.generate("string");
+        Callable<String> generate = () -> keyIdGenerator.generate("string");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> ids = executor.invokeAll(
+                    IntStream.range(0, 1000).mapToObj(i -> generate).collect(Collectors.toList()));
+            for (Future<String> generatedId : ids) {
+                assertEquals(id, generatedId.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test generate the same id for a key on concurrent virtual threads")
+    void testGenerateConcurrentlyOnVirtualThreads() throws Exception {
+        String id = keyIdGenerator.generate("string");
+        Callable<String> generate = () -> keyIdGenerator.generate("string");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> ids = executor.invokeAll(
+                    IntStream.range(0, 1000).mapToObj(i -> generate).collect(Collectors.toList()));
+            for (Future<String> generatedId : ids) {
+                assertEquals(id, generatedId.get());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test generate a different random String each time")
+    void testGenerateRandomDiffers() {
+        assertNotEquals(keyIdGenerator.generateRandom(), keyIdGenerator.generateRandom());
+    }
 }
@@ -7,12 +7,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.companieshouse.api.accounts.configuration.OutboundCallGuard;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
 import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.Links;
 import uk.gov.companieshouse.environment.EnvironmentReader;
@@ -50,9 +57,16 @@ class DocumentGeneratorCallerTest {
     @Mock
     private EnvironmentReader environmentReaderMock;
 
+    @Mock
+    private OutboundCallGuard outboundCallGuardMock;
+
     @BeforeEach
     void setUpBeforeEach() {
-        documentGeneratorCaller = new DocumentGeneratorCaller(restTemplateMock, environmentReaderMock);
+        lenient().when(outboundCallGuardMock.call(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        documentGeneratorCaller = new DocumentGeneratorCaller(restTemplateMock, environmentReaderMock,
+            outboundCallGuardMock);
     }
 
     @Test
@@ -114,6 +128,20 @@ class DocumentGeneratorCallerTest {
             () -> documentGeneratorCaller.callDocumentGeneratorService(ACCOUNTS_RESOURCE_URI));
     }
 
+    @Test
+    @DisplayName("Document Generator Caller does not call the Document Generator while its circuit is open. Null returned")
+    void shouldNotCallDocumentGeneratorWhenCallNotPermitted() {
+        doThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test")))
+            .when(outboundCallGuardMock).call(anyString(), any());
+
+        DocumentGeneratorResponse response = documentGeneratorCaller
+            .callDocumentGeneratorService(ACCOUNTS_RESOURCE_URI);
+
+        verify(restTemplateMock, never()).postForEntity(anyString(), any(HttpEntity.class),
+            eq(DocumentGeneratorResponse.class));
+        assertNull(response);
+    }
+
     private void mockTransactionServiceProperties(String apiKeyValue) {
         when(environmentReaderMock.getMandatoryString(anyString())).thenReturn(apiKeyValue);
     }
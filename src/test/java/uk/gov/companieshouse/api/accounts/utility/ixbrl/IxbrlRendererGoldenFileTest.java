@@ -0,0 +1,406 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import uk.gov.companieshouse.api.accounts.AccountsType;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.Approval;
+import uk.gov.companieshouse.api.accounts.model.rest.BalanceSheet;
+import uk.gov.companieshouse.api.accounts.model.rest.CapitalAndReserves;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CurrentAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.CurrentPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.FixedAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.LastAccounts;
+import uk.gov.companieshouse.api.accounts.model.rest.NextAccounts;
+import uk.gov.companieshouse.api.accounts.model.rest.OtherLiabilitiesOrAssets;
+import uk.gov.companieshouse.api.accounts.model.rest.PreviousPeriod;
+import uk.gov.companieshouse.api.accounts.model.rest.RestObject;
+import uk.gov.companieshouse.api.accounts.model.rest.SmallFull;
+import uk.gov.companieshouse.api.accounts.model.rest.Statement;
+import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.Director;
+import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.DirectorsApproval;
+import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.DirectorsReport;
+import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.Secretary;
+import uk.gov.companieshouse.api.accounts.model.rest.directorsreport.Statements;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.accountingpolicies.AccountingPolicies;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.creditorswithinoneyear.CreditorsWithinOneYear;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.Debtors;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.Employees;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.AdditionalInformation;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.Loan;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.LoanBreakdownResource;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.loanstodirectors.LoansToDirectors;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.relatedpartytransactions.RelatedPartyTransactions;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.relatedpartytransactions.RptTransaction;
+import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.relatedpartytransactions.RptTransactionBreakdown;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
+import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool;
+import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool.FileStreamProducer;
+import uk.gov.companieshouse.api.accounts.validation.ixbrl.IxbrlPreValidator;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+/**
+ * Renders a fully populated small full account, held as the REST models the account tree is built
+ * from, for a company registered in each jurisdiction, and compares the ixbrl with the golden files
+ * under {@code ixbrl/document-generator}. The golden files must be the document generator's output
+ * for the same accounts, never the renderer's own, as they are what shows the in process rendering
+ * matches it. Until a golden file has been captured from the document generator, only the
+ * rendering and pre-validation of the ixbrl are checked and the comparison is skipped.
+ */
+@ExtendWith(MockitoExtension.class)
+class IxbrlRendererGoldenFileTest {
+
+    private static final String GOLDEN_FILE_DIRECTORY = "ixbrl/document-generator/";
+
+    private static final String ENGLAND_AND_WALES_COMPANY_NUMBER = "12345678";
+    private static final String SCOTTISH_COMPANY_NUMBER = "SC123456";
+    private static final String NORTHERN_IRISH_COMPANY_NUMBER = "NI123456";
+    private static final String COMPANY_ACCOUNT_SELF_LINK = "/transactions/123-456-789/company-accounts/abc123=";
+    private static final String SMALL_FULL_SELF_LINK = COMPANY_ACCOUNT_SELF_LINK + "/small-full";
+    private static final String NOTES_LINK = SMALL_FULL_SELF_LINK + "/notes/";
+    private static final String DIRECTORS_REPORT_SELF_LINK = SMALL_FULL_SELF_LINK + "/directors-report";
+    private static final String LOANS_TO_DIRECTORS_SELF_LINK = NOTES_LINK + "loans-to-directors";
+    private static final String RELATED_PARTY_TRANSACTIONS_SELF_LINK = NOTES_LINK + "related-party-transactions";
+
+    private static final TypeReference<Map<String, Object>> RESOURCE_TYPE = new TypeReference<>() {};
+
+    /**
+     * Converts the REST models as the account tree service does.
+     */
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private AccountTreeService accountTreeService;
+
+    @Mock
+    private CompanyService companyService;
+
+    @Mock
+    private FileTransferTool fileTransferTool;
+
+    @Mock
+    private Transaction transaction;
+
+    private CompanyAccount companyAccount;
+
+    private AccountTree accountTree;
+
+    @BeforeEach
+    void setUp() {
+        companyAccount = new CompanyAccount();
+        companyAccount.setLinks(Map.of("self", COMPANY_ACCOUNT_SELF_LINK));
+
+        accountTree = new AccountTree();
+        accountTree.setCompanyAccount(companyAccount);
+    }
+
+    @Test
+    @DisplayName("Small full accounts of an English and Welsh company are rendered as by the document generator")
+    void shouldRenderEnglishAndWelshAccountsAsDocumentGenerator() throws DataException, ServiceException, IOException {
+        assertRenderedAsDocumentGenerator(ENGLAND_AND_WALES_COMPANY_NUMBER, "small-full-accounts.html");
+    }
+
+    @Test
+    @DisplayName("Small full accounts of a Scottish company are rendered as by the document generator")
+    void shouldRenderScottishAccountsAsDocumentGenerator() throws DataException, ServiceException, IOException {
+        assertRenderedAsDocumentGenerator(SCOTTISH_COMPANY_NUMBER, "small-full-accounts-scotland.html");
+    }
+
+    @Test
+    @DisplayName("Small full accounts of a Northern Irish company are rendered as by the document generator")
+    void shouldRenderNorthernIrishAccountsAsDocumentGenerator() throws DataException, ServiceException, IOException {
+        assertRenderedAsDocumentGenerator(NORTHERN_IRISH_COMPANY_NUMBER, "small-full-accounts-northern-ireland.html");
+    }
+
+    private void assertRenderedAsDocumentGenerator(String companyNumber, String goldenFileName)
+            throws DataException, ServiceException, IOException {
+        addSmallFull();
+        addBalanceSheetNotes();
+        addDirectorsReport();
+        addLoansToDirectors();
+        addRelatedPartyTransactions();
+
+        String ixbrl = render(companyNumber);
+
+        assertTrue(new IxbrlPreValidator().isIxbrlValid(
+                new ByteArrayInputStream(ixbrl.getBytes(StandardCharsets.UTF_8)), "2019-12-31", goldenFileName));
+
+        ClassPathResource goldenFile = new ClassPathResource(GOLDEN_FILE_DIRECTORY + goldenFileName);
+        assumeTrue(goldenFile.exists(), "The document generator's output for " + goldenFileName
+                + " has not been captured");
+        assertEquals(readGoldenFile(goldenFile), ixbrl);
+    }
+
+    private String render(String companyNumber) throws DataException, ServiceException {
+        when(environmentReader.getOptionalString("IXBRL_RENDERING_ACCOUNT_TYPES")).thenReturn("small-full");
+        when(environmentReader.getOptionalString("IXBRL_RENDERING_LOCATION")).thenReturn("s3://test-bucket/accounts");
+        when(accountTreeService.getAccountTree(companyAccount)).thenReturn(accountTree);
+
+        when(transaction.getCompanyNumber()).thenReturn(companyNumber);
+        CompanyProfileApi companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyName("GOLDEN FILE LIMITED");
+        when(companyService.getCompanyProfile(companyNumber)).thenReturn(companyProfile);
+        when(companyService.isLBG(transaction)).thenReturn(false);
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        when(fileTransferTool.streamFileToLocation(anyString(), eq("text/html"), any())).thenAnswer(invocation -> {
+            invocation.<FileStreamProducer>getArgument(2).writeTo(content);
+            return true;
+        });
+
+        IxbrlRenderer renderer = new IxbrlRenderer(environmentReader, accountTreeService,
+                new SmallFullAccountsModelBuilder(companyService), fileTransferTool, new ContentFingerprinter());
+        DocumentGeneratorResponse response = renderer.renderIxbrl(transaction, companyAccount,
+                AccountsType.SMALL_FULL_ACCOUNTS);
+
+        assertNotNull(response);
+        assertEquals(Map.of("period_end_on", "2019-12-31"), response.getDescriptionValues());
+        return content.toString(StandardCharsets.UTF_8);
+    }
+
+    private String readGoldenFile(ClassPathResource goldenFile) throws IOException {
+        try (InputStream golden = goldenFile.getInputStream()) {
+            return new String(golden.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void addSmallFull() {
+        NextAccounts nextAccounts = new NextAccounts();
+        nextAccounts.setPeriodStartOn(LocalDate.of(2019, 1, 1));
+        nextAccounts.setPeriodEndOn(LocalDate.of(2019, 12, 31));
+
+        LastAccounts lastAccounts = new LastAccounts();
+        lastAccounts.setPeriodStartOn(LocalDate.of(2018, 1, 1));
+        lastAccounts.setPeriodEndOn(LocalDate.of(2018, 12, 31));
+
+        SmallFull smallFull = new SmallFull();
+        smallFull.setNextAccounts(nextAccounts);
+        smallFull.setLastAccounts(lastAccounts);
+        add(SMALL_FULL_SELF_LINK, smallFull);
+
+        CurrentPeriod currentPeriod = new CurrentPeriod();
+        currentPeriod.setBalanceSheet(createBalanceSheet(1));
+        add(SMALL_FULL_SELF_LINK + "/current-period", currentPeriod);
+
+        PreviousPeriod previousPeriod = new PreviousPeriod();
+        previousPeriod.setBalanceSheet(createBalanceSheet(2));
+        add(SMALL_FULL_SELF_LINK + "/previous-period", previousPeriod);
+
+        Map<String, String> legalStatements = new HashMap<>();
+        legalStatements.put("section_477", "The company was entitled to exemption under section 477.");
+        legalStatements.put("audit_not_required_by_members", "The members have not required an audit.");
+        legalStatements.put("directors_responsibility", "The directors acknowledge their responsibilities.");
+        legalStatements.put("small_companies_regime", "Prepared under the small companies regime.");
+        Statement statement = new Statement();
+        statement.setHasAgreedToLegalStatements(true);
+        statement.setLegalStatements(legalStatements);
+        add(SMALL_FULL_SELF_LINK + "/statements", statement);
+
+        Approval approval = new Approval();
+        approval.setName("Jane Director");
+        approval.setDate(LocalDate.of(2020, 3, 1));
+        add(SMALL_FULL_SELF_LINK + "/approval", approval);
+    }
+
+    private BalanceSheet createBalanceSheet(long scale) {
+        FixedAssets fixedAssets = new FixedAssets();
+        fixedAssets.setTangible(1000 * scale);
+        fixedAssets.setTotal(1000 * scale);
+
+        CurrentAssets currentAssets = new CurrentAssets();
+        currentAssets.setDebtors(600 * scale);
+        currentAssets.setCashAtBankAndInHand(400 * scale);
+        currentAssets.setTotal(1000 * scale);
+
+        OtherLiabilitiesOrAssets otherLiabilitiesOrAssets = new OtherLiabilitiesOrAssets();
+        otherLiabilitiesOrAssets.setCreditorsDueWithinOneYear(500 * scale);
+        otherLiabilitiesOrAssets.setNetCurrentAssets(500 * scale);
+        otherLiabilitiesOrAssets.setTotalAssetsLessCurrentLiabilities(1500 * scale);
+        otherLiabilitiesOrAssets.setTotalNetAssets(1500 * scale);
+
+        CapitalAndReserves capitalAndReserves = new CapitalAndReserves();
+        capitalAndReserves.setCalledUpShareCapital(100 * scale);
+        capitalAndReserves.setProfitAndLoss(1400 * scale);
+        capitalAndReserves.setTotalShareholdersFunds(1500 * scale);
+
+        BalanceSheet balanceSheet = new BalanceSheet();
+        balanceSheet.setFixedAssets(fixedAssets);
+        balanceSheet.setCurrentAssets(currentAssets);
+        balanceSheet.setOtherLiabilitiesOrAssets(otherLiabilitiesOrAssets);
+        balanceSheet.setCapitalAndReserves(capitalAndReserves);
+        return balanceSheet;
+    }
+
+    private void addBalanceSheetNotes() {
+        AccountingPolicies accountingPolicies = new AccountingPolicies();
+        accountingPolicies.setBasisOfMeasurementAndPreparation("Prepared under FRS 102 section 1A.");
+        accountingPolicies.setTurnoverPolicy("Turnover is recognised on delivery.");
+        add(NOTES_LINK + "accounting-policies", accountingPolicies);
+
+        var debtorsCurrentPeriod = new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.CurrentPeriod();
+        debtorsCurrentPeriod.setTradeDebtors(450L);
+        debtorsCurrentPeriod.setOtherDebtors(150L);
+        debtorsCurrentPeriod.setTotal(600L);
+        debtorsCurrentPeriod.setDetails("Debtors are due within one year.");
+        var debtorsPreviousPeriod = new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.debtors.PreviousPeriod();
+        debtorsPreviousPeriod.setTradeDebtors(900L);
+        debtorsPreviousPeriod.setOtherDebtors(300L);
+        debtorsPreviousPeriod.setTotal(1200L);
+        Debtors debtors = new Debtors();
+        debtors.setCurrentPeriod(debtorsCurrentPeriod);
+        debtors.setPreviousPeriod(debtorsPreviousPeriod);
+        add(NOTES_LINK + "debtors", debtors);
+
+        var creditorsCurrentPeriod = new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.creditorswithinoneyear.CurrentPeriod();
+        creditorsCurrentPeriod.setTradeCreditors(300L);
+        creditorsCurrentPeriod.setTaxationAndSocialSecurity(200L);
+        creditorsCurrentPeriod.setTotal(500L);
+        var creditorsPreviousPeriod = new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.creditorswithinoneyear.PreviousPeriod();
+        creditorsPreviousPeriod.setTradeCreditors(600L);
+        creditorsPreviousPeriod.setTaxationAndSocialSecurity(400L);
+        creditorsPreviousPeriod.setTotal(1000L);
+        CreditorsWithinOneYear creditorsWithinOneYear = new CreditorsWithinOneYear();
+        creditorsWithinOneYear.setCurrentPeriod(creditorsCurrentPeriod);
+        creditorsWithinOneYear.setPreviousPeriod(creditorsPreviousPeriod);
+        add(NOTES_LINK + "creditors-within-one-year", creditorsWithinOneYear);
+
+        var employeesCurrentPeriod = new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.CurrentPeriod();
+        employeesCurrentPeriod.setAverageNumberOfEmployees(5L);
+        var employeesPreviousPeriod = new uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.PreviousPeriod();
+        employeesPreviousPeriod.setAverageNumberOfEmployees(4L);
+        Employees employees = new Employees();
+        employees.setCurrentPeriod(employeesCurrentPeriod);
+        employees.setPreviousPeriod(employeesPreviousPeriod);
+        add(NOTES_LINK + "employees", employees);
+    }
+
+    private void addDirectorsReport() {
+        DirectorsReport directorsReport = new DirectorsReport();
+        directorsReport.setDirectors(Map.of(
+                "director-1", DIRECTORS_REPORT_SELF_LINK + "/directors/director-1",
+                "director-2", DIRECTORS_REPORT_SELF_LINK + "/directors/director-2"));
+        add(DIRECTORS_REPORT_SELF_LINK, directorsReport);
+
+        Statements statements = new Statements();
+        statements.setPrincipalActivities("The sale of golden files.");
+        statements.setPoliticalAndCharitableDonations("No donations were made.");
+        add(DIRECTORS_REPORT_SELF_LINK + "/statements", statements);
+
+        Director director = new Director();
+        director.setName("Jane Director");
+        add(DIRECTORS_REPORT_SELF_LINK + "/directors/director-1", director);
+
+        Director appointedDirector = new Director();
+        appointedDirector.setName("John Director");
+        appointedDirector.setAppointmentDate(LocalDate.of(2019, 6, 1));
+        add(DIRECTORS_REPORT_SELF_LINK + "/directors/director-2", appointedDirector);
+
+        Secretary secretary = new Secretary();
+        secretary.setName("Sam Secretary");
+        add(DIRECTORS_REPORT_SELF_LINK + "/secretary", secretary);
+
+        DirectorsApproval directorsApproval = new DirectorsApproval();
+        directorsApproval.setName("Jane Director");
+        directorsApproval.setDate(LocalDate.of(2020, 3, 1));
+        add(DIRECTORS_REPORT_SELF_LINK + "/approval", directorsApproval);
+    }
+
+    private void addLoansToDirectors() {
+        LoansToDirectors loansToDirectors = new LoansToDirectors();
+        loansToDirectors.setLoans(Map.of(
+                "loan-1", LOANS_TO_DIRECTORS_SELF_LINK + "/loans/loan-1",
+                "loan-2", LOANS_TO_DIRECTORS_SELF_LINK + "/loans/loan-2"));
+        add(LOANS_TO_DIRECTORS_SELF_LINK, loansToDirectors);
+
+        add(LOANS_TO_DIRECTORS_SELF_LINK + "/loans/loan-1", createLoan("John Director", "Car loan", 100L));
+        add(LOANS_TO_DIRECTORS_SELF_LINK + "/loans/loan-2", createLoan("Jane Director", "Season ticket loan", 50L));
+
+        AdditionalInformation additionalInformation = new AdditionalInformation();
+        additionalInformation.setDetails("The loans are interest free.");
+        add(LOANS_TO_DIRECTORS_SELF_LINK + "/additional-information", additionalInformation);
+    }
+
+    private Loan createLoan(String directorName, String description, long advances) {
+        LoanBreakdownResource breakdown = new LoanBreakdownResource();
+        breakdown.setBalanceAtPeriodStart(0L);
+        breakdown.setAdvancesCreditsMade(advances);
+        breakdown.setAdvancesCreditsRepaid(advances / 2);
+        breakdown.setBalanceAtPeriodEnd(advances - advances / 2);
+
+        Loan loan = new Loan();
+        loan.setDirectorName(directorName);
+        loan.setDescription(description);
+        loan.setBreakdown(breakdown);
+        return loan;
+    }
+
+    /**
+     * The bundled template has no related party transactions note, so these are read into the
+     * account tree but not rendered, as with the document generator's copy of the template.
+     */
+    private void addRelatedPartyTransactions() {
+        RelatedPartyTransactions relatedPartyTransactions = new RelatedPartyTransactions();
+        relatedPartyTransactions.setTransactions(Map.of(
+                "transaction-1", RELATED_PARTY_TRANSACTIONS_SELF_LINK + "/transactions/transaction-1"));
+        add(RELATED_PARTY_TRANSACTIONS_SELF_LINK, relatedPartyTransactions);
+
+        RptTransactionBreakdown breakdown = new RptTransactionBreakdown();
+        breakdown.setBalanceAtPeriodStart(0L);
+        breakdown.setBalanceAtPeriodEnd(250L);
+
+        RptTransaction rptTransaction = new RptTransaction();
+        rptTransaction.setNameOfRelatedParty("Golden Holdings Limited");
+        rptTransaction.setRelationship("Parent company");
+        rptTransaction.setDescriptionOfTransaction("Management charges");
+        rptTransaction.setTransactionType("Money given to the company by a related party");
+        rptTransaction.setBreakdown(breakdown);
+        add(RELATED_PARTY_TRANSACTIONS_SELF_LINK + "/transactions/transaction-1", rptTransaction);
+    }
+
+    private void add(String selfLink, RestObject resource) {
+        resource.setLinks(Map.of("self", selfLink));
+        resource.setEtag("etag");
+        resource.setKind("kind");
+        accountTree.getResources().put(selfLink, objectMapper.convertValue(resource, RESOURCE_TYPE));
+    }
+}
@@ -0,0 +1,165 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.AccountsType;
+import uk.gov.companieshouse.api.accounts.exception.DataException;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.ixbrl.documentgenerator.DocumentGeneratorResponse;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.service.AccountTreeService;
+import uk.gov.companieshouse.api.accounts.utility.ContentFingerprinter;
+import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool;
+import uk.gov.companieshouse.api.accounts.utility.filetransfer.FileTransferTool.FileStreamProducer;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.environment.EnvironmentReader;
+
+@ExtendWith(MockitoExtension.class)
+class IxbrlRendererTest {
+
+    private static final String ACCOUNT_TYPES_ENV_VAR = "IXBRL_RENDERING_ACCOUNT_TYPES";
+    private static final String LOCATION_ENV_VAR = "IXBRL_RENDERING_LOCATION";
+    private static final String LOCATION = "s3://test-bucket/accounts";
+    private static final LocalDate PERIOD_END_ON = LocalDate.of(2019, 12, 31);
+
+    @Mock
+    private EnvironmentReader environmentReader;
+
+    @Mock
+    private AccountTreeService accountTreeService;
+
+    @Mock
+    private SmallFullAccountsModelBuilder smallFullAccountsModelBuilder;
+
+    @Mock
+    private FileTransferTool fileTransferTool;
+
+    @Mock
+    private Transaction transaction;
+
+    private CompanyAccount companyAccount;
+
+    private AccountTree accountTree;
+
+    @BeforeEach
+    void setUp() {
+        companyAccount = new CompanyAccount();
+        companyAccount.setLinks(Map.of("self", "/transactions/123/company-accounts/456"));
+        accountTree = new AccountTree();
+    }
+
+    @Test
+    @DisplayName("Rendering is disabled when no account types are set")
+    void shouldNotRenderWhenAccountTypesAreNotSet() {
+        when(environmentReader.getOptionalString(ACCOUNT_TYPES_ENV_VAR)).thenReturn(null);
+
+        assertFalse(createRenderer().isRenderingEnabled(AccountsType.SMALL_FULL_ACCOUNTS));
+    }
+
+    @Test
+    @DisplayName("Rendering is disabled when no location is set")
+    void shouldNotRenderWhenLocationIsNotSet() {
+        when(environmentReader.getOptionalString(ACCOUNT_TYPES_ENV_VAR)).thenReturn("small-full");
+        when(environmentReader.getOptionalString(LOCATION_ENV_VAR)).thenReturn(null);
+
+        assertFalse(createRenderer().isRenderingEnabled(AccountsType.SMALL_FULL_ACCOUNTS));
+    }
+
+    @Test
+    @DisplayName("Rendering is only enabled for account types with a bundled template")
+    void shouldOnlyRenderAccountTypesWithTemplate() {
+        mockRenderingEnabled("small-full, abridged");
+
+        IxbrlRenderer renderer = createRenderer();
+
+        assertTrue(renderer.isRenderingEnabled(AccountsType.SMALL_FULL_ACCOUNTS));
+        assertFalse(renderer.isRenderingEnabled(AccountsType.ABRIDGED_ACCOUNTS));
+        assertEquals(64, renderer.getTemplateVersion(AccountsType.SMALL_FULL_ACCOUNTS).length());
+        assertNull(renderer.getTemplateVersion(AccountsType.ABRIDGED_ACCOUNTS));
+    }
+
+    @Test
+    @DisplayName("Small full accounts are rendered and streamed to the location")
+    void shouldRenderSmallFullAccounts() throws DataException, ServiceException {
+        mockRenderingEnabled("small-full");
+        when(accountTreeService.getAccountTree(companyAccount)).thenReturn(accountTree);
+        when(smallFullAccountsModelBuilder.getPeriodEndOn(accountTree)).thenReturn(PERIOD_END_ON);
+        when(smallFullAccountsModelBuilder.buildModel(transaction, accountTree)).thenReturn(
+                Map.of(SmallFullAccountsModelBuilder.SMALL_FULL_ACCOUNTS,
+                        Map.of("company", Map.of("company_name", "COMPANY LTD"))));
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        when(fileTransferTool.streamFileToLocation(anyString(), eq("text/html"), any())).thenAnswer(invocation -> {
+            invocation.<FileStreamProducer>getArgument(2).writeTo(content);
+            return true;
+        });
+
+        DocumentGeneratorResponse response = createRenderer()
+                .renderIxbrl(transaction, companyAccount, AccountsType.SMALL_FULL_ACCOUNTS);
+
+        ArgumentCaptor<String> location = ArgumentCaptor.forClass(String.class);
+        verify(fileTransferTool).streamFileToLocation(location.capture(), eq("text/html"), any());
+        assertTrue(location.getValue().startsWith(LOCATION + "/small-full-"));
+        assertTrue(location.getValue().endsWith(".html"));
+        assertTrue(content.toString(StandardCharsets.UTF_8).contains("COMPANY LTD"));
+
+        assertEquals(location.getValue(), response.getLinks().getLocation());
+        assertEquals("Small full accounts made up to {period_end_on}", response.getDescription());
+        assertEquals("small-full-accounts", response.getDescriptionIdentifier());
+        assertEquals(Map.of("period_end_on", "2019-12-31"), response.getDescriptionValues());
+    }
+
+    @Test
+    @DisplayName("Nothing is returned when the rendered ixbrl is not stored")
+    void shouldReturnNullWhenIxbrlIsNotStored() throws DataException, ServiceException {
+        mockRenderingEnabled("small-full");
+        when(accountTreeService.getAccountTree(companyAccount)).thenReturn(accountTree);
+        when(smallFullAccountsModelBuilder.getPeriodEndOn(accountTree)).thenReturn(PERIOD_END_ON);
+        when(smallFullAccountsModelBuilder.buildModel(transaction, accountTree)).thenReturn(Map.of());
+        when(fileTransferTool.streamFileToLocation(anyString(), eq("text/html"), any())).thenReturn(false);
+
+        assertNull(createRenderer().renderIxbrl(transaction, companyAccount, AccountsType.SMALL_FULL_ACCOUNTS));
+    }
+
+    @Test
+    @DisplayName("Nothing is rendered when the account tree cannot be read")
+    void shouldReturnNullWhenAccountTreeIsNotRead() throws DataException {
+        mockRenderingEnabled("small-full");
+        when(accountTreeService.getAccountTree(companyAccount)).thenThrow(DataException.class);
+
+        assertNull(createRenderer().renderIxbrl(transaction, companyAccount, AccountsType.SMALL_FULL_ACCOUNTS));
+
+        verify(fileTransferTool, never()).streamFileToLocation(anyString(), anyString(), any());
+    }
+
+    private void mockRenderingEnabled(String accountTypes) {
+        when(environmentReader.getOptionalString(ACCOUNT_TYPES_ENV_VAR)).thenReturn(accountTypes);
+        when(environmentReader.getOptionalString(LOCATION_ENV_VAR)).thenReturn(LOCATION);
+    }
+
+    private IxbrlRenderer createRenderer() {
+        return new IxbrlRenderer(environmentReader, accountTreeService, smallFullAccountsModelBuilder,
+                fileTransferTool, new ContentFingerprinter());
+    }
+}
@@ -0,0 +1,217 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.AccountTree;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
+import uk.gov.companieshouse.api.accounts.service.CompanyService;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SmallFullAccountsModelBuilderTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final String COMPANY_ACCOUNT_LINK = "/transactions/123/company-accounts/456";
+    private static final String SMALL_FULL_LINK = COMPANY_ACCOUNT_LINK + "/small-full";
+
+    @Mock
+    private CompanyService companyService;
+
+    private SmallFullAccountsModelBuilder modelBuilder;
+
+    private Transaction transaction;
+
+    private AccountTree accountTree;
+
+    @BeforeEach
+    void setUp() {
+        modelBuilder = new SmallFullAccountsModelBuilder(companyService);
+
+        transaction = new Transaction();
+        transaction.setCompanyNumber(COMPANY_NUMBER);
+
+        CompanyAccount companyAccount = new CompanyAccount();
+        companyAccount.setLinks(Map.of("self", COMPANY_ACCOUNT_LINK));
+
+        accountTree = new AccountTree();
+        accountTree.setCompanyAccount(companyAccount);
+        accountTree.getResources().put(SMALL_FULL_LINK, Map.of(
+                "next_accounts", Map.of("period_start_on", "2019-01-01",
+                        "period_end_on", "2019-12-31"),
+                "last_accounts", Map.of("period_start_on", "2018-01-01",
+                        "period_end_on", "2018-12-31")));
+    }
+
+    @Test
+    @DisplayName("The company and period are built with the dates formatted for display")
+    void shouldBuildCompanyAndPeriod() throws ServiceException {
+        mockCompanyProfile();
+
+        Map<String, Object> smallFullAccounts = buildSmallFullAccounts();
+
+        Map<String, Object> company = getMap(smallFullAccounts, "company");
+        assertEquals("COMPANY LTD", company.get("company_name"));
+        assertEquals(COMPANY_NUMBER, company.get("company_number"));
+        assertEquals(false, company.get("is_lbg"));
+
+        Map<String, Object> period = getMap(smallFullAccounts, "period");
+        assertEquals("2019-12-31", period.get("current_period_end_on"));
+        assertEquals("1 January 2019", period.get("current_period_start_on_formatted"));
+        assertEquals("31 December 2018", period.get("previous_period_end_on_formatted"));
+    }
+
+    @Test
+    @DisplayName("Whether the company is limited by guarantee is taken from the recorded company facts")
+    void shouldBuildCompanyFromRecordedCompanyFacts() throws ServiceException {
+        CompanyProfileApi companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyName("COMPANY LTD");
+        when(companyService.getCompanyProfile(COMPANY_NUMBER)).thenReturn(companyProfile);
+
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(COMPANY_NUMBER);
+        companyFacts.setLimitedByGuarantee(true);
+        accountTree.getCompanyAccount().setCompanyFacts(companyFacts);
+
+        Map<String, Object> company = getMap(buildSmallFullAccounts(), "company");
+
+        assertEquals(true, company.get("is_lbg"));
+        verify(companyService, never()).isLBG(transaction);
+    }
+
+    @Test
+    @DisplayName("The balance sheet figures of both periods are paired")
+    void shouldPairBalanceSheetFigures() throws ServiceException {
+        mockCompanyProfile();
+        accountTree.getResources().put(SMALL_FULL_LINK + "/current-period", Map.of("balance_sheet", Map.of(
+                "fixed_assets", Map.of("tangible", 100L, "total", 100L),
+                "other_liabilities_or_assets", Map.of("creditors_due_within_one_year", 20L, "total_net_assets", -50L),
+                "capital_and_reserves", Map.of("total_shareholders_funds", -50L))));
+        accountTree.getResources().put(SMALL_FULL_LINK + "/previous-period", Map.of("balance_sheet", Map.of(
+                "fixed_assets", Map.of("tangible", 90L, "total", 90L))));
+
+        Map<String, Object> balanceSheet = getMap(buildSmallFullAccounts(), "balance_sheet");
+
+        Map<String, Object> fixedAssets = getMap(balanceSheet, "fixed_assets");
+        assertEquals(Map.of("current_amount", 100L, "previous_amount", 90L), fixedAssets.get("tangible"));
+        assertEquals(100L, fixedAssets.get("current_total"));
+        assertEquals(90L, fixedAssets.get("previous_total"));
+
+        Map<String, Object> otherLiabilitiesOrAssets = getMap(balanceSheet, "other_liabilities_or_assets");
+        assertEquals(Map.of("current_amount", 20L),
+                otherLiabilitiesOrAssets.get("creditors_amounts_falling_due_within_one_year"));
+        assertEquals(-50L, otherLiabilitiesOrAssets.get("current_total_net_assets"));
+
+        assertEquals(Map.of("current_amount", -50L),
+                getMap(balanceSheet, "capital_and_reserve").get("total_share_holders_fund"));
+    }
+
+    @Test
+    @DisplayName("The tangible assets note is turned to be read by row")
+    void shouldBuildTangibleAssetsNoteByRow() throws ServiceException {
+        mockCompanyProfile();
+        accountTree.getResources().put(SMALL_FULL_LINK + "/notes/tangible-assets", Map.of(
+                "land_and_buildings", Map.of("cost", Map.of("additions", 10L),
+                        "net_book_value_at_end_of_current_period", 30L),
+                "total", Map.of("cost", Map.of("additions", 10L)),
+                "additional_information", "information"));
+
+        Map<String, Object> tangibleAssets = getMap(getMap(buildSmallFullAccounts(), "balance_sheet_notes"),
+                "tangible_assets");
+
+        Map<String, Object> cost = getMap(tangibleAssets, "cost");
+        assertEquals(Map.of("land_and_buildings", 10L, "total", 10L), cost.get("additions"));
+        assertEquals(30L, getMap(getMap(tangibleAssets, "net_book_value"), "current_period").get("land_and_buildings"));
+        assertEquals("information", tangibleAssets.get("additional_information"));
+    }
+
+    @Test
+    @DisplayName("Directors are indexed, and loans refer to their director by index")
+    void shouldIndexDirectorsAndLoans() throws ServiceException {
+        mockCompanyProfile();
+        String directorsReport = SMALL_FULL_LINK + "/directors-report";
+        String loansToDirectors = SMALL_FULL_LINK + "/notes/loans-to-directors";
+        accountTree.getResources().put(directorsReport, Map.of());
+        accountTree.getResources().put(directorsReport + "/directors/1", Map.of("name", "Director One",
+                "resignation_date", "2019-06-30"));
+        accountTree.getResources().put(directorsReport + "/directors/2", Map.of("name", "Director Two"));
+        accountTree.getResources().put(directorsReport + "/approval", Map.of("name", "Director Two",
+                "date", "2020-01-15"));
+        accountTree.getResources().put(loansToDirectors, Map.of());
+        accountTree.getResources().put(loansToDirectors + "/loans/1", Map.of("director_name", "Director Two",
+                "description", "loan", "breakdown", Map.of("balance_at_period_end", 5L)));
+
+        Map<String, Object> smallFullAccounts = buildSmallFullAccounts();
+
+        Map<String, Object> report = getMap(smallFullAccounts, "directors_report");
+        List<Map<String, Object>> sortedDirectors = (List<Map<String, Object>>) report.get("sorted_directors");
+        assertEquals(2, sortedDirectors.size());
+        assertEquals("30 June 2019", sortedDirectors.get(0).get("resignation_date_formatted"));
+        assertEquals(List.of(Map.of("index", 2L, "name", "Director Two")), sortedDirectors.get(1).get("directors"));
+
+        Map<String, Object> approval = getMap(report, "approval");
+        assertEquals(2L, approval.get("director_index"));
+        assertEquals("15 January 2020", approval.get("date"));
+        assertEquals(false, approval.get("is_secretary"));
+
+        List<Map<String, Object>> loans = (List<Map<String, Object>>) getMap(
+                getMap(smallFullAccounts, "balance_sheet_notes"), "loans_to_directors").get("loans");
+        assertEquals(2L, loans.get(0).get("director_index"));
+        assertEquals(1L, loans.get(0).get("director_loan_index"));
+        assertEquals(5L, loans.get(0).get("balance_at_period_end"));
+    }
+
+    @Test
+    @DisplayName("Sections without resources are left out")
+    void shouldLeaveOutMissingSections() throws ServiceException {
+        mockCompanyProfile();
+
+        Map<String, Object> model = modelBuilder.buildModel(transaction, accountTree);
+        Map<String, Object> smallFullAccounts = getMap(model, SmallFullAccountsModelBuilder.SMALL_FULL_ACCOUNTS);
+
+        assertFalse(smallFullAccounts.containsKey("profit_and_loss"));
+        assertFalse(smallFullAccounts.containsKey("directors_report"));
+        assertFalse(smallFullAccounts.containsKey("additional_notes"));
+        assertNull(model.get(SmallFullAccountsModelBuilder.CIC_REPORT));
+    }
+
+    @Test
+    @DisplayName("The period end is read from the small full accounts")
+    void shouldGetPeriodEndOn() {
+        assertEquals(LocalDate.of(2019, 12, 31), modelBuilder.getPeriodEndOn(accountTree));
+    }
+
+    private void mockCompanyProfile() throws ServiceException {
+        CompanyProfileApi companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyName("COMPANY LTD");
+        when(companyService.getCompanyProfile(COMPANY_NUMBER)).thenReturn(companyProfile);
+        when(companyService.isLBG(transaction)).thenReturn(false);
+    }
+
+    private Map<String, Object> buildSmallFullAccounts() throws ServiceException {
+        return getMap(modelBuilder.buildModel(transaction, accountTree), SmallFullAccountsModelBuilder.SMALL_FULL_ACCOUNTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMap(Map<String, Object> map, String key) {
+        return (Map<String, Object>) map.get(key);
+    }
+}
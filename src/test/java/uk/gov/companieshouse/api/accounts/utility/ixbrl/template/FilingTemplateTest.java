@@ -0,0 +1,123 @@
+package uk.gov.companieshouse.api.accounts.utility.ixbrl.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.accounts.exception.TemplateException;
+
+class FilingTemplateTest {
+
+    private static final Map<String, Object> DATA = Map.of(
+            "company", Map.of("company_name", "A & B <LTD>", "company_number", "SC123456", "balance", -1234567L),
+            "directors", List.of(Map.of("name", "one"), Map.of("name", "two")));
+
+    @Test
+    @DisplayName("Fields are written with html escaped")
+    void shouldWriteEscapedFields() throws IOException {
+        assertEquals("Name: A &amp; B &lt;LTD&gt;", render("Name: {{.company.company_name}}"));
+    }
+
+    @Test
+    @DisplayName("Trim markers remove the white space around an action")
+    void shouldTrimWhiteSpace() throws IOException {
+        assertEquals("xSC123456y", render("x  {{- .company.company_number -}}  y"));
+    }
+
+    @Test
+    @DisplayName("Range binds the index and element, and renders else when there is nothing to range over")
+    void shouldRangeOverList() throws IOException {
+        assertEquals("0=one,1=two,empty", render(
+                "{{range $i, $e := .directors}}{{$i}}={{$e.name}},{{end}}{{range .missing}}no{{else}}empty{{end}}"));
+    }
+
+    @Test
+    @DisplayName("If renders the first branch whose condition is true")
+    void shouldRenderElseIf() throws IOException {
+        assertEquals("two", render("{{if gt .company.missing 0.0}}bad{{else if eq (len .directors) 2}}two{{end}}"));
+    }
+
+    @Test
+    @DisplayName("Negative amounts are written as a magnitude within brackets")
+    void shouldFormatNegativeAmount() throws IOException {
+        assertEquals("(1,234,567)", render(
+                "{{if $v := .company.balance}}{{emitIfNegative $v \"(\"}}{{getMagnitudeFormatted $v}}{{emitIfNegative $v \")\"}}{{end}}"));
+    }
+
+    @Test
+    @DisplayName("Declarations within a pipeline are visible after it")
+    void shouldDeclareVariablesWithinPipeline() throws IOException {
+        assertEquals("-1234567 Director1_CY", render(
+                "{{if isNotEmpty ($p := .company.balance) ($q := .company.missing)}}{{$p}}{{end}} "
+                        + "{{printf \"%s%s%s\" \"Director\" (getMagnitudeFormatted 1.0) \"_CY\"}}"));
+    }
+
+    @Test
+    @DisplayName("A two pass template can write a value before the point where it is set")
+    void shouldWriteValueSetLaterInTwoPassTemplate() throws IOException {
+        assertEquals("1", render(
+                "{{doTwoPass}}{{getValue \"note\"}}{{setValue \"count\" 0}}{{incValue \"count\"}}{{setValue \"note\" (getValue \"count\")}}"));
+    }
+
+    @Test
+    @DisplayName("Jurisdiction is derived from the company number prefix")
+    void shouldGetJurisdiction() throws IOException {
+        assertEquals("Scotland", render("{{getJurisdiction .company.company_number}}"));
+    }
+
+    @Test
+    @DisplayName("A template calling an unknown function is not parsed")
+    void shouldNotParseUnknownFunction() {
+        TemplateException exception = assertThrows(TemplateException.class,
+                () -> FilingTemplate.parse("test", "line\n{{unknown .company}}"));
+
+        assertTrue(exception.getMessage().startsWith("test:2:"));
+    }
+
+    @Test
+    @DisplayName("A template with an unterminated action is not parsed")
+    void shouldNotParseUnterminatedIf() {
+        assertThrows(TemplateException.class, () -> FilingTemplate.parse("test", "{{if .company}}text"));
+    }
+
+    @Test
+    @DisplayName("Rendering fails when a field is read from a value that is not a map")
+    void shouldFailToReadFieldOfString() {
+        FilingTemplate template = FilingTemplate.parse("test", "{{.company.company_name.first}}");
+
+        TemplateException exception = assertThrows(TemplateException.class,
+                () -> template.render(DATA, new StringWriter()));
+
+        assertTrue(exception.getMessage().startsWith("test: "));
+    }
+
+    @Test
+    @DisplayName("The bundled small full accounts template is parsed and rendered")
+    void shouldRenderBundledTemplate() throws IOException {
+        FilingTemplate template;
+        try (InputStream text = getClass().getResourceAsStream("/filing/templates/small-full-accounts.html")) {
+            template = FilingTemplate.parse("small-full-accounts.html", text);
+        }
+
+        StringWriter writer = new StringWriter();
+        template.render(Map.of("small_full_accounts", Map.of("company", DATA.get("company"))), writer);
+
+        assertTrue(writer.toString().startsWith("<?xml"));
+        assertTrue(writer.toString().contains("A &amp; B &lt;LTD&gt;"));
+        assertFalse(writer.toString().contains("{{"));
+    }
+
+    private String render(String text) throws IOException {
+        StringWriter writer = new StringWriter();
+        FilingTemplate.parse("test", text).render(DATA, writer);
+        return writer.toString();
+    }
+}
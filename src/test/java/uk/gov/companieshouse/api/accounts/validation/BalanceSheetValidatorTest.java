@@ -3,8 +3,11 @@ package uk.gov.companieshouse.api.accounts.validation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -13,10 +16,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
 import uk.gov.companieshouse.api.accounts.model.rest.BalanceSheet;
 import uk.gov.companieshouse.api.accounts.model.rest.CapitalAndReserves;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.rest.CurrentAssets;
 import uk.gov.companieshouse.api.accounts.model.rest.FixedAssets;
 import uk.gov.companieshouse.api.accounts.model.rest.MembersFunds;
@@ -32,12 +38,17 @@ class BalanceSheetValidatorTest {
     @Mock
     private CompanyService companyService;
 
+    @Mock
+    private HttpServletRequest request;
+
     @InjectMocks
     private BalanceSheetValidator validator;
 
     @Mock
     private Transaction transaction;
 
+    private static final String COMPANY_NUMBER = "12345678";
+
     private static final String PERIOD_PATH = "periodPath";
     private static final String BALANCE_SHEET_PATH = PERIOD_PATH + ".balance_sheet";
     private static final String CALLED_UP_SHARE_CAPITAL_NOT_PAID_PATH = BALANCE_SHEET_PATH + ".called_up_share_capital_not_paid";
@@ -110,7 +121,7 @@ class BalanceSheetValidatorTest {
         when(companyService.isLBG(transaction)).thenReturn(false);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertFalse(errors.hasErrors());
     }
@@ -154,7 +165,7 @@ class BalanceSheetValidatorTest {
         when(companyService.isLBG(transaction)).thenReturn(true);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertFalse(errors.hasErrors());
     }
@@ -203,7 +214,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, UNEXPECTED_DATA_KEY, UNEXPECTED_DATA);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -249,7 +260,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, UNEXPECTED_DATA_KEY, UNEXPECTED_DATA);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -296,7 +307,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, UNEXPECTED_DATA_KEY, UNEXPECTED_DATA);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -345,7 +356,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -390,7 +401,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -439,7 +450,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -484,7 +495,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -533,7 +544,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -578,7 +589,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -627,7 +638,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -672,7 +683,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -721,7 +732,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -766,7 +777,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -815,7 +826,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -864,7 +875,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, SHAREHOLDERS_FUNDS_MISMATCH_KEY, SHAREHOLDERS_FUNDS_MISMATCH);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -905,7 +916,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, MANDATORY_ELEMENT_MISSING_KEY, MANDATORY_ELEMENT_MISSING);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -950,7 +961,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -995,7 +1006,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, MEMBERS_FUNDS_MISMATCH_KEY, MEMBERS_FUNDS_MISMATCH);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -1035,7 +1046,7 @@ class BalanceSheetValidatorTest {
         ReflectionTestUtils.setField(validator, MANDATORY_ELEMENT_MISSING_KEY, MANDATORY_ELEMENT_MISSING);
 
         Errors errors = new Errors();
-        validator.validateBalanceSheet(balanceSheet, transaction, PERIOD_PATH, errors);
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -1046,4 +1057,35 @@ class BalanceSheetValidatorTest {
         return new Error(error, path, LocationType.JSON_PATH.getValue(),
                 ErrorType.VALIDATION.getType());
     }
+
+    @Test
+    @DisplayName("Validate balance sheet - uses the company facts recorded on the company account")
+    void validateBalanceSheetWithRecordedCompanyFacts() throws ServiceException, DataException {
+        BalanceSheet balanceSheet = new BalanceSheet();
+        balanceSheet.setCapitalAndReserves(new CapitalAndReserves());
+
+        MembersFunds membersFunds = new MembersFunds();
+        membersFunds.setProfitAndLossAccount(1L);
+        membersFunds.setTotalMembersFunds(1L);
+        balanceSheet.setMembersFunds(membersFunds);
+
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(COMPANY_NUMBER);
+        companyFacts.setLimitedByGuarantee(true);
+        CompanyAccount companyAccount = new CompanyAccount();
+        companyAccount.setCompanyFacts(companyFacts);
+
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(companyAccount);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        ReflectionTestUtils.setField(validator, UNEXPECTED_DATA_KEY, UNEXPECTED_DATA);
+        ReflectionTestUtils.setField(validator, INCORRECT_TOTAL_KEY, INCORRECT_TOTAL);
+        ReflectionTestUtils.setField(validator, MEMBERS_FUNDS_MISMATCH_KEY, MEMBERS_FUNDS_MISMATCH);
+        ReflectionTestUtils.setField(validator, MANDATORY_ELEMENT_MISSING_KEY, MANDATORY_ELEMENT_MISSING);
+
+        Errors errors = new Errors();
+        validator.validateBalanceSheet(balanceSheet, transaction, request, PERIOD_PATH, errors);
+
+        assertTrue(errors.containsError(createError(UNEXPECTED_DATA, CAPITAL_AND_RESERVES_PATH)));
+        verify(companyService, never()).isLBG(transaction);
+    }
 }
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,8 +18,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.validation.Error;
 import uk.gov.companieshouse.api.accounts.model.validation.Errors;
 import uk.gov.companieshouse.api.accounts.service.CompanyService;
@@ -28,6 +34,9 @@ class CicReportValidatorTest {
     @Mock
     private Transaction transaction;
 
+    @Mock
+    private HttpServletRequest request;
+
     @Mock
     private CompanyService companyService;
 
@@ -35,6 +44,8 @@ class CicReportValidatorTest {
 
     private static final String CIC_REPORT_PATH = "$.cic_report";
 
+    private static final String COMPANY_NUMBER = "12345678";
+
     private static final String UNEXPECTED_DATA_NAME = "unexpectedData";
     private static final String UNEXPECTED_DATA_VALUE = "unexpected.data";
 
@@ -48,9 +59,27 @@ class CicReportValidatorTest {
     void validateCicReportCreationForCICCompany() throws ServiceException, DataException {
         when(companyService.isCIC(transaction)).thenReturn(true);
 
-        Errors errors = validator.validateCicReportCreation(transaction);
+        Errors errors = validator.validateCicReportCreation(transaction, request);
+
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    @DisplayName("Validate cic report creation - uses the company facts recorded on the company account")
+    void validateCicReportCreationWithRecordedCompanyFacts() throws ServiceException, DataException {
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(COMPANY_NUMBER);
+        companyFacts.setCommunityInterestCompany(true);
+        CompanyAccount companyAccount = new CompanyAccount();
+        companyAccount.setCompanyFacts(companyFacts);
+
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(companyAccount);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
+        Errors errors = validator.validateCicReportCreation(transaction, request);
 
         assertFalse(errors.hasErrors());
+        verify(companyService, never()).isCIC(transaction);
     }
 
     @Test
@@ -59,7 +88,7 @@ class CicReportValidatorTest {
         when(companyService.isCIC(transaction)).thenReturn(false);
         ReflectionTestUtils.setField(validator, UNEXPECTED_DATA_NAME, UNEXPECTED_DATA_VALUE);
 
-        Errors errors = validator.validateCicReportCreation(transaction);
+        Errors errors = validator.validateCicReportCreation(transaction, request);
 
         assertTrue(errors.hasErrors());
         assertEquals(1, errors.getErrorCount());
@@ -71,7 +100,7 @@ class CicReportValidatorTest {
     void validateCicReportCreationServiceException() throws ServiceException {
         when(companyService.isCIC(transaction)).thenThrow(ServiceException.class);
 
-        assertThrows(DataException.class, () -> validator.validateCicReportCreation(transaction));
+        assertThrows(DataException.class, () -> validator.validateCicReportCreation(transaction, request));
     }
 
     private Error createError() {
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +27,9 @@ class CurrentPeriodValidatorTest {
     @Mock
     private BalanceSheetValidator balanceSheetValidator;
 
+    @Mock
+    private HttpServletRequest request;
+
     @InjectMocks
     private CurrentPeriodValidator validator;
 
@@ -45,10 +49,10 @@ class CurrentPeriodValidatorTest {
     void validateCurrentPeriod() throws DataException {
         when(currentPeriod.getBalanceSheet()).thenReturn(balanceSheet);
 
-        Errors errors = validator.validateCurrentPeriod(currentPeriod, transaction);
+        Errors errors = validator.validateCurrentPeriod(currentPeriod, transaction, request);
 
         assertNotNull(errors);
-        verify(balanceSheetValidator).validateBalanceSheet(eq(balanceSheet), eq(transaction), eq(PERIOD_PATH),
+        verify(balanceSheetValidator).validateBalanceSheet(eq(balanceSheet), eq(transaction), eq(request), eq(PERIOD_PATH),
                 any(Errors.class));
     }
 }
\ No newline at end of file
@@ -9,9 +9,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.companieshouse.api.accounts.AttributeName;
 import uk.gov.companieshouse.api.accounts.enumeration.AccountingNoteType;
 import uk.gov.companieshouse.api.accounts.exception.DataException;
 import uk.gov.companieshouse.api.accounts.exception.ServiceException;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyAccount;
+import uk.gov.companieshouse.api.accounts.model.rest.CompanyFacts;
 import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.CurrentPeriod;
 import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.Employees;
 import uk.gov.companieshouse.api.accounts.model.rest.smallfull.notes.employees.PreviousPeriod;
@@ -24,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +46,7 @@ class EmployeesValidatorTest {
     private static final String EMPLOYEES_CURRENT_PERIOD_PATH_AVERAGE_EMPLOYEES = EMPLOYEES_PATH +  ".current_period.average_number_of_employees";
     
     private static final String COMPANY_ACCOUNTS_ID = "companyAccountsId";
+    private static final String COMPANY_NUMBER = "12345678";
 
     @Mock
     private CompanyService companyService;
@@ -65,6 +71,27 @@ class EmployeesValidatorTest {
         validator = new EmployeesValidator(companyService);
     }
 
+    @Test
+    @DisplayName("Note validation uses the company facts recorded on the company account")
+    void testValidationWithRecordedCompanyFacts() throws DataException, ServiceException {
+        createValidNoteCurrentPeriod();
+        createValidNotePreviousPeriod();
+
+        CompanyFacts companyFacts = new CompanyFacts();
+        companyFacts.setCompanyNumber(COMPANY_NUMBER);
+        companyFacts.setMultipleYearFiler(true);
+        CompanyAccount companyAccount = new CompanyAccount();
+        companyAccount.setCompanyFacts(companyFacts);
+
+        when(request.getAttribute(AttributeName.COMPANY_ACCOUNT.getValue())).thenReturn(companyAccount);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
+        errors = validator.validateSubmission(employees, transaction, COMPANY_ACCOUNTS_ID, request);
+
+        assertFalse(errors.hasErrors());
+        verify(companyService, never()).isMultipleYearFiler(transaction);
+    }
+
     @Test
     @DisplayName("Note validation with valid note for first year filer")
     void testSuccessfulFirstYearNoteValidation() throws DataException, ServiceException {
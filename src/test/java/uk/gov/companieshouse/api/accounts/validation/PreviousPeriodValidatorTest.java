@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,9 @@ class PreviousPeriodValidatorTest {
     @Mock
     private CompanyService companyService;
 
+    @Mock
+    private HttpServletRequest request;
+
     @Mock
     private BalanceSheetValidator balanceSheetValidator;
 
@@ -63,11 +67,11 @@ class PreviousPeriodValidatorTest {
 
         when(previousPeriod.getBalanceSheet()).thenReturn(balanceSheet);
 
-        Errors errors = validator.validatePreviousPeriod(previousPeriod, transaction);
+        Errors errors = validator.validatePreviousPeriod(previousPeriod, transaction, request);
 
         assertNotNull(errors);
         verify(balanceSheetValidator)
-                .validateBalanceSheet(eq(balanceSheet), eq(transaction), eq(PERIOD_PATH), any(Errors.class));
+                .validateBalanceSheet(eq(balanceSheet), eq(transaction), eq(request), eq(PERIOD_PATH), any(Errors.class));
     }
 
     @Test
@@ -77,7 +81,7 @@ class PreviousPeriodValidatorTest {
 
         ReflectionTestUtils.setField(validator, UNEXPECTED_DATA_KEY, UNEXPECTED_DATA);
 
-        Errors errors = validator.validatePreviousPeriod(previousPeriod, transaction);
+        Errors errors = validator.validatePreviousPeriod(previousPeriod, transaction, request);
 
         assertNotNull(errors);
         assertTrue(errors.hasErrors());
@@ -85,7 +89,7 @@ class PreviousPeriodValidatorTest {
         assertTrue(errors.containsError(createError()));
 
         verify(balanceSheetValidator, never())
-                .validateBalanceSheet(any(BalanceSheet.class), eq(transaction), eq(PERIOD_PATH), any(Errors.class));
+                .validateBalanceSheet(any(BalanceSheet.class), eq(transaction), eq(request), eq(PERIOD_PATH), any(Errors.class));
     }
 
     @Test
@@ -93,7 +97,7 @@ class PreviousPeriodValidatorTest {
     void validatePreviousPeriodServiceException() throws ServiceException {
         when(companyService.isMultipleYearFiler(transaction)).thenThrow(ServiceException.class);
 
-        assertThrows(DataException.class, () -> validator.validatePreviousPeriod(previousPeriod, transaction));
+        assertThrows(DataException.class, () -> validator.validatePreviousPeriod(previousPeriod, transaction, request));
     }
 
     private Error createError() {
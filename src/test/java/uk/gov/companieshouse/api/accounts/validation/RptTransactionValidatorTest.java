@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.api.accounts.validation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class RptTransactionValidatorTest {
     @Mock
     private Transaction transaction;
 
+    @Mock
+    private HttpServletRequest request;
+
     @Mock
     private Errors errors;
 
@@ -68,7 +72,7 @@ class RptTransactionValidatorTest {
 
         when(companyService.isMultipleYearFiler(transaction)).thenReturn(false);
 
-        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction);
+        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request);
 
         assertFalse(errors.hasErrors());
     }
@@ -85,7 +89,7 @@ class RptTransactionValidatorTest {
 
         when(companyService.isMultipleYearFiler(transaction)).thenReturn(false);
 
-        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction);
+        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request);
 
         assertEquals(1, errors.getErrorCount());
         assertTrue(errors.containsError(createError(UNEXPECTED_DATA)));
@@ -103,7 +107,7 @@ class RptTransactionValidatorTest {
 
         when(companyService.isMultipleYearFiler(transaction)).thenReturn(true);
 
-        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction);
+        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request);
 
         assertEquals(1, errors.getErrorCount());
         assertTrue(errors.containsError(createError(MANDATORY_ELEMENT_MISSING)));
@@ -120,7 +124,7 @@ class RptTransactionValidatorTest {
 
         when(companyService.isMultipleYearFiler(transaction)).thenReturn(true);
 
-        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction);
+        errors = rptTransactionValidator.validateRptTransaction(rptTransaction, transaction, request);
 
         assertEquals(0, errors.getErrorCount());
     }
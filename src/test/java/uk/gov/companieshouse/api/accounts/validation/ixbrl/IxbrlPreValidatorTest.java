@@ -0,0 +1,164 @@
+package uk.gov.companieshouse.api.accounts.validation.ixbrl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IxbrlPreValidatorTest {
+
+    private static final String IXBRL_LOCATION = "s3://test-bucket/accounts/ixbrl-generated-name.html";
+    private static final String PERIOD_END_ON = "2018-01-18";
+
+    private static final String CONTEXTS = """
+            <xbrli:context id="CY">
+              <xbrli:entity><xbrli:identifier scheme="http://www.companieshouse.gov.uk/">12345678</xbrli:identifier></xbrli:entity>
+              <xbrli:period><xbrli:startDate>2017-01-19</xbrli:startDate><xbrli:endDate>2018-01-18</xbrli:endDate></xbrli:period>
+            </xbrli:context>
+            <xbrli:context id="PY_END">
+              <xbrli:entity><xbrli:identifier scheme="http://www.companieshouse.gov.uk/">12345678</xbrli:identifier></xbrli:entity>
+              <xbrli:period><xbrli:instant>2017-01-18</xbrli:instant></xbrli:period>
+            </xbrli:context>
+            <xbrli:unit id="GBP"><xbrli:measure>iso4217:GBP</xbrli:measure></xbrli:unit>
+            """;
+
+    private static final String FACTS = """
+            <ix:nonNumeric name="uk-bus:EntityCurrentLegalOrRegisteredName" contextRef="CY">TEST COMPANY</ix:nonNumeric>
+            <ix:nonFraction name="core:Equity" contextRef="PY_END" unitRef="GBP" decimals="0">100</ix:nonFraction>
+            """;
+
+    private final IxbrlPreValidator ixbrlPreValidator = new IxbrlPreValidator();
+
+    @Test
+    @DisplayName("Ixbrl pre-validation passes for a complete document")
+    void shouldPassPreValidation() {
+        assertTrue(preValidate(createIxbrl(CONTEXTS, FACTS), PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation fails when the document is not well formed")
+    void shouldFailPreValidationAsNotWellFormed() {
+        assertFalse(preValidate(createIxbrl(CONTEXTS, FACTS).replace("</body>", ""), PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation fails when the document has no inline XBRL header")
+    void shouldFailPreValidationAsHeaderMissing() {
+        assertFalse(preValidate(wrapBody(FACTS), PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation fails when a fact refers to a context that is not declared")
+    void shouldFailPreValidationAsContextNotDeclared() {
+        assertFalse(preValidate(createIxbrl(CONTEXTS, FACTS.replace("contextRef=\"CY\"", "contextRef=\"CY_END\"")),
+                PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation fails when a numeric fact refers to a unit that is not declared")
+    void shouldFailPreValidationAsUnitNotDeclared() {
+        assertFalse(preValidate(createIxbrl(CONTEXTS, FACTS.replace("unitRef=\"GBP\"", "unitRef=\"EUR\"")),
+                PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation fails when a numeric fact has no unit")
+    void shouldFailPreValidationAsUnitMissing() {
+        assertFalse(preValidate(createIxbrl(CONTEXTS, FACTS.replace("unitRef=\"GBP\"", "")), PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation fails when a context is declared more than once")
+    void shouldFailPreValidationAsContextDeclaredTwice() {
+        assertFalse(preValidate(createIxbrl(CONTEXTS.replace("id=\"PY_END\"", "id=\"CY\""), FACTS), PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation passes, and only logs, when the period end differs from the document generator's")
+    void shouldPassPreValidationWhenPeriodEndDiffers() {
+        assertTrue(preValidate(createIxbrl(CONTEXTS, FACTS), "2018-01-31"));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation passes, and only logs, when the period end is not a date")
+    void shouldPassPreValidationWhenPeriodEndNotADate() {
+        assertTrue(preValidate(createIxbrl(CONTEXTS, FACTS), "18 January 2018"));
+    }
+
+    @Test
+    @DisplayName("Ixbrl pre-validation passes, and only logs, when a context date is not a date")
+    void shouldPassPreValidationWhenContextDateNotADate() {
+        assertTrue(preValidate(createIxbrl(CONTEXTS.replace("<xbrli:instant>2017-01-18", "<xbrli:instant>18/01/2017"),
+                FACTS), PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl period ending at midnight ends on the day before")
+    void shouldReadMidnightEndDateAsTheDayBefore() {
+        IxbrlPreValidator.IxbrlSummary summary = readSummary(CONTEXTS.replace("<xbrli:endDate>2018-01-18",
+                "<xbrli:endDate>2018-01-19T00:00:00"));
+
+        assertNull(summary.findPeriodEndWarning(PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl period ending at a time during the day ends on that day")
+    void shouldReadEndDateTimeAsThatDay() {
+        IxbrlPreValidator.IxbrlSummary summary = readSummary(CONTEXTS.replace("<xbrli:endDate>2018-01-18",
+                "<xbrli:endDate>2018-01-18T23:59:59Z"));
+
+        assertNull(summary.findPeriodEndWarning(PERIOD_END_ON));
+    }
+
+    @Test
+    @DisplayName("Ixbrl period ending at midnight of the period end day does not include that day")
+    void shouldNotReadMidnightEndDateAsThatDay() {
+        IxbrlPreValidator.IxbrlSummary summary = readSummary(CONTEXTS.replace("<xbrli:endDate>2018-01-18",
+                "<xbrli:endDate>2018-01-18T00:00:00"));
+
+        assertNotNull(summary.findPeriodEndWarning(PERIOD_END_ON));
+    }
+
+    private IxbrlPreValidator.IxbrlSummary readSummary(String contexts) {
+        IxbrlPreValidator.IxbrlSummary summary = new IxbrlPreValidator.IxbrlSummary();
+        InputStream ixbrlData = new ByteArrayInputStream(createIxbrl(contexts, FACTS).getBytes(StandardCharsets.UTF_8));
+        assertNull(assertDoesNotThrow(() -> ixbrlPreValidator.findProblem(ixbrlData, summary)));
+        return summary;
+    }
+
+    private boolean preValidate(String ixbrl, String periodEndOn) {
+        InputStream ixbrlData = new ByteArrayInputStream(ixbrl.getBytes(StandardCharsets.UTF_8));
+        return ixbrlPreValidator.isIxbrlValid(ixbrlData, periodEndOn, IXBRL_LOCATION);
+    }
+
+    private String createIxbrl(String resources, String facts) {
+        return wrapBody("""
+                <div style="display: none">
+                  <ix:header>
+                    <ix:hidden>%s</ix:hidden>
+                    <ix:resources>%s</ix:resources>
+                  </ix:header>
+                </div>
+                """.formatted(facts, resources));
+    }
+
+    private String wrapBody(String body) {
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <html xmlns="http://www.w3.org/1999/xhtml" xmlns:ix="http://www.xbrl.org/2013/inlineXBRL"
+                      xmlns:xbrli="http://www.xbrl.org/2003/instance" xmlns:iso4217="http://www.xbrl.org/2003/iso4217"
+                      xmlns:core="http://xbrl.frc.org.uk/fr/2023-01-01/core"
+                      xmlns:uk-bus="http://xbrl.frc.org.uk/cd/2023-01-01/business">
+                  <head><title>TEST COMPANY</title></head>
+                  <body>%s</body>
+                </html>
+                """.formatted(body);
+    }
+}